@@ -7,13 +7,19 @@ package io.strimzi.testclients.configuration;
 import org.apache.kafka.common.header.Header;
 import org.apache.kafka.common.header.internals.RecordHeader;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Properties;
 import java.util.StringTokenizer;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 public class ClientsConfigurationUtils {
+    private static final Pattern DURATION_PATTERN = Pattern.compile("(\\d+)\\s*(ms|s|m|h)?");
 
     public static long parseLongOrDefault(String value, long defaultValue) {
         return parseOrDefault(value, Long::parseLong, defaultValue);
@@ -23,10 +29,66 @@ public class ClientsConfigurationUtils {
         return parseOrDefault(value, Integer::parseInt, defaultValue);
     }
 
+    public static double parseDoubleOrDefault(String value, double defaultValue) {
+        return parseOrDefault(value, Double::parseDouble, defaultValue);
+    }
+
+    public static boolean parseBooleanOrDefault(String value, boolean defaultValue) {
+        return parseOrDefault(value, ClientsConfigurationUtils::parseBoolean, defaultValue);
+    }
+
     public static String parseStringOrDefault(String value, String defaultValue) {
         return parseOrDefault(value, String::toString, defaultValue);
     }
 
+    /**
+     * Parses duration in milliseconds. The duration can be set either as number of milliseconds, number with
+     * one of the {@code ms}, {@code s}, {@code m} or {@code h} units (for example {@code 30s}), or in the ISO-8601
+     * format (for example {@code PT1M}).
+     *
+     * @param value         value to parse
+     * @param defaultValue  default value in milliseconds returned in case that the value is not set or invalid
+     *
+     * @return  duration in milliseconds
+     */
+    public static long parseDurationMsOrDefault(String value, long defaultValue) {
+        return parseOrDefault(value, ClientsConfigurationUtils::parseDurationMs, defaultValue);
+    }
+
+    public static long parseDurationMs(String value) {
+        String trimmedValue = value.trim().toLowerCase(Locale.ROOT);
+
+        if (trimmedValue.startsWith("p")) {
+            return Duration.parse(trimmedValue.toUpperCase(Locale.ROOT)).toMillis();
+        }
+
+        Matcher matcher = DURATION_PATTERN.matcher(trimmedValue);
+
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Value " + value + " is not a duration");
+        }
+
+        long amount = Long.parseLong(matcher.group(1));
+        String unit = matcher.group(2) == null ? "ms" : matcher.group(2);
+
+        return switch (unit) {
+            case "s" -> TimeUnit.SECONDS.toMillis(amount);
+            case "m" -> TimeUnit.MINUTES.toMillis(amount);
+            case "h" -> TimeUnit.HOURS.toMillis(amount);
+            default -> amount;
+        };
+    }
+
+    private static boolean parseBoolean(String value) {
+        if (value.trim().equalsIgnoreCase("true")) {
+            return true;
+        } else if (value.trim().equalsIgnoreCase("false")) {
+            return false;
+        }
+
+        throw new IllegalArgumentException("Value " + value + " is not a boolean");
+    }
+
     private static <T> T parseOrDefault(String value, Function<String, T> converter, T defaultValue) {
         T returnValue = defaultValue;
 
@@ -9,23 +9,65 @@ import java.util.List;
 public interface ConfigurationConstants {
     int DEFAULT_MESSAGES_COUNT = 10;
     long DEFAULT_DELAY_MS = 0;
+    long DEFAULT_RUN_DURATION_MS = 0;
+    long DEFAULT_WARMUP_DURATION_MS = 0;
 
     String DEFAULT_MESSAGE = "Hello world";
     String DEFAULT_MESSAGE_TYPE = "text";
     String DEFAULT_GROUP_ID = "my-group";
     String DEFAULT_CLIENT_ID = "my-consumer";
     String DEFAULT_OUTPUT_FORMAT = "plain";
+    String DEFAULT_OUTPUT_MODE = "per-record";
     long DEFAULT_POLL_INTERVAL = 1000;
     long DEFAULT_POLL_TIMEOUT = 100;
     long DEFAULT_TASK_COMPLETION_TIMEOUT = 60000;
     String DEFAULT_PRODUCER_ACKS = "1";
     long DEFAULT_COMMIT_INTERVAL_MS = 5000;
     int DEFAULT_MESSAGES_PER_TRANSACTION = 10;
+    int DEFAULT_MAX_IN_FLIGHT_RECORDS = 1;
+    long DEFAULT_TARGET_RATE = 0;
+    String DEFAULT_TARGET_RATE_UNIT = "records";
+    int DEFAULT_PRODUCER_THREADS = 1;
+    boolean DEFAULT_SHARED_PRODUCER = false;
+    long DEFAULT_SCHEMA_CACHE_TTL_MS = 0;
+    int DEFAULT_PRESERIALIZED_PAYLOADS = 0;
+    String DEFAULT_KEY_DISTRIBUTION = "fixed";
+    int DEFAULT_KEY_COUNT = 1000;
+    double DEFAULT_ZIPFIAN_EXPONENT = 0.99;
+    int DEFAULT_HOTSPOT_TRAFFIC_PERCENT = 80;
+    int DEFAULT_HOTSPOT_KEYS_PERCENT = 20;
+    boolean DEFAULT_E2E_LATENCY = false;
+    String DEFAULT_COMMIT_STRATEGY = "sync";
+    long DEFAULT_COMMIT_RECORDS = 1000;
+    int DEFAULT_CONSUMER_THREADS = 1;
+    int DEFAULT_PROCESSING_THREADS = 0;
+    String DEFAULT_PROCESSING_ORDER = "partition";
+    int DEFAULT_PROCESSING_QUEUE_SIZE = 1000;
+    double DEFAULT_PROCESSING_TIME_MS = 0;
+    boolean DEFAULT_PROCESSING_CPU_BURN = false;
+    boolean DEFAULT_VERIFY_DELIVERY = false;
+    String DEFAULT_REBALANCE_SCENARIO = "default";
+    String DEFAULT_SINK_FORMAT = "raw";
+    long DEFAULT_SINK_ROTATE_BYTES = 0;
+    String DEFAULT_SINK_FSYNC = "none";
+    String DEFAULT_STREAMS_TOPOLOGY = "reverse";
+    long DEFAULT_WINDOW_SIZE_MS = 60000;
+    long DEFAULT_WINDOW_GRACE_MS = 0;
+    int DEFAULT_FILTER_PERCENT = 50;
+    String DEFAULT_STREAMS_COMPLETION = "none";
+    String DEFAULT_STATE_STORE = "default";
+    boolean DEFAULT_STATE_STORE_METRICS = false;
+    long DEFAULT_ROCKSDB_BLOCK_CACHE_SIZE = 0;
+    int DEFAULT_ROCKSDB_WRITE_BUFFERS = 0;
+    String DEFAULT_PROCESSING_GUARANTEE = "at_least_once";
+    int DEFAULT_NUM_STREAM_THREADS = 1;
+    long DEFAULT_STATESTORE_CACHE_MAX_BYTES = 10 * 1024 * 1024;
 
     /**
      * HTTP constants
      */
     String DEFAULT_ENDPOINT_PREFIX = "";
+    int DEFAULT_BATCH_SIZE = 0;
 
     /**
      * HTTP environment variables
@@ -36,16 +78,48 @@ public interface ConfigurationConstants {
     String CLIENT_ID_ENV = "CLIENT_ID";
     String POLL_INTERVAL_ENV = "POLL_INTERVAL";
     String POLL_TIMEOUT_ENV = "POLL_TIMEOUT";
+    String BATCH_SIZE_ENV = "BATCH_SIZE";
 
     /**
      * Producer environment variables
      */
     String MESSAGE_KEY_ENV = "MESSAGE_KEY";
+    String MAX_IN_FLIGHT_RECORDS_ENV = "MAX_IN_FLIGHT_RECORDS";
+    String TARGET_RATE_ENV = "TARGET_RATE";
+    String TARGET_RATE_UNIT_ENV = "TARGET_RATE_UNIT";
+    String LOAD_PROFILE_ENV = "LOAD_PROFILE";
+    String PRODUCER_THREADS_ENV = "PRODUCER_THREADS";
+    String SHARED_PRODUCER_ENV = "SHARED_PRODUCER";
+    String SCHEMA_CACHE_TTL_MS_ENV = "SCHEMA_CACHE_TTL_MS";
+    String PRESERIALIZED_PAYLOADS_ENV = "PRESERIALIZED_PAYLOADS";
+    String KEY_DISTRIBUTION_ENV = "KEY_DISTRIBUTION";
+    String KEY_COUNT_ENV = "KEY_COUNT";
+    String ZIPFIAN_EXPONENT_ENV = "ZIPFIAN_EXPONENT";
+    String HOTSPOT_TRAFFIC_PERCENT_ENV = "HOTSPOT_TRAFFIC_PERCENT";
+    String HOTSPOT_KEYS_PERCENT_ENV = "HOTSPOT_KEYS_PERCENT";
+    String E2E_LATENCY_ENV = "E2E_LATENCY";
 
     /**
      * Consumer environment variables
      */
     String OUTPUT_FORMAT_ENV = "OUTPUT_FORMAT";
+    String COMMIT_STRATEGY_ENV = "COMMIT_STRATEGY";
+    String COMMIT_RECORDS_ENV = "COMMIT_RECORDS";
+    String CONSUMER_THREADS_ENV = "CONSUMER_THREADS";
+    String PROCESSING_THREADS_ENV = "PROCESSING_THREADS";
+    String PROCESSING_ORDER_ENV = "PROCESSING_ORDER";
+    String PROCESSING_QUEUE_SIZE_ENV = "PROCESSING_QUEUE_SIZE";
+    String PROCESSING_TIME_MS_ENV = "PROCESSING_TIME_MS";
+    String PROCESSING_CPU_BURN_ENV = "PROCESSING_CPU_BURN";
+    String START_OFFSET_ENV = "START_OFFSET";
+    String START_BOUND_TIMESTAMP_ENV = "START_BOUND_TIMESTAMP";
+    String END_OFFSET_ENV = "END_OFFSET";
+    String END_TIMESTAMP_ENV = "END_TIMESTAMP";
+    String REBALANCE_SCENARIO_ENV = "REBALANCE_SCENARIO";
+    String SINK_ENV = "SINK";
+    String SINK_FORMAT_ENV = "SINK_FORMAT";
+    String SINK_ROTATE_BYTES_ENV = "SINK_ROTATE_BYTES";
+    String SINK_FSYNC_ENV = "SINK_FSYNC";
 
     /**
      * Common environment variables
@@ -58,6 +132,10 @@ public interface ConfigurationConstants {
     String MESSAGE_TEMPLATE_ENV = "MESSAGE_TEMPLATE";
     String MESSAGE_TYPE_ENV = "MESSAGE_TYPE";
     String START_TIMESTAMP_ENV = "START_TIMESTAMP";
+    String RUN_DURATION_ENV = "RUN_DURATION";
+    String WARMUP_DURATION_ENV = "WARMUP_DURATION";
+    String OUTPUT_MODE_ENV = "OUTPUT_MODE";
+    String VERIFY_DELIVERY_ENV = "VERIFY_DELIVERY";
 
     /**
      * Kafka environment variables
@@ -70,6 +148,26 @@ public interface ConfigurationConstants {
     String CLIENT_RACK_ENV = "CLIENT_RACK";
     String HEADERS_ENV = "HEADERS";
     String MESSAGES_PER_TRANSACTION_ENV = "MESSAGES_PER_TRANSACTION";
+
+    /**
+     * Streams environment variables
+     */
+    String STREAMS_TOPOLOGY_ENV = "STREAMS_TOPOLOGY";
+    String JOIN_TOPIC_ENV = "JOIN_TOPIC";
+    String WINDOW_SIZE_ENV = "WINDOW_SIZE";
+    String WINDOW_GRACE_ENV = "WINDOW_GRACE";
+    String FILTER_PERCENT_ENV = "FILTER_PERCENT";
+    String STREAMS_COMPLETION_ENV = "STREAMS_COMPLETION";
+    String STATE_STORE_ENV = "STATE_STORE";
+    String STATE_STORE_METRICS_ENV = "STATE_STORE_METRICS";
+    String ROCKSDB_BLOCK_CACHE_SIZE_ENV = "ROCKSDB_BLOCK_CACHE_SIZE";
+    String ROCKSDB_WRITE_BUFFERS_ENV = "ROCKSDB_WRITE_BUFFERS";
+    String ROCKSDB_COMPACTION_STYLE_ENV = "ROCKSDB_COMPACTION_STYLE";
+    String PROCESSING_GUARANTEE_ENV = "PROCESSING_GUARANTEE";
+    String NUM_STREAM_THREADS_ENV = "NUM_STREAM_THREADS";
+    String STATESTORE_CACHE_MAX_BYTES_ENV = "STATESTORE_CACHE_MAX_BYTES";
+    String STREAMS_SWEEP_ENV = "STREAMS_SWEEP";
+
     /**
      * Kafka basic env variables
      */
@@ -8,6 +8,7 @@ import java.security.InvalidParameterException;
 import java.util.Map;
 import java.util.Properties;
 
+import static io.strimzi.testclients.configuration.ClientsConfigurationUtils.parseDurationMsOrDefault;
 import static io.strimzi.testclients.configuration.ClientsConfigurationUtils.parseIntOrDefault;
 import static io.strimzi.testclients.configuration.ClientsConfigurationUtils.parseLongOrDefault;
 import static io.strimzi.testclients.configuration.ClientsConfigurationUtils.parseMapOfProperties;
@@ -17,6 +18,8 @@ import static io.strimzi.testclients.configuration.ConfigurationConstants.BOOTST
 import static io.strimzi.testclients.configuration.ConfigurationConstants.CA_CRT_ENV;
 import static io.strimzi.testclients.configuration.ConfigurationConstants.DEFAULT_DELAY_MS;
 import static io.strimzi.testclients.configuration.ConfigurationConstants.DEFAULT_MESSAGES_COUNT;
+import static io.strimzi.testclients.configuration.ConfigurationConstants.DEFAULT_RUN_DURATION_MS;
+import static io.strimzi.testclients.configuration.ConfigurationConstants.DEFAULT_WARMUP_DURATION_MS;
 import static io.strimzi.testclients.configuration.ConfigurationConstants.DELAY_MS_ENV;
 import static io.strimzi.testclients.configuration.ConfigurationConstants.MESSAGE_COUNT_ENV;
 import static io.strimzi.testclients.configuration.ConfigurationConstants.OAUTH_ACCESS_TOKEN_ENV;
@@ -24,6 +27,7 @@ import static io.strimzi.testclients.configuration.ConfigurationConstants.OAUTH_
 import static io.strimzi.testclients.configuration.ConfigurationConstants.OAUTH_CLIENT_SECRET_ENV;
 import static io.strimzi.testclients.configuration.ConfigurationConstants.OAUTH_REFRESH_TOKEN_ENV;
 import static io.strimzi.testclients.configuration.ConfigurationConstants.OAUTH_TOKEN_ENDPOINT_URI_ENV;
+import static io.strimzi.testclients.configuration.ConfigurationConstants.RUN_DURATION_ENV;
 import static io.strimzi.testclients.configuration.ConfigurationConstants.SASL_JAAS_CONFIG_ENV;
 import static io.strimzi.testclients.configuration.ConfigurationConstants.SASL_MECHANISM_ENV;
 import static io.strimzi.testclients.configuration.ConfigurationConstants.SECURITY_PROTOCOL_ENV;
@@ -32,11 +36,14 @@ import static io.strimzi.testclients.configuration.ConfigurationConstants.USER_C
 import static io.strimzi.testclients.configuration.ConfigurationConstants.USER_KEY_ENV;
 import static io.strimzi.testclients.configuration.ConfigurationConstants.USER_NAME_ENV;
 import static io.strimzi.testclients.configuration.ConfigurationConstants.USER_PASSWORD_ENV;
+import static io.strimzi.testclients.configuration.ConfigurationConstants.WARMUP_DURATION_ENV;
 
 public class KafkaClientsConfiguration {
     private final String bootstrapServers;
     private final long delayMs;
     private final int messageCount;
+    private final long runDurationMs;
+    private final long warmupDurationMs;
     private final String securityProtocol;
     private final String sslTruststoreCertificate;
     private final String sslKeystoreKey;
@@ -58,6 +65,8 @@ public class KafkaClientsConfiguration {
         this.bootstrapServers = map.get(BOOTSTRAP_SERVERS_ENV);
         this.delayMs = parseLongOrDefault(map.get(DELAY_MS_ENV), DEFAULT_DELAY_MS);
         this.messageCount = parseIntOrDefault(map.get(MESSAGE_COUNT_ENV), DEFAULT_MESSAGES_COUNT);
+        this.runDurationMs = parseDurationMsOrDefault(map.get(RUN_DURATION_ENV), DEFAULT_RUN_DURATION_MS);
+        this.warmupDurationMs = parseDurationMsOrDefault(map.get(WARMUP_DURATION_ENV), DEFAULT_WARMUP_DURATION_MS);
         this.securityProtocol = map.get(SECURITY_PROTOCOL_ENV);
         this.sslTruststoreCertificate = map.get(CA_CRT_ENV);
         this.sslKeystoreKey = map.get(USER_KEY_ENV);
@@ -75,6 +84,8 @@ public class KafkaClientsConfiguration {
         this.tracingEnabled = map.get(TRACING_TYPE_ENV) != null;
 
         if (bootstrapServers == null || bootstrapServers.isEmpty()) throw new InvalidParameterException("Bootstrap servers are not set");
+
+        if (runDurationMs < 0 || warmupDurationMs < 0) throw new InvalidParameterException("Run and warmup durations cannot be negative");
     }
 
     public String getBootstrapServers() {
@@ -89,6 +100,14 @@ public class KafkaClientsConfiguration {
         return messageCount;
     }
 
+    public long getRunDurationMs() {
+        return runDurationMs;
+    }
+
+    public long getWarmupDurationMs() {
+        return warmupDurationMs;
+    }
+
     public String getSecurityProtocol() {
         return securityProtocol;
     }
@@ -182,6 +201,8 @@ public class KafkaClientsConfiguration {
         return "bootstrapServers='" + this.getBootstrapServers() + "',\n" +
             "delayMs='" + this.getDelayMs() + "',\n" +
             "messageCount='" + this.getMessageCount() + "',\n" +
+            "runDurationMs='" + this.getRunDurationMs() + "',\n" +
+            "warmupDurationMs='" + this.getWarmupDurationMs() + "',\n" +
             "securityProtocol='" + this.getSecurityProtocol() + "',\n" +
             "sslTruststoreCertificate='" + sslTruststoreCertificate + "',\n" +
             "sslKeystoreKey='" + sslKeystoreKey + "',\n" +
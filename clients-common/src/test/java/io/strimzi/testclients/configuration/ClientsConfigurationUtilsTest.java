@@ -69,6 +69,45 @@ public class ClientsConfigurationUtilsTest {
         assertThat(result, is(defaultValue));
     }
 
+    @Test
+    void testParseBooleanFromValue() {
+        assertThat(ClientsConfigurationUtils.parseBooleanOrDefault("true", false), is(true));
+        assertThat(ClientsConfigurationUtils.parseBooleanOrDefault("FALSE", true), is(false));
+
+        // check when value will be empty
+        assertThat(ClientsConfigurationUtils.parseBooleanOrDefault(null, true), is(true));
+
+        // check when value will not be boolean
+        assertThat(ClientsConfigurationUtils.parseBooleanOrDefault("alice", true), is(true));
+    }
+
+    @Test
+    void testParseDoubleFromValue() {
+        assertThat(ClientsConfigurationUtils.parseDoubleOrDefault("1.25", 0.5), is(1.25));
+
+        // check when value will be empty
+        assertThat(ClientsConfigurationUtils.parseDoubleOrDefault(null, 0.5), is(0.5));
+
+        // check when value will not be double
+        assertThat(ClientsConfigurationUtils.parseDoubleOrDefault("alice", 0.5), is(0.5));
+    }
+
+    @Test
+    void testParseDurationFromValue() {
+        assertThat(ClientsConfigurationUtils.parseDurationMsOrDefault("1500", 0), is(1500L));
+        assertThat(ClientsConfigurationUtils.parseDurationMsOrDefault("250ms", 0), is(250L));
+        assertThat(ClientsConfigurationUtils.parseDurationMsOrDefault("30s", 0), is(30_000L));
+        assertThat(ClientsConfigurationUtils.parseDurationMsOrDefault("5m", 0), is(300_000L));
+        assertThat(ClientsConfigurationUtils.parseDurationMsOrDefault("2H", 0), is(7_200_000L));
+        assertThat(ClientsConfigurationUtils.parseDurationMsOrDefault("PT1M30S", 0), is(90_000L));
+
+        // check when value will be empty
+        assertThat(ClientsConfigurationUtils.parseDurationMsOrDefault(null, 10), is(10L));
+
+        // check when value will not be duration
+        assertThat(ClientsConfigurationUtils.parseDurationMsOrDefault("one minute", 10), is(10L));
+    }
+
     @Test
     void testParseStringFromValue() {
         String value = "my-value";
@@ -16,6 +16,8 @@ import static io.strimzi.testclients.configuration.ConfigurationConstants.BOOTST
 import static io.strimzi.testclients.configuration.ConfigurationConstants.CA_CRT_ENV;
 import static io.strimzi.testclients.configuration.ConfigurationConstants.DEFAULT_DELAY_MS;
 import static io.strimzi.testclients.configuration.ConfigurationConstants.DEFAULT_MESSAGES_COUNT;
+import static io.strimzi.testclients.configuration.ConfigurationConstants.DEFAULT_RUN_DURATION_MS;
+import static io.strimzi.testclients.configuration.ConfigurationConstants.DEFAULT_WARMUP_DURATION_MS;
 import static io.strimzi.testclients.configuration.ConfigurationConstants.DELAY_MS_ENV;
 import static io.strimzi.testclients.configuration.ConfigurationConstants.MESSAGE_COUNT_ENV;
 import static io.strimzi.testclients.configuration.ConfigurationConstants.OAUTH_ACCESS_TOKEN_ENV;
@@ -23,12 +25,14 @@ import static io.strimzi.testclients.configuration.ConfigurationConstants.OAUTH_
 import static io.strimzi.testclients.configuration.ConfigurationConstants.OAUTH_CLIENT_SECRET_ENV;
 import static io.strimzi.testclients.configuration.ConfigurationConstants.OAUTH_REFRESH_TOKEN_ENV;
 import static io.strimzi.testclients.configuration.ConfigurationConstants.OAUTH_TOKEN_ENDPOINT_URI_ENV;
+import static io.strimzi.testclients.configuration.ConfigurationConstants.RUN_DURATION_ENV;
 import static io.strimzi.testclients.configuration.ConfigurationConstants.SASL_JAAS_CONFIG_ENV;
 import static io.strimzi.testclients.configuration.ConfigurationConstants.SASL_MECHANISM_ENV;
 import static io.strimzi.testclients.configuration.ConfigurationConstants.USER_CRT_ENV;
 import static io.strimzi.testclients.configuration.ConfigurationConstants.USER_KEY_ENV;
 import static io.strimzi.testclients.configuration.ConfigurationConstants.USER_NAME_ENV;
 import static io.strimzi.testclients.configuration.ConfigurationConstants.USER_PASSWORD_ENV;
+import static io.strimzi.testclients.configuration.ConfigurationConstants.WARMUP_DURATION_ENV;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -44,6 +48,8 @@ public class KafkaClientsConfigurationTest {
 
         assertThat(kafkaClientsConfiguration.getDelayMs(), is(DEFAULT_DELAY_MS));
         assertThat(kafkaClientsConfiguration.getMessageCount(), is(DEFAULT_MESSAGES_COUNT));
+        assertThat(kafkaClientsConfiguration.getRunDurationMs(), is(DEFAULT_RUN_DURATION_MS));
+        assertThat(kafkaClientsConfiguration.getWarmupDurationMs(), is(DEFAULT_WARMUP_DURATION_MS));
         assertThat(kafkaClientsConfiguration.getAdditionalConfig(), is(new Properties()));
     }
 
@@ -85,6 +91,8 @@ public class KafkaClientsConfigurationTest {
         configuration.put(ADDITIONAL_CONFIG_ENV, additionalProperties);
         configuration.put(MESSAGE_COUNT_ENV, String.valueOf(messageCount));
         configuration.put(DELAY_MS_ENV, String.valueOf(delayMs));
+        configuration.put(RUN_DURATION_ENV, "5m");
+        configuration.put(WARMUP_DURATION_ENV, "30s");
 
         KafkaClientsConfiguration kafkaClientsConfiguration = new KafkaClientsConfiguration(configuration);
 
@@ -104,6 +112,8 @@ public class KafkaClientsConfigurationTest {
         assertThat(kafkaClientsConfiguration.getAdditionalConfig(), is(expectedAdditionalProps));
         assertThat(kafkaClientsConfiguration.getMessageCount(), is(messageCount));
         assertThat(kafkaClientsConfiguration.getDelayMs(), is(delayMs));
+        assertThat(kafkaClientsConfiguration.getRunDurationMs(), is(300_000L));
+        assertThat(kafkaClientsConfiguration.getWarmupDurationMs(), is(30_000L));
     }
 
     @Test
@@ -126,6 +136,11 @@ public class KafkaClientsConfigurationTest {
         assertThat(kafkaClientsConfiguration.getDelayMs(), is(DEFAULT_DELAY_MS));
         assertThat(kafkaClientsConfiguration.getMessageCount(), is(DEFAULT_MESSAGES_COUNT));
 
+        configuration.put(RUN_DURATION_ENV, "PT-1M");
+
+        assertThrows(RuntimeException.class, () -> new KafkaClientsConfiguration(configuration));
+
+        configuration.remove(RUN_DURATION_ENV);
         configuration.put(ADDITIONAL_CONFIG_ENV, String.valueOf(additionalProps));
 
         assertThrows(RuntimeException.class, () -> new KafkaClientsConfiguration(configuration));
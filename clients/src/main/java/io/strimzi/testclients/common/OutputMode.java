@@ -0,0 +1,78 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common;
+
+import java.security.InvalidParameterException;
+
+/**
+ * Configures how the clients log the records they send or receive ({@code OUTPUT_MODE}):
+ * <ul>
+ *   <li>{@code per-record} - every record is logged (default)</li>
+ *   <li>{@code sampled:<N>} - only every N-th record is logged</li>
+ *   <li>{@code summary} - no record is logged, the throughput (and latency) of the last interval is logged periodically instead</li>
+ * </ul>
+ *
+ * @param type          type of the output mode
+ * @param sampleEvery   every how many records one is logged in the {@code sampled} mode, 1 otherwise
+ */
+public record OutputMode(OutputModeType type, int sampleEvery) {
+    public static final OutputMode PER_RECORD = new OutputMode(OutputModeType.PER_RECORD, 1);
+
+    /**
+     * Parses the output mode.
+     *
+     * @param value     value of the {@code OUTPUT_MODE} - {@code per-record}, {@code sampled:<N>} or {@code summary}
+     *
+     * @return  output mode
+     *
+     * @throws InvalidParameterException in case that the value is not valid
+     */
+    public static OutputMode parse(String value) {
+        String[] parts = value.trim().split(":", 2);
+        OutputModeType type = OutputModeType.getFromString(parts[0].trim());
+        int sampleEvery = 1;
+
+        if (type == OutputModeType.SAMPLED) {
+            try {
+                sampleEvery = parts.length == 2 ? Integer.parseInt(parts[1].trim()) : 0;
+            } catch (NumberFormatException e) {
+                sampleEvery = 0;
+            }
+        } else if (parts.length != 1) {
+            type = OutputModeType.UNKNOWN;
+        }
+
+        if (type == OutputModeType.UNKNOWN || sampleEvery < 1) {
+            throw new InvalidParameterException("OUTPUT_MODE should be one of " + OutputModeType.supportedTypes() + " (sampled:<N> for the sampled mode)");
+        }
+
+        return new OutputMode(type, sampleEvery);
+    }
+
+    /**
+     * Method for checking whether the record should be logged. Used for skipping the formatting of the records
+     * that would not be logged.
+     *
+     * @param recordIndex   index of the record
+     *
+     * @return  true if the record should be logged
+     */
+    public boolean shouldLog(long recordIndex) {
+        return switch (type) {
+            case PER_RECORD -> true;
+            case SAMPLED -> recordIndex % sampleEvery == 0;
+            default -> false;
+        };
+    }
+
+    public boolean isSummary() {
+        return type == OutputModeType.SUMMARY;
+    }
+
+    @Override
+    public String toString() {
+        return type == OutputModeType.SAMPLED ? type + ":" + sampleEvery : type.toString();
+    }
+}
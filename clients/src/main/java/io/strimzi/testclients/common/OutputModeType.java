@@ -0,0 +1,39 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common;
+
+import java.util.Arrays;
+import java.util.List;
+
+public enum OutputModeType {
+    PER_RECORD("per-record"),
+    SAMPLED("sampled"),
+    SUMMARY("summary"),
+    UNKNOWN("unknown");
+
+    private final String outputModeType;
+
+    OutputModeType(String outputModeType) {
+        this.outputModeType = outputModeType;
+    }
+
+    public static OutputModeType getFromString(String value) {
+        for (OutputModeType type : values()) {
+            if (type.toString().equalsIgnoreCase(value)) {
+                return type;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    @Override
+    public String toString() {
+        return this.outputModeType;
+    }
+
+    public static List<OutputModeType> supportedTypes() {
+        return Arrays.stream(values()).filter(item -> item != UNKNOWN).toList();
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common;
+
+import java.util.Arrays;
+import java.util.List;
+
+public enum RateUnit {
+    RECORDS("records"),
+    BYTES("bytes"),
+    UNKNOWN("unknown");
+
+    private final String rateUnit;
+
+    RateUnit(String rateUnit) {
+        this.rateUnit = rateUnit;
+    }
+
+    public static RateUnit getFromString(String value) {
+        for (RateUnit unit : values()) {
+            if (unit.toString().equalsIgnoreCase(value)) {
+                return unit;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    @Override
+    public String toString() {
+        return this.rateUnit;
+    }
+
+    public static List<RateUnit> supportedUnits() {
+        return Arrays.stream(values()).filter(item -> item != UNKNOWN).toList();
+    }
+}
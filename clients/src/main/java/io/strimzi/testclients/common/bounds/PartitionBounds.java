@@ -0,0 +1,178 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.bounds;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Start and end offsets of the partitions read by a consumer, which was assigned the partitions directly instead
+ * of subscribing the topic. The bounds are configured as offsets or timestamps, common to all partitions,
+ * and resolved to the offsets of every partition when the consumer is assigned its partitions.
+ *
+ * <p>The end offsets are exclusive and capped by the end offsets of the partitions at the time of the resolution,
+ * so the consumer reads a fixed slice of the topic and never waits for new records. A partition is finished once
+ * the position of the consumer reaches its end offset. Without an end bound, the partitions are never finished.</p>
+ */
+public class PartitionBounds {
+    private final Map<TopicPartition, Long> startOffsets;
+    // exclusive end offsets, empty in case that no end bound is configured
+    private final Map<TopicPartition, Long> endOffsets;
+    private final Set<TopicPartition> unfinished;
+
+    PartitionBounds(Map<TopicPartition, Long> startOffsets, Map<TopicPartition, Long> endOffsets) {
+        this.startOffsets = startOffsets;
+        this.endOffsets = endOffsets;
+        this.unfinished = new LinkedHashSet<>(startOffsets.keySet());
+
+        if (!endOffsets.isEmpty()) {
+            unfinished.removeIf(partition -> startOffsets.get(partition) >= endOffsets.get(partition));
+        }
+    }
+
+    /**
+     * Resolves the bounds of the partitions. At most one of the start bounds and one of the end bounds should be set.
+     * Without a start bound, the partitions are read from the beginning.
+     *
+     * @param consumer          consumer used for fetching the offsets
+     * @param partitions        partitions assigned to the consumer
+     * @param startOffset       offset at which all partitions start, or null
+     * @param startTimestamp    timestamp (in ms) of the first read records, or null
+     * @param endOffset         offset at which all partitions end (exclusive), or null
+     * @param endTimestamp      timestamp (in ms) of the first records which are not read anymore, or null
+     *
+     * @return  resolved bounds
+     */
+    public static PartitionBounds resolve(Consumer<?, ?> consumer, Collection<TopicPartition> partitions,
+                                          Long startOffset, Long startTimestamp, Long endOffset, Long endTimestamp) {
+        Map<TopicPartition, Long> beginningOffsets = consumer.beginningOffsets(partitions);
+        Map<TopicPartition, Long> logEndOffsets = consumer.endOffsets(partitions);
+        Map<TopicPartition, Long> startOffsets = new HashMap<>();
+        Map<TopicPartition, Long> endOffsets = new HashMap<>();
+
+        Map<TopicPartition, Long> startTimestampOffsets = startTimestamp == null ? Map.of() : offsetsForTime(consumer, partitions, startTimestamp, logEndOffsets);
+        Map<TopicPartition, Long> endTimestampOffsets = endTimestamp == null ? Map.of() : offsetsForTime(consumer, partitions, endTimestamp, logEndOffsets);
+
+        for (TopicPartition partition : partitions) {
+            long beginning = beginningOffsets.get(partition);
+            long end = logEndOffsets.get(partition);
+
+            if (startOffset != null) {
+                startOffsets.put(partition, Math.min(Math.max(startOffset, beginning), end));
+            } else {
+                startOffsets.put(partition, startTimestampOffsets.getOrDefault(partition, beginning));
+            }
+
+            if (endOffset != null) {
+                endOffsets.put(partition, Math.min(endOffset, end));
+            } else if (endTimestamp != null) {
+                endOffsets.put(partition, endTimestampOffsets.get(partition));
+            }
+        }
+
+        return new PartitionBounds(startOffsets, endOffsets);
+    }
+
+    /**
+     * Looks up the offsets of the first records with the timestamp equal or greater than the given one.
+     * Partitions without such record get their end offset.
+     */
+    private static Map<TopicPartition, Long> offsetsForTime(Consumer<?, ?> consumer, Collection<TopicPartition> partitions,
+                                                            long timestamp, Map<TopicPartition, Long> logEndOffsets) {
+        Map<TopicPartition, Long> timestamps = new HashMap<>();
+        partitions.forEach(partition -> timestamps.put(partition, timestamp));
+
+        Map<TopicPartition, OffsetAndTimestamp> offsetsForTimes = consumer.offsetsForTimes(timestamps);
+        Map<TopicPartition, Long> offsets = new HashMap<>();
+
+        for (TopicPartition partition : partitions) {
+            OffsetAndTimestamp offsetAndTimestamp = offsetsForTimes.get(partition);
+            offsets.put(partition, offsetAndTimestamp == null ? logEndOffsets.get(partition) : offsetAndTimestamp.offset());
+        }
+
+        return offsets;
+    }
+
+    /**
+     * Assigns the partitions which are not finished yet to the consumer and seeks them to their start offsets.
+     *
+     * @param consumer  consumer reading the partitions
+     */
+    public void assignAndSeek(Consumer<?, ?> consumer) {
+        consumer.assign(unfinished);
+        unfinished.forEach(partition -> consumer.seek(partition, startOffsets.get(partition)));
+    }
+
+    /**
+     * @param record    received record
+     *
+     * @return  true if the record is after the end bound of its partition, so it should be ignored
+     */
+    public boolean isAfterEnd(ConsumerRecord<?, ?> record) {
+        Long endOffset = endOffsets.get(new TopicPartition(record.topic(), record.partition()));
+        return endOffset != null && record.offset() >= endOffset;
+    }
+
+    /**
+     * Checks which partitions reached their end bound and removes them from the assignment of the consumer,
+     * so their records are not fetched anymore.
+     *
+     * @param consumer  consumer reading the partitions
+     *
+     * @return  partitions which were finished by this call
+     */
+    public List<TopicPartition> updateFinished(Consumer<?, ?> consumer) {
+        List<TopicPartition> finished = new ArrayList<>();
+
+        if (endOffsets.isEmpty()) {
+            return finished;
+        }
+
+        for (TopicPartition partition : unfinished) {
+            if (consumer.position(partition) >= endOffsets.get(partition)) {
+                finished.add(partition);
+            }
+        }
+
+        if (!finished.isEmpty()) {
+            finished.forEach(unfinished::remove);
+
+            if (!unfinished.isEmpty()) {
+                consumer.assign(unfinished);
+            }
+        }
+
+        return finished;
+    }
+
+    public Map<TopicPartition, Long> getStartOffsets() {
+        return startOffsets;
+    }
+
+    public Map<TopicPartition, Long> getEndOffsets() {
+        return endOffsets;
+    }
+
+    public Set<TopicPartition> getUnfinished() {
+        return unfinished;
+    }
+
+    /**
+     * @return  true if all partitions reached their end bound
+     */
+    public boolean isFinished() {
+        return unfinished.isEmpty();
+    }
+}
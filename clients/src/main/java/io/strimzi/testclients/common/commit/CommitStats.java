@@ -0,0 +1,58 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.commit;
+
+import io.strimzi.testclients.common.metrics.LatencyStats;
+import org.HdrHistogram.Histogram;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe statistics of the offset commits, which can be shared by the {@link OffsetCommitter}s of multiple consumers.
+ */
+public class CommitStats {
+    private final LatencyStats commitLatency = new LatencyStats();
+    private final AtomicLong commits = new AtomicLong();
+    private final AtomicLong failedCommits = new AtomicLong();
+
+    void commitSucceeded(long latencyNs) {
+        commits.incrementAndGet();
+        commitLatency.record(latencyNs);
+    }
+
+    void commitFailed() {
+        failedCommits.incrementAndGet();
+    }
+
+    public long getCommits() {
+        return commits.get();
+    }
+
+    public long getFailedCommits() {
+        return failedCommits.get();
+    }
+
+    public LatencyStats getCommitLatency() {
+        return commitLatency;
+    }
+
+    /**
+     * Returns summary of the commits - the number of successful and failed commits and the commit latency percentiles.
+     *
+     * @return  summary of the commits
+     */
+    public String toSummaryString() {
+        Histogram histogram = commitLatency.getHistogram();
+        String summary = String.format(Locale.ROOT, "%d commits, %d failed", getCommits(), getFailedCommits());
+
+        if (histogram.getTotalCount() == 0) {
+            return summary;
+        }
+
+        return summary + String.format(Locale.ROOT, ", latency avg=%.3f ms, p50=%.3f ms, p99=%.3f ms, max=%.3f ms",
+            histogram.getMean() / 1000d, histogram.getValueAtPercentile(50) / 1000d, histogram.getValueAtPercentile(99) / 1000d, histogram.getMaxValue() / 1000d);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.commit;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Strategy of the offset commits of the Kafka consumer ({@code COMMIT_STRATEGY}).
+ */
+public enum CommitStrategy {
+    /**
+     * Synchronous commit after every poll.
+     */
+    SYNC("sync"),
+    /**
+     * Asynchronous commit after every poll, with a final synchronous commit on shutdown.
+     */
+    ASYNC("async"),
+    /**
+     * Synchronous commit once {@code COMMIT_RECORDS} records were processed or {@code COMMIT_INTERVAL_MS} elapsed,
+     * whatever comes first.
+     */
+    BATCH("batch"),
+    /**
+     * Synchronous commit of the offsets completed in the individual partitions after every poll.
+     */
+    PER_PARTITION("per-partition"),
+    UNKNOWN("unknown");
+
+    private final String commitStrategy;
+
+    CommitStrategy(String commitStrategy) {
+        this.commitStrategy = commitStrategy;
+    }
+
+    public static CommitStrategy getFromString(String value) {
+        for (CommitStrategy strategy : values()) {
+            if (strategy.toString().equalsIgnoreCase(value)) {
+                return strategy;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    @Override
+    public String toString() {
+        return this.commitStrategy;
+    }
+
+    public static List<CommitStrategy> supportedStrategies() {
+        return Arrays.stream(values()).filter(item -> item != UNKNOWN).toList();
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.commit;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetCommitCallback;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Commits the offsets of the records processed by the Kafka consumer according to the {@link CommitStrategy}
+ * and measures the latency of the commits and the number of the failed ones in the {@link CommitStats}.
+ * The committer is used only by the thread polling the consumer, except of the callbacks of the asynchronous commits,
+ * which update only the thread-safe statistics.
+ */
+public class OffsetCommitter {
+    private static final Logger LOGGER = LogManager.getLogger(OffsetCommitter.class);
+
+    private final Consumer<?, ?> consumer;
+    private final CommitStrategy strategy;
+    private final long commitRecords;
+    private final long commitIntervalNs;
+    // true if only the offsets marked as completed can be committed, not the current position of the consumer
+    private final boolean completedOffsetsOnly;
+    private final LongSupplier clock;
+    // offsets of the next records to be processed in every partition, which were not committed yet
+    private final Map<TopicPartition, OffsetAndMetadata> completedOffsets = new HashMap<>();
+    private long pendingRecords;
+    private long lastCommitNs;
+    private final CommitStats commitStats;
+
+    public OffsetCommitter(Consumer<?, ?> consumer, CommitStrategy strategy, long commitRecords, long commitIntervalMs,
+                           boolean completedOffsetsOnly, CommitStats commitStats) {
+        this(consumer, strategy, commitRecords, commitIntervalMs, completedOffsetsOnly, commitStats, System::nanoTime);
+    }
+
+    /**
+     * Creates the committer.
+     *
+     * @param consumer              consumer whose offsets are committed
+     * @param strategy              commit strategy
+     * @param commitRecords         number of records after which the {@link CommitStrategy#BATCH} strategy commits
+     * @param commitIntervalMs      time after which the {@link CommitStrategy#BATCH} strategy commits
+     * @param completedOffsetsOnly  true in case that the records are not processed in the order in which they were polled,
+     *                              so only the offsets marked as completed can be committed
+     * @param commitStats           statistics of the commits
+     * @param clock                 source of the time in nanoseconds
+     */
+    public OffsetCommitter(Consumer<?, ?> consumer, CommitStrategy strategy, long commitRecords, long commitIntervalMs,
+                           boolean completedOffsetsOnly, CommitStats commitStats, LongSupplier clock) {
+        this.consumer = consumer;
+        this.strategy = strategy;
+        this.commitRecords = commitRecords;
+        this.commitIntervalNs = TimeUnit.MILLISECONDS.toNanos(commitIntervalMs);
+        this.completedOffsetsOnly = completedOffsetsOnly || strategy == CommitStrategy.PER_PARTITION;
+        this.commitStats = commitStats;
+        this.clock = clock;
+        this.lastCommitNs = clock.getAsLong();
+    }
+
+    /**
+     * Marks the record as processed, so its offset is committed by the next commit. The consumer processing the records
+     * in the order of the poll marks the offsets once per partition with {@link #offsetsCompleted(TopicPartition, long, long)}.
+     *
+     * @param record    processed record
+     */
+    public void recordProcessed(ConsumerRecord<?, ?> record) {
+        offsetsCompleted(new TopicPartition(record.topic(), record.partition()), record.offset() + 1, 1);
+    }
+
+    /**
+     * Marks the records of the partition up to the given offset as processed.
+     *
+     * @param partition     partition of the records
+     * @param nextOffset    offset of the next record which was not processed yet
+     * @param records       number of the processed records
+     */
+    public void offsetsCompleted(TopicPartition partition, long nextOffset, long records) {
+        completedOffsets.put(partition, new OffsetAndMetadata(nextOffset));
+        pendingRecords += records;
+    }
+
+    /**
+     * Commits the offsets after the records returned by the poll were processed. Depending on the strategy,
+     * the commit is synchronous, asynchronous or postponed until enough records were processed.
+     *
+     * @return  false in case that the synchronous commit failed, so the records of the poll can be received again, true otherwise
+     */
+    public boolean commit() {
+        if (completedOffsetsOnly && completedOffsets.isEmpty()) {
+            return true;
+        }
+
+        switch (strategy) {
+            case ASYNC:
+                if (pendingRecords > 0) {
+                    commitAsync();
+                }
+                return true;
+            case BATCH:
+                if (pendingRecords >= commitRecords || clock.getAsLong() - lastCommitNs >= commitIntervalNs) {
+                    return commitSync(getOffsetsToCommit());
+                }
+                return true;
+            default:
+                return commitSync(getOffsetsToCommit());
+        }
+    }
+
+    /**
+     * Synchronously commits the offsets which were not committed yet. It is called before the consumer is closed.
+     */
+    public void commitFinal() {
+        if (completedOffsetsOnly ? !completedOffsets.isEmpty() : strategy == CommitStrategy.ASYNC || pendingRecords > 0) {
+            commitSync(getOffsetsToCommit());
+        }
+    }
+
+    /**
+     * Returns the offsets which should be committed.
+     *
+     * @return  copy of the completed offsets, or null in case that the current position of the consumer should be committed
+     */
+    private Map<TopicPartition, OffsetAndMetadata> getOffsetsToCommit() {
+        return completedOffsetsOnly ? new HashMap<>(completedOffsets) : null;
+    }
+
+    /**
+     * Synchronously commits the offsets of the revoked partitions, which were not committed yet, so the records
+     * are not received again by the consumer which gets the partitions.
+     *
+     * @param partitions    revoked partitions
+     */
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        Map<TopicPartition, OffsetAndMetadata> revokedOffsets = new HashMap<>();
+
+        for (TopicPartition partition : partitions) {
+            OffsetAndMetadata offset = completedOffsets.remove(partition);
+
+            if (offset != null) {
+                revokedOffsets.put(partition, offset);
+            }
+        }
+
+        if (!revokedOffsets.isEmpty()) {
+            commitSync(revokedOffsets);
+        }
+    }
+
+    /**
+     * Drops the offsets of the lost partitions, which cannot be committed anymore.
+     *
+     * @param partitions    lost partitions
+     */
+    public void onPartitionsLost(Collection<TopicPartition> partitions) {
+        partitions.forEach(completedOffsets::remove);
+    }
+
+    /**
+     * Synchronously commits either the given offsets, or - in case that they are null - the current position of the consumer.
+     *
+     * @param offsets   offsets to commit, or null
+     *
+     * @return  true if the commit succeeded
+     */
+    private boolean commitSync(Map<TopicPartition, OffsetAndMetadata> offsets) {
+        long startNs = clock.getAsLong();
+
+        try {
+            if (offsets == null) {
+                consumer.commitSync();
+            } else {
+                consumer.commitSync(offsets);
+            }
+
+            commitStats.commitSucceeded(clock.getAsLong() - startNs);
+
+            if (offsets == null) {
+                completedOffsets.clear();
+            } else {
+                // offsets of the partitions processed in the meantime (during the rebalance) are kept
+                offsets.forEach(completedOffsets::remove);
+            }
+
+            if (completedOffsets.isEmpty()) {
+                pendingRecords = 0;
+            }
+
+            return true;
+        } catch (WakeupException e) {
+            throw e;
+        } catch (Exception e) {
+            commitStats.commitFailed();
+            LOGGER.warn("Failed to commit the offset: {}", e.getMessage());
+            return false;
+        } finally {
+            lastCommitNs = clock.getAsLong();
+        }
+    }
+
+    private void commitAsync() {
+        long startNs = clock.getAsLong();
+        Map<TopicPartition, OffsetAndMetadata> offsetsToCommit = getOffsetsToCommit();
+        OffsetCommitCallback callback = (offsets, exception) -> {
+            if (exception == null) {
+                commitStats.commitSucceeded(clock.getAsLong() - startNs);
+            } else {
+                commitStats.commitFailed();
+                LOGGER.warn("Failed to commit the offset asynchronously: {}", exception.getMessage());
+            }
+        };
+
+        if (offsetsToCommit == null) {
+            consumer.commitAsync(callback);
+        } else {
+            consumer.commitAsync(offsetsToCommit, callback);
+        }
+
+        completedOffsets.clear();
+        pendingRecords = 0;
+        lastCommitNs = startNs;
+    }
+}
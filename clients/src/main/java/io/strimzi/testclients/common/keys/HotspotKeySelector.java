@@ -0,0 +1,38 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.keys;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sends {@code trafficPercent} % of the messages with the first {@code keysPercent} % of the keys (the hot keys),
+ * the rest of the messages is spread uniformly over the remaining keys.
+ */
+public class HotspotKeySelector implements KeySelector {
+    private final int keyCount;
+    private final int hotKeyCount;
+    private final int trafficPercent;
+
+    public HotspotKeySelector(int keyCount, int trafficPercent, int keysPercent) {
+        this.keyCount = keyCount;
+        this.hotKeyCount = (int) Math.max(1, Math.min(keyCount, Math.round(keyCount * keysPercent / 100d)));
+        this.trafficPercent = trafficPercent;
+    }
+
+    @Override
+    public int nextKeyIndex(int messageIndex) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        if (hotKeyCount == keyCount || random.nextInt(100) < trafficPercent) {
+            return random.nextInt(hotKeyCount);
+        }
+
+        return hotKeyCount + random.nextInt(keyCount - hotKeyCount);
+    }
+
+    public int getHotKeyCount() {
+        return hotKeyCount;
+    }
+}
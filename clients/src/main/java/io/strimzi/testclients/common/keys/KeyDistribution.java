@@ -0,0 +1,51 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.keys;
+
+import java.util.Arrays;
+import java.util.List;
+
+public enum KeyDistribution {
+    FIXED("fixed"),
+    SEQUENTIAL("sequential"),
+    UNIFORM("uniform"),
+    ZIPFIAN("zipfian"),
+    HOTSPOT("hotspot"),
+    ROUND_ROBIN("round-robin"),
+    UNKNOWN("unknown");
+
+    private final String keyDistribution;
+
+    KeyDistribution(String keyDistribution) {
+        this.keyDistribution = keyDistribution;
+    }
+
+    public static KeyDistribution getFromString(String value) {
+        for (KeyDistribution distribution : values()) {
+            if (distribution.toString().equalsIgnoreCase(value)) {
+                return distribution;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * Returns true if the distribution picks the keys from the key table, false if it uses the single {@code MESSAGE_KEY}.
+     *
+     * @return  true for the distributions using the key table
+     */
+    public boolean usesKeyTable() {
+        return this == SEQUENTIAL || this == UNIFORM || this == ZIPFIAN || this == HOTSPOT;
+    }
+
+    @Override
+    public String toString() {
+        return this.keyDistribution;
+    }
+
+    public static List<KeyDistribution> supportedDistributions() {
+        return Arrays.stream(values()).filter(item -> item != UNKNOWN).toList();
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.keys;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Selects index of the key (from the preallocated key table) for every message. Implementations must not allocate
+ * and must be safe to be used from multiple threads.
+ */
+@FunctionalInterface
+public interface KeySelector {
+
+    /**
+     * Returns index of the key for the message.
+     *
+     * @param messageIndex  index of the message
+     *
+     * @return  index of the key, from {@code 0} (inclusive) to the number of keys (exclusive)
+     */
+    int nextKeyIndex(int messageIndex);
+
+    /**
+     * Creates the selector for the distribution.
+     *
+     * @param distribution              distribution of the keys, one of those using the key table
+     * @param keyCount                  number of keys in the key table
+     * @param zipfianExponent           skew of the Zipfian distribution
+     * @param hotspotTrafficPercent     percentage of the messages sent with the hot keys
+     * @param hotspotKeysPercent        percentage of the keys which are hot
+     *
+     * @return  key selector
+     */
+    static KeySelector create(KeyDistribution distribution, int keyCount, double zipfianExponent, int hotspotTrafficPercent, int hotspotKeysPercent) {
+        return switch (distribution) {
+            case SEQUENTIAL -> messageIndex -> messageIndex % keyCount;
+            case UNIFORM -> messageIndex -> ThreadLocalRandom.current().nextInt(keyCount);
+            case ZIPFIAN -> new ZipfianKeySelector(keyCount, zipfianExponent);
+            case HOTSPOT -> new HotspotKeySelector(keyCount, hotspotTrafficPercent, hotspotKeysPercent);
+            default -> throw new IllegalArgumentException("Key distribution " + distribution + " does not use the key table");
+        };
+    }
+}
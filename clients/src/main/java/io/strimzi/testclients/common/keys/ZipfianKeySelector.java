@@ -0,0 +1,40 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.keys;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Selects the keys following the Zipfian distribution - the key with rank {@code k} (starting from 1) is selected
+ * with probability proportional to {@code 1 / k^exponent}, so the key with index 0 is the most frequent one.
+ * The cumulative distribution is computed once, every selection is then just a binary search in it.
+ */
+public class ZipfianKeySelector implements KeySelector {
+    private final double[] cumulativeProbabilities;
+
+    public ZipfianKeySelector(int keyCount, double exponent) {
+        this.cumulativeProbabilities = new double[keyCount];
+
+        double sum = 0;
+        for (int i = 0; i < keyCount; i++) {
+            sum += 1 / Math.pow(i + 1, exponent);
+            cumulativeProbabilities[i] = sum;
+        }
+
+        for (int i = 0; i < keyCount; i++) {
+            cumulativeProbabilities[i] /= sum;
+        }
+    }
+
+    @Override
+    public int nextKeyIndex(int messageIndex) {
+        int index = Arrays.binarySearch(cumulativeProbabilities, ThreadLocalRandom.current().nextDouble());
+        // in case that the exact value is not found, the insertion point is the first key with higher cumulative probability
+        index = index < 0 ? -index - 1 : index;
+
+        return Math.min(index, cumulativeProbabilities.length - 1);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.metrics;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+
+/**
+ * Stamp added by the producer to every record (as the {@link #HEADER} header) in case that the {@code E2E_LATENCY}
+ * is enabled. The consumers decode it to measure the end-to-end latency - the time from the send of the record
+ * to its receive - and to identify the record by the producer and its sequence within the partition.
+ *
+ * <p>The stamp is encoded as 24 bytes - producer ID, sequence and timestamp, each of them as a big-endian long.
+ * The timestamp is in nanoseconds since the epoch, so the latency measured between different hosts is precise
+ * only as much as their clocks are synchronized.</p>
+ *
+ * @param producerId    ID of the producer (thread) which sent the record
+ * @param sequence      sequence of the record within its partition, for the given producer
+ * @param timestampNs   time of the send in nanoseconds since the epoch
+ */
+public record EndToEndStamp(long producerId, long sequence, long timestampNs) {
+    public static final String HEADER = "strimzi-e2e-stamp";
+    public static final int SIZE = 3 * Long.BYTES;
+
+    public byte[] toBytes() {
+        return ByteBuffer.allocate(SIZE)
+            .putLong(producerId)
+            .putLong(sequence)
+            .putLong(timestampNs)
+            .array();
+    }
+
+    /**
+     * Decodes the stamp.
+     *
+     * @param bytes     value of the {@link #HEADER} header
+     *
+     * @return  decoded stamp, or {@code null} in case that the value is not a valid stamp
+     */
+    public static EndToEndStamp fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != SIZE) {
+            return null;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new EndToEndStamp(buffer.getLong(), buffer.getLong(), buffer.getLong());
+    }
+
+    /**
+     * Returns the current time in nanoseconds since the epoch. The precision depends on the system clock
+     * (usually microseconds).
+     *
+     * @return  current time in nanoseconds since the epoch
+     */
+    public static long nowEpochNs() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000_000L + now.getNano();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Periodically logs the throughput (and the latency percentiles, if the latency is measured) of the last interval.
+ * Used in the {@code summary} output mode instead of logging every record.
+ */
+public class IntervalReporter implements AutoCloseable {
+    private static final Logger LOGGER = LogManager.getLogger(IntervalReporter.class);
+    public static final long REPORT_INTERVAL_MS = 5000;
+
+    private final String name;
+    private final LongSupplier records;
+    private final LongSupplier bytes;
+    private final LatencyStats latencyStats;
+    private final LongSupplier clock;
+    private ScheduledExecutorService executor;
+    private long lastRecords;
+    private long lastBytes;
+    private long lastReportNs;
+    private Histogram lastHistogram;
+
+    /**
+     * Creates the reporter.
+     *
+     * @param name          name of the reported metrics, for example {@code Sent}
+     * @param records       supplier of the total number of records so far
+     * @param bytes         supplier of the total number of bytes so far
+     * @param latencyStats  latencies, or {@code null} if the latency is not measured
+     */
+    public IntervalReporter(String name, LongSupplier records, LongSupplier bytes, LatencyStats latencyStats) {
+        this(name, records, bytes, latencyStats, System::nanoTime);
+    }
+
+    public IntervalReporter(String name, LongSupplier records, LongSupplier bytes, LatencyStats latencyStats, LongSupplier clock) {
+        this.name = name;
+        this.records = records;
+        this.bytes = bytes;
+        this.latencyStats = latencyStats;
+        this.clock = clock;
+    }
+
+    /**
+     * Starts logging the reports every {@link #REPORT_INTERVAL_MS} on a separate daemon thread.
+     */
+    public void start() {
+        lastReportNs = clock.getAsLong();
+
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "interval-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleAtFixedRate(() -> LOGGER.info("{} in the last interval: {}", name, report().toPlainString()),
+            REPORT_INTERVAL_MS, REPORT_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates the report of the interval since the previous report (or since the start).
+     *
+     * @return  report of the last interval
+     */
+    public synchronized PerformanceReport report() {
+        long nowNs = clock.getAsLong();
+        long currentRecords = records.getAsLong();
+        long currentBytes = bytes.getAsLong();
+        Histogram intervalHistogram = null;
+
+        if (latencyStats != null) {
+            Histogram histogram = latencyStats.getHistogram();
+            intervalHistogram = histogram.copy();
+
+            if (lastHistogram != null) {
+                intervalHistogram.subtract(lastHistogram);
+            }
+
+            lastHistogram = histogram;
+        }
+
+        PerformanceReport report = PerformanceReport.of(currentRecords - lastRecords, currentBytes - lastBytes, nowNs - lastReportNs, intervalHistogram);
+
+        lastRecords = currentRecords;
+        lastBytes = currentBytes;
+        lastReportNs = nowNs;
+
+        return report;
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
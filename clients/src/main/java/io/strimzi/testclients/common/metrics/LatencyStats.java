@@ -0,0 +1,67 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.SingleWriterRecorder;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thread-safe collector of latencies backed by HdrHistogram. Every recording thread gets its own
+ * {@link SingleWriterRecorder}, so the recording itself is wait-free and does not allocate. The per-thread
+ * recorders are merged into one histogram when the latencies are read.
+ * The latencies are tracked in microseconds with 3 significant digits, values above 1 hour are capped.
+ */
+public class LatencyStats {
+    private static final long HIGHEST_TRACKABLE_LATENCY_US = TimeUnit.HOURS.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final List<SingleWriterRecorder> recorders = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<SingleWriterRecorder> threadRecorder = ThreadLocal.withInitial(this::createRecorder);
+    private final Histogram totalHistogram = new Histogram(HIGHEST_TRACKABLE_LATENCY_US, SIGNIFICANT_DIGITS);
+
+    private SingleWriterRecorder createRecorder() {
+        SingleWriterRecorder recorder = new SingleWriterRecorder(HIGHEST_TRACKABLE_LATENCY_US, SIGNIFICANT_DIGITS);
+        recorders.add(recorder);
+        return recorder;
+    }
+
+    public void record(long latencyNs) {
+        long latencyUs = Math.max(0, Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNs), HIGHEST_TRACKABLE_LATENCY_US));
+        threadRecorder.get().recordValue(latencyUs);
+    }
+
+    /**
+     * Merges the latencies recorded by all threads since the last call into the total histogram.
+     */
+    private void mergeRecorders() {
+        for (SingleWriterRecorder recorder : recorders) {
+            totalHistogram.add(recorder.getIntervalHistogram());
+        }
+    }
+
+    /**
+     * Method for getting the latencies recorded by all threads so far.
+     *
+     * @return  copy of the histogram with all recorded latencies in microseconds
+     */
+    public synchronized Histogram getHistogram() {
+        mergeRecorders();
+        return totalHistogram.copy();
+    }
+
+    public long getCount() {
+        return getHistogram().getTotalCount();
+    }
+
+    @Override
+    public String toString() {
+        Histogram histogram = getHistogram();
+        return String.format("count=%d, avg=%.3f ms, max=%.3f ms", histogram.getTotalCount(), histogram.getMean() / 1000d, histogram.getMaxValue() / 1000d);
+    }
+}
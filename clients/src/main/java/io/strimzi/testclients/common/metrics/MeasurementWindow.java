@@ -0,0 +1,90 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Splits the run of a client into the warmup phase ({@code WARMUP_DURATION}) and the measurement phase.
+ * The traffic during the warmup is not included in the metrics. In case that the {@code RUN_DURATION} is configured,
+ * the run is time-based - it finishes once the measurement phase took the {@code RUN_DURATION}. Otherwise, the end
+ * of the run is determined by the {@code MESSAGE_COUNT}.
+ */
+public class MeasurementWindow {
+    private final long warmupDurationNs;
+    private final long runDurationNs;
+    private final LongSupplier clock;
+    private volatile long startNs;
+
+    public MeasurementWindow(long warmupDurationMs, long runDurationMs) {
+        this(warmupDurationMs, runDurationMs, System::nanoTime);
+    }
+
+    public MeasurementWindow(long warmupDurationMs, long runDurationMs, LongSupplier clock) {
+        this.warmupDurationNs = TimeUnit.MILLISECONDS.toNanos(warmupDurationMs);
+        this.runDurationNs = TimeUnit.MILLISECONDS.toNanos(runDurationMs);
+        this.clock = clock;
+        this.startNs = clock.getAsLong();
+    }
+
+    /**
+     * Starts the run - the warmup phase (if configured) starts now.
+     */
+    public void start() {
+        startNs = clock.getAsLong();
+    }
+
+    public boolean isTimeBased() {
+        return runDurationNs > 0;
+    }
+
+    /**
+     * Method for checking whether the event happened during the warmup phase.
+     *
+     * @param timeNs    time of the event (from {@link System#nanoTime()})
+     *
+     * @return  true if the event happened during the warmup
+     */
+    public boolean isWarmup(long timeNs) {
+        return timeNs - startNs < warmupDurationNs;
+    }
+
+    public boolean isWarmup() {
+        return isWarmup(clock.getAsLong());
+    }
+
+    /**
+     * Method for checking whether the time-based run is finished. For runs determined by the {@code MESSAGE_COUNT},
+     * it always returns false.
+     *
+     * @return  true if the {@code RUN_DURATION} elapsed after the warmup
+     */
+    public boolean isFinished() {
+        return isTimeBased() && getRemainingNs() == 0;
+    }
+
+    /**
+     * Returns time remaining until the end of the time-based run.
+     *
+     * @return  remaining time in nanoseconds, {@link Long#MAX_VALUE} for runs determined by the {@code MESSAGE_COUNT}
+     */
+    public long getRemainingNs() {
+        if (!isTimeBased()) {
+            return Long.MAX_VALUE;
+        }
+
+        return Math.max(0, warmupDurationNs + runDurationNs - (clock.getAsLong() - startNs));
+    }
+
+    /**
+     * Returns duration of the measurement phase so far - the time elapsed since the end of the warmup.
+     *
+     * @return  duration of the measurement phase in nanoseconds
+     */
+    public long getMeasurementDurationNs() {
+        return Math.max(0, clock.getAsLong() - startNs - warmupDurationNs);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.metrics;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+
+import java.util.Locale;
+
+/**
+ * End-of-run summary of the throughput and the latency percentiles, which can be printed either in plain text
+ * or as a single-line JSON. The latency fields are {@code null} in case that no latency was recorded.
+ *
+ * @param records           number of records in the report
+ * @param bytes             number of (serialized) bytes of the records
+ * @param durationMs        duration of the run in milliseconds
+ * @param recordsPerSecond  throughput in records per second
+ * @param mbPerSecond       throughput in MB (2^20 bytes) per second
+ * @param latencyAvgMs      average latency in milliseconds
+ * @param latencyP50Ms      50th percentile of the latency in milliseconds
+ * @param latencyP90Ms      90th percentile of the latency in milliseconds
+ * @param latencyP99Ms      99th percentile of the latency in milliseconds
+ * @param latencyP999Ms     99.9th percentile of the latency in milliseconds
+ * @param latencyMaxMs      maximal latency in milliseconds
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PerformanceReport(
+    long records,
+    long bytes,
+    double durationMs,
+    double recordsPerSecond,
+    double mbPerSecond,
+    Double latencyAvgMs,
+    Double latencyP50Ms,
+    Double latencyP90Ms,
+    Double latencyP99Ms,
+    Double latencyP999Ms,
+    Double latencyMaxMs
+) {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Creates the report from the number of records and bytes transferred during the run and the latency histogram.
+     *
+     * @param records       number of records transferred during the run
+     * @param bytes         number of bytes transferred during the run
+     * @param durationNs    duration of the run in nanoseconds
+     * @param histogram     histogram with the latencies in microseconds, as returned by {@link LatencyStats#getHistogram()},
+     *                      or {@code null} if the latency is not measured
+     *
+     * @return  performance report
+     */
+    public static PerformanceReport of(long records, long bytes, long durationNs, Histogram histogram) {
+        double durationSeconds = durationNs / 1_000_000_000d;
+        boolean hasLatency = histogram != null && histogram.getTotalCount() > 0;
+
+        return new PerformanceReport(
+            records,
+            bytes,
+            durationNs / 1_000_000d,
+            durationSeconds > 0 ? records / durationSeconds : 0,
+            durationSeconds > 0 ? bytes / (1024d * 1024d) / durationSeconds : 0,
+            hasLatency ? histogram.getMean() / 1000d : null,
+            hasLatency ? histogram.getValueAtPercentile(50) / 1000d : null,
+            hasLatency ? histogram.getValueAtPercentile(90) / 1000d : null,
+            hasLatency ? histogram.getValueAtPercentile(99) / 1000d : null,
+            hasLatency ? histogram.getValueAtPercentile(99.9) / 1000d : null,
+            hasLatency ? histogram.getMaxValue() / 1000d : null
+        );
+    }
+
+    public String toPlainString() {
+        String throughput = String.format(Locale.ROOT, "%d records (%d bytes) in %.1f ms: %.1f records/s, %.3f MB/s",
+            records, bytes, durationMs, recordsPerSecond, mbPerSecond);
+
+        if (latencyAvgMs == null) {
+            return throughput;
+        }
+
+        return throughput + String.format(Locale.ROOT, ", latency avg=%.3f ms, p50=%.3f ms, p90=%.3f ms, p99=%.3f ms, p99.9=%.3f ms, max=%.3f ms",
+            latencyAvgMs, latencyP50Ms, latencyP90Ms, latencyP99Ms, latencyP999Ms, latencyMaxMs);
+    }
+
+    public String toJsonString() {
+        try {
+            return MAPPER.writeValueAsString(this);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to convert the performance report to JSON", e);
+        }
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.processing;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.utils.Utils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Processes the records received by one consumer in parallel on a pool of threads (lanes), while it keeps the order
+ * of the records with the same key or of the same partition ({@link ProcessingOrder}) - such records are always
+ * processed by the same lane, one after another.
+ *
+ * <p>Because the records of one partition can be completed out of order, the processor tracks the completed offsets
+ * of every partition and returns only the contiguous ones - the offset of a record is returned once the record
+ * and all the records before it were processed. The records are submitted and the completed offsets collected
+ * only by the thread polling the consumer.</p>
+ */
+public class ParallelProcessor implements AutoCloseable {
+    private static final Logger LOGGER = LogManager.getLogger(ParallelProcessor.class);
+
+    private final ProcessingOrder order;
+    private final ExecutorService[] lanes;
+    private final Map<TopicPartition, PartitionProgress> progress = new ConcurrentHashMap<>();
+    private final Object inFlightLock = new Object();
+    private int inFlight;
+
+    public ParallelProcessor(int threads, ProcessingOrder order, String threadNamePrefix) {
+        this.order = order;
+        this.lanes = new ExecutorService[threads];
+
+        for (int i = 0; i < threads; i++) {
+            String threadName = threadNamePrefix + "-" + i;
+            lanes[i] = Executors.newSingleThreadExecutor(r -> new Thread(r, threadName));
+        }
+    }
+
+    /**
+     * Submits the record for the processing.
+     *
+     * @param record    record which should be processed
+     * @param task      processing of the record
+     */
+    public void submit(ConsumerRecord<?, ?> record, Runnable task) {
+        TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+        PartitionProgress partitionProgress = progress.computeIfAbsent(partition, p -> new PartitionProgress());
+        long offset = record.offset();
+
+        partitionProgress.submitted(offset);
+
+        synchronized (inFlightLock) {
+            inFlight++;
+        }
+
+        lanes[getLane(record)].execute(() -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                LOGGER.error("Failed to process the record {}-{}: {}", partition, offset, e.getMessage());
+            } finally {
+                partitionProgress.completed(offset);
+
+                synchronized (inFlightLock) {
+                    inFlight--;
+                    inFlightLock.notifyAll();
+                }
+            }
+        });
+    }
+
+    private int getLane(ConsumerRecord<?, ?> record) {
+        int hash = order == ProcessingOrder.KEY && record.key() != null ? getKeyHash(record.key()) : 31 * record.topic().hashCode() + record.partition();
+        return Utils.toPositive(hash) % lanes.length;
+    }
+
+    /**
+     * Hashes the content of the key, so the equal keys are processed by the same lane also when they are
+     * deserialized as byte arrays, whose {@link Object#hashCode()} is based on the identity.
+     *
+     * @param key   key of the record
+     *
+     * @return  hash of the key
+     */
+    private static int getKeyHash(Object key) {
+        return key instanceof byte[] bytes ? Utils.murmur2(bytes) : key.hashCode();
+    }
+
+    /**
+     * Returns the number of the records which were submitted, but not processed yet.
+     *
+     * @return  number of the in-flight records
+     */
+    public int getInFlight() {
+        synchronized (inFlightLock) {
+            return inFlight;
+        }
+    }
+
+    /**
+     * Waits until all submitted records are processed.
+     *
+     * @param timeoutMs     maximal time to wait
+     *
+     * @return  true if all records were processed, false if the timeout elapsed
+     */
+    public boolean awaitIdle(long timeoutMs) {
+        long deadlineNs = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+
+        synchronized (inFlightLock) {
+            while (inFlight > 0) {
+                long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadlineNs - System.nanoTime());
+
+                if (remainingMs <= 0) {
+                    return false;
+                }
+
+                try {
+                    inFlightLock.wait(remainingMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Collects the offsets which became contiguously completed since the last call.
+     *
+     * @return  completed offsets of every partition with newly completed records
+     */
+    public List<CompletedOffsets> collectCompleted() {
+        List<CompletedOffsets> completedOffsets = new ArrayList<>();
+
+        for (Map.Entry<TopicPartition, PartitionProgress> entry : progress.entrySet()) {
+            PartitionProgress partitionProgress = entry.getValue();
+            long completedRecords = partitionProgress.collect();
+
+            if (completedRecords > 0) {
+                completedOffsets.add(new CompletedOffsets(entry.getKey(), partitionProgress.getNextOffset(), completedRecords));
+            }
+        }
+
+        return completedOffsets;
+    }
+
+    /**
+     * Stops tracking the offsets of the partitions, which were revoked from the consumer.
+     *
+     * @param partitions    revoked partitions
+     *
+     * @return  number of the records of the partitions, which were processed, but not collected as contiguously completed
+     */
+    public long removePartitions(Collection<TopicPartition> partitions) {
+        long records = 0;
+
+        for (TopicPartition partition : partitions) {
+            PartitionProgress partitionProgress = progress.remove(partition);
+
+            if (partitionProgress != null) {
+                records += partitionProgress.getCompleted();
+            }
+        }
+
+        return records;
+    }
+
+    @Override
+    public void close() {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+
+        for (ExecutorService lane : lanes) {
+            try {
+                if (!lane.awaitTermination(1, TimeUnit.MINUTES)) {
+                    lane.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                lane.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Offsets of one partition which became contiguously completed.
+     *
+     * @param partition     partition of the records
+     * @param nextOffset    offset of the next record which was not processed yet
+     * @param records       number of the newly completed records
+     */
+    public record CompletedOffsets(TopicPartition partition, long nextOffset, long records) { }
+
+    /**
+     * Offsets of the records of one partition, which were submitted, but not collected as contiguously completed yet.
+     */
+    private static class PartitionProgress {
+        // submitted offsets in the order of the submission, which is the order of the offsets
+        private final ArrayDeque<Long> pending = new ArrayDeque<>();
+        // completed offsets, which are still preceded by a pending offset
+        private final Set<Long> completed = new HashSet<>();
+        private long nextOffset = -1;
+
+        synchronized void submitted(long offset) {
+            pending.addLast(offset);
+        }
+
+        synchronized void completed(long offset) {
+            completed.add(offset);
+        }
+
+        /**
+         * Removes the contiguously completed offsets from the head of the pending offsets.
+         *
+         * @return  number of the removed offsets
+         */
+        synchronized long collect() {
+            long records = 0;
+
+            while (!pending.isEmpty() && completed.remove(pending.peekFirst())) {
+                nextOffset = pending.pollFirst() + 1;
+                records++;
+            }
+
+            return records;
+        }
+
+        synchronized long getNextOffset() {
+            return nextOffset;
+        }
+
+        synchronized long getCompleted() {
+            return completed.size();
+        }
+    }
+}
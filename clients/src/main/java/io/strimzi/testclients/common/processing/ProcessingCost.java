@@ -0,0 +1,54 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.processing;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Simulated cost of the processing of one record ({@code PROCESSING_TIME_MS}). The processing either waits
+ * (as an application calling an external service would) or burns the CPU (as a CPU-bound application would).
+ *
+ * @param timeNs    processing time of one record in nanoseconds
+ * @param burnCpu   true if the CPU should be busy during the processing, false if the thread should wait
+ */
+public record ProcessingCost(long timeNs, boolean burnCpu) {
+    public static final ProcessingCost NONE = new ProcessingCost(0, false);
+
+    /**
+     * Creates the processing cost.
+     *
+     * @param timeMs    processing time of one record in milliseconds (fractions are allowed)
+     * @param burnCpu   true if the CPU should be busy during the processing
+     *
+     * @return  processing cost
+     */
+    public static ProcessingCost of(double timeMs, boolean burnCpu) {
+        return new ProcessingCost(Math.round(timeMs * 1_000_000d), burnCpu);
+    }
+
+    /**
+     * Spends the processing time of one record in the current thread.
+     */
+    public void apply() {
+        if (timeNs <= 0) {
+            return;
+        }
+
+        long deadlineNs = System.nanoTime() + timeNs;
+
+        if (burnCpu) {
+            while (System.nanoTime() < deadlineNs) {
+                Thread.onSpinWait();
+            }
+        } else {
+            long remainingNs = timeNs;
+
+            while (remainingNs > 0) {
+                LockSupport.parkNanos(remainingNs);
+                remainingNs = deadlineNs - System.nanoTime();
+            }
+        }
+    }
+}
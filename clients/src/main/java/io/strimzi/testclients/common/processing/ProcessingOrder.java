@@ -0,0 +1,47 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.processing;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Ordering kept by the parallel processing of the received records ({@code PROCESSING_ORDER}).
+ */
+public enum ProcessingOrder {
+    /**
+     * Records with the same key are processed in order, records of one partition can be processed in parallel.
+     */
+    KEY("key"),
+    /**
+     * Records of one partition are processed in order.
+     */
+    PARTITION("partition"),
+    UNKNOWN("unknown");
+
+    private final String processingOrder;
+
+    ProcessingOrder(String processingOrder) {
+        this.processingOrder = processingOrder;
+    }
+
+    public static ProcessingOrder getFromString(String value) {
+        for (ProcessingOrder order : values()) {
+            if (order.toString().equalsIgnoreCase(value)) {
+                return order;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    @Override
+    public String toString() {
+        return this.processingOrder;
+    }
+
+    public static List<ProcessingOrder> supportedOrders() {
+        return Arrays.stream(values()).filter(item -> item != UNKNOWN).toList();
+    }
+}
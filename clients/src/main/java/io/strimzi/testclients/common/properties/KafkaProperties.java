@@ -4,14 +4,21 @@
  */
 package io.strimzi.testclients.common.properties;
 
+import io.strimzi.testclients.common.rebalance.RebalanceScenario;
+import io.strimzi.testclients.common.streams.RocksDBProfileConfigSetter;
+import io.strimzi.testclients.common.streams.StreamsSettings;
 import io.strimzi.testclients.configuration.kafka.KafkaConsumerConfiguration;
 import io.strimzi.testclients.configuration.kafka.KafkaProducerConfiguration;
 import io.strimzi.testclients.configuration.kafka.KafkaStreamsConfiguration;
 import io.strimzi.testclients.properties.BasicKafkaProperties;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.CooperativeStickyAssignor;
+import org.apache.kafka.clients.consumer.GroupProtocol;
+import org.apache.kafka.clients.consumer.RangeAssignor;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.streams.StreamsConfig;
 
+import java.util.Locale;
 import java.util.Properties;
 
 public class KafkaProperties {
@@ -39,17 +46,74 @@ public class KafkaProperties {
             properties.put(ConsumerConfig.CLIENT_RACK_CONFIG, configuration.getClientRack());
         }
 
+        updatePropertiesWithRebalanceScenario(properties, configuration.getRebalanceScenario(), configuration.getClientId());
+
         return properties;
     }
 
+    /**
+     * Configures the group protocol, the partition assignor and the static membership of the consumer according
+     * to the {@code REBALANCE_SCENARIO}. The {@code group.instance.id} of the static membership is the client ID,
+     * unless it is configured in the {@code ADDITIONAL_CONFIG}.
+     *
+     * @param properties    properties of the consumer
+     * @param scenario      rebalance scenario
+     * @param clientId      client ID of the consumer
+     */
+    private static void updatePropertiesWithRebalanceScenario(Properties properties, RebalanceScenario scenario, String clientId) {
+        if (scenario == RebalanceScenario.EAGER) {
+            properties.put(ConsumerConfig.PARTITION_ASSIGNMENT_STRATEGY_CONFIG, RangeAssignor.class.getName());
+        } else if (scenario == RebalanceScenario.COOPERATIVE) {
+            properties.put(ConsumerConfig.PARTITION_ASSIGNMENT_STRATEGY_CONFIG, CooperativeStickyAssignor.class.getName());
+        }
+
+        if (scenario.isConsumerProtocol()) {
+            properties.put(ConsumerConfig.GROUP_PROTOCOL_CONFIG, GroupProtocol.CONSUMER.name().toLowerCase(Locale.ROOT));
+        }
+
+        if (scenario.isStaticMembership()) {
+            properties.putIfAbsent(ConsumerConfig.GROUP_INSTANCE_ID_CONFIG, clientId);
+        }
+    }
+
     public static Properties streamsProperties(KafkaStreamsConfiguration configuration) {
+        return streamsProperties(configuration, configuration.getStreamsSettings());
+    }
+
+    /**
+     * Creates the properties of the Kafka Streams with the settings of a single run of the {@code STREAMS_SWEEP}.
+     *
+     * @param configuration     configuration of the Kafka Streams client
+     * @param settings          settings of the run
+     *
+     * @return  properties of the Kafka Streams
+     */
+    public static Properties streamsProperties(KafkaStreamsConfiguration configuration, StreamsSettings settings) {
         Properties properties = BasicKafkaProperties.clientProperties(configuration);
 
         properties.put(StreamsConfig.APPLICATION_ID_CONFIG, configuration.getApplicationId());
-        properties.put(StreamsConfig.COMMIT_INTERVAL_MS_CONFIG, configuration.getCommitIntervalMs());
+        properties.put(StreamsConfig.PROCESSING_GUARANTEE_CONFIG, settings.processingGuarantee().toString());
+        properties.put(StreamsConfig.NUM_STREAM_THREADS_CONFIG, settings.numStreamThreads());
+        properties.put(StreamsConfig.STATESTORE_CACHE_MAX_BYTES_CONFIG, settings.cacheMaxBytes());
+        properties.put(StreamsConfig.COMMIT_INTERVAL_MS_CONFIG, settings.commitIntervalMs());
         properties.put(StreamsConfig.DEFAULT_KEY_SERDE_CLASS_CONFIG, configuration.getDefaultKeySerde());
         properties.put(StreamsConfig.DEFAULT_VALUE_SERDE_CLASS_CONFIG, configuration.getDefaultValueSerde());
 
+        if (configuration.hasRocksDbProfile()) {
+            properties.put(StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG, RocksDBProfileConfigSetter.class.getName());
+            properties.put(RocksDBProfileConfigSetter.BLOCK_CACHE_SIZE_CONFIG, configuration.getRocksDbBlockCacheSize());
+            properties.put(RocksDBProfileConfigSetter.WRITE_BUFFERS_CONFIG, configuration.getRocksDbWriteBuffers());
+
+            if (configuration.getRocksDbCompactionStyle() != null) {
+                properties.put(RocksDBProfileConfigSetter.COMPACTION_STYLE_CONFIG, configuration.getRocksDbCompactionStyle().name());
+            }
+        }
+
+        if (configuration.isStateStoreMetrics()) {
+            // the latencies of the state stores are recorded only on the debug level
+            properties.put(StreamsConfig.METRICS_RECORDING_LEVEL_CONFIG, "DEBUG");
+        }
+
         return properties;
     }
 }
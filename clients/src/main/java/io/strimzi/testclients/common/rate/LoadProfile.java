@@ -0,0 +1,238 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.rate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.strimzi.testclients.configuration.ClientsConfigurationUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Time-varying target rate of the producer, configured by the {@code LOAD_PROFILE} as a sequence of segments.
+ * The segments are defined either in the compact form - segments separated by {@code ,} with parameters separated by {@code :}:
+ * <ul>
+ *   <li>{@code ramp:<from>:<to>:<duration>} - rate changes linearly from {@code from} to {@code to}</li>
+ *   <li>{@code hold:<rate>:<duration>} (or {@code step}) - constant rate</li>
+ *   <li>{@code burst:<rate>:<duration>} - constant rate, meant for short peaks</li>
+ *   <li>{@code sine:<min>:<max>:<period>:<duration>} - rate oscillates between {@code min} and {@code max}</li>
+ * </ul>
+ * or as a JSON array, for example {@code [{"type":"ramp","from":0,"to":50000,"duration":"2m"},{"type":"hold","rate":50000,"duration":"10m"}]}.
+ * The durations are in the same format as the {@code RUN_DURATION}, the rates are in the {@code TARGET_RATE_UNIT} per second.
+ */
+public class LoadProfile {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final List<Segment> segments;
+    private final long durationNs;
+
+    public LoadProfile(List<Segment> segments) {
+        if (segments.isEmpty()) {
+            throw new IllegalArgumentException("Load profile should contain at least one segment");
+        }
+
+        this.segments = List.copyOf(segments);
+        this.durationNs = segments.stream().mapToLong(Segment::durationNs).sum();
+    }
+
+    /**
+     * Parses the load profile either from the compact form or from the JSON array.
+     *
+     * @param value     definition of the load profile
+     *
+     * @return  load profile
+     *
+     * @throws IllegalArgumentException in case that the definition is not valid
+     */
+    public static LoadProfile parse(String value) {
+        String trimmedValue = value.trim();
+
+        if (trimmedValue.startsWith("[")) {
+            return parseJson(trimmedValue);
+        }
+
+        List<Segment> segments = new ArrayList<>();
+
+        for (String segment : trimmedValue.split(",")) {
+            String[] parameters = segment.trim().split(":");
+            LoadSegmentType type = LoadSegmentType.getFromString(parameters[0].trim());
+
+            int expectedParameters = switch (type) {
+                case RAMP -> 4;
+                case HOLD, STEP, BURST -> 3;
+                case SINE -> 5;
+                default -> throw new IllegalArgumentException("Unknown load profile segment: " + segment + ", supported segments are " + LoadSegmentType.supportedTypes());
+            };
+
+            if (parameters.length != expectedParameters) {
+                throw new IllegalArgumentException("Invalid number of parameters of load profile segment: " + segment);
+            }
+
+            segments.add(switch (type) {
+                case RAMP -> Segment.ramp(parseRate(parameters[1]), parseRate(parameters[2]), parseDurationNs(parameters[3]));
+                case SINE -> Segment.sine(parseRate(parameters[1]), parseRate(parameters[2]), parseDurationNs(parameters[3]), parseDurationNs(parameters[4]));
+                default -> Segment.constant(type, parseRate(parameters[1]), parseDurationNs(parameters[2]));
+            });
+        }
+
+        return new LoadProfile(segments);
+    }
+
+    private static LoadProfile parseJson(String value) {
+        JsonNode root;
+
+        try {
+            root = MAPPER.readTree(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Load profile is not a valid JSON: " + e.getOriginalMessage(), e);
+        }
+
+        List<Segment> segments = new ArrayList<>();
+
+        for (JsonNode node : root) {
+            LoadSegmentType type = LoadSegmentType.getFromString(node.path("type").asText());
+
+            segments.add(switch (type) {
+                case RAMP -> Segment.ramp(parseRate(node, "from"), parseRate(node, "to"), parseDurationNs(node, "duration"));
+                case HOLD, STEP, BURST -> Segment.constant(type, parseRate(node, "rate"), parseDurationNs(node, "duration"));
+                case SINE -> Segment.sine(parseRate(node, "min"), parseRate(node, "max"), parseDurationNs(node, "period"), parseDurationNs(node, "duration"));
+                default -> throw new IllegalArgumentException("Unknown load profile segment: " + node + ", supported segments are " + LoadSegmentType.supportedTypes());
+            });
+        }
+
+        return new LoadProfile(segments);
+    }
+
+    private static double parseRate(JsonNode node, String field) {
+        return parseRate(node.path(field).asText());
+    }
+
+    private static double parseRate(String value) {
+        double rate;
+
+        try {
+            rate = Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid rate in the load profile: " + value, e);
+        }
+
+        if (rate < 0 || Double.isNaN(rate) || Double.isInfinite(rate)) {
+            throw new IllegalArgumentException("Rate in the load profile should be a non-negative number: " + value);
+        }
+
+        return rate;
+    }
+
+    private static long parseDurationNs(JsonNode node, String field) {
+        return parseDurationNs(node.path(field).asText());
+    }
+
+    private static long parseDurationNs(String value) {
+        long durationMs = ClientsConfigurationUtils.parseDurationMs(value);
+
+        if (durationMs <= 0) {
+            throw new IllegalArgumentException("Duration in the load profile should be greater than 0: " + value);
+        }
+
+        return TimeUnit.MILLISECONDS.toNanos(durationMs);
+    }
+
+    /**
+     * Returns the target rate at the given time of the run. After the end of the profile, the rate at the end
+     * of the last segment is returned.
+     *
+     * @param elapsedNs     time elapsed since the start of the run in nanoseconds
+     *
+     * @return  target rate per second
+     */
+    public double rateAt(long elapsedNs) {
+        long segmentStartNs = 0;
+
+        for (Segment segment : segments) {
+            if (elapsedNs < segmentStartNs + segment.durationNs()) {
+                return segment.rateAt(Math.max(0, elapsedNs - segmentStartNs));
+            }
+
+            segmentStartNs += segment.durationNs();
+        }
+
+        Segment lastSegment = segments.getLast();
+        return lastSegment.rateAt(lastSegment.durationNs());
+    }
+
+    public List<Segment> getSegments() {
+        return segments;
+    }
+
+    public long getDurationNs() {
+        return durationNs;
+    }
+
+    public long getDurationMs() {
+        return TimeUnit.NANOSECONDS.toMillis(durationNs);
+    }
+
+    @Override
+    public String toString() {
+        return segments.stream().map(Segment::toString).collect(Collectors.joining(","));
+    }
+
+    /**
+     * One segment of the load profile.
+     *
+     * @param type          type of the segment
+     * @param fromRate      rate at the start of the ramp, constant rate, or minimal rate of the sine
+     * @param toRate        rate at the end of the ramp, constant rate, or maximal rate of the sine
+     * @param periodNs      period of the sine in nanoseconds, 0 for other segments
+     * @param durationNs    duration of the segment in nanoseconds
+     */
+    public record Segment(LoadSegmentType type, double fromRate, double toRate, long periodNs, long durationNs) {
+
+        static Segment ramp(double fromRate, double toRate, long durationNs) {
+            return new Segment(LoadSegmentType.RAMP, fromRate, toRate, 0, durationNs);
+        }
+
+        static Segment constant(LoadSegmentType type, double rate, long durationNs) {
+            return new Segment(type, rate, rate, 0, durationNs);
+        }
+
+        static Segment sine(double minRate, double maxRate, long periodNs, long durationNs) {
+            if (minRate > maxRate) {
+                throw new IllegalArgumentException("Minimal rate of the sine should not be greater than the maximal rate");
+            }
+
+            return new Segment(LoadSegmentType.SINE, minRate, maxRate, periodNs, durationNs);
+        }
+
+        /**
+         * Returns the rate at the given offset from the start of the segment.
+         *
+         * @param offsetNs  offset from the start of the segment in nanoseconds
+         *
+         * @return  rate per second
+         */
+        public double rateAt(long offsetNs) {
+            return switch (type) {
+                case RAMP -> fromRate + (toRate - fromRate) * Math.min(1d, (double) offsetNs / durationNs);
+                // starts in the middle between the bounds and rises first
+                case SINE -> (fromRate + toRate) / 2 + (toRate - fromRate) / 2 * Math.sin(2 * Math.PI * offsetNs / periodNs);
+                default -> fromRate;
+            };
+        }
+
+        @Override
+        public String toString() {
+            return switch (type) {
+                case RAMP -> type + ":" + fromRate + ":" + toRate + ":" + TimeUnit.NANOSECONDS.toMillis(durationNs) + "ms";
+                case SINE -> type + ":" + fromRate + ":" + toRate + ":" + TimeUnit.NANOSECONDS.toMillis(periodNs) + "ms:" + TimeUnit.NANOSECONDS.toMillis(durationNs) + "ms";
+                default -> type + ":" + fromRate + ":" + TimeUnit.NANOSECONDS.toMillis(durationNs) + "ms";
+            };
+        }
+    }
+}
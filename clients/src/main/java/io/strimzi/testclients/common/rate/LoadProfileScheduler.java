@@ -0,0 +1,77 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.rate;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Drives the rate of the {@link TokenBucket} according to the {@link LoadProfile}. Once started, the rate of the bucket
+ * is updated every {@link #UPDATE_INTERVAL_MS} to the rate of the profile at the current time of the run. The end of the profile
+ * is the deadline of the bucket, so the senders are not parked forever by a profile which ends with the rate of 0.
+ */
+public class LoadProfileScheduler implements AutoCloseable {
+    public static final long UPDATE_INTERVAL_MS = 50;
+
+    private final LoadProfile loadProfile;
+    private final TokenBucket tokenBucket;
+    private final LongSupplier clock;
+    private ScheduledExecutorService executor;
+    private volatile long startNs;
+
+    public LoadProfileScheduler(LoadProfile loadProfile) {
+        this(loadProfile, System::nanoTime);
+    }
+
+    public LoadProfileScheduler(LoadProfile loadProfile, LongSupplier clock) {
+        this.loadProfile = loadProfile;
+        this.clock = clock;
+        // the initial rate of the bucket is replaced by the rate of the profile right away
+        this.tokenBucket = new TokenBucket(1, clock);
+        this.tokenBucket.setRate(loadProfile.rateAt(0));
+        this.startNs = clock.getAsLong();
+    }
+
+    /**
+     * Starts the profile - the time of the profile is measured from now and the rate is updated periodically
+     * on a separate daemon thread.
+     */
+    public void start() {
+        startNs = clock.getAsLong();
+        tokenBucket.setDeadline(startNs + loadProfile.getDurationNs());
+        updateRate();
+
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "load-profile-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleAtFixedRate(this::updateRate, UPDATE_INTERVAL_MS, UPDATE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sets the rate of the bucket to the rate of the profile at the current time.
+     */
+    public void updateRate() {
+        tokenBucket.setRate(loadProfile.rateAt(clock.getAsLong() - startNs));
+    }
+
+    public TokenBucket getTokenBucket() {
+        return tokenBucket;
+    }
+
+    public LoadProfile getLoadProfile() {
+        return loadProfile;
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
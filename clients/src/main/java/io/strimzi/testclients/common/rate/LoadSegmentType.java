@@ -0,0 +1,41 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.rate;
+
+import java.util.Arrays;
+import java.util.List;
+
+public enum LoadSegmentType {
+    RAMP("ramp"),
+    HOLD("hold"),
+    STEP("step"),
+    BURST("burst"),
+    SINE("sine"),
+    UNKNOWN("unknown");
+
+    private final String segmentType;
+
+    LoadSegmentType(String segmentType) {
+        this.segmentType = segmentType;
+    }
+
+    public static LoadSegmentType getFromString(String value) {
+        for (LoadSegmentType type : values()) {
+            if (type.toString().equalsIgnoreCase(value)) {
+                return type;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    @Override
+    public String toString() {
+        return this.segmentType;
+    }
+
+    public static List<LoadSegmentType> supportedTypes() {
+        return Arrays.stream(values()).filter(item -> item != UNKNOWN).toList();
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.rate;
+
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket used for pacing the messages to the configured target rate.
+ *
+ * <p>Every send consumes tokens (one per record, or the size of the record in bytes) and the bucket computes the time
+ * at which the send was intended to happen according to the schedule. The schedule is never reset when the sender falls behind -
+ * the backlog is sent as fast as possible, so the latency measured from the intended send time includes the time
+ * the sender was stalled (avoiding the coordinated omission).</p>
+ *
+ * <p>Sends whose intended time is closer than {@link #BURST_WINDOW_NS} are released immediately, which allows rates
+ * higher than one message per millisecond without parking the thread for every message.</p>
+ *
+ * <p>The rate can be changed while the bucket is used (for example by the {@link LoadProfileScheduler}). The tokens
+ * that are not due yet are rescheduled according to the new rate, while the backlog of a sender that fell behind
+ * is kept. A rate of 0 pauses the bucket until the rate is increased again.</p>
+ *
+ * <p>The bucket can have a deadline (for example the end of the load profile), after which {@link #acquire(long)}
+ * stops waiting, so a sender of a paused bucket is not parked forever.</p>
+ */
+public class TokenBucket {
+    /**
+     * Sends intended to happen within this window are released right away as one burst.
+     */
+    public static final long BURST_WINDOW_NS = 100_000;
+
+    /**
+     * Maximal time the thread waiting for tokens is parked at once, so it notices changes of the rate.
+     */
+    private static final long MAX_PARK_NS = 10_000_000;
+
+    private final LongSupplier clock;
+    private double nanosPerToken;
+    // time at which the token at the base position is due, updated on every change of the rate
+    private long baseNs;
+    private double basePosition;
+    // position of the next token that will be reserved
+    private double nextPosition;
+    private boolean started = false;
+    // time after which the senders do not wait for the tokens anymore
+    private volatile long deadlineNs = Long.MAX_VALUE;
+
+    public TokenBucket(double tokensPerSecond) {
+        this(tokensPerSecond, System::nanoTime);
+    }
+
+    public TokenBucket(double tokensPerSecond, LongSupplier clock) {
+        if (tokensPerSecond <= 0) {
+            throw new IllegalArgumentException("Rate of the token bucket should be greater than 0");
+        }
+
+        this.clock = clock;
+        this.nanosPerToken = 1_000_000_000d / tokensPerSecond;
+    }
+
+    /**
+     * Changes the rate of the bucket. The schedule is rebased to the current time - the tokens due from now on
+     * follow the new rate, the tokens that were already due (the backlog of a sender that fell behind) stay as they were.
+     *
+     * @param tokensPerSecond   new rate of the bucket, 0 pauses the bucket
+     */
+    public synchronized void setRate(double tokensPerSecond) {
+        if (tokensPerSecond < 0) {
+            throw new IllegalArgumentException("Rate of the token bucket cannot be negative");
+        }
+
+        if (started) {
+            long nowNs = clock.getAsLong();
+            long nextDueNs = getDueTimeNs(nextPosition);
+
+            if (nextDueNs <= nowNs) {
+                // the sender is behind the schedule - keep the backlog and continue with the new rate after it
+                basePosition = nextPosition;
+                baseNs = nextDueNs;
+            } else if (baseNs < nowNs) {
+                basePosition = basePosition + (nowNs - baseNs) / nanosPerToken;
+                baseNs = nowNs;
+            }
+        }
+
+        nanosPerToken = 1_000_000_000d / tokensPerSecond;
+    }
+
+    /**
+     * Sets the time after which {@link #acquire(long)} returns without waiting for the tokens.
+     *
+     * @param deadlineNs    deadline (in ns, based on the clock of the bucket)
+     */
+    public void setDeadline(long deadlineNs) {
+        this.deadlineNs = deadlineNs;
+    }
+
+    /**
+     * @return  true if the deadline of the bucket passed, so the acquired tokens should not be used anymore
+     */
+    public boolean isExpired() {
+        return clock.getAsLong() >= deadlineNs;
+    }
+
+    /**
+     * Reserves tokens without waiting for them.
+     *
+     * @param tokens    number of tokens to reserve
+     *
+     * @return  time (in ns, based on the clock of the bucket) at which the tokens were intended to be used
+     */
+    public synchronized long reserve(long tokens) {
+        return getDueTimeNs(reservePosition(tokens));
+    }
+
+    /**
+     * Reserves tokens and waits until their intended time (minus the {@link #BURST_WINDOW_NS}). The intended time
+     * is re-evaluated while waiting, so the change of the rate applies to the already reserved tokens as well.
+     * The waiting ends also once the deadline passes - the caller should check {@link #isExpired()} and not use the tokens.
+     *
+     * @param tokens    number of tokens to acquire
+     *
+     * @return  time (in ns, based on the clock of the bucket) at which the tokens were intended to be used
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public long acquire(long tokens) throws InterruptedException {
+        double position = reservePosition(tokens);
+        long intendedTimeNs;
+        long waitNs;
+
+        while ((waitNs = (intendedTimeNs = dueTimeNs(position)) - clock.getAsLong()) > BURST_WINDOW_NS && !isExpired()) {
+            LockSupport.parkNanos(Math.min(waitNs, MAX_PARK_NS));
+
+            if (Thread.interrupted()) {
+                throw new InterruptedException("Interrupted while waiting for tokens");
+            }
+        }
+
+        return intendedTimeNs;
+    }
+
+    private synchronized double reservePosition(long tokens) {
+        if (!started) {
+            baseNs = clock.getAsLong();
+            started = true;
+        }
+
+        double position = nextPosition;
+        nextPosition += tokens;
+
+        return position;
+    }
+
+    private synchronized long dueTimeNs(double position) {
+        return getDueTimeNs(position);
+    }
+
+    private long getDueTimeNs(double position) {
+        if (position <= basePosition) {
+            return baseNs;
+        }
+
+        // the bucket is paused (or the rate is extremely low), so the token is not due in the foreseeable future
+        double offsetNs = (position - basePosition) * nanosPerToken;
+        return offsetNs >= Long.MAX_VALUE / 2d ? Long.MAX_VALUE / 2 : baseNs + (long) offsetNs;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.rebalance;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Group membership and rebalance protocol of the Kafka consumer ({@code REBALANCE_SCENARIO}).
+ */
+public enum RebalanceScenario {
+    /**
+     * The consumer configuration is not changed.
+     */
+    DEFAULT("default"),
+    /**
+     * Classic protocol with the eager range assignor - all partitions are revoked on every rebalance.
+     */
+    EAGER("eager"),
+    /**
+     * Classic protocol with the cooperative sticky assignor - only the moved partitions are revoked.
+     */
+    COOPERATIVE("cooperative"),
+    /**
+     * Classic protocol with static membership - the {@code group.instance.id} is the client ID, so a restarted consumer
+     * gets its partitions back without a rebalance (in case that it returns within the session timeout).
+     */
+    STATIC("static"),
+    /**
+     * The consumer group protocol ({@code group.protocol=consumer}), with the assignment computed by the broker.
+     */
+    CONSUMER_PROTOCOL("consumer-protocol"),
+    /**
+     * The consumer group protocol with static membership.
+     */
+    STATIC_CONSUMER_PROTOCOL("static-consumer-protocol"),
+    UNKNOWN("unknown");
+
+    private final String scenario;
+
+    RebalanceScenario(String scenario) {
+        this.scenario = scenario;
+    }
+
+    public static RebalanceScenario getFromString(String value) {
+        for (RebalanceScenario rebalanceScenario : values()) {
+            if (rebalanceScenario.toString().equalsIgnoreCase(value)) {
+                return rebalanceScenario;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    public boolean isStaticMembership() {
+        return this == STATIC || this == STATIC_CONSUMER_PROTOCOL;
+    }
+
+    public boolean isConsumerProtocol() {
+        return this == CONSUMER_PROTOCOL || this == STATIC_CONSUMER_PROTOCOL;
+    }
+
+    @Override
+    public String toString() {
+        return this.scenario;
+    }
+
+    public static List<RebalanceScenario> supportedScenarios() {
+        return Arrays.stream(values()).filter(item -> item != UNKNOWN).toList();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.rebalance;
+
+import io.strimzi.testclients.common.metrics.LatencyStats;
+import org.HdrHistogram.Histogram;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe statistics of the rebalances, which can be shared by the {@link RebalanceTracker}s of multiple consumers.
+ */
+public class RebalanceStats {
+    // time for which the poll thread was stopped by the rebalances, without the initial join
+    private final LatencyStats pauses = new LatencyStats();
+    private final LongAdder rebalances = new LongAdder();
+    private final LongAdder assignedPartitions = new LongAdder();
+    private final LongAdder revokedPartitions = new LongAdder();
+    private final LongAdder lostPartitions = new LongAdder();
+    private final LongAdder movedInPartitions = new LongAdder();
+    private final LongAdder movedOutPartitions = new LongAdder();
+
+    void partitionsAssigned(int partitions) {
+        assignedPartitions.add(partitions);
+    }
+
+    void partitionsRevoked(int partitions) {
+        revokedPartitions.add(partitions);
+    }
+
+    void partitionsLost(int partitions) {
+        lostPartitions.add(partitions);
+    }
+
+    void rebalanceCompleted(long pauseNs, int movedIn, int movedOut) {
+        rebalances.increment();
+        pauses.record(pauseNs);
+        movedInPartitions.add(movedIn);
+        movedOutPartitions.add(movedOut);
+    }
+
+    public long getRebalances() {
+        return rebalances.sum();
+    }
+
+    public long getAssignedPartitions() {
+        return assignedPartitions.sum();
+    }
+
+    public long getRevokedPartitions() {
+        return revokedPartitions.sum();
+    }
+
+    public long getLostPartitions() {
+        return lostPartitions.sum();
+    }
+
+    public long getMovedInPartitions() {
+        return movedInPartitions.sum();
+    }
+
+    public long getMovedOutPartitions() {
+        return movedOutPartitions.sum();
+    }
+
+    public LatencyStats getPauses() {
+        return pauses;
+    }
+
+    /**
+     * Returns summary of the rebalances - the number of rebalances, the partitions assigned, revoked, lost and moved
+     * by them, and the percentiles of the pauses.
+     *
+     * @return  summary of the rebalances
+     */
+    public String toSummaryString() {
+        Histogram histogram = pauses.getHistogram();
+        String summary = String.format(Locale.ROOT, "%d rebalances, %d partitions assigned, %d revoked, %d lost, %d moved in, %d moved out",
+            getRebalances(), getAssignedPartitions(), getRevokedPartitions(), getLostPartitions(), getMovedInPartitions(), getMovedOutPartitions());
+
+        if (histogram.getTotalCount() == 0) {
+            return summary;
+        }
+
+        return summary + String.format(Locale.ROOT, ", pause avg=%.3f ms, p50=%.3f ms, p99=%.3f ms, max=%.3f ms",
+            histogram.getMean() / 1000d, histogram.getValueAtPercentile(50) / 1000d, histogram.getValueAtPercentile(99) / 1000d, histogram.getMaxValue() / 1000d);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.rebalance;
+
+import org.apache.kafka.common.TopicPartition;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Tracks the rebalances of one consumer from the callbacks of its rebalance listener. The rebalance starts in the poll
+ * in which the partitions were revoked or lost (or assigned, in case that nothing was revoked) and ends with the poll
+ * in which the partitions were assigned. The time between the start of the first poll and the end of the last one
+ * is the pause, for which the consumer stopped processing the records - with the eager protocol, the consumer owns
+ * no partitions in between, with the cooperative protocol it keeps processing only the partitions it still owns.
+ *
+ * <p>Besides the pause, the tracker logs the time of the revocation and of the assignment, and the partitions which
+ * really moved - the eager protocol revokes all partitions, but most of them are usually assigned back.
+ * The first assignment (joining the group) is logged, but it is not counted as a pause.</p>
+ *
+ * <p>The tracker is used only by the thread polling the consumer, which calls the listener as well.</p>
+ */
+public class RebalanceTracker {
+    private static final Logger LOGGER = LogManager.getLogger(RebalanceTracker.class);
+
+    private final String consumerName;
+    private final RebalanceStats rebalanceStats;
+    private final LongSupplier clock;
+    private final Set<TopicPartition> ownedPartitions = new HashSet<>();
+    // partitions owned before the current rebalance, null in case that no rebalance is in progress
+    private Set<TopicPartition> partitionsBeforeRebalance;
+    private long pollStartNs;
+    private long rebalanceStartNs;
+    private Instant revokedAt;
+    private Instant assignedAt;
+    private boolean joined;
+
+    public RebalanceTracker(String consumerName, RebalanceStats rebalanceStats) {
+        this(consumerName, rebalanceStats, System::nanoTime);
+    }
+
+    /**
+     * Creates the tracker.
+     *
+     * @param consumerName      name of the consumer, used in the logs
+     * @param rebalanceStats    statistics of the rebalances
+     * @param clock             source of the time in nanoseconds
+     */
+    public RebalanceTracker(String consumerName, RebalanceStats rebalanceStats, LongSupplier clock) {
+        this.consumerName = consumerName;
+        this.rebalanceStats = rebalanceStats;
+        this.clock = clock;
+    }
+
+    /**
+     * Called before every poll of the consumer.
+     */
+    public void pollStarted() {
+        pollStartNs = clock.getAsLong();
+    }
+
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        if (partitions.isEmpty()) {
+            return;
+        }
+
+        startRebalance();
+        revokedAt = Instant.now();
+        ownedPartitions.removeAll(partitions);
+        rebalanceStats.partitionsRevoked(partitions.size());
+    }
+
+    public void onPartitionsLost(Collection<TopicPartition> partitions) {
+        startRebalance();
+        revokedAt = Instant.now();
+        ownedPartitions.removeAll(partitions);
+        rebalanceStats.partitionsLost(partitions.size());
+    }
+
+    public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+        startRebalance();
+        assignedAt = Instant.now();
+        ownedPartitions.addAll(partitions);
+        rebalanceStats.partitionsAssigned(partitions.size());
+    }
+
+    private void startRebalance() {
+        if (partitionsBeforeRebalance == null) {
+            partitionsBeforeRebalance = new HashSet<>(ownedPartitions);
+            rebalanceStartNs = pollStartNs;
+        }
+    }
+
+    /**
+     * Called after every poll of the consumer. Completes the rebalance in case that the partitions were assigned.
+     */
+    public void pollFinished() {
+        if (partitionsBeforeRebalance == null || assignedAt == null) {
+            return;
+        }
+
+        long pauseNs = clock.getAsLong() - rebalanceStartNs;
+        Set<TopicPartition> movedIn = new HashSet<>(ownedPartitions);
+        movedIn.removeAll(partitionsBeforeRebalance);
+        Set<TopicPartition> movedOut = new HashSet<>(partitionsBeforeRebalance);
+        movedOut.removeAll(ownedPartitions);
+
+        if (joined) {
+            rebalanceStats.rebalanceCompleted(pauseNs, movedIn.size(), movedOut.size());
+            LOGGER.info("Rebalance of {}: partitions revoked at {}, assigned at {}, processing paused for {} ms, moved in {}, moved out {}",
+                consumerName, revokedAt == null ? "-" : revokedAt, assignedAt, TimeUnit.NANOSECONDS.toMillis(pauseNs), movedIn, movedOut);
+        } else {
+            joined = true;
+            LOGGER.info("{} joined the group in {} ms with partitions {}", consumerName, TimeUnit.NANOSECONDS.toMillis(pauseNs), ownedPartitions);
+        }
+
+        partitionsBeforeRebalance = null;
+        revokedAt = null;
+        assignedAt = null;
+    }
+
+    public Set<TopicPartition> getOwnedPartitions() {
+        return ownedPartitions;
+    }
+}
@@ -4,6 +4,7 @@
  */
 package io.strimzi.testclients.common.records.consumer.http;
 
+import java.util.List;
 import java.util.Objects;
 
 public class ConsumerRecord {
@@ -13,11 +14,16 @@ public class ConsumerRecord {
     private int partition;
     private long offset;
     private Long timestamp;
+    private List<ConsumerRecordHeader> headers;
 
     public void setTopic(String topic) {
         this.topic = topic;
     }
 
+    public String getTopic() {
+        return topic;
+    }
+
     public void setKey(Object key) {
         this.key = key;
     }
@@ -30,6 +36,10 @@ public class ConsumerRecord {
         this.partition = partition;
     }
 
+    public int getPartition() {
+        return partition;
+    }
+
     public void setOffset(long offset) {
         this.offset = offset;
     }
@@ -38,6 +48,35 @@ public class ConsumerRecord {
         this.timestamp = timestamp;
     }
 
+    public void setHeaders(List<ConsumerRecordHeader> headers) {
+        this.headers = headers;
+    }
+
+    public List<ConsumerRecordHeader> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Returns decoded value of the last header with the given key.
+     *
+     * @param key   key of the header
+     *
+     * @return  decoded value of the header, or {@code null} in case that the record has no such header
+     */
+    public byte[] lastHeaderValue(String key) {
+        if (headers == null) {
+            return null;
+        }
+
+        for (int i = headers.size() - 1; i >= 0; i--) {
+            if (key.equals(headers.get(i).key())) {
+                return headers.get(i).decodedValue();
+            }
+        }
+
+        return null;
+    }
+
     @Override
     public boolean equals(Object o) {
         // self check
@@ -0,0 +1,32 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.records.consumer.http;
+
+import java.util.Base64;
+
+/**
+ * Header of the record received from the HTTP Bridge.
+ *
+ * @param key       key of the header
+ * @param value     value of the header, encoded in base64 by the HTTP Bridge
+ */
+public record ConsumerRecordHeader(String key, String value) {
+    /**
+     * Decodes the value of the header.
+     *
+     * @return  decoded value, or {@code null} in case that the value is not valid base64
+     */
+    public byte[] decodedValue() {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return Base64.getDecoder().decode(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -7,6 +7,7 @@ package io.strimzi.testclients.common.records.consumer.http;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.strimzi.testclients.common.OutputMode;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -23,8 +24,21 @@ public class ConsumerRecordUtils {
     }
 
     public static void logConsumerRecords(ConsumerRecord[] records) {
-        for (ConsumerRecord record : records) {
-            LOGGER.info(record.toString());
+        logConsumerRecords(records, OutputMode.PER_RECORD, 0);
+    }
+
+    /**
+     * Logs the received records according to the {@code OUTPUT_MODE}.
+     *
+     * @param records       records received in one response
+     * @param outputMode    output mode
+     * @param firstIndex    index of the first record of the response
+     */
+    public static void logConsumerRecords(ConsumerRecord[] records, OutputMode outputMode, long firstIndex) {
+        for (int i = 0; i < records.length; i++) {
+            if (outputMode.shouldLog(firstIndex + i)) {
+                LOGGER.info(records[i].toString());
+            }
         }
     }
 }
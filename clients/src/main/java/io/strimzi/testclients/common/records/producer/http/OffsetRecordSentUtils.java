@@ -8,6 +8,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.strimzi.testclients.common.OutputMode;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -16,8 +17,21 @@ public class OffsetRecordSentUtils {
     private static final Logger LOGGER = LogManager.getLogger(OffsetRecordSentUtils.class);
 
     public static void logOffsetRecordsSent(OffsetRecordSent[] offsetRecordsSent) {
-        for (OffsetRecordSent offsetRecordSent : offsetRecordsSent) {
-            LOGGER.info(offsetRecordSent.toString());
+        logOffsetRecordsSent(offsetRecordsSent, OutputMode.PER_RECORD, 0);
+    }
+
+    /**
+     * Logs the sent records according to the {@code OUTPUT_MODE}.
+     *
+     * @param offsetRecordsSent     records sent in one request
+     * @param outputMode            output mode
+     * @param firstIndex            index of the first record of the request
+     */
+    public static void logOffsetRecordsSent(OffsetRecordSent[] offsetRecordsSent, OutputMode outputMode, long firstIndex) {
+        for (int i = 0; i < offsetRecordsSent.length; i++) {
+            if (outputMode.shouldLog(firstIndex + i)) {
+                LOGGER.info(offsetRecordsSent[i].toString());
+            }
         }
     }
 
@@ -0,0 +1,272 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.sink;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+
+/**
+ * Writes the consumed records to a file, without passing them through the logging framework. The records are
+ * encoded into one reusable direct buffer, which is written to the {@link FileChannel} once it is full, so the file
+ * is written in large sequential chunks. The sink is shared by all threads of the consumer, so the writes are synchronized.
+ *
+ * <p>In the {@link SinkFormat#RAW} format, the value of every record is followed by a new line. In the {@link SinkFormat#FRAMED}
+ * format, every record is written as: partition (int), offset (long), timestamp (long), key length (int) and key, value length (int)
+ * and value, number of headers (int) and for every header its key length (int) and key, value length (int) and value -
+ * all big-endian, with the length -1 for the null key, value or header value.</p>
+ *
+ * <p>When the rotation size is set, the file is closed once it reaches the size and the records continue in the file
+ * with the next number as the suffix - {@code <path>}, {@code <path>.1}, {@code <path>.2} and so on.</p>
+ */
+public class FileSink implements AutoCloseable {
+    public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+    private static final int FRAME_HEADER_SIZE = Integer.BYTES + 2 * Long.BYTES;
+    private static final byte NEW_LINE = '\n';
+
+    private final Path path;
+    private final SinkFormat format;
+    private final long rotateBytes;
+    private final SinkFsyncPolicy fsyncPolicy;
+    private final ByteBuffer buffer;
+    private FileChannel channel;
+    private int files;
+    private long fileBytes;
+    private long records;
+    private long bytes;
+
+    /**
+     * Creates the sink and opens its first file.
+     *
+     * @param path          path of the (first) file, which is overwritten if it exists
+     * @param format        format of the records
+     * @param rotateBytes   size after which the file is rotated, 0 for no rotation
+     * @param fsyncPolicy   when the data are forced to the disk
+     * @param bufferSize    size of the buffer in bytes
+     */
+    public FileSink(Path path, SinkFormat format, long rotateBytes, SinkFsyncPolicy fsyncPolicy, int bufferSize) {
+        this.path = path;
+        this.format = format;
+        this.rotateBytes = rotateBytes;
+        this.fsyncPolicy = fsyncPolicy;
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+
+            openFile();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to open the sink file " + path, e);
+        }
+    }
+
+    /**
+     * Writes the record to the sink.
+     *
+     * @param record    consumed record
+     */
+    public synchronized void write(ConsumerRecord<?, ?> record) {
+        try {
+            if (format == SinkFormat.FRAMED) {
+                writeFramed(record);
+            } else {
+                put(toBytes(record.value()));
+                put(NEW_LINE);
+            }
+
+            records++;
+
+            if (rotateBytes > 0 && fileBytes >= rotateBytes) {
+                rotate();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write to the sink file " + getCurrentPath(), e);
+        }
+    }
+
+    private void writeFramed(ConsumerRecord<?, ?> record) throws IOException {
+        ensureRemaining(FRAME_HEADER_SIZE);
+        buffer.putInt(record.partition());
+        buffer.putLong(record.offset());
+        buffer.putLong(record.timestamp());
+        fileBytes += FRAME_HEADER_SIZE;
+
+        putWithLength(toBytes(record.key()));
+        putWithLength(toBytes(record.value()));
+
+        Header[] headers = record.headers().toArray();
+        putInt(headers.length);
+
+        for (Header header : headers) {
+            putWithLength(header.key().getBytes(StandardCharsets.UTF_8));
+            putWithLength(header.value());
+        }
+    }
+
+    private void putWithLength(byte[] data) throws IOException {
+        if (data == null) {
+            putInt(-1);
+        } else {
+            putInt(data.length);
+            put(data);
+        }
+    }
+
+    private void putInt(int value) throws IOException {
+        ensureRemaining(Integer.BYTES);
+        buffer.putInt(value);
+        fileBytes += Integer.BYTES;
+    }
+
+    private void put(byte value) throws IOException {
+        ensureRemaining(1);
+        buffer.put(value);
+        fileBytes++;
+    }
+
+    private void put(byte[] data) throws IOException {
+        if (data == null) {
+            return;
+        }
+
+        if (data.length > buffer.capacity()) {
+            // larger than the whole buffer, so it is written directly
+            flushBuffer();
+            writeFully(ByteBuffer.wrap(data));
+        } else {
+            ensureRemaining(data.length);
+            buffer.put(data);
+        }
+
+        fileBytes += data.length;
+    }
+
+    private void ensureRemaining(int length) throws IOException {
+        if (buffer.remaining() < length) {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (buffer.position() == 0) {
+            return;
+        }
+
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+
+        if (fsyncPolicy == SinkFsyncPolicy.FLUSH) {
+            channel.force(false);
+        }
+    }
+
+    private void writeFully(ByteBuffer data) throws IOException {
+        while (data.hasRemaining()) {
+            bytes += channel.write(data);
+        }
+    }
+
+    private void rotate() throws IOException {
+        closeFile();
+        openFile();
+    }
+
+    private void openFile() throws IOException {
+        channel = FileChannel.open(getPath(files), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        files++;
+        fileBytes = 0;
+    }
+
+    private void closeFile() throws IOException {
+        flushBuffer();
+
+        if (fsyncPolicy != SinkFsyncPolicy.NONE) {
+            channel.force(false);
+        }
+
+        channel.close();
+    }
+
+    private Path getPath(int fileIndex) {
+        return fileIndex == 0 ? path : path.resolveSibling(path.getFileName() + "." + fileIndex);
+    }
+
+    private Path getCurrentPath() {
+        return getPath(files - 1);
+    }
+
+    /**
+     * Returns the bytes of the record's key or value - the byte arrays are written as they are, other objects are
+     * written as their UTF-8 encoded string representation.
+     *
+     * @param data  key or value of the record
+     *
+     * @return  bytes of the data, or null for the null data
+     */
+    private static byte[] toBytes(Object data) {
+        if (data == null) {
+            return null;
+        } else if (data instanceof byte[] array) {
+            return array;
+        } else if (data instanceof ByteBuffer byteBuffer) {
+            byte[] array = new byte[byteBuffer.remaining()];
+            byteBuffer.duplicate().get(array);
+            return array;
+        } else {
+            return data.toString().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    public synchronized long getRecords() {
+        return records;
+    }
+
+    /**
+     * Returns the number of bytes written to the files, without the bytes still waiting in the buffer.
+     *
+     * @return  number of the written bytes
+     */
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    public synchronized int getFiles() {
+        return files;
+    }
+
+    public String toSummaryString() {
+        synchronized (this) {
+            return String.format(Locale.ROOT, "%d records, %.3f MB written to %d file(s) in %s format",
+                records, bytes / (1024.0 * 1024.0), files, format);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!channel.isOpen()) {
+            return;
+        }
+
+        try {
+            closeFile();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to close the sink file " + getCurrentPath(), e);
+        }
+    }
+}
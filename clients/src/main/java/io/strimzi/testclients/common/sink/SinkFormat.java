@@ -0,0 +1,47 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.sink;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Format of the records written by the {@link FileSink} ({@code SINK_FORMAT}).
+ */
+public enum SinkFormat {
+    /**
+     * Value of every record followed by a new line, suitable for text values.
+     */
+    RAW("raw"),
+    /**
+     * Length-prefixed binary frame of every record with its partition, offset, timestamp, key, value and headers.
+     */
+    FRAMED("framed"),
+    UNKNOWN("unknown");
+
+    private final String format;
+
+    SinkFormat(String format) {
+        this.format = format;
+    }
+
+    public static SinkFormat getFromString(String value) {
+        for (SinkFormat sinkFormat : values()) {
+            if (sinkFormat.toString().equalsIgnoreCase(value)) {
+                return sinkFormat;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    @Override
+    public String toString() {
+        return this.format;
+    }
+
+    public static List<SinkFormat> supportedFormats() {
+        return Arrays.stream(values()).filter(item -> item != UNKNOWN).toList();
+    }
+}
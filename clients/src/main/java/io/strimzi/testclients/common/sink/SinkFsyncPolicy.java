@@ -0,0 +1,51 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.sink;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * When the {@link FileSink} forces the written data to the disk ({@code SINK_FSYNC}).
+ */
+public enum SinkFsyncPolicy {
+    /**
+     * Never, the data is written to the disk by the operating system.
+     */
+    NONE("none"),
+    /**
+     * When the file is closed - on the rotation and at the end of the run.
+     */
+    CLOSE("close"),
+    /**
+     * After every write of the buffer to the file.
+     */
+    FLUSH("flush"),
+    UNKNOWN("unknown");
+
+    private final String policy;
+
+    SinkFsyncPolicy(String policy) {
+        this.policy = policy;
+    }
+
+    public static SinkFsyncPolicy getFromString(String value) {
+        for (SinkFsyncPolicy fsyncPolicy : values()) {
+            if (fsyncPolicy.toString().equalsIgnoreCase(value)) {
+                return fsyncPolicy;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    @Override
+    public String toString() {
+        return this.policy;
+    }
+
+    public static List<SinkFsyncPolicy> supportedPolicies() {
+        return Arrays.stream(values()).filter(item -> item != UNKNOWN).toList();
+    }
+}
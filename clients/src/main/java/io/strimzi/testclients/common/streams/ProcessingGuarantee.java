@@ -0,0 +1,49 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.streams;
+
+import org.apache.kafka.streams.StreamsConfig;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Processing guarantee of the Kafka Streams ({@code PROCESSING_GUARANTEE}).
+ */
+public enum ProcessingGuarantee {
+    /**
+     * Records are processed at least once, they can be processed again after a failure.
+     */
+    AT_LEAST_ONCE(StreamsConfig.AT_LEAST_ONCE),
+    /**
+     * Records are processed exactly once, using the transactions of the producers.
+     */
+    EXACTLY_ONCE_V2(StreamsConfig.EXACTLY_ONCE_V2),
+    UNKNOWN("unknown");
+
+    private final String guarantee;
+
+    ProcessingGuarantee(String guarantee) {
+        this.guarantee = guarantee;
+    }
+
+    public static ProcessingGuarantee getFromString(String value) {
+        for (ProcessingGuarantee processingGuarantee : values()) {
+            if (processingGuarantee.toString().equalsIgnoreCase(value)) {
+                return processingGuarantee;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    @Override
+    public String toString() {
+        return this.guarantee;
+    }
+
+    public static List<ProcessingGuarantee> supportedGuarantees() {
+        return Arrays.stream(values()).filter(item -> item != UNKNOWN).toList();
+    }
+}
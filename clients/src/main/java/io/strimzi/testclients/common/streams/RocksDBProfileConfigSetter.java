@@ -0,0 +1,67 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.streams;
+
+import org.apache.kafka.streams.state.RocksDBConfigSetter;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.Cache;
+import org.rocksdb.CompactionStyle;
+import org.rocksdb.LRUCache;
+import org.rocksdb.Options;
+
+import java.util.Map;
+
+/**
+ * Applies the RocksDB profile configured by the {@code ROCKSDB_BLOCK_CACHE_SIZE}, {@code ROCKSDB_WRITE_BUFFERS}
+ * and {@code ROCKSDB_COMPACTION_STYLE} to every RocksDB store of the Kafka Streams. The profile is passed to the setter
+ * through the Kafka Streams configuration. The block cache is shared by all stores, so its size is the bound
+ * of the whole client and not of every store. The options which are not set are left to the Kafka Streams defaults.
+ */
+public class RocksDBProfileConfigSetter implements RocksDBConfigSetter {
+    public static final String BLOCK_CACHE_SIZE_CONFIG = "test.clients.rocksdb.block.cache.size";
+    public static final String WRITE_BUFFERS_CONFIG = "test.clients.rocksdb.write.buffers";
+    public static final String COMPACTION_STYLE_CONFIG = "test.clients.rocksdb.compaction.style";
+
+    private static Cache sharedCache;
+
+    @Override
+    public void setConfig(String storeName, Options options, Map<String, Object> configs) {
+        long blockCacheSize = getLong(configs, BLOCK_CACHE_SIZE_CONFIG);
+        long writeBuffers = getLong(configs, WRITE_BUFFERS_CONFIG);
+        Object compactionStyle = configs.get(COMPACTION_STYLE_CONFIG);
+
+        if (blockCacheSize > 0) {
+            BlockBasedTableConfig tableConfig = (BlockBasedTableConfig) options.tableFormatConfig();
+            tableConfig.setBlockCache(getSharedCache(blockCacheSize));
+            options.setTableFormatConfig(tableConfig);
+        }
+
+        if (writeBuffers > 0) {
+            options.setMaxWriteBufferNumber((int) writeBuffers);
+        }
+
+        if (compactionStyle != null) {
+            options.setCompactionStyle(CompactionStyle.valueOf(compactionStyle.toString()));
+        }
+    }
+
+    private static synchronized Cache getSharedCache(long size) {
+        if (sharedCache == null) {
+            sharedCache = new LRUCache(size);
+        }
+
+        return sharedCache;
+    }
+
+    private static long getLong(Map<String, Object> configs, String name) {
+        Object value = configs.get(name);
+        return value == null ? 0 : Long.parseLong(value.toString());
+    }
+
+    @Override
+    public void close(String storeName, Options options) {
+        // the shared cache is used by the stores for the whole run of the client
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.streams;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Implementation of the state store of the stateful topologies ({@code STATE_STORE}).
+ */
+public enum StateStoreType {
+    /**
+     * Store chosen by the Kafka Streams DSL - the timestamped RocksDB store.
+     */
+    DEFAULT("default"),
+    /**
+     * Persistent RocksDB store without the timestamps of the records.
+     */
+    ROCKSDB("rocksdb"),
+    /**
+     * Persistent RocksDB store with the timestamps of the records.
+     */
+    TIMESTAMPED_ROCKSDB("timestamped-rocksdb"),
+    /**
+     * In-memory store, restored from its changelog topic on every start.
+     */
+    IN_MEMORY("in-memory"),
+    /**
+     * Persistent versioned key-value store, which keeps the history of the values for the {@code WINDOW_SIZE}.
+     * There is no versioned window store, so it can be used only for the table of the {@link StreamsTopology#TABLE_JOIN}.
+     */
+    VERSIONED("versioned"),
+    UNKNOWN("unknown");
+
+    private final String storeType;
+
+    StateStoreType(String storeType) {
+        this.storeType = storeType;
+    }
+
+    public static StateStoreType getFromString(String value) {
+        for (StateStoreType stateStoreType : values()) {
+            if (stateStoreType.toString().equalsIgnoreCase(value)) {
+                return stateStoreType;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    @Override
+    public String toString() {
+        return this.storeType;
+    }
+
+    public static List<StateStoreType> supportedTypes() {
+        return Arrays.stream(values()).filter(item -> item != UNKNOWN).toList();
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.streams;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Condition on which the Kafka Streams client finishes its run ({@code STREAMS_COMPLETION}).
+ */
+public enum StreamsCompletion {
+    /**
+     * The client runs until it is terminated.
+     */
+    NONE("none"),
+    /**
+     * The client finishes once it consumed {@code MESSAGE_COUNT} records from the source topic.
+     */
+    RECORDS("records"),
+    /**
+     * The client finishes once the {@code RUN_DURATION} elapsed.
+     */
+    DURATION("duration"),
+    /**
+     * The client finishes once its committed offsets reached the end of the source topic.
+     */
+    LAG("lag"),
+    UNKNOWN("unknown");
+
+    private final String completion;
+
+    StreamsCompletion(String completion) {
+        this.completion = completion;
+    }
+
+    public static StreamsCompletion getFromString(String value) {
+        for (StreamsCompletion streamsCompletion : values()) {
+            if (streamsCompletion.toString().equalsIgnoreCase(value)) {
+                return streamsCompletion;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    @Override
+    public String toString() {
+        return this.completion;
+    }
+
+    public static List<StreamsCompletion> supportedCompletions() {
+        return Arrays.stream(values()).filter(item -> item != UNKNOWN).toList();
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.streams;
+
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Reads the throughput and the latencies of the Kafka Streams client from its metrics ({@code KafkaStreams#metrics()}).
+ * The records consumed from the source topic are read from the metrics of the Streams' consumers, the processing and commit
+ * latencies from the metrics of the stream threads - the averages are weighted by the number of the records processed
+ * (or commits done) by every thread. The latencies are the ones of the recent metric samples, not of the whole run.
+ * The latencies of the state stores are recorded by the Kafka Streams only with the {@code DEBUG} metrics recording level.
+ */
+public class StreamsMetricsReader {
+    private static final String CONSUMER_FETCH_GROUP = "consumer-fetch-manager-metrics";
+    private static final String STREAM_THREAD_GROUP = "stream-thread-metrics";
+    private static final String STREAM_STATE_GROUP = "stream-state-metrics";
+    private static final String TOPIC_TAG = "topic";
+
+    private final Supplier<Map<MetricName, ? extends Metric>> metrics;
+
+    public StreamsMetricsReader(Supplier<Map<MetricName, ? extends Metric>> metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * @param topic     source topic
+     *
+     * @return  number of records consumed from the topic by all consumers of the client
+     */
+    public long getConsumedRecords(String topic) {
+        return (long) sumTopicMetric("records-consumed-total", topic);
+    }
+
+    /**
+     * @param topic     source topic
+     *
+     * @return  number of bytes consumed from the topic by all consumers of the client
+     */
+    public long getConsumedBytes(String topic) {
+        return (long) sumTopicMetric("bytes-consumed-total", topic);
+    }
+
+    /**
+     * Sums the topic-level metric of the consumers. Older clients report the topic with the dots replaced by underscores,
+     * which is used only in case that the metric is not reported with the original topic name.
+     */
+    private double sumTopicMetric(String name, String topic) {
+        double value = sum(metricName -> isTopicMetric(metricName, name, topic));
+
+        if (value == 0 && topic.contains(".")) {
+            value = sum(metricName -> isTopicMetric(metricName, name, topic.replace('.', '_')));
+        }
+
+        return value;
+    }
+
+    private static boolean isTopicMetric(MetricName metricName, String name, String topic) {
+        return CONSUMER_FETCH_GROUP.equals(metricName.group()) && name.equals(metricName.name()) && topic.equals(metricName.tags().get(TOPIC_TAG));
+    }
+
+    /**
+     * @return  number of records processed by all stream threads, including the records of the internal topics
+     */
+    public long getProcessedRecords() {
+        return (long) sumThreadMetric("process-total");
+    }
+
+    public long getCommits() {
+        return (long) sumThreadMetric("commit-total");
+    }
+
+    private double sumThreadMetric(String name) {
+        return sum(metricName -> STREAM_THREAD_GROUP.equals(metricName.group()) && name.equals(metricName.name()));
+    }
+
+    private double sum(Predicate<MetricName> filter) {
+        double sum = 0;
+
+        for (Map.Entry<MetricName, ? extends Metric> entry : metrics.get().entrySet()) {
+            if (filter.test(entry.getKey())) {
+                sum += getValue(entry.getValue());
+            }
+        }
+
+        return sum;
+    }
+
+    /**
+     * Returns the average of the latency metric, weighted by the count (or rate) metric with the same tags - the same thread,
+     * or the same store of the same task.
+     *
+     * @param group         group of the metrics
+     * @param name          name of the average latency metric
+     * @param weightName    name of the count or rate metric
+     *
+     * @return  weighted average, or NaN in case that no thread or store reported it
+     */
+    private double weightedAverage(String group, String name, String weightName) {
+        double weightedSum = 0;
+        double weights = 0;
+        Map<MetricName, ? extends Metric> allMetrics = metrics.get();
+
+        for (Map.Entry<MetricName, ? extends Metric> entry : allMetrics.entrySet()) {
+            MetricName metricName = entry.getKey();
+
+            if (group.equals(metricName.group()) && name.equals(metricName.name())) {
+                double average = getValue(entry.getValue());
+                Metric total = allMetrics.get(new MetricName(weightName, metricName.group(), "", metricName.tags()));
+                double weight = total == null ? 0 : getValue(total);
+
+                if (!Double.isNaN(average) && weight > 0) {
+                    weightedSum += average * weight;
+                    weights += weight;
+                }
+            }
+        }
+
+        return weights > 0 ? weightedSum / weights : Double.NaN;
+    }
+
+    private double maxMetric(String group, String name) {
+        double max = Double.NaN;
+
+        for (Map.Entry<MetricName, ? extends Metric> entry : metrics.get().entrySet()) {
+            if (group.equals(entry.getKey().group()) && name.equals(entry.getKey().name())) {
+                double value = getValue(entry.getValue());
+
+                if (!Double.isNaN(value) && (Double.isNaN(max) || value > max)) {
+                    max = value;
+                }
+            }
+        }
+
+        return max;
+    }
+
+    private static double getValue(Metric metric) {
+        return metric.metricValue() instanceof Number number ? number.doubleValue() : Double.NaN;
+    }
+
+    public double getProcessLatencyAvgMs() {
+        return weightedAverage(STREAM_THREAD_GROUP, "process-latency-avg", "process-total");
+    }
+
+    public double getProcessLatencyMaxMs() {
+        return maxMetric(STREAM_THREAD_GROUP, "process-latency-max");
+    }
+
+    public double getCommitLatencyAvgMs() {
+        return weightedAverage(STREAM_THREAD_GROUP, "commit-latency-avg", "commit-total");
+    }
+
+    public double getCommitLatencyMaxMs() {
+        return maxMetric(STREAM_THREAD_GROUP, "commit-latency-max");
+    }
+
+    public String toSummaryString() {
+        return String.format(Locale.ROOT, "%d records processed, process latency avg=%.3f ms, max=%.3f ms, %d commits, commit latency avg=%.3f ms, max=%.3f ms",
+            getProcessedRecords(), getProcessLatencyAvgMs(), getProcessLatencyMaxMs(), getCommits(), getCommitLatencyAvgMs(), getCommitLatencyMaxMs());
+    }
+
+    /**
+     * @return  true if any state store reports its metrics
+     */
+    public boolean hasStateStoreMetrics() {
+        return metrics.get().keySet().stream().anyMatch(metricName -> STREAM_STATE_GROUP.equals(metricName.group()));
+    }
+
+    /**
+     * Summarizes the put (write) and get/fetch (read) latencies of all state stores of the client. The stores report
+     * the latencies in ns, the summary uses us. The averages are weighted by the recent rate of the operation of every store.
+     *
+     * @return  summary of the state store latencies
+     */
+    public String toStateStoreSummaryString() {
+        if (!hasStateStoreMetrics()) {
+            return "no state store metrics recorded, set STATE_STORE_METRICS=true to record them";
+        }
+
+        return String.format(Locale.ROOT, "put latency avg=%.3f us, max=%.3f us, get latency avg=%.3f us, max=%.3f us, fetch latency avg=%.3f us, max=%.3f us",
+            storeLatency("put-latency-avg", "put-rate"), storeLatency("put-latency-max", null),
+            storeLatency("get-latency-avg", "get-rate"), storeLatency("get-latency-max", null),
+            storeLatency("fetch-latency-avg", "fetch-rate"), storeLatency("fetch-latency-max", null));
+    }
+
+    private double storeLatency(String name, String rateName) {
+        double latencyNs = rateName == null ? maxMetric(STREAM_STATE_GROUP, name) : weightedAverage(STREAM_STATE_GROUP, name, rateName);
+        return latencyNs / 1000;
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.streams;
+
+import java.util.Locale;
+
+/**
+ * Settings of the Kafka Streams which are compared by the {@code STREAMS_SWEEP}.
+ *
+ * @param processingGuarantee   processing guarantee ({@code processing.guarantee})
+ * @param numStreamThreads      number of the stream threads ({@code num.stream.threads})
+ * @param cacheMaxBytes         size of the record cache of all threads in bytes ({@code statestore.cache.max.bytes})
+ * @param commitIntervalMs      commit interval in milliseconds ({@code commit.interval.ms})
+ */
+public record StreamsSettings(
+    ProcessingGuarantee processingGuarantee,
+    int numStreamThreads,
+    long cacheMaxBytes,
+    long commitIntervalMs
+) {
+    public String toSummaryString() {
+        return String.format(Locale.ROOT, "processing.guarantee=%s, num.stream.threads=%d, statestore.cache.max.bytes=%d, commit.interval.ms=%d",
+            processingGuarantee, numStreamThreads, cacheMaxBytes, commitIntervalMs);
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.streams;
+
+import io.strimzi.testclients.common.metrics.PerformanceReport;
+import io.strimzi.testclients.configuration.ConfigurationConstants;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Sweep of the Kafka Streams settings, configured by the {@code STREAMS_SWEEP} as options separated by {@code ;},
+ * each with its values separated by {@code ,}, for example
+ * {@code PROCESSING_GUARANTEE=at_least_once,exactly_once_v2;NUM_STREAM_THREADS=1,4}. The supported options are
+ * {@code PROCESSING_GUARANTEE}, {@code NUM_STREAM_THREADS}, {@code STATESTORE_CACHE_MAX_BYTES} and {@code COMMIT_INTERVAL_MS}.
+ * The topology is run with every combination of the values, the options which are not swept keep their configured value.
+ */
+public class StreamsSweep {
+    private static final String TABLE_FORMAT = "%-16s %8s %12s %10s %12s %14s %10s %14s %14s %14s %14s";
+
+    private StreamsSweep() {}
+
+    /**
+     * Result of a single run of the sweep.
+     *
+     * @param settings              settings of the run
+     * @param report                throughput of the run, or {@code null} in case that the run failed
+     * @param processLatencyAvgMs   average processing latency in milliseconds
+     * @param processLatencyMaxMs   maximal processing latency in milliseconds
+     * @param commitLatencyAvgMs    average commit latency in milliseconds
+     * @param commitLatencyMaxMs    maximal commit latency in milliseconds
+     */
+    public record Result(
+        StreamsSettings settings,
+        PerformanceReport report,
+        double processLatencyAvgMs,
+        double processLatencyMaxMs,
+        double commitLatencyAvgMs,
+        double commitLatencyMaxMs
+    ) {
+        public static Result failed(StreamsSettings settings) {
+            return new Result(settings, null, Double.NaN, Double.NaN, Double.NaN, Double.NaN);
+        }
+    }
+
+    /**
+     * Parses the sweep and creates the settings of all its runs.
+     *
+     * @param value     definition of the sweep
+     * @param base      configured settings, used for the options which are not swept
+     *
+     * @return  settings of the runs, ordered by the processing guarantee, the number of threads, the cache size and the commit interval
+     *
+     * @throws IllegalArgumentException in case that the definition is not valid
+     */
+    public static List<StreamsSettings> parse(String value, StreamsSettings base) {
+        List<ProcessingGuarantee> guarantees = List.of(base.processingGuarantee());
+        List<Long> threads = List.of((long) base.numStreamThreads());
+        List<Long> cacheSizes = List.of(base.cacheMaxBytes());
+        List<Long> commitIntervals = List.of(base.commitIntervalMs());
+
+        for (String option : value.trim().split(";")) {
+            String[] nameAndValues = option.split("=", 2);
+
+            if (nameAndValues.length != 2 || nameAndValues[1].isBlank()) {
+                throw new IllegalArgumentException("Sweep option should have the form <option>=<value>,<value>: " + option);
+            }
+
+            String name = nameAndValues[0].trim().toUpperCase(Locale.ROOT);
+            String[] values = nameAndValues[1].split(",");
+
+            switch (name) {
+                case ConfigurationConstants.PROCESSING_GUARANTEE_ENV -> guarantees = parseGuarantees(values);
+                case ConfigurationConstants.NUM_STREAM_THREADS_ENV -> threads = parseNumbers(name, values, 1, Integer.MAX_VALUE);
+                case ConfigurationConstants.STATESTORE_CACHE_MAX_BYTES_ENV -> cacheSizes = parseNumbers(name, values, 0, Long.MAX_VALUE);
+                case ConfigurationConstants.COMMIT_INTERVAL_MS_ENV -> commitIntervals = parseNumbers(name, values, 1, Long.MAX_VALUE);
+                default -> throw new IllegalArgumentException("Unknown sweep option: " + name + ", supported options are "
+                    + List.of(ConfigurationConstants.PROCESSING_GUARANTEE_ENV, ConfigurationConstants.NUM_STREAM_THREADS_ENV,
+                        ConfigurationConstants.STATESTORE_CACHE_MAX_BYTES_ENV, ConfigurationConstants.COMMIT_INTERVAL_MS_ENV));
+            }
+        }
+
+        List<StreamsSettings> runs = new ArrayList<>();
+
+        for (ProcessingGuarantee guarantee : guarantees) {
+            for (long numStreamThreads : threads) {
+                for (long cacheMaxBytes : cacheSizes) {
+                    for (long commitIntervalMs : commitIntervals) {
+                        runs.add(new StreamsSettings(guarantee, (int) numStreamThreads, cacheMaxBytes, commitIntervalMs));
+                    }
+                }
+            }
+        }
+
+        return runs;
+    }
+
+    private static List<ProcessingGuarantee> parseGuarantees(String[] values) {
+        List<ProcessingGuarantee> guarantees = new ArrayList<>();
+
+        for (String value : values) {
+            ProcessingGuarantee guarantee = ProcessingGuarantee.getFromString(value.trim());
+
+            if (guarantee == ProcessingGuarantee.UNKNOWN) {
+                throw new IllegalArgumentException("Unknown processing guarantee: " + value + ", supported guarantees are " + ProcessingGuarantee.supportedGuarantees());
+            }
+
+            guarantees.add(guarantee);
+        }
+
+        return guarantees;
+    }
+
+    private static List<Long> parseNumbers(String name, String[] values, long min, long max) {
+        List<Long> numbers = new ArrayList<>();
+
+        for (String value : values) {
+            long number;
+
+            try {
+                number = Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid value of the sweep option " + name + ": " + value, e);
+            }
+
+            if (number < min || number > max) {
+                throw new IllegalArgumentException("Value of the sweep option " + name + " should be between " + min + " and " + max + ": " + value);
+            }
+
+            numbers.add(number);
+        }
+
+        return numbers;
+    }
+
+    /**
+     * Formats the results of the sweep as a table with a row for every run.
+     *
+     * @param results   results of the runs
+     *
+     * @return  comparison table
+     */
+    public static String toTableString(List<Result> results) {
+        StringBuilder table = new StringBuilder(String.format(Locale.ROOT, TABLE_FORMAT, "guarantee", "threads", "cache bytes", "commit ms",
+            "records", "records/s", "MB/s", "process avg ms", "process max ms", "commit avg ms", "commit max ms"));
+
+        for (Result result : results) {
+            StreamsSettings settings = result.settings();
+            PerformanceReport report = result.report();
+
+            table.append('\n').append(String.format(Locale.ROOT, TABLE_FORMAT,
+                settings.processingGuarantee(), settings.numStreamThreads(), settings.cacheMaxBytes(), settings.commitIntervalMs(),
+                report == null ? "failed" : String.valueOf(report.records()),
+                report == null ? "-" : String.format(Locale.ROOT, "%.1f", report.recordsPerSecond()),
+                report == null ? "-" : String.format(Locale.ROOT, "%.3f", report.mbPerSecond()),
+                formatLatency(result.processLatencyAvgMs()), formatLatency(result.processLatencyMaxMs()),
+                formatLatency(result.commitLatencyAvgMs()), formatLatency(result.commitLatencyMaxMs())));
+        }
+
+        return table.toString();
+    }
+
+    private static String formatLatency(double latencyMs) {
+        return Double.isNaN(latencyMs) ? "-" : String.format(Locale.ROOT, "%.3f", latencyMs);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.streams;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Topology run by the Kafka Streams client ({@code STREAMS_TOPOLOGY}).
+ */
+public enum StreamsTopology {
+    /**
+     * Reverses the String values.
+     */
+    REVERSE("reverse"),
+    /**
+     * Copies the records as byte arrays, without deserializing them.
+     */
+    PASSTHROUGH("passthrough"),
+    /**
+     * Forwards only the {@code FILTER_PERCENT} of the records, selected by the hash of their value.
+     */
+    FILTER("filter"),
+    /**
+     * Changes the key of the records to one of {@code KEY_COUNT} keys, derived from the value, and repartitions them.
+     */
+    REKEY("rekey"),
+    /**
+     * Counts the records of every key in tumbling windows.
+     */
+    WINDOWED_COUNT("windowed-count"),
+    /**
+     * Sums the length of the values of every key in tumbling windows.
+     */
+    WINDOWED_AGGREGATE("windowed-aggregate"),
+    /**
+     * Joins the records with the latest value of the same key in the table read from the {@code JOIN_TOPIC}.
+     */
+    TABLE_JOIN("table-join"),
+    /**
+     * Joins the records with the records of the same key from the {@code JOIN_TOPIC} within the join window.
+     */
+    STREAM_JOIN("stream-join"),
+    UNKNOWN("unknown");
+
+    private final String topology;
+
+    StreamsTopology(String topology) {
+        this.topology = topology;
+    }
+
+    public static StreamsTopology getFromString(String value) {
+        for (StreamsTopology streamsTopology : values()) {
+            if (streamsTopology.toString().equalsIgnoreCase(value)) {
+                return streamsTopology;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * @return  true if the topology reads also the {@code JOIN_TOPIC}
+     */
+    public boolean isJoin() {
+        return this == TABLE_JOIN || this == STREAM_JOIN;
+    }
+
+    /**
+     * @return  true if the topology keeps a windowed state
+     */
+    public boolean isWindowed() {
+        return this == WINDOWED_COUNT || this == WINDOWED_AGGREGATE || this == STREAM_JOIN;
+    }
+
+    /**
+     * @return  true if the topology keeps its state in state stores
+     */
+    public boolean isStateful() {
+        return isWindowed() || this == TABLE_JOIN;
+    }
+
+    @Override
+    public String toString() {
+        return this.topology;
+    }
+
+    public static List<StreamsTopology> supportedTopologies() {
+        return Arrays.stream(values()).filter(item -> item != UNKNOWN).toList();
+    }
+}
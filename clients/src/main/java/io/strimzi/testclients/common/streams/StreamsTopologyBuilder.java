@@ -0,0 +1,189 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.streams;
+
+import io.strimzi.testclients.configuration.kafka.KafkaStreamsConfiguration;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.common.utils.Utils;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.Topology;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.Grouped;
+import org.apache.kafka.streams.kstream.JoinWindows;
+import org.apache.kafka.streams.kstream.Joined;
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.kstream.KTable;
+import org.apache.kafka.streams.kstream.Materialized;
+import org.apache.kafka.streams.kstream.Produced;
+import org.apache.kafka.streams.kstream.Repartitioned;
+import org.apache.kafka.streams.kstream.StreamJoined;
+import org.apache.kafka.streams.kstream.TimeWindows;
+import org.apache.kafka.streams.kstream.Windowed;
+import org.apache.kafka.streams.state.KeyValueBytesStoreSupplier;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.apache.kafka.streams.state.Stores;
+import org.apache.kafka.streams.state.WindowBytesStoreSupplier;
+import org.apache.kafka.streams.state.WindowStore;
+
+import java.time.Duration;
+
+/**
+ * Builds the benchmark topology selected by the {@code STREAMS_TOPOLOGY}. Except of the {@link StreamsTopology#PASSTHROUGH},
+ * which copies the records as byte arrays, the keys and values of the records are read as Strings and every topology
+ * writes its result as Strings to the {@code TARGET_TOPIC}. The state store of the windowed aggregations and of the table
+ * of the {@link StreamsTopology#TABLE_JOIN} is selected by the {@code STATE_STORE}.
+ */
+public class StreamsTopologyBuilder {
+    private static final int PERCENT = 100;
+    public static final String WINDOWED_STORE_NAME = "windowed-store";
+    public static final String TABLE_STORE_NAME = "table-store";
+
+    private StreamsTopologyBuilder() {}
+
+    /**
+     * Builds the topology according to the configuration.
+     *
+     * @param configuration     configuration of the Kafka Streams client
+     *
+     * @return  topology
+     */
+    public static Topology build(KafkaStreamsConfiguration configuration) {
+        StreamsBuilder builder = new StreamsBuilder();
+
+        if (configuration.getStreamsTopology() == StreamsTopology.PASSTHROUGH) {
+            builder.stream(configuration.getSourceTopic(), Consumed.with(Serdes.ByteArray(), Serdes.ByteArray()))
+                .to(configuration.getTargetTopic(), Produced.with(Serdes.ByteArray(), Serdes.ByteArray()));
+
+            return builder.build();
+        }
+
+        KStream<String, String> source = builder.stream(configuration.getSourceTopic(), Consumed.with(Serdes.String(), Serdes.String()));
+        KStream<String, String> result = switch (configuration.getStreamsTopology()) {
+            case FILTER -> filter(source, configuration.getFilterPercent());
+            case REKEY -> rekey(source, configuration.getKeyCount());
+            case WINDOWED_COUNT -> windowedCount(source, getWindows(configuration), windowStore(configuration));
+            case WINDOWED_AGGREGATE -> windowedAggregate(source, getWindows(configuration), windowStore(configuration));
+            case TABLE_JOIN -> tableJoin(builder, source, configuration.getJoinTopic(), tableStore(configuration));
+            case STREAM_JOIN -> streamJoin(builder, source, configuration.getJoinTopic(),
+                JoinWindows.ofTimeDifferenceAndGrace(Duration.ofMillis(configuration.getWindowSizeMs()), Duration.ofMillis(configuration.getWindowGraceMs())));
+            default -> reverse(source);
+        };
+
+        result.to(configuration.getTargetTopic(), Produced.with(Serdes.String(), Serdes.String()));
+
+        return builder.build();
+    }
+
+    private static TimeWindows getWindows(KafkaStreamsConfiguration configuration) {
+        return TimeWindows.ofSizeAndGrace(Duration.ofMillis(configuration.getWindowSizeMs()), Duration.ofMillis(configuration.getWindowGraceMs()));
+    }
+
+    /**
+     * The window store retains the windows for their size and grace period, which is the minimal retention of the windowed aggregation.
+     * The default store is not named and is created by the Kafka Streams.
+     */
+    private static Materialized<String, Long, WindowStore<Bytes, byte[]>> windowStore(KafkaStreamsConfiguration configuration) {
+        Duration size = Duration.ofMillis(configuration.getWindowSizeMs());
+        Duration retention = size.plusMillis(configuration.getWindowGraceMs());
+
+        WindowBytesStoreSupplier supplier = switch (configuration.getStateStoreType()) {
+            case ROCKSDB -> Stores.persistentWindowStore(WINDOWED_STORE_NAME, retention, size, false);
+            case TIMESTAMPED_ROCKSDB -> Stores.persistentTimestampedWindowStore(WINDOWED_STORE_NAME, retention, size, false);
+            case IN_MEMORY -> Stores.inMemoryWindowStore(WINDOWED_STORE_NAME, retention, size, false);
+            default -> null;
+        };
+
+        Materialized<String, Long, WindowStore<Bytes, byte[]>> materialized = supplier == null ? Materialized.with(null, null) : Materialized.as(supplier);
+        return materialized.withKeySerde(Serdes.String()).withValueSerde(Serdes.Long());
+    }
+
+    /**
+     * The versioned store keeps the history of the table for the {@code WINDOW_SIZE}, so the records of the source topic
+     * are joined with the value of the table valid at their timestamp. The default store is not named and is created by the Kafka Streams.
+     */
+    private static Materialized<String, String, KeyValueStore<Bytes, byte[]>> tableStore(KafkaStreamsConfiguration configuration) {
+        KeyValueBytesStoreSupplier supplier = switch (configuration.getStateStoreType()) {
+            case ROCKSDB -> Stores.persistentKeyValueStore(TABLE_STORE_NAME);
+            case TIMESTAMPED_ROCKSDB -> Stores.persistentTimestampedKeyValueStore(TABLE_STORE_NAME);
+            case IN_MEMORY -> Stores.inMemoryKeyValueStore(TABLE_STORE_NAME);
+            case VERSIONED -> Stores.persistentVersionedKeyValueStore(TABLE_STORE_NAME, Duration.ofMillis(configuration.getWindowSizeMs()));
+            default -> null;
+        };
+
+        Materialized<String, String, KeyValueStore<Bytes, byte[]>> materialized = supplier == null ? Materialized.with(null, null) : Materialized.as(supplier);
+        return materialized.withKeySerde(Serdes.String()).withValueSerde(Serdes.String());
+    }
+
+    private static KStream<String, String> reverse(KStream<String, String> source) {
+        return source.mapValues(value -> {
+            StringBuilder sb = new StringBuilder();
+            sb.append(value);
+            return sb.reverse().toString();
+        });
+    }
+
+    /**
+     * The records are selected by the hash of their value, so the same record is always either forwarded or dropped.
+     */
+    private static KStream<String, String> filter(KStream<String, String> source, int filterPercent) {
+        return source.filter((key, value) -> value != null && Utils.toPositive(value.hashCode()) % PERCENT < filterPercent);
+    }
+
+    /**
+     * The new key is derived from the value, so the records are spread over the {@code KEY_COUNT} keys independently
+     * of their original key, and they are explicitly repartitioned through the internal topic.
+     */
+    private static KStream<String, String> rekey(KStream<String, String> source, int keyCount) {
+        return source
+            .selectKey((key, value) -> "key-" + (value == null ? 0 : Utils.toPositive(value.hashCode()) % keyCount))
+            .repartition(Repartitioned.with(Serdes.String(), Serdes.String()));
+    }
+
+    private static KStream<String, String> windowedCount(KStream<String, String> source, TimeWindows windows,
+                                                         Materialized<String, Long, WindowStore<Bytes, byte[]>> materialized) {
+        return source
+            .groupByKey(Grouped.with(Serdes.String(), Serdes.String()))
+            .windowedBy(windows)
+            .count(materialized)
+            .toStream()
+            .map(StreamsTopologyBuilder::windowedResult);
+    }
+
+    private static KStream<String, String> windowedAggregate(KStream<String, String> source, TimeWindows windows,
+                                                             Materialized<String, Long, WindowStore<Bytes, byte[]>> materialized) {
+        return source
+            .groupByKey(Grouped.with(Serdes.String(), Serdes.String()))
+            .windowedBy(windows)
+            .aggregate(() -> 0L, (key, value, length) -> length + (value == null ? 0 : value.length()), materialized)
+            .toStream()
+            .map(StreamsTopologyBuilder::windowedResult);
+    }
+
+    /**
+     * Converts the result of the windowed aggregation to a record with the key {@code <key>@<window start>}.
+     */
+    private static KeyValue<String, String> windowedResult(Windowed<String> windowedKey, Long result) {
+        return KeyValue.pair(windowedKey.key() + "@" + windowedKey.window().start(), String.valueOf(result));
+    }
+
+    private static KStream<String, String> tableJoin(StreamsBuilder builder, KStream<String, String> source, String joinTopic,
+                                                     Materialized<String, String, KeyValueStore<Bytes, byte[]>> materialized) {
+        KTable<String, String> table = builder.table(joinTopic, Consumed.with(Serdes.String(), Serdes.String()), materialized);
+
+        return source.join(table, StreamsTopologyBuilder::joinValues, Joined.with(Serdes.String(), Serdes.String(), Serdes.String()));
+    }
+
+    private static KStream<String, String> streamJoin(StreamsBuilder builder, KStream<String, String> source, String joinTopic, JoinWindows windows) {
+        KStream<String, String> other = builder.stream(joinTopic, Consumed.with(Serdes.String(), Serdes.String()));
+
+        return source.join(other, StreamsTopologyBuilder::joinValues, windows, StreamJoined.with(Serdes.String(), Serdes.String(), Serdes.String()));
+    }
+
+    private static String joinValues(String value, String otherValue) {
+        return value + "|" + otherValue;
+    }
+}
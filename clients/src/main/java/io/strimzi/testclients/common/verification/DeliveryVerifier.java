@@ -0,0 +1,109 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.verification;
+
+import io.strimzi.testclients.common.metrics.EndToEndStamp;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * Verifies the delivery of the records stamped by the producer with {@code VERIFY_DELIVERY} enabled. The sequences
+ * of every producer and partition are tracked by a {@link SequenceTracker}, so at the end of the run the verifier
+ * reports the missing, duplicate and out-of-order records - unlike the plain count of the received records,
+ * which does not notice lost records when the same number of records was received twice.
+ *
+ * <p>The verifier is thread-safe, so it can be shared by the consumers of one client.</p>
+ */
+public class DeliveryVerifier {
+    private final Map<SequenceKey, SequenceTracker> trackers = new ConcurrentHashMap<>();
+    private final LongAdder unstampedRecords = new LongAdder();
+
+    /**
+     * Records the received record.
+     *
+     * @param topic         topic of the record
+     * @param partition     partition of the record
+     * @param stamp         stamp of the record, or {@code null} in case that the record was not stamped
+     */
+    public void record(String topic, int partition, EndToEndStamp stamp) {
+        if (stamp == null) {
+            unstampedRecords.increment();
+            return;
+        }
+
+        SequenceTracker tracker = trackers.computeIfAbsent(new SequenceKey(stamp.producerId(), topic, partition), key -> new SequenceTracker());
+
+        synchronized (tracker) {
+            tracker.record(stamp.sequence());
+        }
+    }
+
+    public long getReceived() {
+        return sum(SequenceTracker::getReceived);
+    }
+
+    public long getMissing() {
+        return sum(SequenceTracker::getMissing);
+    }
+
+    public long getDuplicates() {
+        return sum(SequenceTracker::getDuplicates);
+    }
+
+    public long getOutOfOrder() {
+        return sum(SequenceTracker::getOutOfOrder);
+    }
+
+    public long getUnstampedRecords() {
+        return unstampedRecords.sum();
+    }
+
+    private long sum(ToLongFunction<SequenceTracker> counter) {
+        long sum = 0;
+
+        for (SequenceTracker tracker : trackers.values()) {
+            synchronized (tracker) {
+                sum += counter.applyAsLong(tracker);
+            }
+        }
+
+        return sum;
+    }
+
+    /**
+     * @return  true if no stamped record is missing
+     */
+    public boolean isComplete() {
+        return getMissing() == 0;
+    }
+
+    /**
+     * Returns the summary of the verification, for example
+     * {@code 1000 unique records from 2 producers in 6 partitions: 0 missing, 12 duplicates, 0 out of order, 64 bytes tracked}.
+     *
+     * @return  summary of the verification
+     */
+    public String toSummaryString() {
+        long producers = trackers.keySet().stream().mapToLong(SequenceKey::producerId).distinct().count();
+        long partitions = trackers.keySet().stream().map(key -> key.topic() + "-" + key.partition()).distinct().count();
+        String summary = String.format(Locale.ENGLISH, "%d unique records from %d producers in %d partitions: %d missing, %d duplicates, %d out of order, %d bytes tracked",
+            getReceived(), producers, partitions, getMissing(), getDuplicates(), getOutOfOrder(), sum(SequenceTracker::getTrackingBytes));
+
+        return getUnstampedRecords() > 0 ? summary + ", " + getUnstampedRecords() + " records without the stamp" : summary;
+    }
+
+    /**
+     * Producer and partition whose sequences are tracked together.
+     *
+     * @param producerId    ID of the producer
+     * @param topic         topic of the records
+     * @param partition     partition of the records
+     */
+    private record SequenceKey(long producerId, String topic, int partition) { }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.common.verification;
+
+import java.util.Arrays;
+
+/**
+ * Tracks the sequences of the records sent by one producer to one partition and counts the missing, duplicate
+ * and out-of-order ones. The tracking starts at the first received sequence.
+ *
+ * <p>The received sequences are kept as a bitset of primitive longs, which covers only the sequences after
+ * the first one not received yet - everything before it is known to be received and needs no memory. When the records
+ * are delivered in order, the bitset has a single word. In the worst case (a record which is never delivered)
+ * it grows by one bit per record.</p>
+ *
+ * <p>The tracker is not thread-safe.</p>
+ */
+public class SequenceTracker {
+    private static final int INITIAL_WORDS = 4;
+
+    // first received sequence, the sequences before it are not tracked
+    private long start = -1;
+    // all sequences from the start up to the base were received, the bitset starts at the base
+    private long base;
+    private long[] words = new long[INITIAL_WORDS];
+    // index of the word with the base
+    private int firstWord;
+    private long highest = -1;
+    private long received;
+    private long duplicates;
+    private long outOfOrder;
+
+    /**
+     * Records the received sequence.
+     *
+     * @param sequence  sequence of the received record
+     */
+    public void record(long sequence) {
+        if (start < 0) {
+            start = sequence;
+            base = sequence;
+        } else if (sequence < start) {
+            // the record was sent before the first received one, so it can be counted only as out of order
+            outOfOrder++;
+            return;
+        } else if (sequence < base) {
+            duplicates++;
+            return;
+        }
+
+        long index = sequence - base;
+        int word = firstWord + (int) (index >>> 6);
+
+        if (word >= words.length) {
+            word = ensureCapacity(word);
+        }
+
+        long mask = 1L << index;
+
+        if ((words[word] & mask) != 0) {
+            duplicates++;
+            return;
+        }
+
+        words[word] |= mask;
+        received++;
+
+        if (sequence < highest) {
+            outOfOrder++;
+        } else {
+            highest = sequence;
+        }
+
+        // drops the fully received words from the start of the bitset
+        while (words[firstWord] == -1L) {
+            words[firstWord] = 0;
+            firstWord++;
+            base += Long.SIZE;
+
+            if (firstWord == words.length) {
+                firstWord = 0;
+                break;
+            }
+        }
+    }
+
+    /**
+     * Makes the bitset large enough for the word. The dropped words at the start of the array are reused first,
+     * the array is doubled only when they are not enough.
+     *
+     * @param word  index of the word in the array
+     *
+     * @return  index of the word after the bitset was moved to the start of the array
+     */
+    private int ensureCapacity(int word) {
+        int usedWords = words.length - firstWord;
+        int requiredWords = word - firstWord + 1;
+        long[] newWords = requiredWords <= words.length ? words : new long[Math.max(requiredWords, words.length * 2)];
+
+        System.arraycopy(words, firstWord, newWords, 0, usedWords);
+        Arrays.fill(newWords, usedWords, newWords.length, 0);
+
+        words = newWords;
+        firstWord = 0;
+
+        return requiredWords - 1;
+    }
+
+    /**
+     * @return  number of distinct received sequences
+     */
+    public long getReceived() {
+        return received;
+    }
+
+    /**
+     * @return  number of the sequences between the first and the highest received one, which were not received
+     */
+    public long getMissing() {
+        return highest < 0 ? 0 : highest - start + 1 - received;
+    }
+
+    /**
+     * @return  number of the sequences received more than once
+     */
+    public long getDuplicates() {
+        return duplicates;
+    }
+
+    /**
+     * @return  number of the sequences received after a higher sequence
+     */
+    public long getOutOfOrder() {
+        return outOfOrder;
+    }
+
+    /**
+     * @return  size of the bitset in bytes
+     */
+    public long getTrackingBytes() {
+        return (long) words.length * Long.BYTES;
+    }
+}
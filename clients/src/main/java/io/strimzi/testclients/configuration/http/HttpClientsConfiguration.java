@@ -5,6 +5,7 @@
 package io.strimzi.testclients.configuration.http;
 
 import io.strimzi.testclients.common.MessageType;
+import io.strimzi.testclients.common.OutputMode;
 import io.strimzi.testclients.configuration.ClientsConfigurationUtils;
 import io.strimzi.testclients.configuration.ConfigurationConstants;
 
@@ -17,10 +18,13 @@ public class HttpClientsConfiguration {
     private final String topic;
     private final long delay;
     private final int messageCount;
+    private final long runDurationMs;
+    private final long warmupDurationMs;
     private final String endpointPrefix;
     private final String messageType;
     private final String sslTruststoreCertificate;
     private final String urlPrefix;
+    private final OutputMode outputMode;
 
     public HttpClientsConfiguration(Map<String, String> map) {
         String hostname = ClientsConfigurationUtils.parseStringOrDefault(map.get(ConfigurationConstants.HOSTNAME_ENV), "");
@@ -28,10 +32,13 @@ public class HttpClientsConfiguration {
         String topic = ClientsConfigurationUtils.parseStringOrDefault(map.get(ConfigurationConstants.TOPIC_ENV), "");
         long delay = ClientsConfigurationUtils.parseLongOrDefault(map.get(ConfigurationConstants.DELAY_MS_ENV), ConfigurationConstants.DEFAULT_DELAY_MS);
         int messageCount = ClientsConfigurationUtils.parseIntOrDefault(map.get(ConfigurationConstants.MESSAGE_COUNT_ENV), ConfigurationConstants.DEFAULT_MESSAGES_COUNT);
+        this.runDurationMs = ClientsConfigurationUtils.parseDurationMsOrDefault(map.get(ConfigurationConstants.RUN_DURATION_ENV), ConfigurationConstants.DEFAULT_RUN_DURATION_MS);
+        this.warmupDurationMs = ClientsConfigurationUtils.parseDurationMsOrDefault(map.get(ConfigurationConstants.WARMUP_DURATION_ENV), ConfigurationConstants.DEFAULT_WARMUP_DURATION_MS);
         String endpointPrefix = ClientsConfigurationUtils.parseStringOrDefault(map.get(ConfigurationConstants.ENDPOINT_PREFIX_ENV), ConfigurationConstants.DEFAULT_ENDPOINT_PREFIX);
         this.messageType = ClientsConfigurationUtils.parseStringOrDefault(map.get(ConfigurationConstants.MESSAGE_TYPE_ENV), ConfigurationConstants.DEFAULT_MESSAGE_TYPE);
         this.sslTruststoreCertificate = ClientsConfigurationUtils.parseStringOrDefault(map.get(ConfigurationConstants.CA_CRT_ENV), null);
         this.urlPrefix = sslTruststoreCertificate == null ? "http://" : "https://";
+        this.outputMode = OutputMode.parse(ClientsConfigurationUtils.parseStringOrDefault(map.get(ConfigurationConstants.OUTPUT_MODE_ENV), ConfigurationConstants.DEFAULT_OUTPUT_MODE));
 
         if (MessageType.getFromString(this.messageType) == MessageType.UNKNOWN) {
             throw new InvalidParameterException("MESSAGE_TYPE should be one of " + MessageType.supportedTypes());
@@ -43,6 +50,8 @@ public class HttpClientsConfiguration {
 
         if (topic == null || topic.isEmpty()) throw new InvalidParameterException("Topic is not set.");
 
+        if (runDurationMs < 0 || warmupDurationMs < 0) throw new InvalidParameterException("Run and warmup durations cannot be negative.");
+
         this.hostname = hostname;
         this.port = port;
         this.topic = topic;
@@ -71,6 +80,18 @@ public class HttpClientsConfiguration {
         return messageCount;
     }
 
+    public long getRunDurationMs() {
+        return runDurationMs;
+    }
+
+    public long getWarmupDurationMs() {
+        return warmupDurationMs;
+    }
+
+    public OutputMode getOutputMode() {
+        return outputMode;
+    }
+
     public String getEndpointPrefix() {
         return endpointPrefix;
     }
@@ -94,6 +115,9 @@ public class HttpClientsConfiguration {
             "topic='" + this.getTopic() + "',\n" +
             "delay='" + this.getDelay() + "',\n" +
             "messageType='" + this.getMessageType() + "',\n" +
-            "messageCount='" + this.getMessageCount() + "'";
+            "messageCount='" + this.getMessageCount() + "',\n" +
+            "runDurationMs='" + this.getRunDurationMs() + "',\n" +
+            "warmupDurationMs='" + this.getWarmupDurationMs() + "',\n" +
+            "outputMode='" + this.getOutputMode() + "'";
     }
 }
@@ -17,6 +17,7 @@ public class HttpConsumerConfiguration extends HttpClientsConfiguration {
     private final String consumerCreationURI;
     private final String subscriptionURI;
     private final String consumeMessagesURI;
+    private final boolean verifyDelivery;
 
     public HttpConsumerConfiguration(Map<String, String> map) {
         super(map);
@@ -24,6 +25,7 @@ public class HttpConsumerConfiguration extends HttpClientsConfiguration {
         this.groupId = ClientsConfigurationUtils.parseStringOrDefault(map.get(ConfigurationConstants.GROUP_ID_ENV), ConfigurationConstants.DEFAULT_GROUP_ID);
         this.pollInterval = ClientsConfigurationUtils.parseLongOrDefault(map.get(ConfigurationConstants.POLL_INTERVAL_ENV), ConfigurationConstants.DEFAULT_POLL_INTERVAL);
         this.pollTimeout = ClientsConfigurationUtils.parseLongOrDefault(map.get(ConfigurationConstants.POLL_TIMEOUT_ENV), ConfigurationConstants.DEFAULT_POLL_TIMEOUT);
+        this.verifyDelivery = ClientsConfigurationUtils.parseBooleanOrDefault(map.get(ConfigurationConstants.VERIFY_DELIVERY_ENV), ConfigurationConstants.DEFAULT_VERIFY_DELIVERY);
 
         String baseUri = getUrlPrefix() + this.getHostname() + ":" + this.getPort() + "/consumers/" + this.groupId;
 
@@ -60,6 +62,10 @@ public class HttpConsumerConfiguration extends HttpClientsConfiguration {
         return consumeMessagesURI;
     }
 
+    public boolean isVerifyDelivery() {
+        return verifyDelivery;
+    }
+
     @Override
     public String toString() {
         return "HttpConsumerConfiguration:\n" +
@@ -67,6 +73,7 @@ public class HttpConsumerConfiguration extends HttpClientsConfiguration {
             "clientId='" + this.getClientId() + "',\n" +
             "groupId='" + this.getGroupId() + "',\n" +
             "pollInterval='" + this.getPollInterval() + "',\n" +
-            "pollTimeout='" + this.getPollTimeout() + "'";
+            "pollTimeout='" + this.getPollTimeout() + "',\n" +
+            "verifyDelivery='" + this.isVerifyDelivery() + "'";
     }
 }
@@ -4,21 +4,49 @@
  */
 package io.strimzi.testclients.configuration.http;
 
+import io.strimzi.testclients.common.rate.LoadProfile;
 import io.strimzi.testclients.configuration.ClientsConfigurationUtils;
 import io.strimzi.testclients.configuration.ConfigurationConstants;
 
+import java.security.InvalidParameterException;
 import java.util.Map;
 
 public class HttpProducerConfiguration extends HttpClientsConfiguration {
     private final String message;
     private final String messageTemplate;
     private final String uri;
+    private final LoadProfile loadProfile;
+    private final int batchSize;
 
     public HttpProducerConfiguration(Map<String, String> map) {
         super(map);
         this.message = ClientsConfigurationUtils.parseStringOrDefault(map.get(ConfigurationConstants.MESSAGE_ENV), ConfigurationConstants.DEFAULT_MESSAGE);
         this.messageTemplate = ClientsConfigurationUtils.parseStringOrDefault(map.get(ConfigurationConstants.MESSAGE_TEMPLATE_ENV), null);
         this.uri =  getUrlPrefix() + this.getHostname() + ":" + this.getPort() + this.getEndpointPrefix() + "/topics/" + this.getTopic();
+        this.loadProfile = parseLoadProfile(ClientsConfigurationUtils.parseStringOrDefault(map.get(ConfigurationConstants.LOAD_PROFILE_ENV), null));
+        this.batchSize = ClientsConfigurationUtils.parseIntOrDefault(map.get(ConfigurationConstants.BATCH_SIZE_ENV), ConfigurationConstants.DEFAULT_BATCH_SIZE);
+
+        if (this.batchSize < 0) throw new InvalidParameterException("BATCH_SIZE cannot be negative.");
+
+        if (this.loadProfile != null) {
+            if (getDelay() > 0) throw new InvalidParameterException("LOAD_PROFILE cannot be used together with DELAY_MS.");
+
+            if (getRunDurationMs() > 0) throw new InvalidParameterException("LOAD_PROFILE cannot be used together with RUN_DURATION, the run lasts for the whole profile.");
+
+            if (this.loadProfile.getDurationMs() <= getWarmupDurationMs()) throw new InvalidParameterException("WARMUP_DURATION should be shorter than the LOAD_PROFILE.");
+        }
+    }
+
+    private static LoadProfile parseLoadProfile(String loadProfileEnv) {
+        if (loadProfileEnv == null || loadProfileEnv.isBlank()) {
+            return null;
+        }
+
+        try {
+            return LoadProfile.parse(loadProfileEnv);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidParameterException("Invalid LOAD_PROFILE: " + e.getMessage());
+        }
     }
 
     public String getMessage() {
@@ -33,12 +61,25 @@ public class HttpProducerConfiguration extends HttpClientsConfiguration {
         return uri;
     }
 
+    public LoadProfile getLoadProfile() {
+        return loadProfile;
+    }
+
+    /**
+     * @return  maximal number of records sent in one request, 0 in case that all {@code MESSAGE_COUNT} records are sent in one request
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
     @Override
     public String toString() {
         return "HttpProducerConfiguration:\n" +
             super.toString() + ",\n" +
             "message='" + this.getMessage() + "',\n" +
             "messageTemplate='" + this.getMessageTemplate() + "',\n" +
-            "uri='" + this.getUri() + "'";
+            "uri='" + this.getUri() + "',\n" +
+            "loadProfile='" + this.getLoadProfile() + "',\n" +
+            "batchSize='" + this.getBatchSize() + "'";
     }
 }
@@ -4,12 +4,20 @@
  */
 package io.strimzi.testclients.configuration.kafka;
 
+import io.strimzi.testclients.common.OutputMode;
+import io.strimzi.testclients.common.commit.CommitStrategy;
+import io.strimzi.testclients.common.processing.ProcessingCost;
+import io.strimzi.testclients.common.processing.ProcessingOrder;
+import io.strimzi.testclients.common.rebalance.RebalanceScenario;
+import io.strimzi.testclients.common.sink.SinkFormat;
+import io.strimzi.testclients.common.sink.SinkFsyncPolicy;
 import io.strimzi.testclients.configuration.ClientsConfigurationUtils;
 import io.strimzi.testclients.configuration.ConfigurationConstants;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 
 import java.security.InvalidParameterException;
+import java.time.OffsetDateTime;
 import java.util.Map;
 import java.util.Properties;
 
@@ -19,11 +27,34 @@ import static io.strimzi.testclients.configuration.ConfigurationConstants.ADDITI
 
 
 public class KafkaConsumerConfiguration extends KafkaClientsConfiguration {
+    private static final String FILE_SINK_PREFIX = "file:";
+
     private final String groupId;
     private final String clientId;
     private final String clientRack;
     private final String topicName;
     private final String outputFormat;
+    private final OutputMode outputMode;
+    private final long pollTimeout;
+    private final CommitStrategy commitStrategy;
+    private final long commitRecords;
+    private final long commitIntervalMs;
+    private final int consumerThreads;
+    private final int processingThreads;
+    private final ProcessingOrder processingOrder;
+    private final int processingQueueSize;
+    private final double processingTimeMs;
+    private final ProcessingCost processingCost;
+    private final boolean verifyDelivery;
+    private final Long startOffset;
+    private final Long startTimestamp;
+    private final Long endOffset;
+    private final Long endTimestamp;
+    private final RebalanceScenario rebalanceScenario;
+    private final String sinkPath;
+    private final SinkFormat sinkFormat;
+    private final long sinkRotateBytes;
+    private final SinkFsyncPolicy sinkFsyncPolicy;
     private final String keyDeserializer;
     private final String valueDeserializer;
 
@@ -34,9 +65,41 @@ public class KafkaConsumerConfiguration extends KafkaClientsConfiguration {
         this.clientRack = map.get(ConfigurationConstants.CLIENT_RACK_ENV);
         this.topicName = map.get(ConfigurationConstants.TOPIC_ENV);
         this.outputFormat = ClientsConfigurationUtils.parseStringOrDefault(map.get(ConfigurationConstants.OUTPUT_FORMAT_ENV), ConfigurationConstants.DEFAULT_OUTPUT_FORMAT);
+        this.outputMode = OutputMode.parse(ClientsConfigurationUtils.parseStringOrDefault(map.get(ConfigurationConstants.OUTPUT_MODE_ENV), ConfigurationConstants.DEFAULT_OUTPUT_MODE));
+        this.pollTimeout = ClientsConfigurationUtils.parseLongOrDefault(map.get(ConfigurationConstants.POLL_TIMEOUT_ENV), ConfigurationConstants.DEFAULT_POLL_TIMEOUT);
+        this.commitStrategy = CommitStrategy.getFromString(ClientsConfigurationUtils.parseStringOrDefault(map.get(ConfigurationConstants.COMMIT_STRATEGY_ENV), ConfigurationConstants.DEFAULT_COMMIT_STRATEGY));
+        this.commitRecords = ClientsConfigurationUtils.parseLongOrDefault(map.get(ConfigurationConstants.COMMIT_RECORDS_ENV), ConfigurationConstants.DEFAULT_COMMIT_RECORDS);
+        this.commitIntervalMs = ClientsConfigurationUtils.parseLongOrDefault(map.get(ConfigurationConstants.COMMIT_INTERVAL_MS_ENV), ConfigurationConstants.DEFAULT_COMMIT_INTERVAL_MS);
+        this.consumerThreads = ClientsConfigurationUtils.parseIntOrDefault(map.get(ConfigurationConstants.CONSUMER_THREADS_ENV), ConfigurationConstants.DEFAULT_CONSUMER_THREADS);
+        this.processingThreads = ClientsConfigurationUtils.parseIntOrDefault(map.get(ConfigurationConstants.PROCESSING_THREADS_ENV), ConfigurationConstants.DEFAULT_PROCESSING_THREADS);
+        this.processingOrder = ProcessingOrder.getFromString(ClientsConfigurationUtils.parseStringOrDefault(map.get(ConfigurationConstants.PROCESSING_ORDER_ENV), ConfigurationConstants.DEFAULT_PROCESSING_ORDER));
+        this.processingQueueSize = ClientsConfigurationUtils.parseIntOrDefault(map.get(ConfigurationConstants.PROCESSING_QUEUE_SIZE_ENV), ConfigurationConstants.DEFAULT_PROCESSING_QUEUE_SIZE);
+        this.processingTimeMs = ClientsConfigurationUtils.parseDoubleOrDefault(map.get(ConfigurationConstants.PROCESSING_TIME_MS_ENV), ConfigurationConstants.DEFAULT_PROCESSING_TIME_MS);
+        this.processingCost = ProcessingCost.of(this.processingTimeMs,
+            ClientsConfigurationUtils.parseBooleanOrDefault(map.get(ConfigurationConstants.PROCESSING_CPU_BURN_ENV), ConfigurationConstants.DEFAULT_PROCESSING_CPU_BURN));
+        this.verifyDelivery = ClientsConfigurationUtils.parseBooleanOrDefault(map.get(ConfigurationConstants.VERIFY_DELIVERY_ENV), ConfigurationConstants.DEFAULT_VERIFY_DELIVERY);
+        this.startOffset = parseOffset(map.get(ConfigurationConstants.START_OFFSET_ENV), ConfigurationConstants.START_OFFSET_ENV);
+        this.startTimestamp = parseTimestamp(map.get(ConfigurationConstants.START_BOUND_TIMESTAMP_ENV), ConfigurationConstants.START_BOUND_TIMESTAMP_ENV);
+        this.endOffset = parseOffset(map.get(ConfigurationConstants.END_OFFSET_ENV), ConfigurationConstants.END_OFFSET_ENV);
+        this.endTimestamp = parseTimestamp(map.get(ConfigurationConstants.END_TIMESTAMP_ENV), ConfigurationConstants.END_TIMESTAMP_ENV);
+        this.rebalanceScenario = RebalanceScenario.getFromString(ClientsConfigurationUtils.parseStringOrDefault(map.get(ConfigurationConstants.REBALANCE_SCENARIO_ENV), ConfigurationConstants.DEFAULT_REBALANCE_SCENARIO));
+        this.sinkPath = parseSinkPath(map.get(ConfigurationConstants.SINK_ENV));
+        this.sinkFormat = SinkFormat.getFromString(ClientsConfigurationUtils.parseStringOrDefault(map.get(ConfigurationConstants.SINK_FORMAT_ENV), ConfigurationConstants.DEFAULT_SINK_FORMAT));
+        this.sinkRotateBytes = ClientsConfigurationUtils.parseLongOrDefault(map.get(ConfigurationConstants.SINK_ROTATE_BYTES_ENV), ConfigurationConstants.DEFAULT_SINK_ROTATE_BYTES);
+        this.sinkFsyncPolicy = SinkFsyncPolicy.getFromString(ClientsConfigurationUtils.parseStringOrDefault(map.get(ConfigurationConstants.SINK_FSYNC_ENV), ConfigurationConstants.DEFAULT_SINK_FSYNC));
 
         if (this.topicName == null || topicName.isEmpty()) throw new InvalidParameterException("Topic is not set");
+        if (this.consumerThreads < 1) throw new InvalidParameterException("Number of consumer threads should be greater than 0");
+        if (this.pollTimeout <= 0) throw new InvalidParameterException("POLL_TIMEOUT has to be greater than 0");
+
+        if (this.rebalanceScenario == RebalanceScenario.UNKNOWN) {
+            throw new InvalidParameterException("REBALANCE_SCENARIO has to be one of: " + RebalanceScenario.supportedScenarios());
+        }
 
+        validateCommitStrategy();
+        validateProcessing();
+        validateBounds();
+        validateSink();
         Properties additionalConfig = parseMapOfProperties(parseStringOrDefault(map.get(ADDITIONAL_CONFIG_ENV), ""));
         if (additionalConfig.get(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG) != null) {
             this.keyDeserializer = additionalConfig.get(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG).toString();
@@ -51,6 +114,113 @@ public class KafkaConsumerConfiguration extends KafkaClientsConfiguration {
         }
     }
 
+    private void validateCommitStrategy() {
+        if (this.commitStrategy == CommitStrategy.UNKNOWN) {
+            throw new InvalidParameterException("COMMIT_STRATEGY has to be one of: " + CommitStrategy.supportedStrategies());
+        }
+
+        if (this.commitRecords <= 0 || this.commitIntervalMs <= 0) {
+            throw new InvalidParameterException("COMMIT_RECORDS and COMMIT_INTERVAL_MS have to be greater than 0");
+        }
+    }
+
+    private void validateProcessing() {
+        if (this.processingThreads < 0) throw new InvalidParameterException("Number of processing threads cannot be negative");
+
+        if (this.processingOrder == ProcessingOrder.UNKNOWN) {
+            throw new InvalidParameterException("PROCESSING_ORDER has to be one of: " + ProcessingOrder.supportedOrders());
+        }
+
+        if (this.processingQueueSize <= 0) throw new InvalidParameterException("PROCESSING_QUEUE_SIZE has to be greater than 0");
+        if (this.processingTimeMs < 0) throw new InvalidParameterException("PROCESSING_TIME_MS cannot be negative");
+    }
+
+    private void validateBounds() {
+        if (this.startOffset != null && this.startTimestamp != null) {
+            throw new InvalidParameterException("Only one of START_OFFSET and START_BOUND_TIMESTAMP can be set");
+        }
+
+        if (this.endOffset != null && this.endTimestamp != null) {
+            throw new InvalidParameterException("Only one of END_OFFSET and END_TIMESTAMP can be set");
+        }
+
+        if (this.startOffset != null && this.endOffset != null && this.startOffset >= this.endOffset) {
+            throw new InvalidParameterException("END_OFFSET has to be greater than START_OFFSET");
+        }
+
+        if (this.startTimestamp != null && this.endTimestamp != null && this.startTimestamp >= this.endTimestamp) {
+            throw new InvalidParameterException("END_TIMESTAMP has to be after START_BOUND_TIMESTAMP");
+        }
+    }
+
+    private void validateSink() {
+        if (this.sinkFormat == SinkFormat.UNKNOWN) {
+            throw new InvalidParameterException("SINK_FORMAT has to be one of: " + SinkFormat.supportedFormats());
+        }
+
+        if (this.sinkFsyncPolicy == SinkFsyncPolicy.UNKNOWN) {
+            throw new InvalidParameterException("SINK_FSYNC has to be one of: " + SinkFsyncPolicy.supportedPolicies());
+        }
+
+        if (this.sinkRotateBytes < 0) throw new InvalidParameterException("SINK_ROTATE_BYTES cannot be negative");
+    }
+
+    /**
+     * Parses the sink of the consumed records, which is currently only a file - {@code file:<path>}.
+     *
+     * @param value     value to parse
+     *
+     * @return  path of the file, or null in case that the sink is not set
+     */
+    private static String parseSinkPath(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+
+        if (!value.startsWith(FILE_SINK_PREFIX) || value.length() == FILE_SINK_PREFIX.length()) {
+            throw new InvalidParameterException("SINK has to be in the format " + FILE_SINK_PREFIX + "<path>: " + value);
+        }
+
+        return value.substring(FILE_SINK_PREFIX.length());
+    }
+
+    private static Long parseOffset(String value, String envName) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+
+        try {
+            long offset = Long.parseLong(value.trim());
+
+            if (offset < 0) throw new InvalidParameterException(envName + " cannot be negative");
+
+            return offset;
+        } catch (NumberFormatException e) {
+            throw new InvalidParameterException("Invalid offset configured in the " + envName + " env variable: " + value);
+        }
+    }
+
+    /**
+     * Parses the timestamp in the ISO-8601 format with the offset (for example {@code 2025-01-01T10:00:00Z}),
+     * the same as the {@code START_TIMESTAMP} of the producer (which sets the timestamps of the sent records).
+     *
+     * @param value     value to parse
+     * @param envName   name of the env variable, for the error message
+     *
+     * @return  timestamp in ms since the epoch, or null in case that the value is not set
+     */
+    private static Long parseTimestamp(String value, String envName) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+
+        try {
+            return OffsetDateTime.parse(value.trim()).toInstant().toEpochMilli();
+        } catch (Exception e) {
+            throw new InvalidParameterException("Invalid timestamp configured in the " + envName + " env variable: " + value);
+        }
+    }
+
     public String getGroupId() {
         return groupId;
     }
@@ -71,6 +241,106 @@ public class KafkaConsumerConfiguration extends KafkaClientsConfiguration {
         return outputFormat;
     }
 
+    public OutputMode getOutputMode() {
+        return outputMode;
+    }
+
+    public long getPollTimeout() {
+        return pollTimeout;
+    }
+
+    public CommitStrategy getCommitStrategy() {
+        return commitStrategy;
+    }
+
+    public long getCommitRecords() {
+        return commitRecords;
+    }
+
+    public long getCommitIntervalMs() {
+        return commitIntervalMs;
+    }
+
+    public int getConsumerThreads() {
+        return consumerThreads;
+    }
+
+    public int getProcessingThreads() {
+        return processingThreads;
+    }
+
+    public ProcessingOrder getProcessingOrder() {
+        return processingOrder;
+    }
+
+    public int getProcessingQueueSize() {
+        return processingQueueSize;
+    }
+
+    public ProcessingCost getProcessingCost() {
+        return processingCost;
+    }
+
+    public boolean isVerifyDelivery() {
+        return verifyDelivery;
+    }
+
+    public Long getStartOffset() {
+        return startOffset;
+    }
+
+    public Long getStartTimestamp() {
+        return startTimestamp;
+    }
+
+    public Long getEndOffset() {
+        return endOffset;
+    }
+
+    public Long getEndTimestamp() {
+        return endTimestamp;
+    }
+
+    public RebalanceScenario getRebalanceScenario() {
+        return rebalanceScenario;
+    }
+
+    /**
+     * The consumer is assigned all partitions of the topic, instead of subscribing it, in case that any start
+     * or end bound is configured.
+     *
+     * @return  true if the consumption is bounded
+     */
+    public boolean isBounded() {
+        return startOffset != null || startTimestamp != null || hasEndBound();
+    }
+
+    /**
+     * @return  true if the consumer finishes once all partitions reach their end bound
+     */
+    public boolean hasEndBound() {
+        return endOffset != null || endTimestamp != null;
+    }
+
+    /**
+     * @return  path of the file to which the consumed records are written instead of the log, or null if not set
+     */
+    public String getSinkPath() {
+        return sinkPath;
+    }
+
+    public SinkFormat getSinkFormat() {
+        return sinkFormat;
+    }
+
+    public long getSinkRotateBytes() {
+        return sinkRotateBytes;
+    }
+
+    public SinkFsyncPolicy getSinkFsyncPolicy() {
+        return sinkFsyncPolicy;
+    }
+
     public String getKeyDeserializer() {
         return keyDeserializer;
     }
@@ -87,6 +357,26 @@ public class KafkaConsumerConfiguration extends KafkaClientsConfiguration {
             "clientId='" + this.getClientId() + "',\n" +
             "clientRack='" + this.getClientRack() + "',\n" +
             "topicName='" + this.getTopicName() + "',\n" +
-            "outputFormat='" + this.getOutputFormat() + "'";
+            "outputFormat='" + this.getOutputFormat() + "',\n" +
+            "outputMode='" + this.getOutputMode() + "',\n" +
+            "pollTimeout='" + this.getPollTimeout() + "',\n" +
+            "commitStrategy='" + this.getCommitStrategy() + "',\n" +
+            "commitRecords='" + this.getCommitRecords() + "',\n" +
+            "commitIntervalMs='" + this.getCommitIntervalMs() + "',\n" +
+            "consumerThreads='" + this.getConsumerThreads() + "',\n" +
+            "processingThreads='" + this.getProcessingThreads() + "',\n" +
+            "processingOrder='" + this.getProcessingOrder() + "',\n" +
+            "processingQueueSize='" + this.getProcessingQueueSize() + "',\n" +
+            "processingCost='" + this.getProcessingCost() + "',\n" +
+            "verifyDelivery='" + this.isVerifyDelivery() + "',\n" +
+            "startOffset='" + this.getStartOffset() + "',\n" +
+            "startTimestamp='" + this.getStartTimestamp() + "',\n" +
+            "endOffset='" + this.getEndOffset() + "',\n" +
+            "endTimestamp='" + this.getEndTimestamp() + "',\n" +
+            "rebalanceScenario='" + this.getRebalanceScenario() + "',\n" +
+            "sinkPath='" + this.getSinkPath() + "',\n" +
+            "sinkFormat='" + this.getSinkFormat() + "',\n" +
+            "sinkRotateBytes='" + this.getSinkRotateBytes() + "',\n" +
+            "sinkFsyncPolicy='" + this.getSinkFsyncPolicy() + "'";
     }
 }
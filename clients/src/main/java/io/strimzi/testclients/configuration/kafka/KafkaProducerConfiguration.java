@@ -4,6 +4,10 @@
  */
 package io.strimzi.testclients.configuration.kafka;
 
+import io.strimzi.testclients.common.OutputMode;
+import io.strimzi.testclients.common.RateUnit;
+import io.strimzi.testclients.common.keys.KeyDistribution;
+import io.strimzi.testclients.common.rate.LoadProfile;
 import io.strimzi.testclients.configuration.ClientsConfigurationUtils;
 import io.strimzi.testclients.configuration.ConfigurationConstants;
 import org.apache.kafka.clients.producer.ProducerConfig;
@@ -33,6 +37,22 @@ public class KafkaProducerConfiguration extends KafkaClientsConfiguration {
     private final String keySerializer;
     private final String valueSerializer;
     private final Long startTimestamp;
+    private final int maxInFlightRecords;
+    private final long targetRate;
+    private final RateUnit targetRateUnit;
+    private final LoadProfile loadProfile;
+    private final int producerThreads;
+    private final boolean sharedProducer;
+    private final long schemaCacheTtlMs;
+    private final int preserializedPayloads;
+    private final KeyDistribution keyDistribution;
+    private final int keyCount;
+    private final double zipfianExponent;
+    private final int hotspotTrafficPercent;
+    private final int hotspotKeysPercent;
+    private final OutputMode outputMode;
+    private final boolean endToEndLatency;
+    private final boolean verifyDelivery;
 
     public KafkaProducerConfiguration(Map<String, String> map) {
         super(map);
@@ -44,6 +64,22 @@ public class KafkaProducerConfiguration extends KafkaClientsConfiguration {
         this.messageTemplate = ClientsConfigurationUtils.parseStringOrDefault(map.get(ConfigurationConstants.MESSAGE_TEMPLATE_ENV), null);
         this.messageKey = ClientsConfigurationUtils.parseStringOrDefault(map.get(ConfigurationConstants.MESSAGE_KEY_ENV), null);
         this.topicName = map.get(ConfigurationConstants.TOPIC_ENV);
+        this.maxInFlightRecords = ClientsConfigurationUtils.parseIntOrDefault(map.get(ConfigurationConstants.MAX_IN_FLIGHT_RECORDS_ENV), ConfigurationConstants.DEFAULT_MAX_IN_FLIGHT_RECORDS);
+        this.targetRate = ClientsConfigurationUtils.parseLongOrDefault(map.get(ConfigurationConstants.TARGET_RATE_ENV), ConfigurationConstants.DEFAULT_TARGET_RATE);
+        this.targetRateUnit = RateUnit.getFromString(ClientsConfigurationUtils.parseStringOrDefault(map.get(ConfigurationConstants.TARGET_RATE_UNIT_ENV), ConfigurationConstants.DEFAULT_TARGET_RATE_UNIT));
+        this.producerThreads = ClientsConfigurationUtils.parseIntOrDefault(map.get(ConfigurationConstants.PRODUCER_THREADS_ENV), ConfigurationConstants.DEFAULT_PRODUCER_THREADS);
+        this.sharedProducer = ClientsConfigurationUtils.parseBooleanOrDefault(map.get(ConfigurationConstants.SHARED_PRODUCER_ENV), ConfigurationConstants.DEFAULT_SHARED_PRODUCER);
+        this.schemaCacheTtlMs = ClientsConfigurationUtils.parseLongOrDefault(map.get(ConfigurationConstants.SCHEMA_CACHE_TTL_MS_ENV), ConfigurationConstants.DEFAULT_SCHEMA_CACHE_TTL_MS);
+        this.preserializedPayloads = ClientsConfigurationUtils.parseIntOrDefault(map.get(ConfigurationConstants.PRESERIALIZED_PAYLOADS_ENV), ConfigurationConstants.DEFAULT_PRESERIALIZED_PAYLOADS);
+        this.keyDistribution = KeyDistribution.getFromString(ClientsConfigurationUtils.parseStringOrDefault(map.get(ConfigurationConstants.KEY_DISTRIBUTION_ENV), ConfigurationConstants.DEFAULT_KEY_DISTRIBUTION));
+        this.keyCount = ClientsConfigurationUtils.parseIntOrDefault(map.get(ConfigurationConstants.KEY_COUNT_ENV), ConfigurationConstants.DEFAULT_KEY_COUNT);
+        this.zipfianExponent = ClientsConfigurationUtils.parseDoubleOrDefault(map.get(ConfigurationConstants.ZIPFIAN_EXPONENT_ENV), ConfigurationConstants.DEFAULT_ZIPFIAN_EXPONENT);
+        this.hotspotTrafficPercent = ClientsConfigurationUtils.parseIntOrDefault(map.get(ConfigurationConstants.HOTSPOT_TRAFFIC_PERCENT_ENV), ConfigurationConstants.DEFAULT_HOTSPOT_TRAFFIC_PERCENT);
+        this.hotspotKeysPercent = ClientsConfigurationUtils.parseIntOrDefault(map.get(ConfigurationConstants.HOTSPOT_KEYS_PERCENT_ENV), ConfigurationConstants.DEFAULT_HOTSPOT_KEYS_PERCENT);
+        this.endToEndLatency = ClientsConfigurationUtils.parseBooleanOrDefault(map.get(ConfigurationConstants.E2E_LATENCY_ENV), ConfigurationConstants.DEFAULT_E2E_LATENCY);
+        this.verifyDelivery = ClientsConfigurationUtils.parseBooleanOrDefault(map.get(ConfigurationConstants.VERIFY_DELIVERY_ENV), ConfigurationConstants.DEFAULT_VERIFY_DELIVERY);
+        this.outputMode = OutputMode.parse(ClientsConfigurationUtils.parseStringOrDefault(map.get(ConfigurationConstants.OUTPUT_MODE_ENV), ConfigurationConstants.DEFAULT_OUTPUT_MODE));
+        this.loadProfile = parseLoadProfile(ClientsConfigurationUtils.parseStringOrDefault(map.get(ConfigurationConstants.LOAD_PROFILE_ENV), null));
         String startTimestampEnv = ClientsConfigurationUtils.parseStringOrDefault(map.get(ConfigurationConstants.START_TIMESTAMP_ENV), null);
 
         if (startTimestampEnv != null && !startTimestampEnv.isEmpty()) {
@@ -58,6 +94,14 @@ public class KafkaProducerConfiguration extends KafkaClientsConfiguration {
 
         if (this.topicName == null || topicName.isEmpty()) throw new InvalidParameterException("Topic is not set");
 
+        if (this.schemaCacheTtlMs < 0) throw new InvalidParameterException("Schema cache TTL cannot be negative");
+
+        if (this.preserializedPayloads < 0) throw new InvalidParameterException("Number of pre-serialized payloads cannot be negative");
+
+        validateSendingConfiguration();
+        validateKeyConfiguration();
+        validateLoadProfile();
+
         Properties additionalConfig = parseMapOfProperties(parseStringOrDefault(map.get(ADDITIONAL_CONFIG_ENV), ""));
         if (additionalConfig.get(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG) != null) {
             this.keySerializer = additionalConfig.get(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG).toString();
@@ -72,6 +116,82 @@ public class KafkaProducerConfiguration extends KafkaClientsConfiguration {
         }
     }
 
+    /**
+     * Validates the configuration of the message sending - in-flight window, target rate and producer threads.
+     */
+    private void validateSendingConfiguration() {
+        if (this.maxInFlightRecords < 1) throw new InvalidParameterException("Max in-flight records should be greater than 0");
+
+        if (this.targetRateUnit == RateUnit.UNKNOWN) {
+            throw new InvalidParameterException("TARGET_RATE_UNIT should be one of " + RateUnit.supportedUnits());
+        }
+
+        if (this.targetRate < 0) throw new InvalidParameterException("Target rate cannot be negative");
+
+        if (this.targetRate > 0 && getDelayMs() > 0) throw new InvalidParameterException("TARGET_RATE cannot be used together with DELAY_MS");
+
+        if (this.producerThreads < 1) throw new InvalidParameterException("Number of producer threads should be greater than 0");
+
+        if (this.producerThreads > 1 && getDelayMs() > 0) throw new InvalidParameterException("PRODUCER_THREADS cannot be used together with DELAY_MS");
+
+        if (this.producerThreads > 1 && this.sharedProducer && this.transactionalProducer) {
+            throw new InvalidParameterException("Transactional producer cannot be shared by multiple producer threads");
+        }
+    }
+
+    /**
+     * Parses the {@code LOAD_PROFILE}.
+     *
+     * @param loadProfileEnv    value of the {@code LOAD_PROFILE} env variable
+     *
+     * @return  load profile, or {@code null} in case that it is not configured
+     */
+    private static LoadProfile parseLoadProfile(String loadProfileEnv) {
+        if (loadProfileEnv == null || loadProfileEnv.isBlank()) {
+            return null;
+        }
+
+        try {
+            return LoadProfile.parse(loadProfileEnv);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidParameterException("Invalid LOAD_PROFILE: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Validates that the {@code LOAD_PROFILE} is not combined with other ways of pacing and with the {@code RUN_DURATION}.
+     */
+    private void validateLoadProfile() {
+        if (this.loadProfile == null) {
+            return;
+        }
+
+        if (this.targetRate > 0) throw new InvalidParameterException("LOAD_PROFILE cannot be used together with TARGET_RATE");
+
+        if (getDelayMs() > 0) throw new InvalidParameterException("LOAD_PROFILE cannot be used together with DELAY_MS");
+
+        if (getRunDurationMs() > 0) throw new InvalidParameterException("LOAD_PROFILE cannot be used together with RUN_DURATION, the run lasts for the whole profile");
+
+        if (this.loadProfile.getDurationMs() <= getWarmupDurationMs()) throw new InvalidParameterException("WARMUP_DURATION should be shorter than the LOAD_PROFILE");
+    }
+
+    /**
+     * Validates the configuration of the key distribution.
+     */
+    private void validateKeyConfiguration() {
+        if (this.keyDistribution == KeyDistribution.UNKNOWN) {
+            throw new InvalidParameterException("KEY_DISTRIBUTION should be one of " + KeyDistribution.supportedDistributions());
+        }
+
+        if (this.keyCount < 1) throw new InvalidParameterException("Number of keys should be greater than 0");
+
+        if (this.zipfianExponent <= 0) throw new InvalidParameterException("Zipfian exponent should be greater than 0");
+
+        if (this.hotspotTrafficPercent < 0 || this.hotspotTrafficPercent > 100 || this.hotspotKeysPercent < 0 || this.hotspotKeysPercent > 100) {
+            throw new InvalidParameterException("Hotspot traffic and keys percentages should be between 0 and 100");
+        }
+    }
+
     public String getAcks() {
         return acks;
     }
@@ -116,6 +236,80 @@ public class KafkaProducerConfiguration extends KafkaClientsConfiguration {
         return startTimestamp;
     }
 
+    public int getMaxInFlightRecords() {
+        return maxInFlightRecords;
+    }
+
+    public long getTargetRate() {
+        return targetRate;
+    }
+
+    public RateUnit getTargetRateUnit() {
+        return targetRateUnit;
+    }
+
+    public LoadProfile getLoadProfile() {
+        return loadProfile;
+    }
+
+    public int getProducerThreads() {
+        return producerThreads;
+    }
+
+    public boolean isSharedProducer() {
+        return sharedProducer;
+    }
+
+    public long getSchemaCacheTtlMs() {
+        return schemaCacheTtlMs;
+    }
+
+    public int getPreserializedPayloads() {
+        return preserializedPayloads;
+    }
+
+    public KeyDistribution getKeyDistribution() {
+        return keyDistribution;
+    }
+
+    public int getKeyCount() {
+        return keyCount;
+    }
+
+    public double getZipfianExponent() {
+        return zipfianExponent;
+    }
+
+    public int getHotspotTrafficPercent() {
+        return hotspotTrafficPercent;
+    }
+
+    public int getHotspotKeysPercent() {
+        return hotspotKeysPercent;
+    }
+
+    public OutputMode getOutputMode() {
+        return outputMode;
+    }
+
+    public boolean isEndToEndLatency() {
+        return endToEndLatency;
+    }
+
+    public boolean isVerifyDelivery() {
+        return verifyDelivery;
+    }
+
+    /**
+     * The records are stamped with the {@code EndToEndStamp} both for the end-to-end latency and for the verification
+     * of the delivery.
+     *
+     * @return  true if the records should be stamped
+     */
+    public boolean isStampRecords() {
+        return endToEndLatency || verifyDelivery;
+    }
+
     @Override
     public String toString() {
         return "KafkaProducerConfiguration:\n" +
@@ -128,6 +322,22 @@ public class KafkaProducerConfiguration extends KafkaClientsConfiguration {
             "messageKey='" + this.getMessageKey() + "',\n" +
             "message='" + this.getMessage() + "',\n" +
             "startTimestamp='" + this.getStartTimestamp() + "',\n" +
+            "maxInFlightRecords='" + this.getMaxInFlightRecords() + "',\n" +
+            "targetRate='" + this.getTargetRate() + "',\n" +
+            "targetRateUnit='" + this.getTargetRateUnit() + "',\n" +
+            "loadProfile='" + this.getLoadProfile() + "',\n" +
+            "producerThreads='" + this.getProducerThreads() + "',\n" +
+            "sharedProducer='" + this.isSharedProducer() + "',\n" +
+            "schemaCacheTtlMs='" + this.getSchemaCacheTtlMs() + "',\n" +
+            "preserializedPayloads='" + this.getPreserializedPayloads() + "',\n" +
+            "keyDistribution='" + this.getKeyDistribution() + "',\n" +
+            "keyCount='" + this.getKeyCount() + "',\n" +
+            "zipfianExponent='" + this.getZipfianExponent() + "',\n" +
+            "hotspotTrafficPercent='" + this.getHotspotTrafficPercent() + "',\n" +
+            "hotspotKeysPercent='" + this.getHotspotKeysPercent() + "',\n" +
+            "outputMode='" + this.getOutputMode() + "',\n" +
+            "endToEndLatency='" + this.isEndToEndLatency() + "',\n" +
+            "verifyDelivery='" + this.isVerifyDelivery() + "',\n" +
             "messageTemplate='" + this.getMessageTemplate() + "'";
     }
 }
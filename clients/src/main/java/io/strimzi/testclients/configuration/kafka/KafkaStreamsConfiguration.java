@@ -4,12 +4,21 @@
  */
 package io.strimzi.testclients.configuration.kafka;
 
+import io.strimzi.testclients.common.streams.ProcessingGuarantee;
+import io.strimzi.testclients.common.streams.StateStoreType;
+import io.strimzi.testclients.common.streams.StreamsCompletion;
+import io.strimzi.testclients.common.streams.StreamsSettings;
+import io.strimzi.testclients.common.streams.StreamsSweep;
+import io.strimzi.testclients.common.streams.StreamsTopology;
 import io.strimzi.testclients.configuration.ClientsConfigurationUtils;
 import io.strimzi.testclients.configuration.ConfigurationConstants;
 import org.apache.kafka.common.serialization.Serdes;
 import org.apache.kafka.streams.StreamsConfig;
+import org.rocksdb.CompactionStyle;
 
 import java.security.InvalidParameterException;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
 
@@ -23,6 +32,22 @@ public class KafkaStreamsConfiguration extends KafkaClientsConfiguration {
     private final String sourceTopic;
     private final String targetTopic;
     private final long commitIntervalMs;
+    private final ProcessingGuarantee processingGuarantee;
+    private final int numStreamThreads;
+    private final long statestoreCacheMaxBytes;
+    private final StreamsTopology streamsTopology;
+    private final String joinTopic;
+    private final long windowSizeMs;
+    private final long windowGraceMs;
+    private final int keyCount;
+    private final int filterPercent;
+    private final StreamsCompletion streamsCompletion;
+    private final StateStoreType stateStoreType;
+    private final boolean stateStoreMetrics;
+    private final long rocksDbBlockCacheSize;
+    private final int rocksDbWriteBuffers;
+    private final CompactionStyle rocksDbCompactionStyle;
+    private final List<StreamsSettings> streamsSweep;
     private final String defaultKeySerde;
     private final String defaultValueSerde;
 
@@ -31,7 +56,31 @@ public class KafkaStreamsConfiguration extends KafkaClientsConfiguration {
         this.applicationId = map.get(ConfigurationConstants.APPLICATION_ID_ENV);
         this.sourceTopic = map.get(ConfigurationConstants.SOURCE_TOPIC_ENV);
         this.targetTopic = map.get(ConfigurationConstants.TARGET_TOPIC_ENV);
-        this.commitIntervalMs = ClientsConfigurationUtils.parseLongOrDefault(map.get(ConfigurationConstants.COMMIT_INTERVAL_MS_ENV), ConfigurationConstants.DEFAULT_COMMIT_INTERVAL_MS);
+
+        // the settings configured by the ADDITIONAL_CONFIG are used as the defaults, so they are not overridden by the client
+        Properties additionalConfig = parseMapOfProperties(parseStringOrDefault(map.get(ADDITIONAL_CONFIG_ENV), ""));
+        this.commitIntervalMs = ClientsConfigurationUtils.parseLongOrDefault(map.get(ConfigurationConstants.COMMIT_INTERVAL_MS_ENV),
+            ClientsConfigurationUtils.parseLongOrDefault(additionalConfig.getProperty(StreamsConfig.COMMIT_INTERVAL_MS_CONFIG), ConfigurationConstants.DEFAULT_COMMIT_INTERVAL_MS));
+        this.processingGuarantee = ProcessingGuarantee.getFromString(ClientsConfigurationUtils.parseStringOrDefault(map.get(ConfigurationConstants.PROCESSING_GUARANTEE_ENV),
+            additionalConfig.getProperty(StreamsConfig.PROCESSING_GUARANTEE_CONFIG, ConfigurationConstants.DEFAULT_PROCESSING_GUARANTEE)));
+        this.numStreamThreads = ClientsConfigurationUtils.parseIntOrDefault(map.get(ConfigurationConstants.NUM_STREAM_THREADS_ENV),
+            ClientsConfigurationUtils.parseIntOrDefault(additionalConfig.getProperty(StreamsConfig.NUM_STREAM_THREADS_CONFIG), ConfigurationConstants.DEFAULT_NUM_STREAM_THREADS));
+        this.statestoreCacheMaxBytes = ClientsConfigurationUtils.parseLongOrDefault(map.get(ConfigurationConstants.STATESTORE_CACHE_MAX_BYTES_ENV),
+            ClientsConfigurationUtils.parseLongOrDefault(additionalConfig.getProperty(StreamsConfig.STATESTORE_CACHE_MAX_BYTES_CONFIG), ConfigurationConstants.DEFAULT_STATESTORE_CACHE_MAX_BYTES));
+        this.streamsTopology = StreamsTopology.getFromString(ClientsConfigurationUtils.parseStringOrDefault(map.get(ConfigurationConstants.STREAMS_TOPOLOGY_ENV), ConfigurationConstants.DEFAULT_STREAMS_TOPOLOGY));
+        this.joinTopic = map.get(ConfigurationConstants.JOIN_TOPIC_ENV);
+        this.windowSizeMs = ClientsConfigurationUtils.parseDurationMsOrDefault(map.get(ConfigurationConstants.WINDOW_SIZE_ENV), ConfigurationConstants.DEFAULT_WINDOW_SIZE_MS);
+        this.windowGraceMs = ClientsConfigurationUtils.parseDurationMsOrDefault(map.get(ConfigurationConstants.WINDOW_GRACE_ENV), ConfigurationConstants.DEFAULT_WINDOW_GRACE_MS);
+        this.keyCount = ClientsConfigurationUtils.parseIntOrDefault(map.get(ConfigurationConstants.KEY_COUNT_ENV), ConfigurationConstants.DEFAULT_KEY_COUNT);
+        this.filterPercent = ClientsConfigurationUtils.parseIntOrDefault(map.get(ConfigurationConstants.FILTER_PERCENT_ENV), ConfigurationConstants.DEFAULT_FILTER_PERCENT);
+        // with the RUN_DURATION, the client finishes once it elapses, unless other completion is configured
+        this.streamsCompletion = StreamsCompletion.getFromString(ClientsConfigurationUtils.parseStringOrDefault(map.get(ConfigurationConstants.STREAMS_COMPLETION_ENV),
+            getRunDurationMs() > 0 ? StreamsCompletion.DURATION.toString() : ConfigurationConstants.DEFAULT_STREAMS_COMPLETION));
+        this.stateStoreType = StateStoreType.getFromString(ClientsConfigurationUtils.parseStringOrDefault(map.get(ConfigurationConstants.STATE_STORE_ENV), ConfigurationConstants.DEFAULT_STATE_STORE));
+        this.stateStoreMetrics = ClientsConfigurationUtils.parseBooleanOrDefault(map.get(ConfigurationConstants.STATE_STORE_METRICS_ENV), ConfigurationConstants.DEFAULT_STATE_STORE_METRICS);
+        this.rocksDbBlockCacheSize = ClientsConfigurationUtils.parseLongOrDefault(map.get(ConfigurationConstants.ROCKSDB_BLOCK_CACHE_SIZE_ENV), ConfigurationConstants.DEFAULT_ROCKSDB_BLOCK_CACHE_SIZE);
+        this.rocksDbWriteBuffers = ClientsConfigurationUtils.parseIntOrDefault(map.get(ConfigurationConstants.ROCKSDB_WRITE_BUFFERS_ENV), ConfigurationConstants.DEFAULT_ROCKSDB_WRITE_BUFFERS);
+        this.rocksDbCompactionStyle = parseCompactionStyle(map.get(ConfigurationConstants.ROCKSDB_COMPACTION_STYLE_ENV));
 
         if (applicationId == null || applicationId.isEmpty()) throw new InvalidParameterException("Application ID is not set");
 
@@ -39,20 +88,119 @@ public class KafkaStreamsConfiguration extends KafkaClientsConfiguration {
 
         if (targetTopic == null || targetTopic.isEmpty()) throw new InvalidParameterException("Target topic is not set");
 
-        Properties additionalConfig = parseMapOfProperties(parseStringOrDefault(map.get(ADDITIONAL_CONFIG_ENV), ""));
+        validateTopology();
+        validateCompletion();
+        validateStateStore();
+        validateSettings();
+
+        this.streamsSweep = parseStreamsSweep(map.get(ConfigurationConstants.STREAMS_SWEEP_ENV));
+
+        if (!this.streamsSweep.isEmpty() && this.streamsCompletion == StreamsCompletion.NONE) {
+            throw new InvalidParameterException("STREAMS_SWEEP needs STREAMS_COMPLETION (or RUN_DURATION), so that every run of the sweep finishes");
+        }
+
         if (additionalConfig.get(StreamsConfig.DEFAULT_KEY_SERDE_CLASS_CONFIG) != null) {
             this.defaultKeySerde = additionalConfig.get(StreamsConfig.DEFAULT_KEY_SERDE_CLASS_CONFIG).toString();
         } else {
             this.defaultKeySerde = Serdes.String().getClass().getName();
         }
 
-        if (additionalConfig.get(StreamsConfig.DEFAULT_KEY_SERDE_CLASS_CONFIG) != null) {
-            this.defaultValueSerde = additionalConfig.get(StreamsConfig.DEFAULT_KEY_SERDE_CLASS_CONFIG).toString();
+        if (additionalConfig.get(StreamsConfig.DEFAULT_VALUE_SERDE_CLASS_CONFIG) != null) {
+            this.defaultValueSerde = additionalConfig.get(StreamsConfig.DEFAULT_VALUE_SERDE_CLASS_CONFIG).toString();
         } else {
             this.defaultValueSerde = Serdes.String().getClass().getName();
         }
     }
 
+    private void validateTopology() {
+        if (this.streamsTopology == StreamsTopology.UNKNOWN) {
+            throw new InvalidParameterException("STREAMS_TOPOLOGY has to be one of: " + StreamsTopology.supportedTopologies());
+        }
+
+        if (this.streamsTopology.isJoin() && (this.joinTopic == null || this.joinTopic.isEmpty())) {
+            throw new InvalidParameterException("JOIN_TOPIC has to be set for the " + this.streamsTopology + " topology");
+        }
+
+        if (this.windowSizeMs <= 0) throw new InvalidParameterException("WINDOW_SIZE has to be greater than 0");
+        if (this.windowGraceMs < 0) throw new InvalidParameterException("WINDOW_GRACE cannot be negative");
+        if (this.keyCount <= 0) throw new InvalidParameterException("KEY_COUNT has to be greater than 0");
+        if (this.filterPercent < 0 || this.filterPercent > 100) throw new InvalidParameterException("FILTER_PERCENT has to be between 0 and 100");
+    }
+
+    private void validateCompletion() {
+        if (this.streamsCompletion == StreamsCompletion.UNKNOWN) {
+            throw new InvalidParameterException("STREAMS_COMPLETION has to be one of: " + StreamsCompletion.supportedCompletions());
+        }
+
+        if (this.streamsCompletion == StreamsCompletion.DURATION && getRunDurationMs() <= 0) {
+            throw new InvalidParameterException("RUN_DURATION has to be set for the " + this.streamsCompletion + " completion");
+        }
+
+        if (this.streamsCompletion == StreamsCompletion.RECORDS && getMessageCount() <= 0) {
+            throw new InvalidParameterException("MESSAGE_COUNT has to be greater than 0 for the " + this.streamsCompletion + " completion");
+        }
+    }
+
+    private void validateStateStore() {
+        if (this.stateStoreType == StateStoreType.UNKNOWN) {
+            throw new InvalidParameterException("STATE_STORE has to be one of: " + StateStoreType.supportedTypes());
+        }
+
+        boolean windowedAggregation = this.streamsTopology == StreamsTopology.WINDOWED_COUNT || this.streamsTopology == StreamsTopology.WINDOWED_AGGREGATE;
+
+        if (this.stateStoreType == StateStoreType.VERSIONED && this.streamsTopology != StreamsTopology.TABLE_JOIN) {
+            throw new InvalidParameterException("STATE_STORE " + this.stateStoreType + " can be used only with the " + StreamsTopology.TABLE_JOIN + " topology");
+        }
+
+        if (this.stateStoreType != StateStoreType.DEFAULT && !windowedAggregation && this.streamsTopology != StreamsTopology.TABLE_JOIN) {
+            throw new InvalidParameterException("STATE_STORE can be used only with the " + StreamsTopology.WINDOWED_COUNT + ", "
+                + StreamsTopology.WINDOWED_AGGREGATE + " and " + StreamsTopology.TABLE_JOIN + " topologies");
+        }
+
+        if (this.rocksDbBlockCacheSize < 0) throw new InvalidParameterException("ROCKSDB_BLOCK_CACHE_SIZE cannot be negative");
+        if (this.rocksDbWriteBuffers < 0) throw new InvalidParameterException("ROCKSDB_WRITE_BUFFERS cannot be negative");
+    }
+
+    private void validateSettings() {
+        if (this.processingGuarantee == ProcessingGuarantee.UNKNOWN) {
+            throw new InvalidParameterException("PROCESSING_GUARANTEE has to be one of: " + ProcessingGuarantee.supportedGuarantees());
+        }
+
+        if (this.numStreamThreads <= 0) throw new InvalidParameterException("NUM_STREAM_THREADS has to be greater than 0");
+        if (this.statestoreCacheMaxBytes < 0) throw new InvalidParameterException("STATESTORE_CACHE_MAX_BYTES cannot be negative");
+    }
+
+    /**
+     * Parses the {@code STREAMS_SWEEP}.
+     *
+     * @param streamsSweepEnv   value of the {@code STREAMS_SWEEP} env variable
+     *
+     * @return  settings of the runs of the sweep, or empty list in case that it is not configured
+     */
+    private List<StreamsSettings> parseStreamsSweep(String streamsSweepEnv) {
+        if (streamsSweepEnv == null || streamsSweepEnv.isBlank()) {
+            return List.of();
+        }
+
+        try {
+            return StreamsSweep.parse(streamsSweepEnv, getStreamsSettings());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidParameterException("Invalid STREAMS_SWEEP: " + e.getMessage());
+        }
+    }
+
+    private static CompactionStyle parseCompactionStyle(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+
+        try {
+            return CompactionStyle.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidParameterException("ROCKSDB_COMPACTION_STYLE has to be one of: level, universal, fifo");
+        }
+    }
+
     public String getApplicationId() {
         return applicationId;
     }
@@ -69,6 +217,96 @@ public class KafkaStreamsConfiguration extends KafkaClientsConfiguration {
         return commitIntervalMs;
     }
 
+    public ProcessingGuarantee getProcessingGuarantee() {
+        return processingGuarantee;
+    }
+
+    public int getNumStreamThreads() {
+        return numStreamThreads;
+    }
+
+    public long getStatestoreCacheMaxBytes() {
+        return statestoreCacheMaxBytes;
+    }
+
+    /**
+     * @return  configured settings of the Kafka Streams, used by the single run and for the options which are not swept
+     */
+    public StreamsSettings getStreamsSettings() {
+        return new StreamsSettings(processingGuarantee, numStreamThreads, statestoreCacheMaxBytes, commitIntervalMs);
+    }
+
+    /**
+     * @return  settings of the runs of the {@code STREAMS_SWEEP}, or empty list in case that the topology is run only once
+     */
+    public List<StreamsSettings> getStreamsSweep() {
+        return streamsSweep;
+    }
+
+    public StreamsTopology getStreamsTopology() {
+        return streamsTopology;
+    }
+
+    public String getJoinTopic() {
+        return joinTopic;
+    }
+
+    public long getWindowSizeMs() {
+        return windowSizeMs;
+    }
+
+    public long getWindowGraceMs() {
+        return windowGraceMs;
+    }
+
+    /**
+     * @return  number of the distinct keys to which the {@link StreamsTopology#REKEY} topology maps the records
+     */
+    public int getKeyCount() {
+        return keyCount;
+    }
+
+    /**
+     * @return  percentage of the records forwarded by the {@link StreamsTopology#FILTER} topology
+     */
+    public int getFilterPercent() {
+        return filterPercent;
+    }
+
+    public StreamsCompletion getStreamsCompletion() {
+        return streamsCompletion;
+    }
+
+    public StateStoreType getStateStoreType() {
+        return stateStoreType;
+    }
+
+    /**
+     * @return  true if the latencies of the state stores are recorded (with the {@code DEBUG} metrics recording level) and reported
+     */
+    public boolean isStateStoreMetrics() {
+        return stateStoreMetrics;
+    }
+
+    public long getRocksDbBlockCacheSize() {
+        return rocksDbBlockCacheSize;
+    }
+
+    public int getRocksDbWriteBuffers() {
+        return rocksDbWriteBuffers;
+    }
+
+    public CompactionStyle getRocksDbCompactionStyle() {
+        return rocksDbCompactionStyle;
+    }
+
+    /**
+     * @return  true if any of the RocksDB options is configured, so the RocksDB stores are configured by the {@code RocksDBProfileConfigSetter}
+     */
+    public boolean hasRocksDbProfile() {
+        return rocksDbBlockCacheSize > 0 || rocksDbWriteBuffers > 0 || rocksDbCompactionStyle != null;
+    }
+
     public String getDefaultKeySerde() {
         return defaultKeySerde;
     }
@@ -84,6 +322,22 @@ public class KafkaStreamsConfiguration extends KafkaClientsConfiguration {
             "applicationId='" + this.getApplicationId() + "',\n" +
             "sourceTopic='" + this.getSourceTopic() + "',\n" +
             "targetTopic='" + this.getTargetTopic() + "',\n" +
-            "commitIntervalMs='" + this.getCommitIntervalMs() + "'";
+            "commitIntervalMs='" + this.getCommitIntervalMs() + "',\n" +
+            "processingGuarantee='" + this.getProcessingGuarantee() + "',\n" +
+            "numStreamThreads='" + this.getNumStreamThreads() + "',\n" +
+            "statestoreCacheMaxBytes='" + this.getStatestoreCacheMaxBytes() + "',\n" +
+            "streamsTopology='" + this.getStreamsTopology() + "',\n" +
+            "joinTopic='" + this.getJoinTopic() + "',\n" +
+            "windowSizeMs='" + this.getWindowSizeMs() + "',\n" +
+            "windowGraceMs='" + this.getWindowGraceMs() + "',\n" +
+            "keyCount='" + this.getKeyCount() + "',\n" +
+            "filterPercent='" + this.getFilterPercent() + "',\n" +
+            "streamsCompletion='" + this.getStreamsCompletion() + "',\n" +
+            "stateStoreType='" + this.getStateStoreType() + "',\n" +
+            "stateStoreMetrics='" + this.isStateStoreMetrics() + "',\n" +
+            "rocksDbBlockCacheSize='" + this.getRocksDbBlockCacheSize() + "',\n" +
+            "rocksDbWriteBuffers='" + this.getRocksDbWriteBuffers() + "',\n" +
+            "rocksDbCompactionStyle='" + this.getRocksDbCompactionStyle() + "',\n" +
+            "streamsSweep='" + this.getStreamsSweep() + "'";
     }
 }
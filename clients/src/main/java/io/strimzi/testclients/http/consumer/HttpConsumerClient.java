@@ -6,6 +6,12 @@ package io.strimzi.testclients.http.consumer;
 
 import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpResponseStatus;
 import io.strimzi.testclients.common.ClientsInterface;
+import io.strimzi.testclients.common.metrics.EndToEndStamp;
+import io.strimzi.testclients.common.metrics.IntervalReporter;
+import io.strimzi.testclients.common.metrics.LatencyStats;
+import io.strimzi.testclients.common.metrics.MeasurementWindow;
+import io.strimzi.testclients.common.metrics.PerformanceReport;
+import io.strimzi.testclients.common.verification.DeliveryVerifier;
 import io.strimzi.testclients.configuration.ConfigurationConstants;
 import io.strimzi.testclients.configuration.http.HttpConsumerConfiguration;
 import io.strimzi.testclients.common.records.consumer.http.ConsumerRecord;
@@ -32,6 +38,17 @@ public class HttpConsumerClient implements ClientsInterface {
     private static final Logger LOGGER = LogManager.getLogger(HttpConsumerClient.class);
     private final HttpConsumerConfiguration configuration;
     private int consumedMessages;
+    private final MeasurementWindow measurementWindow;
+    private long warmupMessages;
+    // read by the interval reporter
+    private volatile long measuredMessages;
+    private volatile long measuredBytes;
+    // end-to-end latency of the records stamped by the producer with E2E_LATENCY enabled
+    private final LatencyStats endToEndLatency;
+    // tracks the sequences of the stamped records in case that VERIFY_DELIVERY is enabled, null otherwise
+    private final DeliveryVerifier deliveryVerifier;
+    // logs the throughput periodically in case that the OUTPUT_MODE is summary, null otherwise
+    private final IntervalReporter intervalReporter;
     private HttpClient client;
     private TracingHandle tracingHandle;
     private HttpHandle httpHandle;
@@ -41,6 +58,10 @@ public class HttpConsumerClient implements ClientsInterface {
     public HttpConsumerClient(Map<String, String> configuration) {
         this.configuration = new HttpConsumerConfiguration(configuration);
         this.consumedMessages = 0;
+        this.measurementWindow = new MeasurementWindow(this.configuration.getWarmupDurationMs(), this.configuration.getRunDurationMs());
+        this.endToEndLatency = new LatencyStats();
+        this.deliveryVerifier = this.configuration.isVerifyDelivery() ? new DeliveryVerifier() : null;
+        this.intervalReporter = this.configuration.getOutputMode().isSummary() ? new IntervalReporter("Received", () -> measuredMessages, () -> measuredBytes, endToEndLatency) : null;
         this.client = createHttpClient();
         this.tracingHandle = TracingUtil.getTracing();
         this.httpHandle = tracingHandle.createHttpHandle("receive-messages");
@@ -54,11 +75,21 @@ public class HttpConsumerClient implements ClientsInterface {
 
         createConsumer();
         subscribeToTopic();
+        measurementWindow.start();
+
+        if (intervalReporter != null) {
+            intervalReporter.start();
+        }
 
         long delayMs = configuration.getPollInterval() == 0 ? ConfigurationConstants.DEFAULT_POLL_INTERVAL : configuration.getPollInterval();
         scheduledExecutor.scheduleWithFixedDelay(this::checkAndReceiveMessages, 0, delayMs, TimeUnit.MILLISECONDS);
 
         awaitCompletion();
+
+        if (intervalReporter != null) {
+            intervalReporter.close();
+        }
+
         checkFinalState();
     }
 
@@ -79,7 +110,21 @@ public class HttpConsumerClient implements ClientsInterface {
 
     @Override
     public void checkFinalState() {
-        if (consumedMessages >= configuration.getMessageCount()) {
+        if (warmupMessages > 0) {
+            LOGGER.info("{} messages were received during the warmup and are not included in the performance report", warmupMessages);
+        }
+
+        PerformanceReport report = PerformanceReport.of(measuredMessages, measuredBytes, measurementWindow.getMeasurementDurationNs(), endToEndLatency.getHistogram());
+        LOGGER.info("Receive performance (end-to-end latency of the stamped records): {}", report.toPlainString());
+        LOGGER.info("Receive performance JSON: {}", report.toJsonString());
+
+        if (deliveryVerifier != null) {
+            checkDelivery();
+        }
+
+        if (measurementWindow.isTimeBased()) {
+            LOGGER.info("Run duration elapsed, {} messages received", consumedMessages);
+        } else if (consumedMessages >= configuration.getMessageCount()) {
             LOGGER.info("All messages successfully received");
         } else {
             LOGGER.error("Unable to correctly receive all messages");
@@ -87,8 +132,24 @@ public class HttpConsumerClient implements ClientsInterface {
         }
     }
 
+    /**
+     * Reports the verified delivery of the stamped records. Fails in case that any record is missing, or - when
+     * {@code RUN_DURATION} is not configured - in case that fewer than {@code MESSAGE_COUNT} distinct records were received.
+     */
+    private void checkDelivery() {
+        LOGGER.info("Delivery verification: {}", deliveryVerifier.toSummaryString());
+
+        if (!deliveryVerifier.isComplete()) {
+            LOGGER.error("{} stamped messages are missing", deliveryVerifier.getMissing());
+            throw new RuntimeException("Failed to receive all messages, " + deliveryVerifier.getMissing() + " messages are missing");
+        } else if (!measurementWindow.isTimeBased() && deliveryVerifier.getReceived() < configuration.getMessageCount()) {
+            LOGGER.error("Only {} distinct stamped messages were received", deliveryVerifier.getReceived());
+            throw new RuntimeException("Failed to receive all messages, only " + deliveryVerifier.getReceived() + " distinct messages were received");
+        }
+    }
+
     private void checkAndReceiveMessages() {
-        if (consumedMessages >= configuration.getMessageCount()) {
+        if (measurementWindow.isTimeBased() ? measurementWindow.isFinished() : consumedMessages >= configuration.getMessageCount()) {
             LOGGER.info("Shutting down the executor");
             scheduledExecutor.shutdown();
             countDownLatch.countDown();
@@ -165,7 +226,9 @@ public class HttpConsumerClient implements ClientsInterface {
         String contentType = "application/vnd.kafka." + this.configuration.getMessageType() + ".v2+json";
         HttpContext context = HttpContext.get(configuration.getConsumeMessagesURI(), contentType);
         try {
-            LOGGER.info("Receiving messages - sending HTTP request to {}", configuration.getConsumeMessagesURI());
+            if (!configuration.getOutputMode().isSummary()) {
+                LOGGER.info("Receiving messages - sending HTTP request to {}", configuration.getConsumeMessagesURI());
+            }
 
             HttpResponse httpResponse = httpHandle.finish(client.send(httpHandle.build(context), HttpResponse.BodyHandlers.ofString()));
 
@@ -175,9 +238,30 @@ public class HttpConsumerClient implements ClientsInterface {
                 LOGGER.info("Array with messages is empty, no messages were received");
             } else {
                 ConsumerRecord[] records = ConsumerRecordUtils.parseConsumerRecordsFromJson(httpResponse.body().toString());
-                ConsumerRecordUtils.logConsumerRecords(records);
+                ConsumerRecordUtils.logConsumerRecords(records, configuration.getOutputMode(), consumedMessages);
 
                 consumedMessages += records.length;
+
+                if (deliveryVerifier != null) {
+                    for (ConsumerRecord record : records) {
+                        deliveryVerifier.record(record.getTopic(), record.getPartition(), EndToEndStamp.fromBytes(record.lastHeaderValue(EndToEndStamp.HEADER)));
+                    }
+                }
+
+                if (measurementWindow.isWarmup()) {
+                    warmupMessages += records.length;
+                } else {
+                    measuredMessages += records.length;
+                    measuredBytes += httpResponse.body().toString().length();
+
+                    for (ConsumerRecord record : records) {
+                        EndToEndStamp stamp = EndToEndStamp.fromBytes(record.lastHeaderValue(EndToEndStamp.HEADER));
+
+                        if (stamp != null) {
+                            endToEndLatency.record(EndToEndStamp.nowEpochNs() - stamp.timestampNs());
+                        }
+                    }
+                }
             }
 
         } catch (Exception e) {
@@ -8,6 +8,11 @@ import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpResponseStatus;
 import io.skodjob.datagenerator.DataGenerator;
 import io.skodjob.datagenerator.enums.ETemplateType;
 import io.strimzi.testclients.common.ClientsInterface;
+import io.strimzi.testclients.common.metrics.IntervalReporter;
+import io.strimzi.testclients.common.metrics.LatencyStats;
+import io.strimzi.testclients.common.metrics.MeasurementWindow;
+import io.strimzi.testclients.common.metrics.PerformanceReport;
+import io.strimzi.testclients.common.rate.LoadProfileScheduler;
 import io.strimzi.testclients.configuration.ConfigurationConstants;
 import io.strimzi.testclients.configuration.http.HttpProducerConfiguration;
 import io.strimzi.testclients.common.records.producer.http.OffsetRecordSent;
@@ -21,20 +26,51 @@ import io.strimzi.testclients.tracing.TracingUtil;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 public class HttpProducerClient implements ClientsInterface {
     private static final Logger LOGGER = LogManager.getLogger(HttpProducerClient.class);
+    private static final byte[] RECORDS_START = "{\"records\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] RECORDS_END = "]}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] RECORD_SEPARATOR = {','};
+    private static final int INITIAL_BODY_BUFFER_SIZE = 64 * 1024;
     private final HttpProducerConfiguration configuration;
     private int messageIndex;
     private int messageSuccessfullySent;
+    private final MeasurementWindow measurementWindow;
+    // paces the requests in case that LOAD_PROFILE is configured, null otherwise
+    private final LoadProfileScheduler loadProfileScheduler;
+    private final LatencyStats requestLatency;
+    // size of the records of the current request in bytes, read once the request is sent - the records
+    // of the streamed requests are generated by the thread of the HTTP client while the body is sent
+    private LongSupplier requestBytes;
+    // body of the single message and BATCH_SIZE requests, reused by all requests
+    private final RequestBodyBuffer bodyBuffer;
+    private long warmupMessages;
+    // read by the interval reporter
+    private volatile long measuredMessages;
+    private volatile long measuredBytes;
+    // logs the throughput and latency periodically in case that the OUTPUT_MODE is summary, null otherwise
+    private final IntervalReporter intervalReporter;
     private HttpClient client;
     private TracingHandle tracingHandle;
     private HttpHandle httpHandle;
@@ -45,6 +81,16 @@ public class HttpProducerClient implements ClientsInterface {
     public HttpProducerClient(Map<String, String> configuration) {
         this.configuration = new HttpProducerConfiguration(configuration);
         this.messageIndex = 0;
+        this.loadProfileScheduler = this.configuration.getLoadProfile() != null ? new LoadProfileScheduler(this.configuration.getLoadProfile()) : null;
+        // with the LOAD_PROFILE, the run lasts for the whole profile, including the warmup
+        long runDurationMs = this.configuration.getLoadProfile() != null
+            ? this.configuration.getLoadProfile().getDurationMs() - this.configuration.getWarmupDurationMs()
+            : this.configuration.getRunDurationMs();
+        this.measurementWindow = new MeasurementWindow(this.configuration.getWarmupDurationMs(), runDurationMs);
+        this.requestLatency = new LatencyStats();
+        this.requestBytes = () -> 0;
+        this.bodyBuffer = new RequestBodyBuffer(INITIAL_BODY_BUFFER_SIZE);
+        this.intervalReporter = this.configuration.getOutputMode().isSummary() ? new IntervalReporter("Sent", () -> measuredMessages, () -> measuredBytes, requestLatency) : null;
         this.client = createHttpClient();
         this.tracingHandle = TracingUtil.getTracing();
         this.httpHandle = tracingHandle.createHttpHandle("send-messages");
@@ -60,13 +106,35 @@ public class HttpProducerClient implements ClientsInterface {
     public void run() {
         LOGGER.info("Starting {} with configuration: \n{}", this.getClass().getName(), configuration.toString());
 
+        measurementWindow.start();
+
+        if (intervalReporter != null) {
+            intervalReporter.start();
+        }
+
         if (configuration.getDelay() == 0) {
-            sendMessages();
+            if (loadProfileScheduler != null) {
+                LOGGER.info("Following the load profile: {}", loadProfileScheduler.getLoadProfile());
+                loadProfileScheduler.start();
+            }
+
+            // in time-based runs, the MESSAGE_COUNT records are sent repeatedly until the run duration elapses
+            do {
+                sendMessages();
+            } while (measurementWindow.isTimeBased() && !measurementWindow.isFinished());
+
+            if (loadProfileScheduler != null) {
+                loadProfileScheduler.close();
+            }
         } else {
             scheduledExecutor.scheduleAtFixedRate(this::checkAndSendMessages, ConfigurationConstants.DEFAULT_DELAY_MS, configuration.getDelay(), TimeUnit.MILLISECONDS);
             awaitCompletion();
         }
 
+        if (intervalReporter != null) {
+            intervalReporter.close();
+        }
+
         checkFinalState();
     }
 
@@ -87,7 +155,17 @@ public class HttpProducerClient implements ClientsInterface {
 
     @Override
     public void checkFinalState() {
-        if (messageSuccessfullySent == configuration.getMessageCount()) {
+        if (warmupMessages > 0) {
+            LOGGER.info("{} messages were sent during the warmup and are not included in the performance report", warmupMessages);
+        }
+
+        PerformanceReport report = PerformanceReport.of(measuredMessages, measuredBytes, measurementWindow.getMeasurementDurationNs(), requestLatency.getHistogram());
+        LOGGER.info("Send performance (latency of the HTTP requests): {}", report.toPlainString());
+        LOGGER.info("Send performance JSON: {}", report.toJsonString());
+
+        if (measurementWindow.isTimeBased()) {
+            LOGGER.info("Run duration elapsed, {} messages successfully sent", messageSuccessfullySent);
+        } else if (messageSuccessfullySent == configuration.getMessageCount()) {
             LOGGER.info("All messages successfully sent");
         } else {
             LOGGER.error("Unable to correctly send all messages");
@@ -100,7 +178,7 @@ public class HttpProducerClient implements ClientsInterface {
     }
 
     public void checkAndSendMessages() {
-        if (messageIndex == configuration.getMessageCount()) {
+        if (measurementWindow.isTimeBased() ? measurementWindow.isFinished() : messageIndex == configuration.getMessageCount()) {
             LOGGER.info("Shutting down the executor");
             scheduledExecutor.shutdown();
             countDownLatch.countDown();
@@ -117,68 +195,216 @@ public class HttpProducerClient implements ClientsInterface {
     }
 
     public ProducerRecord generateMessage(int numOfMessage) {
-        Object message;
-        if (this.configuration.getMessageTemplate() != null) {
-            message = dataGenerator.generateData();
-        } else {
-            message = configuration.getMessage() + "-" + numOfMessage;
-        }
-
-        if (Objects.equals(this.configuration.getMessageType(), ConfigurationConstants.DEFAULT_MESSAGE_TYPE)) {
-            message = "\"" + message + "\"";
-        }
+        String message = generateRecord(numOfMessage);
+        byte[] encodedMessage = message.getBytes(StandardCharsets.UTF_8);
+        requestBytes = () -> encodedMessage.length;
 
-        String record = "{\"records\":[{\"key\":\"key-" + numOfMessage + "\",\"value\":" + message + "}]}";
+        bodyBuffer.reset();
+        bodyBuffer.writeBytes(RECORDS_START);
+        bodyBuffer.writeBytes(encodedMessage);
+        bodyBuffer.writeBytes(RECORDS_END);
 
         HttpContext context = HttpContext.post(
             configuration.getUri(),
             "application/vnd.kafka." + this.configuration.getMessageType() + ".v2+json",
-            record);
+            bodyBuffer.toBodyPublisher());
+
+        // the logged record is not encoded again
+        String record = "{\"records\":[" + message + "]}";
 
-        messageIndex++;
+        messageIndex = (messageIndex + 1) & Integer.MAX_VALUE;
 
         return new ProducerRecord(record, context);
     }
 
+    /**
+     * Generates request containing all {@code MESSAGE_COUNT} records.
+     *
+     * @return  {@link ProducerRecord} with the request body
+     */
     public ProducerRecord generateMessages() {
-        String record = "{\"records\":[";
+        return generateMessages(0, configuration.getMessageCount());
+    }
 
-        for (int i = 0; i < configuration.getMessageCount(); i++) {
-            Object message;
-            if (this.configuration.getMessageTemplate() != null) {
-                message = dataGenerator.generateData();
-            } else {
-                message = configuration.getMessage() + "-" + i;
+    /**
+     * Generates request containing {@code count} records, starting with the record {@code firstMessage}. With
+     * {@code BATCH_SIZE}, the size of the requests is bounded, so the body is written to the reused body buffer and
+     * it is built without allocating a buffer for every request. The requests are sent synchronously, so the body is
+     * not changed before its request is sent. Without {@code BATCH_SIZE}, the body of the request with all
+     * {@code MESSAGE_COUNT} records is streamed - every record is generated just before it is written to the request,
+     * so the whole body is never kept in the memory.
+     *
+     * @param firstMessage  index of the first record of the request
+     * @param count         number of the records of the request
+     *
+     * @return  {@link ProducerRecord} with the request body
+     */
+    public ProducerRecord generateMessages(int firstMessage, int count) {
+        HttpRequest.BodyPublisher body = configuration.getBatchSize() > 0 ? bufferedBody(firstMessage, count) : streamedBody(firstMessage, count);
+
+        HttpContext context = HttpContext.post(
+            configuration.getUri(),
+            "application/vnd.kafka." + this.configuration.getMessageType() + ".v2+json",
+            body);
+
+        messageIndex = firstMessage + count - 1;
+        return new ProducerRecord(count + " records", context);
+    }
+
+    private HttpRequest.BodyPublisher bufferedBody(int firstMessage, int count) {
+        long bytes = 0;
+
+        bodyBuffer.reset();
+        bodyBuffer.writeBytes(RECORDS_START);
+
+        for (int i = firstMessage; i < firstMessage + count; i++) {
+            if (i > firstMessage) {
+                bodyBuffer.writeBytes(RECORD_SEPARATOR);
             }
 
-            if (Objects.equals(this.configuration.getMessageType(), ConfigurationConstants.DEFAULT_MESSAGE_TYPE)) {
-                message = "\"" + message + "\"";
+            byte[] record = encodeRecord(i);
+            bodyBuffer.writeBytes(record);
+            bytes += record.length;
+        }
+
+        bodyBuffer.writeBytes(RECORDS_END);
+
+        long recordBytes = bytes;
+        requestBytes = () -> recordBytes;
+
+        return bodyBuffer.toBodyPublisher();
+    }
+
+    /**
+     * Creates the streamed body of the request. The body is generated again for every subscription (for example
+     * when the request is retried), so the size of the records is counted from zero for every generated body.
+     *
+     * @param firstMessage  index of the first record of the request
+     * @param count         number of the records of the request
+     *
+     * @return  streamed body of the request
+     */
+    private HttpRequest.BodyPublisher streamedBody(int firstMessage, int count) {
+        LongAdder streamedBytes = new LongAdder();
+        requestBytes = streamedBytes::sum;
+
+        return HttpRequest.BodyPublishers.ofInputStream(() -> {
+            streamedBytes.reset();
+            return recordsInputStream(firstMessage, count, streamedBytes);
+        });
+    }
+
+    /**
+     * Creates {@link InputStream} of the request body - {@code {"records":[...]}}, which generates the records lazily
+     * while it is being read.
+     *
+     * @param firstMessage  index of the first record of the request
+     * @param count         number of the records of the request
+     * @param recordBytes   counter of the size of the generated records
+     *
+     * @return  {@link InputStream} of the request body
+     */
+    private InputStream recordsInputStream(int firstMessage, int count, LongAdder recordBytes) {
+        Stream<byte[]> records = IntStream.range(firstMessage, firstMessage + count).boxed()
+            .flatMap(i -> {
+                byte[] record = encodeRecord(i);
+                recordBytes.add(record.length);
+
+                return i == firstMessage ? Stream.of(record) : Stream.of(RECORD_SEPARATOR, record);
+            });
+
+        Iterator<InputStream> bodyParts = Stream.concat(Stream.concat(Stream.of(RECORDS_START), records), Stream.of(RECORDS_END))
+            .map(part -> (InputStream) new ByteArrayInputStream(part))
+            .iterator();
+
+        return new SequenceInputStream(new Enumeration<>() {
+            @Override
+            public boolean hasMoreElements() {
+                return bodyParts.hasNext();
             }
 
-            record += "{\"key\":\"key-" + i + "\",\"value\":" + message + "}";
-            if (i != configuration.getMessageCount() - 1) {
-                record += ",";
+            @Override
+            public InputStream nextElement() {
+                return bodyParts.next();
             }
-        }
+        });
+    }
 
-        record += "]}";
+    /**
+     * Generates one record of the request.
+     *
+     * @param numOfMessage  index of the message
+     *
+     * @return  UTF-8 encoded JSON representation of the record
+     */
+    private byte[] encodeRecord(int numOfMessage) {
+        return generateRecord(numOfMessage).getBytes(StandardCharsets.UTF_8);
+    }
 
-        HttpContext context = HttpContext.post(
-            configuration.getUri(),
-            "application/vnd.kafka." + this.configuration.getMessageType() + ".v2+json",
-            record);
+    /**
+     * Generates one record of the request in format {@code {"key":"key-<numOfMessage>","value":<message>}}.
+     *
+     * @param numOfMessage  index of the message
+     *
+     * @return  JSON representation of the record
+     */
+    private String generateRecord(int numOfMessage) {
+        Object message;
+        if (this.configuration.getMessageTemplate() != null) {
+            message = dataGenerator.generateData();
+        } else {
+            message = configuration.getMessage() + "-" + numOfMessage;
+        }
 
-        messageIndex = configuration.getMessageCount() - 1;
-        return new ProducerRecord(record, context);
+        if (Objects.equals(this.configuration.getMessageType(), ConfigurationConstants.DEFAULT_MESSAGE_TYPE)) {
+            message = "\"" + message + "\"";
+        }
+
+        return "{\"key\":\"key-" + numOfMessage + "\",\"value\":" + message + "}";
     }
 
+    /**
+     * Sends the next message, or all {@code MESSAGE_COUNT} records in requests with at most {@code BATCH_SIZE} records
+     * in case that there is no delay between the messages.
+     */
     public void sendMessages() {
-        ProducerRecord producerRecord = configuration.getDelay() == 0 ? generateMessages() : generateMessage(messageIndex);
+        if (configuration.getDelay() > 0) {
+            sendRequest(generateMessage(messageIndex), 1);
+            return;
+        }
+
+        int messageCount = configuration.getMessageCount();
+        int batchSize = configuration.getBatchSize() > 0 ? configuration.getBatchSize() : messageCount;
+
+        for (int firstMessage = 0; firstMessage < messageCount; firstMessage += batchSize) {
+            if (measurementWindow.isTimeBased() && measurementWindow.isFinished()) {
+                break;
+            }
+
+            int count = Math.min(batchSize, messageCount - firstMessage);
 
+            sendRequest(generateMessages(firstMessage, count), count);
+        }
+    }
+
+    private void sendRequest(ProducerRecord producerRecord, int records) {
         try {
-            LOGGER.info("Sending message(s): {}", producerRecord.message());
+            if (configuration.getOutputMode().shouldLog(messageSuccessfullySent)) {
+                LOGGER.info("Sending message(s): {}", producerRecord.message());
+            }
+
+            // paced requests are measured from their intended send time, so the time the sender was stalled is included
+            long requestStartNs = loadProfileScheduler == null
+                ? System.nanoTime()
+                : Math.min(loadProfileScheduler.getTokenBucket().acquire(records), System.nanoTime());
+
+            if (loadProfileScheduler != null && loadProfileScheduler.getTokenBucket().isExpired()) {
+                // the load profile ended while waiting for the tokens
+                return;
+            }
 
             HttpResponse httpResponse = httpHandle.finish(client.send(httpHandle.build(producerRecord.context()), HttpResponse.BodyHandlers.ofString()));
+            long requestEndNs = System.nanoTime();
 
             if (httpResponse.statusCode() != HttpResponseStatus.OK.code()) {
                 LOGGER.error("Error while sending message {} : {}", producerRecord.message(), httpResponse.body());
@@ -188,12 +414,33 @@ public class HttpProducerClient implements ClientsInterface {
             }
 
             OffsetRecordSent[] offsetRecordSent = OffsetRecordSentUtils.parseOffsetRecordsSent(httpResponse.body().toString());
-            OffsetRecordSentUtils.logOffsetRecordsSent(offsetRecordSent);
+            OffsetRecordSentUtils.logOffsetRecordsSent(offsetRecordSent, configuration.getOutputMode(), messageSuccessfullySent);
             messageSuccessfullySent += offsetRecordSent.length;
+
+            if (measurementWindow.isWarmup(requestStartNs)) {
+                warmupMessages += offsetRecordSent.length;
+            } else {
+                requestLatency.record(requestEndNs - requestStartNs);
+                measuredMessages += offsetRecordSent.length;
+                measuredBytes += requestBytes.getAsLong();
+            }
         } catch (Exception e) {
             LOGGER.error("Caught exception during message send");
             e.printStackTrace();
             throw new RuntimeException("Failed to send message due to: " + e.getMessage());
         }
     }
+
+    /**
+     * {@link ByteArrayOutputStream} which publishes its content as the request body without copying it.
+     */
+    private static class RequestBodyBuffer extends ByteArrayOutputStream {
+        RequestBodyBuffer(int size) {
+            super(size);
+        }
+
+        HttpRequest.BodyPublisher toBodyPublisher() {
+            return HttpRequest.BodyPublishers.ofByteArray(buf, 0, count);
+        }
+    }
 }
@@ -5,32 +5,76 @@
 package io.strimzi.testclients.kafka;
 
 import io.strimzi.testclients.common.ClientsInterface;
+import io.strimzi.testclients.common.bounds.PartitionBounds;
+import io.strimzi.testclients.common.commit.CommitStats;
+import io.strimzi.testclients.common.commit.OffsetCommitter;
+import io.strimzi.testclients.common.metrics.EndToEndStamp;
+import io.strimzi.testclients.common.metrics.IntervalReporter;
+import io.strimzi.testclients.common.metrics.LatencyStats;
+import io.strimzi.testclients.common.metrics.MeasurementWindow;
+import io.strimzi.testclients.common.metrics.PerformanceReport;
+import io.strimzi.testclients.common.processing.ParallelProcessor;
 import io.strimzi.testclients.common.properties.KafkaProperties;
+import io.strimzi.testclients.common.rebalance.RebalanceStats;
+import io.strimzi.testclients.common.rebalance.RebalanceTracker;
+import io.strimzi.testclients.common.sink.FileSink;
+import io.strimzi.testclients.common.verification.DeliveryVerifier;
 import io.strimzi.testclients.configuration.ConfigurationConstants;
 import io.strimzi.testclients.configuration.kafka.KafkaConsumerConfiguration;
 import io.strimzi.testclients.common.records.consumer.kafka.KafkaConsumerRecord;
 import io.strimzi.testclients.tracing.TracingUtil;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.header.Header;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 public class KafkaConsumerClient implements ClientsInterface {
     private static final Logger LOGGER = LogManager.getLogger(KafkaConsumerClient.class);
     private final KafkaConsumerConfiguration configuration;
-    private final KafkaConsumer consumer;
-    private int consumedMessages;
-    private final ScheduledExecutorService scheduledExecutor;
+    private final List<ConsumerWorker> workers;
+    // messages received (and committed) by all workers
+    private final AtomicLong consumedMessages;
+    private final MeasurementWindow measurementWindow;
+    private final LongAdder warmupMessages;
+    private final LongAdder measuredMessages;
+    private final LongAdder measuredBytes;
+    // end-to-end latency of the records stamped by the producer with E2E_LATENCY enabled
+    private final LatencyStats endToEndLatency;
+    private final CommitStats commitStats;
+    // rebalance events and pauses of all workers
+    private final RebalanceStats rebalanceStats;
+    // number of times the partitions were paused because the processing queue was full
+    private final LongAdder backpressurePauses;
+    // tracks the sequences of the stamped records in case that VERIFY_DELIVERY is enabled, null otherwise
+    private final DeliveryVerifier deliveryVerifier;
+    // partitions which did not reach their end bound yet, in case that END_OFFSET or END_TIMESTAMP is configured
+    private final AtomicInteger unfinishedPartitions;
+    // receives the records instead of the log in case that SINK is configured, null otherwise
+    private final FileSink sink;
+    // logs the throughput periodically in case that the OUTPUT_MODE is summary, null otherwise
+    private final IntervalReporter intervalReporter;
+    private volatile boolean shutdown;
     private final CountDownLatch countDownLatch;
 
     public KafkaConsumerClient(Map<String, String> configuration) {
@@ -38,43 +82,190 @@ public class KafkaConsumerClient implements ClientsInterface {
         Properties properties = KafkaProperties.consumerProperties(this.configuration);
         TracingUtil.getTracing().addTracingPropsToConsumerConfig(properties);
 
-        this.consumer = new KafkaConsumer(properties);
-        this.consumedMessages = 0;
-        this.scheduledExecutor = Executors.newScheduledThreadPool(1, r -> new Thread(r, "kafka-consumer"));
-        this.countDownLatch  = new CountDownLatch(1);
+        this.consumedMessages = new AtomicLong(0);
+        this.measurementWindow = new MeasurementWindow(this.configuration.getWarmupDurationMs(), this.configuration.getRunDurationMs());
+        this.warmupMessages = new LongAdder();
+        this.measuredMessages = new LongAdder();
+        this.measuredBytes = new LongAdder();
+        this.endToEndLatency = new LatencyStats();
+        this.commitStats = new CommitStats();
+        this.rebalanceStats = new RebalanceStats();
+        this.backpressurePauses = new LongAdder();
+        this.deliveryVerifier = this.configuration.isVerifyDelivery() ? new DeliveryVerifier() : null;
+        this.unfinishedPartitions = new AtomicInteger(0);
+        this.sink = this.configuration.getSinkPath() == null ? null : new FileSink(Path.of(this.configuration.getSinkPath()),
+            this.configuration.getSinkFormat(), this.configuration.getSinkRotateBytes(), this.configuration.getSinkFsyncPolicy(), FileSink.DEFAULT_BUFFER_SIZE);
+        this.intervalReporter = this.configuration.getOutputMode().isSummary() ? new IntervalReporter("Received", measuredMessages::sum, measuredBytes::sum, endToEndLatency) : null;
+        this.workers = createWorkers(properties);
+        this.countDownLatch  = new CountDownLatch(workers.size());
+    }
+
+    /**
+     * Creates one {@link ConsumerWorker} per consumer thread. All workers use the same {@code GROUP_ID}. In case that
+     * there are more of them, the {@code client.id} and {@code group.instance.id} (if configured) are suffixed
+     * with the index of the worker, so they are unique.
+     *
+     * @param properties    properties of the Kafka consumer
+     *
+     * @return  list of workers
+     */
+    private List<ConsumerWorker> createWorkers(Properties properties) {
+        List<ConsumerWorker> consumerWorkers = new ArrayList<>();
+        int consumerThreads = configuration.getConsumerThreads();
+
+        for (int i = 0; i < consumerThreads; i++) {
+            Properties workerProperties = new Properties();
+            workerProperties.putAll(properties);
+
+            if (consumerThreads > 1) {
+                for (String uniqueConfig : List.of(ConsumerConfig.CLIENT_ID_CONFIG, ConsumerConfig.GROUP_INSTANCE_ID_CONFIG)) {
+                    if (workerProperties.get(uniqueConfig) != null) {
+                        workerProperties.put(uniqueConfig, workerProperties.get(uniqueConfig) + "-" + i);
+                    }
+                }
+            }
+
+            String threadName = consumerThreads > 1 ? "kafka-consumer-" + i : "kafka-consumer";
+            consumerWorkers.add(new ConsumerWorker(new KafkaConsumer<>(workerProperties), threadName));
+        }
+
+        return consumerWorkers;
     }
 
     @Override
     public void run() {
         LOGGER.info("Starting {} with configuration: \n{}", this.getClass().getName(), configuration);
 
-        consumer.subscribe(Collections.singletonList(configuration.getTopicName()));
+        if (configuration.isBounded()) {
+            assignPartitions();
+        } else {
+            workers.forEach(ConsumerWorker::subscribe);
+        }
+
+        measurementWindow.start();
+
+        if (intervalReporter != null) {
+            intervalReporter.start();
+        }
 
-        long delayMs = configuration.getDelayMs() == 0 ? ConfigurationConstants.DEFAULT_POLL_INTERVAL : configuration.getDelayMs();
-        scheduledExecutor.scheduleWithFixedDelay(this::checkAndReceiveMessages, 0, delayMs, TimeUnit.MILLISECONDS);
+        // closes the consumers (and leaves the group) when the client is terminated before it finishes
+        Thread shutdownHook = new Thread(this::shutdown, "kafka-consumer-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
 
+        workers.forEach(worker -> worker.pollThread.start());
         awaitCompletion();
+
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // the JVM is already shutting down
+        }
+
+        if (intervalReporter != null) {
+            intervalReporter.close();
+        }
+
+        closeSink();
         checkFinalState();
     }
 
+    /**
+     * Assigns all partitions of the topic to the workers (round-robin), so every partition can be read
+     * from its start bound to its end bound without joining the consumer group.
+     */
+    private void assignPartitions() {
+        List<TopicPartition> partitions = workers.getFirst().consumer.partitionsFor(configuration.getTopicName()).stream()
+            .map(partitionInfo -> new TopicPartition(partitionInfo.topic(), partitionInfo.partition()))
+            .sorted(Comparator.comparingInt(TopicPartition::partition))
+            .toList();
+
+        if (partitions.isEmpty()) {
+            throw new RuntimeException("Failed to get the partitions of the topic " + configuration.getTopicName());
+        }
+
+        for (int i = 0; i < workers.size(); i++) {
+            List<TopicPartition> workerPartitions = new ArrayList<>();
+
+            for (int j = i; j < partitions.size(); j += workers.size()) {
+                workerPartitions.add(partitions.get(j));
+            }
+
+            workers.get(i).assign(workerPartitions);
+        }
+    }
+
     @Override
     public void awaitCompletion() {
         try {
             countDownLatch.await();
-            scheduledExecutor.awaitTermination(ConfigurationConstants.DEFAULT_TASK_COMPLETION_TIMEOUT, TimeUnit.MILLISECONDS);
         } catch (InterruptedException e) {
             LOGGER.error("Failed to wait for task completion due to: {}", e.getMessage());
             e.printStackTrace();
-        } finally {
-            if (!scheduledExecutor.isShutdown()) {
-                scheduledExecutor.shutdownNow();
-            }
+            shutdown();
+        }
+    }
+
+    /**
+     * Stops the poll loops - the blocked polls are interrupted by {@link KafkaConsumer#wakeup()}, so the consumers
+     * are closed without waiting for the {@code POLL_TIMEOUT}. Waits until the consumers are closed.
+     */
+    public void shutdown() {
+        if (countDownLatch.getCount() == 0) {
+            return;
+        }
+
+        LOGGER.info("Shutting down the consumers");
+        shutdown = true;
+        workers.forEach(worker -> worker.consumer.wakeup());
+
+        try {
+            countDownLatch.await(ConfigurationConstants.DEFAULT_TASK_COMPLETION_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        closeSink();
+    }
+
+    /**
+     * Writes the records remaining in the buffer of the sink to its file and closes it.
+     */
+    private void closeSink() {
+        if (sink != null) {
+            sink.close();
         }
     }
 
     @Override
     public void checkFinalState() {
-        if (consumedMessages >= configuration.getMessageCount()) {
+        if (warmupMessages.sum() > 0) {
+            LOGGER.info("{} messages were received during the warmup and are not included in the performance report", warmupMessages.sum());
+        }
+
+        PerformanceReport report = PerformanceReport.of(measuredMessages.sum(), measuredBytes.sum(), measurementWindow.getMeasurementDurationNs(), endToEndLatency.getHistogram());
+        LOGGER.info("Receive performance (end-to-end latency of the stamped records): {}", report.toPlainString());
+        LOGGER.info("Receive performance JSON: {}", report.toJsonString());
+        LOGGER.info("Offset commits ({}): {}", configuration.getCommitStrategy(), commitStats.toSummaryString());
+        LOGGER.info("Rebalances of {} consumer(s) ({} scenario): {}", workers.size(), configuration.getRebalanceScenario(), rebalanceStats.toSummaryString());
+
+        if (sink != null) {
+            LOGGER.info("Sink file:{}: {}", configuration.getSinkPath(), sink.toSummaryString());
+        }
+
+        if (configuration.getProcessingThreads() > 0) {
+            LOGGER.info("Parallel processing ({} threads per consumer, {} order): partitions paused {} times by the backpressure",
+                configuration.getProcessingThreads(), configuration.getProcessingOrder(), backpressurePauses.sum());
+        }
+
+        if (deliveryVerifier != null) {
+            checkDelivery();
+        }
+
+        if (configuration.hasEndBound()) {
+            checkEndBounds();
+        } else if (measurementWindow.isTimeBased()) {
+            LOGGER.info("Run duration elapsed, {} messages received", consumedMessages.get());
+        } else if (consumedMessages.get() >= configuration.getMessageCount()) {
             LOGGER.info("All messages successfully received");
         } else {
             LOGGER.error("Unable to correctly receive all messages");
@@ -82,39 +273,416 @@ public class KafkaConsumerClient implements ClientsInterface {
         }
     }
 
-    private void checkAndReceiveMessages() {
-        if (consumedMessages >= configuration.getMessageCount()) {
-            LOGGER.info("Shutting down the executor");
-            scheduledExecutor.shutdown();
-            countDownLatch.countDown();
+    private void checkEndBounds() {
+        if (unfinishedPartitions.get() == 0) {
+            LOGGER.info("All partitions were read up to their end bound, {} messages received", consumedMessages.get());
+        } else if (measurementWindow.isTimeBased()) {
+            LOGGER.info("Run duration elapsed, {} messages received, {} partitions did not reach their end bound", consumedMessages.get(), unfinishedPartitions.get());
         } else {
+            LOGGER.error("Unable to read all partitions up to their end bound, {} partitions did not reach it", unfinishedPartitions.get());
+            throw new RuntimeException("Failed to read all partitions up to their end bound");
+        }
+    }
+
+    /**
+     * Reports the verified delivery of the stamped records. Fails in case that any record is missing, or - when
+     * {@code RUN_DURATION} is not configured - in case that fewer than {@code MESSAGE_COUNT} distinct records were received,
+     * so the duplicates cannot hide the lost records. The duplicates and out-of-order records are only reported,
+     * as they are expected with the at-least-once delivery (for example after a rebalance).
+     */
+    private void checkDelivery() {
+        LOGGER.info("Delivery verification: {}", deliveryVerifier.toSummaryString());
+
+        if (!deliveryVerifier.isComplete()) {
+            LOGGER.error("{} stamped messages are missing", deliveryVerifier.getMissing());
+            throw new RuntimeException("Failed to receive all messages, " + deliveryVerifier.getMissing() + " messages are missing");
+        } else if (!measurementWindow.isTimeBased() && deliveryVerifier.getReceived() < configuration.getMessageCount()) {
+            LOGGER.error("Only {} distinct stamped messages were received", deliveryVerifier.getReceived());
+            throw new RuntimeException("Failed to receive all messages, only " + deliveryVerifier.getReceived() + " distinct messages were received");
+        }
+    }
+
+    /**
+     * Method for checking whether the consumers received all messages, or - in case that {@code RUN_DURATION} is configured -
+     * whether the run duration elapsed. With {@code END_OFFSET} or {@code END_TIMESTAMP}, the consumers stop once all
+     * partitions reached their end bound (or the run duration elapsed) and the {@code MESSAGE_COUNT} is ignored.
+     *
+     * @return  true if the consumers should stop
+     */
+    private boolean isFinished() {
+        if (configuration.hasEndBound()) {
+            return unfinishedPartitions.get() == 0 || measurementWindow.isTimeBased() && measurementWindow.isFinished();
+        }
+
+        return measurementWindow.isTimeBased() ? measurementWindow.isFinished() : consumedMessages.get() >= configuration.getMessageCount();
+    }
+
+    /**
+     * Decodes the {@link EndToEndStamp} of the record. The stamp is decoded once and used both for the latency and the delivery verification.
+     *
+     * @param consumerRecord    received record
+     *
+     * @return  stamp of the record, or null in case that the record was not stamped by the producer
+     */
+    private static EndToEndStamp readStamp(ConsumerRecord<Object, Object> consumerRecord) {
+        Header header = consumerRecord.headers().lastHeader(EndToEndStamp.HEADER);
+        return header == null ? null : EndToEndStamp.fromBytes(header.value());
+    }
+
+    /**
+     * Records the end-to-end latency in case that the record was stamped by the producer.
+     *
+     * @param stamp     stamp of the received record, or null in case that it was not stamped
+     */
+    private void recordEndToEndLatency(EndToEndStamp stamp) {
+        if (stamp != null) {
+            endToEndLatency.record(EndToEndStamp.nowEpochNs() - stamp.timestampNs());
+        }
+    }
+
+    /**
+     * Tracks the sequence of the record in case that it was stamped by the producer, otherwise counts it as unstamped.
+     *
+     * @param consumerRecord    received record
+     * @param stamp             stamp of the record, or null in case that it was not stamped
+     */
+    private void verifyDelivery(ConsumerRecord<Object, Object> consumerRecord, EndToEndStamp stamp) {
+        deliveryVerifier.record(consumerRecord.topic(), consumerRecord.partition(), stamp);
+    }
+
+    /**
+     * Writes the record to the {@code SINK}, or logs it (according to the {@code OUTPUT_MODE}) in case that no sink
+     * is configured, and spends the configured processing time on it.
+     *
+     * @param consumerRecord    received record
+     * @param index             index of the record, used for the sampling of the logged records
+     */
+    private void processRecord(ConsumerRecord<Object, Object> consumerRecord, long index) {
+        if (sink != null) {
+            sink.write(consumerRecord);
+        } else if (configuration.getOutputMode().shouldLog(index)) {
+            // the record is parsed and formatted only in case that it is logged
+            KafkaConsumerRecord kafkaConsumerRecord = KafkaConsumerRecord.parseKafkaConsumerRecord(consumerRecord);
+            String log = kafkaConsumerRecord.logMessage(configuration.getOutputFormat());
+            LOGGER.info("Received message: {}", log);
+        }
+
+        configuration.getProcessingCost().apply();
+    }
+
+    private static long getSerializedSize(ConsumerRecord<Object, Object> consumerRecord) {
+        return Math.max(0, consumerRecord.serializedKeySize()) + Math.max(0, consumerRecord.serializedValueSize());
+    }
+
+    /**
+     * Receives the messages using one {@link KafkaConsumer} on its own poll thread. Every worker commits its own offsets,
+     * the counters of received messages, the latencies and the rebalance events are shared by all workers.
+     * In case that {@code PROCESSING_THREADS} is configured, the records are processed by the worker's
+     * {@link ParallelProcessor} and only the contiguously completed offsets are committed.
+     * In case that the consumption is bounded, the worker is assigned its partitions directly, reads them between
+     * their {@link PartitionBounds} and commits no offsets.
+     */
+    private class ConsumerWorker implements ConsumerRebalanceListener {
+        private final KafkaConsumer<Object, Object> consumer;
+        // commits the offsets of the subscribed consumer, null in case that the consumption is bounded
+        private final OffsetCommitter offsetCommitter;
+        private final RebalanceTracker rebalanceTracker;
+        // processes the records in parallel in case that PROCESSING_THREADS is configured, null otherwise
+        private final ParallelProcessor processor;
+        // polls the records in a loop until the consumer is finished or shut down
+        private final Thread pollThread;
+        private long submittedRecords = 0;
+        // records completed by the parallel processing, which are counted as received once their offsets are committed
+        private long uncountedRecords = 0;
+        // bounds of the assigned partitions in case that the consumption is bounded, null otherwise
+        private PartitionBounds bounds;
+
+        ConsumerWorker(KafkaConsumer<Object, Object> consumer, String threadName) {
+            this.consumer = consumer;
+            this.processor = configuration.getProcessingThreads() > 0
+                ? new ParallelProcessor(configuration.getProcessingThreads(), configuration.getProcessingOrder(), threadName + "-processing") : null;
+            this.offsetCommitter = configuration.isBounded() ? null : new OffsetCommitter(consumer, configuration.getCommitStrategy(),
+                configuration.getCommitRecords(), configuration.getCommitIntervalMs(), processor != null, commitStats);
+            this.pollThread = new Thread(this::pollLoop, threadName);
+            this.rebalanceTracker = new RebalanceTracker(threadName, rebalanceStats);
+        }
+
+        void subscribe() {
+            consumer.subscribe(Collections.singletonList(configuration.getTopicName()), this);
+        }
+
+        void assign(List<TopicPartition> partitions) {
+            bounds = PartitionBounds.resolve(consumer, partitions, configuration.getStartOffset(), configuration.getStartTimestamp(),
+                configuration.getEndOffset(), configuration.getEndTimestamp());
+            bounds.assignAndSeek(consumer);
+            unfinishedPartitions.addAndGet(bounds.getUnfinished().size());
+
+            LOGGER.info("Partitions assigned to {} with start offsets {} and end offsets {}", pollThread.getName(), bounds.getStartOffsets(), bounds.getEndOffsets());
+        }
+
+        /**
+         * @return  true if the worker is bounded and all its partitions reached their end bound
+         */
+        private boolean isDone() {
+            return bounds != null && bounds.isFinished();
+        }
+
+        /**
+         * @return  true if the records of the poll can be counted as received - the offsets were committed, or they are not committed at all
+         */
+        private boolean commit() {
+            return offsetCommitter == null || offsetCommitter.commit();
+        }
+
+        @Override
+        public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+            if (!partitions.isEmpty()) {
+                LOGGER.info("Partitions revoked from {}: {}", pollThread.getName(), partitions);
+            }
+
+            rebalanceTracker.onPartitionsRevoked(partitions);
+
+            if (processor != null) {
+                // the records of the revoked partitions have to be processed before their offsets are committed
+                awaitProcessing();
+                uncountedRecords += collectCompleted();
+                // the records completed after a record which is still processed cannot be committed, but they were received
+                uncountedRecords += processor.removePartitions(partitions);
+                consumedMessages.addAndGet(uncountedRecords);
+                uncountedRecords = 0;
+            }
+
+            offsetCommitter.onPartitionsRevoked(partitions);
+        }
+
+        @Override
+        public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+            if (!partitions.isEmpty()) {
+                LOGGER.info("Partitions assigned to {}: {}", pollThread.getName(), partitions);
+            }
+
+            rebalanceTracker.onPartitionsAssigned(partitions);
+        }
+
+        @Override
+        public void onPartitionsLost(Collection<TopicPartition> partitions) {
+            LOGGER.warn("Partitions lost by {}: {}", pollThread.getName(), partitions);
+            rebalanceTracker.onPartitionsLost(partitions);
+
+            if (processor != null) {
+                awaitProcessing();
+                collectCompleted();
+                processor.removePartitions(partitions);
+            }
+
+            offsetCommitter.onPartitionsLost(partitions);
+        }
+
+        /**
+         * Polls the records until the consumers received all messages (or the run duration elapsed), or until they are shut down.
+         * The polls follow each other without any delay, unless {@code DELAY_MS} is configured.
+         */
+        private void pollLoop() {
             try {
-                this.consumeMessages();
+                while (!shutdown && !isFinished() && !isDone()) {
+                    this.consumeMessages();
+
+                    if (configuration.getDelayMs() > 0) {
+                        Thread.sleep(configuration.getDelayMs());
+                    }
+                }
+            } catch (WakeupException e) {
+                if (!shutdown) {
+                    LOGGER.error("Consumer was unexpectedly woken up");
+                }
             } catch (Exception e) {
                 LOGGER.error("Caught exception: {}", e.getMessage());
                 e.printStackTrace();
-                scheduledExecutor.shutdown();
+            } finally {
+                if (processor != null) {
+                    awaitProcessing();
+                    consumedMessages.addAndGet(uncountedRecords + collectCompleted());
+                    uncountedRecords = 0;
+                    processor.close();
+                }
+
+                commitFinal();
+                LOGGER.info("Closing the consumer");
+                consumer.close();
                 countDownLatch.countDown();
             }
         }
-    }
 
-    public void consumeMessages() {
-        ConsumerRecords<Object, Object> records = consumer.poll(Duration.ofMillis(Long.MAX_VALUE));
-        int recordProcessed = 0;
+        private void commitFinal() {
+            if (offsetCommitter == null) {
+                return;
+            }
 
-        for (ConsumerRecord<Object, Object> consumerRecord : records) {
-            KafkaConsumerRecord kafkaConsumerRecord = KafkaConsumerRecord.parseKafkaConsumerRecord(consumerRecord);
-            String log = kafkaConsumerRecord.logMessage(configuration.getOutputFormat());
-            LOGGER.info("Received message: {}", log);
-            recordProcessed++;
+            try {
+                offsetCommitter.commitFinal();
+            } catch (WakeupException e) {
+                // the consumer was woken up by the shutdown, the final commit is retried once
+                offsetCommitter.commitFinal();
+            }
         }
 
-        try {
-            consumer.commitSync();
-            consumedMessages += recordProcessed;
-        } catch (Exception ex) {
-            LOGGER.warn("Failed to commit the offset: {}", ex.getMessage());
+        private void awaitProcessing() {
+            if (!processor.awaitIdle(ConfigurationConstants.DEFAULT_TASK_COMPLETION_TIMEOUT)) {
+                LOGGER.warn("Processing of the records did not finish in time, {} records are still in progress", processor.getInFlight());
+            }
+        }
+
+        /**
+         * Marks the contiguously completed offsets of the parallel processing for the commit.
+         *
+         * @return  number of the records covered by the completed offsets
+         */
+        private long collectCompleted() {
+            long records = 0;
+
+            for (ParallelProcessor.CompletedOffsets completedOffsets : processor.collectCompleted()) {
+                if (offsetCommitter != null) {
+                    offsetCommitter.offsetsCompleted(completedOffsets.partition(), completedOffsets.nextOffset(), completedOffsets.records());
+                }
+
+                records += completedOffsets.records();
+            }
+
+            return records;
+        }
+
+        /**
+         * Pauses all assigned partitions once the processing queue is full and resumes them once it is half-empty,
+         * so the consumer keeps polling (and stays in the group) without fetching more records.
+         */
+        private void applyBackpressure() {
+            int inFlight = processor.getInFlight();
+
+            if (inFlight >= configuration.getProcessingQueueSize()) {
+                if (consumer.paused().size() < consumer.assignment().size()) {
+                    consumer.pause(consumer.assignment());
+                    backpressurePauses.increment();
+                }
+            } else if (inFlight <= configuration.getProcessingQueueSize() / 2 && !consumer.paused().isEmpty()) {
+                consumer.resume(consumer.paused());
+            }
+        }
+
+        void consumeMessages() {
+            // time-based runs must not wait for messages after the run duration elapsed
+            long pollTimeoutNs = Math.min(TimeUnit.MILLISECONDS.toNanos(configuration.getPollTimeout()), measurementWindow.getRemainingNs());
+            // the rebalance listener is called from the poll
+            rebalanceTracker.pollStarted();
+            ConsumerRecords<Object, Object> records = consumer.poll(Duration.ofNanos(pollTimeoutNs));
+            rebalanceTracker.pollFinished();
+
+            if (processor != null) {
+                consumeMessagesInParallel(records);
+            } else {
+                consumeMessagesInline(records);
+            }
+
+            if (bounds != null) {
+                for (TopicPartition partition : bounds.updateFinished(consumer)) {
+                    LOGGER.info("Partition {} reached its end offset {}", partition, bounds.getEndOffsets().get(partition));
+                    unfinishedPartitions.decrementAndGet();
+                }
+            }
+        }
+
+        private void consumeMessagesInline(ConsumerRecords<Object, Object> records) {
+            boolean warmup = measurementWindow.isWarmup();
+            long firstIndex = consumedMessages.get();
+            int recordProcessed = 0;
+            long recordBytes = 0;
+
+            for (TopicPartition partition : records.partitions()) {
+                int partitionRecords = 0;
+                long nextOffset = -1;
+
+                for (ConsumerRecord<Object, Object> consumerRecord : records.records(partition)) {
+                    if (bounds != null && bounds.isAfterEnd(consumerRecord)) {
+                        continue;
+                    }
+
+                    EndToEndStamp stamp = readStamp(consumerRecord);
+
+                    if (deliveryVerifier != null) {
+                        verifyDelivery(consumerRecord, stamp);
+                    }
+
+                    processRecord(consumerRecord, firstIndex + recordProcessed);
+                    recordProcessed++;
+                    partitionRecords++;
+                    nextOffset = consumerRecord.offset() + 1;
+
+                    if (!warmup) {
+                        recordBytes += getSerializedSize(consumerRecord);
+                        recordEndToEndLatency(stamp);
+                    }
+                }
+
+                // the processed offsets are marked once per partition and poll, not for every record
+                if (offsetCommitter != null && partitionRecords > 0) {
+                    offsetCommitter.offsetsCompleted(partition, nextOffset, partitionRecords);
+                }
+            }
+
+            // the shared counters are updated once per poll
+            if (warmup) {
+                warmupMessages.add(recordProcessed);
+            } else {
+                measuredMessages.add(recordProcessed);
+                measuredBytes.add(recordBytes);
+            }
+
+            if (commit()) {
+                consumedMessages.addAndGet(recordProcessed);
+            }
+        }
+
+        /**
+         * Submits the records to the {@link ParallelProcessor}, commits the offsets completed so far and applies
+         * the backpressure. The records are counted as received once they are processed.
+         *
+         * @param records   records returned by the poll
+         */
+        private void consumeMessagesInParallel(ConsumerRecords<Object, Object> records) {
+            for (ConsumerRecord<Object, Object> consumerRecord : records) {
+                if (bounds != null && bounds.isAfterEnd(consumerRecord)) {
+                    continue;
+                }
+
+                long index = submittedRecords++;
+                EndToEndStamp stamp = readStamp(consumerRecord);
+
+                // the delivery is verified in the order of the poll, not of the processing
+                if (deliveryVerifier != null) {
+                    verifyDelivery(consumerRecord, stamp);
+                }
+
+                processor.submit(consumerRecord, () -> {
+                    processRecord(consumerRecord, index);
+
+                    if (measurementWindow.isWarmup()) {
+                        warmupMessages.increment();
+                    } else {
+                        measuredMessages.increment();
+                        measuredBytes.add(getSerializedSize(consumerRecord));
+                        recordEndToEndLatency(stamp);
+                    }
+                });
+            }
+
+            // the completed records stay uncounted until the commit of their offsets succeeds
+            uncountedRecords += collectCompleted();
+
+            if (commit()) {
+                consumedMessages.addAndGet(uncountedRecords);
+                uncountedRecords = 0;
+            }
+
+            applyBackpressure();
         }
     }
 }
@@ -10,6 +10,16 @@ import io.apicurio.registry.serde.protobuf.ProtobufKafkaSerializer;
 import io.skodjob.datagenerator.DataGenerator;
 import io.skodjob.datagenerator.enums.ETemplateType;
 import io.strimzi.testclients.common.ClientsInterface;
+import io.strimzi.testclients.common.RateUnit;
+import io.strimzi.testclients.common.keys.KeyDistribution;
+import io.strimzi.testclients.common.keys.KeySelector;
+import io.strimzi.testclients.common.metrics.EndToEndStamp;
+import io.strimzi.testclients.common.metrics.IntervalReporter;
+import io.strimzi.testclients.common.metrics.LatencyStats;
+import io.strimzi.testclients.common.metrics.MeasurementWindow;
+import io.strimzi.testclients.common.metrics.PerformanceReport;
+import io.strimzi.testclients.common.rate.LoadProfileScheduler;
+import io.strimzi.testclients.common.rate.TokenBucket;
 import io.strimzi.testclients.common.properties.KafkaProperties;
 import io.strimzi.testclients.configuration.ConfigurationConstants;
 import io.strimzi.testclients.configuration.kafka.KafkaProducerConfiguration;
@@ -18,31 +28,67 @@ import io.strimzi.testclients.utils.JsonMessgeUtils;
 import io.strimzi.testclients.utils.ProtobufMessageUtils;
 import io.strimzi.testclients.tracing.TracingUtil;
 import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
 import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.common.utils.Utils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.HdrHistogram.Histogram;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 public class KafkaProducerClient implements ClientsInterface {
 
     private static final Logger LOGGER = LogManager.getLogger(KafkaProducerClient.class);
     private final KafkaProducerConfiguration configuration;
-    private final KafkaProducer<Object, Object> producer;
+    private final List<ProducerWorker> workers;
     private int messageIndex;
-    private int messageSuccessfullySent;
-    private boolean transactionActive = false;
+    private final AtomicInteger messageSuccessfullySent;
+    private final AtomicInteger messageFailedToSend;
+    // paces the messages in case that TARGET_RATE or LOAD_PROFILE is configured, null otherwise
+    private final TokenBucket tokenBucket;
+    // changes the rate of the token bucket in case that LOAD_PROFILE is configured, null otherwise
+    private final LoadProfileScheduler loadProfileScheduler;
+    // key table and selector of the keys in case that KEY_DISTRIBUTION uses multiple keys, null otherwise
+    private final Object[] keyTable;
+    private final KeySelector keySelector;
+    private volatile int partitionCount;
+    // serializes the keys for choosing the partition of the stamped records in case that E2E_LATENCY or VERIFY_DELIVERY is enabled, null otherwise
+    private final Serializer<Object> keySerializer;
+    // values serialized once at the start in case that PRESERIALIZED_PAYLOADS is configured, null otherwise
+    private final List<PreserializedPayload> preserializedPayloads;
+    private final LatencyStats sendLatency;
+    private final LongAdder sentBytes;
+    private final LongAdder warmupMessages;
+    private final MeasurementWindow measurementWindow;
+    // logs the throughput and latency periodically in case that the OUTPUT_MODE is summary, null otherwise
+    private final IntervalReporter intervalReporter;
+    private volatile int lastSerializedRecordSize = 1;
     private final ScheduledExecutorService scheduledExecutor;
     private final CountDownLatch countDownLatch;
     private DataGenerator dataGenerator;
@@ -52,15 +98,158 @@ public class KafkaProducerClient implements ClientsInterface {
         Properties properties = KafkaProperties.producerProperties(this.configuration);
         TracingUtil.getTracing().addTracingPropsToProducerConfig(properties);
 
-        this.producer = new KafkaProducer<>(properties);
-        this.messageIndex = 0;
-        this.messageSuccessfullySent = 0;
-        this.scheduledExecutor = Executors.newScheduledThreadPool(1, r -> new Thread(r, "kafka-producer"));
-        this.countDownLatch  = new CountDownLatch(1);
         // If template is set, generate data based on it
         if (this.configuration.getMessageTemplate() != null) {
             dataGenerator = new DataGenerator(ETemplateType.getFromString(this.configuration.getMessageTemplate()));
         }
+
+        if (this.configuration.getKeyDistribution().usesKeyTable()) {
+            this.keyTable = createKeyTable();
+            this.keySelector = KeySelector.create(this.configuration.getKeyDistribution(), this.configuration.getKeyCount(),
+                this.configuration.getZipfianExponent(), this.configuration.getHotspotTrafficPercent(), this.configuration.getHotspotKeysPercent());
+        } else {
+            this.keyTable = null;
+            this.keySelector = null;
+        }
+
+        this.keySerializer = this.configuration.isStampRecords() ? createKeySerializer(properties) : null;
+
+        if (this.configuration.getPreserializedPayloads() > 0) {
+            this.preserializedPayloads = preserializePayloads(properties);
+            // the payloads are already serialized, so the producer just sends the bytes
+            properties.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class.getName());
+        } else {
+            this.preserializedPayloads = null;
+        }
+
+        this.workers = createWorkers(properties);
+        this.messageIndex = 0;
+        this.messageSuccessfullySent = new AtomicInteger(0);
+        this.messageFailedToSend = new AtomicInteger(0);
+        this.loadProfileScheduler = this.configuration.getLoadProfile() != null ? new LoadProfileScheduler(this.configuration.getLoadProfile()) : null;
+
+        if (this.loadProfileScheduler != null) {
+            this.tokenBucket = this.loadProfileScheduler.getTokenBucket();
+        } else {
+            this.tokenBucket = this.configuration.getTargetRate() > 0 ? new TokenBucket(this.configuration.getTargetRate()) : null;
+        }
+
+        this.sendLatency = new LatencyStats();
+        this.sentBytes = new LongAdder();
+        this.warmupMessages = new LongAdder();
+        // with the LOAD_PROFILE, the run lasts for the whole profile, including the warmup
+        long runDurationMs = this.configuration.getLoadProfile() != null
+            ? this.configuration.getLoadProfile().getDurationMs() - this.configuration.getWarmupDurationMs()
+            : this.configuration.getRunDurationMs();
+        this.measurementWindow = new MeasurementWindow(this.configuration.getWarmupDurationMs(), runDurationMs);
+        this.intervalReporter = this.configuration.getOutputMode().isSummary() ? new IntervalReporter("Sent", sendLatency::getCount, sentBytes::sum, sendLatency) : null;
+        this.scheduledExecutor = Executors.newScheduledThreadPool(1, r -> new Thread(r, "kafka-producer"));
+        this.countDownLatch  = new CountDownLatch(1);
+    }
+
+    /**
+     * Preallocates {@code KEY_COUNT} keys, so the keys are not created for every message. The keys are
+     * {@code <MESSAGE_KEY>-<index>} (or {@code key-<index>} if the {@code MESSAGE_KEY} is not set), as bytes
+     * in case that the key serializer is {@link ByteArraySerializer}.
+     *
+     * @return  key table
+     */
+    private Object[] createKeyTable() {
+        String keyPrefix = configuration.getMessageKey() != null ? configuration.getMessageKey() : "key";
+        boolean bytesKeys = configuration.getKeySerializer().equals(ByteArraySerializer.class.getName());
+
+        return IntStream.range(0, configuration.getKeyCount())
+            .mapToObj(i -> keyPrefix + "-" + i)
+            .map(key -> bytesKeys ? key.getBytes(StandardCharsets.UTF_8) : key)
+            .toArray();
+    }
+
+    /**
+     * Serializes the values of the first {@code PRESERIALIZED_PAYLOADS} messages using the configured value serializer.
+     * The serialized bytes, including the headers added by the serializer (for example the Apicurio Registry
+     * global ID when the IDs are passed in headers), are then reused by all records, so the records on the topic
+     * are identical to the ones written by the serializer itself.
+     *
+     * @param properties    properties of the Kafka producer used for configuring the serializer
+     *
+     * @return  list of the serialized payloads
+     */
+    private List<PreserializedPayload> preserializePayloads(Properties properties) {
+        List<PreserializedPayload> payloads = new ArrayList<>();
+
+        try (Serializer<Object> serializer = Utils.newInstance(configuration.getValueSerializer(), Serializer.class)) {
+            serializer.configure(Utils.propsToMap(properties), false);
+
+            for (int i = 0; i < configuration.getPreserializedPayloads(); i++) {
+                Headers headers = new RecordHeaders(configuration.getHeaders());
+                byte[] value = serializer.serialize(configuration.getTopicName(), headers, generateValue(i));
+                payloads.add(new PreserializedPayload(value, headers.toArray()));
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to serialize the payloads using " + configuration.getValueSerializer(), e);
+        }
+
+        LOGGER.info("Serialized {} payloads, which will be reused by all messages", payloads.size());
+
+        return payloads;
+    }
+
+    /**
+     * Creates instance of the configured key serializer, which is used for choosing the partition of the keyed records
+     * the same way as the default partitioner does.
+     *
+     * @param properties    properties of the Kafka producer used for configuring the serializer
+     *
+     * @return  key serializer
+     */
+    private Serializer<Object> createKeySerializer(Properties properties) {
+        try {
+            Serializer<Object> serializer = Utils.newInstance(configuration.getKeySerializer(), Serializer.class);
+            serializer.configure(Utils.propsToMap(properties), true);
+            return serializer;
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to create the key serializer " + configuration.getKeySerializer(), e);
+        }
+    }
+
+    /**
+     * Creates one {@link ProducerWorker} per producer thread. The workers either share one {@link KafkaProducer},
+     * or each of them gets its own producer - in that case, the {@code client.id} and {@code transactional.id}
+     * (if configured) are suffixed with the index of the worker, so they are unique.
+     *
+     * @param properties    properties of the Kafka producer
+     *
+     * @return  list of workers
+     */
+    private List<ProducerWorker> createWorkers(Properties properties) {
+        List<ProducerWorker> producerWorkers = new ArrayList<>();
+        int producerThreads = configuration.getProducerThreads();
+        KafkaProducer<Object, Object> sharedProducer = configuration.isSharedProducer() || producerThreads == 1 ? new KafkaProducer<>(properties) : null;
+        // every worker stamps the records with its own producer ID, so the sequences are ordered within the partition
+        long producerIdBase = ThreadLocalRandom.current().nextLong(Long.MAX_VALUE - producerThreads);
+
+        if (configuration.isStampRecords()) {
+            LOGGER.info("Stamping the records with producer IDs from {}", producerIdBase);
+        }
+
+        for (int i = 0; i < producerThreads; i++) {
+            if (sharedProducer != null) {
+                producerWorkers.add(new ProducerWorker(sharedProducer, producerIdBase + i));
+            } else {
+                Properties workerProperties = new Properties();
+                workerProperties.putAll(properties);
+
+                for (String uniqueConfig : List.of(ProducerConfig.CLIENT_ID_CONFIG, ProducerConfig.TRANSACTIONAL_ID_CONFIG)) {
+                    if (workerProperties.get(uniqueConfig) != null) {
+                        workerProperties.put(uniqueConfig, workerProperties.get(uniqueConfig) + "-" + i);
+                    }
+                }
+
+                producerWorkers.add(new ProducerWorker(new KafkaProducer<>(workerProperties), producerIdBase + i));
+            }
+        }
+
+        return producerWorkers;
     }
 
     @Override
@@ -69,21 +258,43 @@ public class KafkaProducerClient implements ClientsInterface {
 
         if (configuration.isTransactionalProducer()) {
             LOGGER.info("Using transactional producer. Initializing the transactions.");
-            producer.initTransactions();
+            workers.forEach(worker -> worker.producer.initTransactions());
+        }
+
+        measurementWindow.start();
+
+        if (loadProfileScheduler != null) {
+            LOGGER.info("Following the load profile: {}", loadProfileScheduler.getLoadProfile());
+            loadProfileScheduler.start();
+        }
+
+        if (intervalReporter != null) {
+            intervalReporter.start();
         }
 
         // in case we want to send all messages immediately, we have to schedule just one task
         if (configuration.getDelayMs() == 0) {
-            sendMessages();
+            if (workers.size() == 1) {
+                sendMessages();
+            } else {
+                sendMessagesInParallel();
+            }
         } else {
             scheduledExecutor.scheduleAtFixedRate(this::checkAndSendMessages, ConfigurationConstants.DEFAULT_DELAY_MS, configuration.getDelayMs(), TimeUnit.MILLISECONDS);
             awaitCompletion();
         }
 
+        if (loadProfileScheduler != null) {
+            loadProfileScheduler.close();
+        }
+
+        if (intervalReporter != null) {
+            intervalReporter.close();
+        }
+
         // Ensure any un-committed transaction is committed at the end
-        if (configuration.isTransactionalProducer() && transactionActive) {
-            LOGGER.info("Committing final transaction after loop.");
-            producer.commitTransaction();
+        if (configuration.isTransactionalProducer()) {
+            workers.forEach(ProducerWorker::commitOpenTransaction);
         }
 
         checkFinalState();
@@ -106,16 +317,35 @@ public class KafkaProducerClient implements ClientsInterface {
 
     @Override
     public void checkFinalState() {
-        if (messageSuccessfullySent == configuration.getMessageCount()) {
+        // wait for all records that are still in-flight, so the callbacks update the counters
+        workers.stream().map(worker -> worker.producer).distinct().forEach(KafkaProducer::flush);
+
+        if (warmupMessages.sum() > 0) {
+            LOGGER.info("{} messages were sent during the warmup and are not included in the performance report", warmupMessages.sum());
+        }
+
+        Histogram latencyHistogram = sendLatency.getHistogram();
+        PerformanceReport report = PerformanceReport.of(latencyHistogram.getTotalCount(), sentBytes.sum(), measurementWindow.getMeasurementDurationNs(), latencyHistogram);
+        LOGGER.info("Send performance (latency measured from the intended send time): {}", report.toPlainString());
+        LOGGER.info("Send performance JSON: {}", report.toJsonString());
+
+        if (measurementWindow.isTimeBased()) {
+            if (messageFailedToSend.get() == 0) {
+                LOGGER.info("Run duration elapsed, {} messages successfully sent", messageSuccessfullySent.get());
+            } else {
+                LOGGER.error("Unable to correctly send all messages during the run duration - sent: {}, failed: {}", messageSuccessfullySent.get(), messageFailedToSend.get());
+                throw new RuntimeException("Failed to send all messages");
+            }
+        } else if (messageSuccessfullySent.get() == configuration.getMessageCount()) {
             LOGGER.info("All messages successfully sent");
         } else {
-            LOGGER.error("Unable to correctly send all messages");
+            LOGGER.error("Unable to correctly send all messages - sent: {}, failed: {}", messageSuccessfullySent.get(), messageFailedToSend.get());
             throw new RuntimeException("Failed to send all messages");
         }
     }
 
     public void checkAndSendMessages() {
-        if (messageIndex == configuration.getMessageCount()) {
+        if (measurementWindow.isTimeBased() ? measurementWindow.isFinished() : messageIndex == configuration.getMessageCount()) {
             LOGGER.info("Shutting down the executor");
             scheduledExecutor.shutdown();
             countDownLatch.countDown();
@@ -132,6 +362,17 @@ public class KafkaProducerClient implements ClientsInterface {
     }
 
     public ProducerRecord generateMessage(int numOfMessage) {
+        if (preserializedPayloads != null) {
+            PreserializedPayload payload = preserializedPayloads.get(numOfMessage % preserializedPayloads.size());
+            return new ProducerRecord(configuration.getTopicName(), getPartition(numOfMessage), getTimestamp(numOfMessage), getKey(numOfMessage),
+                payload.value(), List.of(payload.headers()));
+        }
+
+        return new ProducerRecord(configuration.getTopicName(), getPartition(numOfMessage), getTimestamp(numOfMessage), getKey(numOfMessage),
+            generateValue(numOfMessage), configuration.getHeaders());
+    }
+
+    private Object generateValue(int numOfMessage) {
         Object message;
 
         if (this.configuration.getMessageTemplate() != null) {
@@ -159,8 +400,44 @@ public class KafkaProducerClient implements ClientsInterface {
             }
         }
 
-        return new ProducerRecord(configuration.getTopicName(), null, getTimestamp(numOfMessage), configuration.getMessageKey(),
-            message, configuration.getHeaders());
+        return message;
+    }
+
+    /**
+     * Returns key of the message based on the {@code KEY_DISTRIBUTION} - either the {@code MESSAGE_KEY}, or one of the keys
+     * from the key table.
+     *
+     * @param messageIndex  index of the message
+     *
+     * @return  key of the message
+     */
+    private Object getKey(int messageIndex) {
+        return keySelector == null ? configuration.getMessageKey() : keyTable[keySelector.nextKeyIndex(messageIndex)];
+    }
+
+    /**
+     * Returns partition of the message in case that the {@code KEY_DISTRIBUTION} is {@code round-robin}, otherwise
+     * {@code null} and the partition is selected by the partitioner. The number of partitions is fetched from
+     * the producer once, on the first message.
+     *
+     * @param messageIndex  index of the message
+     *
+     * @return  partition of the message or {@code null}
+     */
+    private Integer getPartition(int messageIndex) {
+        if (configuration.getKeyDistribution() != KeyDistribution.ROUND_ROBIN) {
+            return null;
+        }
+
+        return messageIndex % getPartitionCount();
+    }
+
+    private int getPartitionCount() {
+        if (partitionCount == 0) {
+            partitionCount = workers.getFirst().producer.partitionsFor(configuration.getTopicName()).size();
+        }
+
+        return partitionCount;
     }
 
     /**
@@ -181,54 +458,352 @@ public class KafkaProducerClient implements ClientsInterface {
         return null;
     }
 
-    public List<ProducerRecord> generateMessages() {
-        List<ProducerRecord> records = new ArrayList<>();
-        for (int i = 0; i < configuration.getMessageCount(); i++) {
-            records.add(generateMessage(i));
-        }
+    /**
+     * Lazily generates all {@code MESSAGE_COUNT} records. Every record is created only once it is requested from the stream,
+     * so the memory usage does not depend on the number of messages.
+     *
+     * @return  stream of the records
+     */
+    public Stream<ProducerRecord> generateMessages() {
+        return generateMessages(0, configuration.getMessageCount());
+    }
 
-        return records;
+    /**
+     * Lazily generates records with indexes from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive).
+     *
+     * @param fromIndex     index of the first record
+     * @param toIndex       index after the last record
+     *
+     * @return  stream of the records
+     */
+    public Stream<ProducerRecord> generateMessages(int fromIndex, int toIndex) {
+        return IntStream.range(fromIndex, toIndex).mapToObj(this::generateMessage);
+    }
+
+    /**
+     * Lazily generates records until the {@code RUN_DURATION} elapses. The indexes of the records start at {@code firstIndex}
+     * and are increased by {@code step}, so multiple producer threads can generate disjoint sets of the records.
+     *
+     * @param firstIndex    index of the first record
+     * @param step          difference between indexes of two subsequent records
+     *
+     * @return  stream of the records
+     */
+    private Stream<ProducerRecord> generateMessagesUntilFinished(int firstIndex, int step) {
+        // the index wraps around to 0 in case of very long runs
+        return IntStream.iterate(firstIndex, index -> (index + step) & Integer.MAX_VALUE)
+            .takeWhile(index -> !measurementWindow.isFinished())
+            .mapToObj(this::generateMessage);
     }
 
     public void sendMessages() {
-        List<ProducerRecord> records = configuration.getDelayMs() == 0 ? generateMessages() : Collections.singletonList(generateMessage(messageIndex));
+        if (configuration.getDelayMs() == 0) {
+            if (measurementWindow.isTimeBased()) {
+                workers.getFirst().sendMessages(generateMessagesUntilFinished(0, 1).iterator(), 0);
+            } else {
+                workers.getFirst().sendMessages(generateMessages().iterator(), 0);
+            }
+            messageIndex = configuration.getMessageCount();
+        } else {
+            workers.getFirst().sendMessages(List.of(generateMessage(messageIndex)).iterator(), messageIndex);
+            messageIndex = (messageIndex + 1) & Integer.MAX_VALUE;
+        }
+    }
 
-        int currentMsgIndex = configuration.getDelayMs() == 0 ? 0 : messageIndex;
+    /**
+     * Splits the message index space between the workers and sends the messages from all of them in parallel,
+     * each on its own thread.
+     */
+    private void sendMessagesInParallel() {
+        ExecutorService executor = Executors.newFixedThreadPool(workers.size(), new ThreadFactory() {
+            private final AtomicInteger threadIndex = new AtomicInteger(0);
 
-        for (ProducerRecord record : records) {
-            try {
-                if (configuration.isTransactionalProducer() && !transactionActive) {
-                    LOGGER.info("Beginning new transaction. Messages sent: {}", currentMsgIndex);
-                    producer.beginTransaction();
-                    transactionActive = true;
+            @Override
+            public Thread newThread(Runnable r) {
+                return new Thread(r, "kafka-producer-" + threadIndex.getAndIncrement());
+            }
+        });
+
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < workers.size(); i++) {
+            ProducerWorker worker = workers.get(i);
+
+            if (measurementWindow.isTimeBased()) {
+                int firstIndex = i;
+                futures.add(executor.submit(() -> worker.sendMessages(generateMessagesUntilFinished(firstIndex, workers.size()).iterator(), firstIndex)));
+            } else {
+                int fromIndex = (int) ((long) configuration.getMessageCount() * i / workers.size());
+                int toIndex = (int) ((long) configuration.getMessageCount() * (i + 1) / workers.size());
+
+                futures.add(executor.submit(() -> worker.sendMessages(generateMessages(fromIndex, toIndex).iterator(), fromIndex)));
+            }
+        }
+
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            LOGGER.error("Failed to send messages from all producer threads due to: {}", e.getMessage());
+            e.printStackTrace();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        messageIndex = configuration.getMessageCount();
+    }
+
+    /**
+     * Returns number of tokens the record consumes from the {@link TokenBucket} - one token per record, or approximate
+     * size of the record in bytes when the {@code TARGET_RATE_UNIT} is {@code bytes}. The size of String and byte array
+     * keys and values is known before the send, for other types the serialized size of the last acknowledged record is used.
+     *
+     * @param record    record that will be sent
+     *
+     * @return  number of tokens for the record
+     */
+    private long getRecordTokens(ProducerRecord record) {
+        if (configuration.getTargetRateUnit() != RateUnit.BYTES) {
+            return 1;
+        }
+
+        if (isSizeKnown(record.key()) && isSizeKnown(record.value())) {
+            return Math.max(1, getSize(record.key()) + getSize(record.value()));
+        }
+
+        return lastSerializedRecordSize;
+    }
+
+    private static boolean isSizeKnown(Object object) {
+        return object == null || object instanceof String || object instanceof byte[];
+    }
+
+    private static long getSize(Object object) {
+        if (object instanceof String string) {
+            return string.length();
+        } else if (object instanceof byte[] bytes) {
+            return bytes.length;
+        }
+
+        return 0;
+    }
+
+    /**
+     * Value of the record serialized by the configured value serializer, together with the headers of the record.
+     *
+     * @param value     serialized value
+     * @param headers   headers of the record, including the ones added by the serializer
+     */
+    private record PreserializedPayload(byte[] value, Header[] headers) { }
+
+    /**
+     * Sends the messages using one {@link KafkaProducer}. Every worker has its own in-flight window and transaction,
+     * the counters of sent messages and the latency are shared by all workers.
+     */
+    private class ProducerWorker {
+        private final KafkaProducer<Object, Object> producer;
+        private final Semaphore inFlightRecords;
+        // records acknowledged in the currently open transaction, counted as sent only once the transaction is committed
+        private final AtomicInteger transactionMessagesSent;
+        private boolean transactionActive = false;
+        private final long producerId;
+        // next sequence of the stamped records for every partition
+        private long[] sequences;
+        // sequences at the beginning of the open transaction, restored when the transaction is aborted
+        private long[] transactionStartSequences;
+        private int nextUnkeyedPartition = 0;
+
+        ProducerWorker(KafkaProducer<Object, Object> producer, long producerId) {
+            this.producer = producer;
+            this.producerId = producerId;
+            this.inFlightRecords = new Semaphore(configuration.getMaxInFlightRecords());
+            this.transactionMessagesSent = new AtomicInteger(0);
+        }
+
+        void sendMessages(Iterator<ProducerRecord> records, int firstMsgIndex) {
+            int currentMsgIndex = firstMsgIndex;
+
+            while (records.hasNext()) {
+                ProducerRecord record = records.next();
+                // the record is formatted only in case that it is logged
+                boolean logRecord = configuration.getOutputMode().shouldLog(currentMsgIndex);
+
+                try {
+                    long intendedSendTimeNs = tokenBucket == null ? System.nanoTime() : tokenBucket.acquire(getRecordTokens(record));
+
+                    if (tokenBucket != null && tokenBucket.isExpired()) {
+                        // the load profile ended while waiting for the tokens
+                        break;
+                    }
+
+                    if (configuration.isTransactionalProducer() && !transactionActive) {
+                        LOGGER.info("Beginning new transaction. Messages sent: {}", currentMsgIndex);
+                        beginTransaction();
+                    }
+
+                    if (logRecord) {
+                        LOGGER.info("Sending message: {}", record);
+                    }
+
+                    sendMessage(record, intendedSendTimeNs);
+                } catch (Exception e) {
+                    LOGGER.error("Failed to send messages: {} due to: \n{}", record, e.getMessage());
+                    messageFailedToSend.incrementAndGet();
+
+                    if (transactionActive) {
+                        // Abort the transaction in case of failure
+                        LOGGER.warn("Aborting transaction due to send failure.");
+                        abortTransaction();
+                    }
+                } finally {
+                    if (logRecord) {
+                        LOGGER.info("Messages sent: {}", currentMsgIndex);
+                    }
+
+                    currentMsgIndex++;
                 }
 
-                LOGGER.info("Sending message: {}", record);
-                producer.send(record).get();
-                messageSuccessfullySent++;
+                if (configuration.isTransactionalProducer()
+                    && currentMsgIndex % configuration.getMessagesPerTransaction() == 0
+                    && transactionActive
+                ) {
+                    LOGGER.info("Committing the transaction for message {}", currentMsgIndex);
+                    commitTransaction();
+                }
+            }
+        }
+
+        /**
+         * Sends the record asynchronously. The number of records waiting for acknowledgement is limited by
+         * {@code MAX_IN_FLIGHT_RECORDS} - once the window is full, this method blocks until one of the in-flight
+         * records is acknowledged. With the default window of 1 record, every record is acknowledged before the next one is sent.
+         * The latency of the record is measured from its intended send time, so the time spent waiting for the in-flight
+         * window is included as well.
+         *
+         * @param record                record that should be sent
+         * @param intendedSendTimeNs    time (from {@link System#nanoTime()}) at which the record should have been sent
+         *
+         * @throws InterruptedException if the thread is interrupted while waiting for a free slot in the in-flight window
+         */
+        private void sendMessage(ProducerRecord record, long intendedSendTimeNs) throws InterruptedException {
+            inFlightRecords.acquire();
+
+            // records sent in a burst ahead of their schedule are measured from the actual send time
+            long sendStartNs = Math.min(intendedSendTimeNs, System.nanoTime());
+
+            ProducerRecord sentRecord = configuration.isStampRecords() ? stampRecord(record, sendStartNs) : record;
+
+            try {
+                producer.send(sentRecord, (metadata, exception) -> {
+                    inFlightRecords.release();
+
+                    if (exception == null) {
+                        int serializedSize = Math.max(0, metadata.serializedKeySize()) + Math.max(0, metadata.serializedValueSize());
+                        lastSerializedRecordSize = Math.max(1, serializedSize);
+
+                        if (measurementWindow.isWarmup(sendStartNs)) {
+                            warmupMessages.increment();
+                        } else {
+                            sendLatency.record(System.nanoTime() - sendStartNs);
+                            sentBytes.add(serializedSize);
+                        }
+
+                        if (configuration.isTransactionalProducer()) {
+                            transactionMessagesSent.incrementAndGet();
+                        } else {
+                            messageSuccessfullySent.incrementAndGet();
+                        }
+                    } else {
+                        LOGGER.error("Failed to send message: {} due to: \n{}", record, exception.getMessage());
+                        messageFailedToSend.incrementAndGet();
+                    }
+                });
             } catch (Exception e) {
-                LOGGER.error("Failed to send messages: {} due to: \n{}", record, e.getMessage());
+                // the callback is not invoked when the send fails before the record is appended to the batch
+                inFlightRecords.release();
 
-                if (transactionActive) {
-                    // Abort the transaction in case of failure
-                    LOGGER.warn("Aborting transaction due to send failure.");
-                    producer.abortTransaction();
-                    transactionActive = false;
+                if (configuration.isStampRecords()) {
+                    // the record was not sent, so its sequence is used by the next record of the partition
+                    sequences[sentRecord.partition()]--;
                 }
-            } finally {
-                LOGGER.info("Messages sent: {}", currentMsgIndex);
-                messageIndex++;
-                currentMsgIndex++;
+
+                throw e;
+            }
+        }
+
+        /**
+         * Adds the {@link EndToEndStamp} header to the record. The sequences are tracked per partition, so the partition
+         * of the record is chosen here (the same way as the default partitioner does for the keyed records,
+         * round-robin for the records without key) and set to the record explicitly.
+         * The timestamp of the stamp is the intended send time of the record.
+         *
+         * @param record        record that should be stamped
+         * @param sendStartNs   time (from {@link System#nanoTime()}) at which the record should have been sent
+         *
+         * @return  stamped record with the partition set
+         */
+        private ProducerRecord stampRecord(ProducerRecord record, long sendStartNs) {
+            if (sequences == null) {
+                sequences = new long[getPartitionCount()];
+            }
+
+            int partition;
+
+            if (record.partition() != null) {
+                partition = record.partition();
+            } else if (record.key() != null) {
+                byte[] keyBytes = keySerializer.serialize(record.topic(), record.headers(), record.key());
+                partition = Utils.toPositive(Utils.murmur2(keyBytes)) % sequences.length;
+            } else {
+                partition = nextUnkeyedPartition;
+                nextUnkeyedPartition = (nextUnkeyedPartition + 1) % sequences.length;
             }
 
-            if (configuration.isTransactionalProducer()
-                && currentMsgIndex % configuration.getMessagesPerTransaction() == 0
-                && transactionActive
-            ) {
-                LOGGER.info("Committing the transaction for message {}", currentMsgIndex);
+            long timestampNs = EndToEndStamp.nowEpochNs() - (System.nanoTime() - sendStartNs);
+            record.headers().add(EndToEndStamp.HEADER, new EndToEndStamp(producerId, sequences[partition]++, timestampNs).toBytes());
+
+            return new ProducerRecord(record.topic(), partition, record.timestamp(), record.key(), record.value(), record.headers());
+        }
+
+        private void beginTransaction() {
+            producer.beginTransaction();
+            transactionActive = true;
+            transactionStartSequences = sequences == null ? null : sequences.clone();
+        }
+
+        void commitOpenTransaction() {
+            if (transactionActive) {
+                LOGGER.info("Committing final transaction after loop.");
+                commitTransaction();
+            }
+        }
+
+        /**
+         * Commits the current transaction. Committing flushes all records of the transaction that are still in-flight,
+         * so the records are counted as sent only after the commit is successful. In case that the commit fails,
+         * the transaction is aborted.
+         */
+        private void commitTransaction() {
+            try {
                 producer.commitTransaction();
+                messageSuccessfullySent.addAndGet(transactionMessagesSent.getAndSet(0));
                 transactionActive = false;
+            } catch (Exception e) {
+                LOGGER.error("Failed to commit the transaction due to: {}", e.getMessage());
+                abortTransaction();
             }
         }
+
+        /**
+         * Aborts the current transaction. The records of the aborted transaction are never read by the consumers,
+         * so their sequences are reused by the next transaction and the verification does not see them as missing.
+         */
+        private void abortTransaction() {
+            producer.abortTransaction();
+            transactionMessagesSent.set(0);
+            transactionActive = false;
+            sequences = transactionStartSequences;
+        }
     }
 }
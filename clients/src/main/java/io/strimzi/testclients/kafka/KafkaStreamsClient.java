@@ -5,66 +5,395 @@
 package io.strimzi.testclients.kafka;
 
 import io.strimzi.testclients.common.ClientsInterface;
+import io.strimzi.testclients.common.metrics.MeasurementWindow;
+import io.strimzi.testclients.common.metrics.PerformanceReport;
+import io.strimzi.testclients.common.streams.StreamsCompletion;
+import io.strimzi.testclients.common.streams.StreamsMetricsReader;
+import io.strimzi.testclients.common.streams.StreamsSettings;
+import io.strimzi.testclients.common.streams.StreamsSweep;
+import io.strimzi.testclients.configuration.ConfigurationConstants;
 import io.strimzi.testclients.configuration.kafka.KafkaStreamsConfiguration;
 import io.strimzi.testclients.common.properties.KafkaProperties;
+import io.strimzi.testclients.common.streams.StreamsTopologyBuilder;
+import io.strimzi.testclients.properties.BasicKafkaProperties;
 import io.strimzi.testclients.tracing.TracingUtil;
-import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.streams.KafkaClientSupplier;
 import org.apache.kafka.streams.KafkaStreams;
-import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
 import org.apache.kafka.streams.Topology;
-import org.apache.kafka.streams.kstream.Consumed;
-import org.apache.kafka.streams.kstream.Produced;
+import org.apache.kafka.streams.errors.StreamsUncaughtExceptionHandler;
 import org.apache.kafka.streams.processor.internals.DefaultKafkaClientSupplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class KafkaStreamsClient implements ClientsInterface {
     private static final Logger LOGGER = LogManager.getLogger(KafkaStreamsClient.class);
+    // how often the completion of the run is checked
+    private static final long COMPLETION_CHECK_INTERVAL_MS = 1000;
     private final KafkaStreamsConfiguration configuration;
+    private final StreamsSettings settings;
+    // application ID of the run - every run of the sweep has its own
+    private final String applicationId;
     private final Properties properties;
+    private final MeasurementWindow measurementWindow;
+    private final CountDownLatch closeLatch;
+    private KafkaStreams streams;
+    private StreamsMetricsReader metricsReader;
+    // lists the offsets for the lag of the source topic in case that the completion is lag, null otherwise
+    private Admin admin;
+    // exception which stopped a stream thread, null if there was none
+    private volatile Throwable failure;
+    private volatile boolean shutdown;
+    // number of records and bytes consumed when the warmup finished, or -1 if it did not finish yet
+    private long warmupRecords = -1;
+    private long warmupBytes;
+    private long measurementStartNs;
+    // number of records consumed from the source topic during the whole run
+    private long consumedRecords;
+    private long sourceLag = -1;
+    // result of the run for the sweep table, null if the run was not reported
+    private StreamsSweep.Result result;
 
     public KafkaStreamsClient(Map<String, String> configuration) {
-        this.configuration = new KafkaStreamsConfiguration(configuration);
-        this.properties = KafkaProperties.streamsProperties(this.configuration);
+        this(new KafkaStreamsConfiguration(configuration));
+    }
+
+    private KafkaStreamsClient(KafkaStreamsConfiguration configuration) {
+        this(configuration, configuration.getStreamsSettings(), configuration.getApplicationId());
+    }
+
+    private KafkaStreamsClient(KafkaStreamsConfiguration configuration, StreamsSettings settings, String applicationId) {
+        this.configuration = configuration;
+        this.settings = settings;
+        this.applicationId = applicationId;
+        this.properties = KafkaProperties.streamsProperties(configuration, settings);
+        this.properties.put(StreamsConfig.APPLICATION_ID_CONFIG, applicationId);
+        this.measurementWindow = new MeasurementWindow(configuration.getWarmupDurationMs(), configuration.getRunDurationMs());
+        this.closeLatch = new CountDownLatch(1);
     }
 
     @Override
     public void run() {
         LOGGER.info("Starting {} with configuration: \n{}", this.getClass().getName(), this.configuration.toString());
 
-        StreamsBuilder builder = new StreamsBuilder();
+        if (!configuration.getStreamsSweep().isEmpty()) {
+            runSweep();
+            return;
+        }
+
+        runStreams();
+        checkFinalState();
+    }
+
+    /**
+     * Runs the topology with every combination of the {@code STREAMS_SWEEP}, one after another, and logs the comparison
+     * table of their results. Every run has its own application ID (the configured one with the index of the run), so it
+     * processes the source topic from its start, with its own state stores and internal topics.
+     */
+    private void runSweep() {
+        List<StreamsSettings> runs = configuration.getStreamsSweep();
+        List<StreamsSweep.Result> results = new ArrayList<>();
+        int failedRuns = 0;
+
+        for (int i = 0; i < runs.size() && !shutdown; i++) {
+            StreamsSettings runSettings = runs.get(i);
+            KafkaStreamsClient client = new KafkaStreamsClient(configuration, runSettings, configuration.getApplicationId() + "-" + (i + 1));
+
+            LOGGER.info("Starting the run {}/{} of the sweep with {}", i + 1, runs.size(), runSettings.toSummaryString());
 
-        builder.stream(configuration.getSourceTopic(), Consumed.with(Serdes.String(), Serdes.String()))
-            .mapValues(value -> {
-                StringBuilder sb = new StringBuilder();
-                sb.append(value);
-                return sb.reverse().toString();
-            })
-            .to(configuration.getTargetTopic(), Produced.with(Serdes.String(), Serdes.String()));
+            try {
+                client.runStreams();
+                client.checkFinalState();
+                results.add(client.result);
+            } catch (RuntimeException e) {
+                LOGGER.error("Run {}/{} of the sweep failed: {}", i + 1, runs.size(), e.getMessage());
+                results.add(StreamsSweep.Result.failed(runSettings));
+                failedRuns++;
+            }
+
+            // the client was terminated, so the sweep ends
+            shutdown = client.shutdown;
+        }
+
+        LOGGER.info("Streams sweep ({} topology):\n{}", configuration.getStreamsTopology(), StreamsSweep.toTableString(results));
+
+        if (failedRuns > 0) {
+            throw new RuntimeException("Failed to complete " + failedRuns + " of " + runs.size() + " runs of the sweep");
+        }
+    }
+
+    /**
+     * Runs the Kafka Streams until the completion condition is met, reports their performance and closes them.
+     */
+    private void runStreams() {
+        Topology topology = StreamsTopologyBuilder.build(configuration);
+        LOGGER.info("Running the {} topology: {}", configuration.getStreamsTopology(), topology.describe());
 
-        Topology topology = builder.build();
         KafkaClientSupplier clientSupplier = new DefaultKafkaClientSupplier();
 
         if (this.configuration.isTracingEnabled()) {
             clientSupplier = TracingUtil.getTracing().getStreamsClientSupplier();
         }
 
-        KafkaStreams streams = new KafkaStreams(topology, this.properties, clientSupplier);
+        streams = new KafkaStreams(topology, this.properties, clientSupplier);
+        metricsReader = new StreamsMetricsReader(streams::metrics);
+        streams.setUncaughtExceptionHandler(exception -> {
+            LOGGER.error("Stream thread failed: {}", exception.getMessage(), exception);
+            failure = exception;
+            return StreamsUncaughtExceptionHandler.StreamThreadExceptionResponse.SHUTDOWN_CLIENT;
+        });
+
+        if (configuration.getStreamsCompletion() == StreamsCompletion.LAG) {
+            admin = Admin.create(BasicKafkaProperties.clientProperties(configuration));
+        }
+
+        // closes the Kafka Streams (and leaves the group) when the client is terminated before it finishes
+        Thread shutdownHook = new Thread(this::shutdown, "kafka-streams-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
 
+        measurementWindow.start();
         streams.start();
+
+        try {
+            awaitCompletion();
+            report();
+        } finally {
+            close();
+
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException e) {
+                // the JVM is already shutting down
+            }
+        }
     }
 
+    /**
+     * Waits until the completion condition is met, the Kafka Streams fail or the client is terminated.
+     */
     @Override
     public void awaitCompletion() {
+        try {
+            while (!shutdown && isRunning() && !isFinished()) {
+                updateWarmup();
+                Thread.sleep(COMPLETION_CHECK_INTERVAL_MS);
+            }
+        } catch (InterruptedException e) {
+            LOGGER.error("Failed to wait for task completion due to: {}", e.getMessage());
+            Thread.currentThread().interrupt();
+        }
+
+        updateWarmup();
+    }
+
+    private boolean isRunning() {
+        return failure == null && streams.state().isRunningOrRebalancing();
+    }
+
+    /**
+     * Checks whether the run is finished according to the {@code STREAMS_COMPLETION}. With the records or lag completion,
+     * the {@code RUN_DURATION} (if configured) is the maximal duration of the run.
+     *
+     * @return  true if the run should stop
+     */
+    private boolean isFinished() {
+        if (configuration.getStreamsCompletion() == StreamsCompletion.NONE) {
+            return false;
+        }
+
+        if (measurementWindow.isTimeBased() && measurementWindow.isFinished()) {
+            return true;
+        }
+
+        return switch (configuration.getStreamsCompletion()) {
+            case RECORDS -> getConsumedRecords() >= configuration.getMessageCount();
+            case LAG -> streams.state() == KafkaStreams.State.RUNNING && updateSourceLag() == 0;
+            default -> false;
+        };
+    }
+
+    private void updateWarmup() {
+        if (warmupRecords < 0 && !measurementWindow.isWarmup()) {
+            warmupRecords = getConsumedRecords();
+            warmupBytes = metricsReader.getConsumedBytes(configuration.getSourceTopic());
+            measurementStartNs = System.nanoTime();
+
+            if (warmupRecords > 0) {
+                LOGGER.info("{} messages were processed during the warmup and are not included in the performance report", warmupRecords);
+            }
+        }
+    }
+
+    private long getConsumedRecords() {
+        return metricsReader.getConsumedRecords(configuration.getSourceTopic());
+    }
 
+    /**
+     * Computes the lag of the Kafka Streams application - the number of records of the source topic after its committed offsets.
+     *
+     * @return  lag of the source topic
+     */
+    private long updateSourceLag() {
+        try {
+            Map<TopicPartition, OffsetAndMetadata> committed = admin.listConsumerGroupOffsets(applicationId)
+                .partitionsToOffsetAndMetadata().get();
+            List<TopicPartition> partitions = admin.describeTopics(List.of(configuration.getSourceTopic())).allTopicNames().get()
+                .get(configuration.getSourceTopic()).partitions().stream()
+                .map(partitionInfo -> new TopicPartition(configuration.getSourceTopic(), partitionInfo.partition()))
+                .toList();
+            Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> endOffsets = admin.listOffsets(partitions.stream()
+                .collect(Collectors.toMap(Function.identity(), partition -> OffsetSpec.latest()))).all().get();
+
+            long lag = 0;
+
+            for (TopicPartition partition : partitions) {
+                OffsetAndMetadata offset = committed.get(partition);
+                lag += Math.max(0, endOffsets.get(partition).offset() - (offset == null ? 0 : offset.offset()));
+            }
+
+            sourceLag = lag;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            LOGGER.warn("Failed to get the lag of the source topic: {}", e.getMessage());
+        }
+
+        return sourceLag;
+    }
+
+    /**
+     * Logs the throughput of the measurement phase and the processing and commit latencies. The metrics are read
+     * before the Kafka Streams are closed, which removes them.
+     */
+    private void report() {
+        consumedRecords = getConsumedRecords();
+        PerformanceReport report;
+
+        if (warmupRecords < 0) {
+            // the run finished during the warmup, so no records were measured
+            LOGGER.warn("Kafka Streams finished during the warmup, {} messages were processed and none of them are included in the performance report", consumedRecords);
+            report = PerformanceReport.of(0, 0, 0, null);
+        } else {
+            long records = Math.max(0, consumedRecords - warmupRecords);
+            long bytes = Math.max(0, metricsReader.getConsumedBytes(configuration.getSourceTopic()) - warmupBytes);
+
+            report = PerformanceReport.of(records, bytes, System.nanoTime() - measurementStartNs, null);
+        }
+
+        LOGGER.info("Streams performance ({} topology): {}", configuration.getStreamsTopology(), report.toPlainString());
+        LOGGER.info("Streams performance JSON: {}", report.toJsonString());
+        LOGGER.info("Streams processing: {}", metricsReader.toSummaryString());
+
+        result = new StreamsSweep.Result(settings, report, metricsReader.getProcessLatencyAvgMs(), metricsReader.getProcessLatencyMaxMs(),
+            metricsReader.getCommitLatencyAvgMs(), metricsReader.getCommitLatencyMaxMs());
+
+        if (configuration.getStreamsTopology().isStateful()) {
+            LOGGER.info("Streams state stores ({} store): {}", configuration.getStateStoreType(), metricsReader.toStateStoreSummaryString());
+        }
+    }
+
+    /**
+     * Logs the size of the state directory of the application, which contains the persistent state stores of all its tasks.
+     * The size is checked after the Kafka Streams are closed, so the stores are flushed to the disk.
+     */
+    private void reportStateDirectorySize() {
+        Path stateDirectory = Paths.get(new StreamsConfig(properties).getString(StreamsConfig.STATE_DIR_CONFIG), applicationId);
+
+        if (!Files.isDirectory(stateDirectory)) {
+            return;
+        }
+
+        try (Stream<Path> files = Files.walk(stateDirectory)) {
+            long size = files.filter(Files::isRegularFile).mapToLong(file -> file.toFile().length()).sum();
+            LOGGER.info("Streams state directory {} has {} bytes on disk", stateDirectory, size);
+        } catch (IOException | UncheckedIOException e) {
+            LOGGER.warn("Failed to get the size of the state directory {}: {}", stateDirectory, e.getMessage());
+        }
+    }
+
+    /**
+     * Closes the Kafka Streams, which commits the processed records and leaves the group.
+     */
+    private void close() {
+        LOGGER.info("Closing the Kafka Streams");
+
+        if (!streams.close(Duration.ofMillis(ConfigurationConstants.DEFAULT_TASK_COMPLETION_TIMEOUT))) {
+            LOGGER.warn("Kafka Streams did not close in time");
+        }
+
+        if (configuration.getStreamsTopology().isStateful()) {
+            reportStateDirectorySize();
+        }
+
+        if (admin != null) {
+            // the final commit could close the lag
+            updateSourceLag();
+            admin.close();
+        }
+
+        closeLatch.countDown();
+    }
+
+    /**
+     * Stops the run when the client is terminated and waits until the Kafka Streams are closed.
+     */
+    public void shutdown() {
+        if (closeLatch.getCount() == 0) {
+            return;
+        }
+
+        LOGGER.info("Shutting down the Kafka Streams");
+        shutdown = true;
+
+        try {
+            closeLatch.await(ConfigurationConstants.DEFAULT_TASK_COMPLETION_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 
     @Override
     public void checkFinalState() {
+        if (failure != null || !shutdown && streams.state() == KafkaStreams.State.ERROR) {
+            LOGGER.error("Kafka Streams failed");
+            throw new RuntimeException("Kafka Streams failed", failure);
+        }
 
+        switch (configuration.getStreamsCompletion()) {
+            case RECORDS -> checkCompletion(consumedRecords >= configuration.getMessageCount(), consumedRecords + " messages processed");
+            case LAG -> checkCompletion(sourceLag == 0, "lag of the source topic is " + sourceLag);
+            case DURATION -> LOGGER.info(measurementWindow.isFinished() ? "Run duration elapsed" : "Kafka Streams were terminated before the run duration elapsed");
+            default -> LOGGER.info("Kafka Streams were terminated");
+        }
+    }
+
+    private void checkCompletion(boolean completed, String state) {
+        if (completed) {
+            LOGGER.info("Kafka Streams completed the run, {}", state);
+        } else {
+            LOGGER.error("Kafka Streams did not complete the run, {}", state);
+            throw new RuntimeException("Failed to complete the run, " + state);
+        }
     }
 }
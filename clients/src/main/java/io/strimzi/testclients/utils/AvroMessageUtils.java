@@ -14,6 +14,10 @@ import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 public class AvroMessageUtils {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final SchemaCache<Schema> SCHEMA_CACHE = new SchemaCache<>(
+        avroSchemaBytes -> new Schema.Parser().parse(new String(avroSchemaBytes, StandardCharsets.UTF_8)));
+
     private AvroMessageUtils() {}
 
     /**
@@ -22,8 +26,7 @@ public class AvroMessageUtils {
      *
      * This method:
      * <ul>
-     *     <li>Fetches the Avro schema from the additional producer configuration.</li>
-     *     <li>Parses the schema definition.</li>
+     *     <li>Gets the parsed Avro schema from the cache, or fetches and parses it using the additional producer configuration.</li>
      *     <li>Deserializes the JSON message into a map of field values.</li>
      *     <li>Populates a {@link GenericRecordBuilder} with the parsed fields.</li>
      * </ul>
@@ -35,12 +38,10 @@ public class AvroMessageUtils {
      */
     public static GenericRecord buildMessageFromJson(final KafkaProducerConfiguration configuration) {
         try {
-            final byte[] avroSchemaBytes = MessageUtils.fetchSchema(configuration.getAdditionalConfig());
-            final Schema schema = new Schema.Parser().parse(new String(avroSchemaBytes, StandardCharsets.UTF_8));
+            final Schema schema = SCHEMA_CACHE.get(SchemaCoordinates.fromConfig(configuration.getAdditionalConfig()), configuration.getSchemaCacheTtlMs());
 
             final GenericRecordBuilder builder = new GenericRecordBuilder(schema);
-            final ObjectMapper mapper = new ObjectMapper();
-            final Map<String, Object> fields = mapper.readValue(configuration.getMessage(), Map.class);
+            final Map<String, Object> fields = MAPPER.readValue(configuration.getMessage(), Map.class);
 
             fields.forEach(builder::set);
 
@@ -9,6 +9,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.strimzi.testclients.configuration.kafka.KafkaProducerConfiguration;
 
 public class JsonMessgeUtils {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
 
     private JsonMessgeUtils() {}
 
@@ -25,8 +26,7 @@ public class JsonMessgeUtils {
      */
     public static JsonNode buildMessageFromJson(final KafkaProducerConfiguration configuration) {
         try {
-            final ObjectMapper mapper = new ObjectMapper();
-            return mapper.readTree(configuration.getMessage());
+            return MAPPER.readTree(configuration.getMessage());
         } catch (Exception e) {
             throw new RuntimeException("Failed to build JSON Schema message", e);
         }
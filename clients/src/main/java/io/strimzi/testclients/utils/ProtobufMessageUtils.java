@@ -19,11 +19,15 @@ import java.util.Collections;
  * Utility class for building Protobuf {@link DynamicMessage} instances from JSON strings.
  * Fetches the Protobuf schema from Apicurio Registry and uses it to parse the JSON message
  * into a {@link DynamicMessage} that can be passed to {@link ProtobufKafkaSerializer}.
+ * The parsed descriptors are cached, so the schema is not fetched for every message.
  *
  * Supports Apicurio Registry API v2 and v3, controlled via {@code apicurio.registry.api-version}
  * in the producer additional config. Defaults to v3 if not specified.
  */
 public class ProtobufMessageUtils {
+    private static final SchemaCache<Descriptor> DESCRIPTOR_CACHE = new SchemaCache<>(ProtobufMessageUtils::parseDescriptor);
+    private static final JsonFormat.Parser JSON_PARSER = JsonFormat.parser().ignoringUnknownFields();
+
     private ProtobufMessageUtils() {}
 
     /**
@@ -40,12 +44,11 @@ public class ProtobufMessageUtils {
      */
     public static DynamicMessage buildMessageFromJson(final KafkaProducerConfiguration configuration) {
         try {
-            final byte[] protoSchemaBytes = MessageUtils.fetchSchema(configuration.getAdditionalConfig());
-            final Descriptor descriptor = parseDescriptor(protoSchemaBytes);
+            final Descriptor descriptor = DESCRIPTOR_CACHE.get(SchemaCoordinates.fromConfig(configuration.getAdditionalConfig()), configuration.getSchemaCacheTtlMs());
 
             // Build DynamicMessage using descriptor defining the message structure
             final DynamicMessage.Builder builder = DynamicMessage.newBuilder(descriptor);
-            JsonFormat.parser().ignoringUnknownFields().merge(configuration.getMessage(), builder);
+            JSON_PARSER.merge(configuration.getMessage(), builder);
 
             return builder.build();
         } catch (Exception e) {
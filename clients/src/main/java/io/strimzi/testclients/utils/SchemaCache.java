@@ -0,0 +1,107 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache of schemas fetched from Apicurio Registry, keyed by the {@link SchemaCoordinates}. The fetched schema is
+ * parsed only once and the parsed form (for example Avro {@code Schema} or Protobuf {@code Descriptor}) is cached,
+ * so the records can be built without a round-trip to the registry.
+ * When the TTL is greater than 0, the schema is fetched again once it is older than the TTL. In case that the refresh
+ * fails, the previously cached schema is kept until the next refresh.
+ *
+ * @param <T>   type of the parsed schema
+ */
+public class SchemaCache<T> {
+    private static final Logger LOGGER = LogManager.getLogger(SchemaCache.class);
+
+    private final Map<SchemaCoordinates, CachedSchema<T>> cache = new ConcurrentHashMap<>();
+    private final SchemaFetcher fetcher;
+    private final Function<byte[], T> parser;
+    private final LongSupplier clock;
+
+    /**
+     * Creates the cache fetching the schemas from Apicurio Registry.
+     *
+     * @param parser    function parsing the raw schema bytes
+     */
+    public SchemaCache(Function<byte[], T> parser) {
+        this(MessageUtils::fetchSchema, parser, System::nanoTime);
+    }
+
+    /**
+     * Creates the cache with custom fetcher and clock.
+     *
+     * @param fetcher   fetcher of the raw schema bytes
+     * @param parser    function parsing the raw schema bytes
+     * @param clock     source of the time in nanoseconds
+     */
+    public SchemaCache(SchemaFetcher fetcher, Function<byte[], T> parser, LongSupplier clock) {
+        this.fetcher = fetcher;
+        this.parser = parser;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the parsed schema for the coordinates. The schema is fetched and parsed only in case that it is not cached yet,
+     * or the cached schema is older than the TTL.
+     *
+     * @param coordinates   coordinates of the schema
+     * @param ttlMs         time after which the schema is fetched again, {@code 0} for caching it forever
+     *
+     * @return  parsed schema
+     * @throws RuntimeException if the schema is not cached and cannot be fetched or parsed
+     */
+    public T get(SchemaCoordinates coordinates, long ttlMs) {
+        final long now = clock.getAsLong();
+        final long ttlNs = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        final CachedSchema<T> cachedSchema = cache.get(coordinates);
+
+        if (cachedSchema != null && !cachedSchema.isExpired(now, ttlNs)) {
+            return cachedSchema.schema();
+        }
+
+        // the schema is fetched only by one thread, others wait for it
+        return cache.compute(coordinates, (key, existing) -> {
+            if (existing != null && !existing.isExpired(now, ttlNs)) {
+                return existing;
+            }
+
+            try {
+                return new CachedSchema<>(parser.apply(fetcher.fetch(key)), now);
+            } catch (IOException | RuntimeException e) {
+                if (existing == null) {
+                    throw new RuntimeException("Failed to fetch schema " + key, e);
+                }
+
+                LOGGER.warn("Failed to refresh schema {}, using the cached one: {}", key, e.getMessage());
+                return new CachedSchema<>(existing.schema(), now);
+            }
+        }).schema();
+    }
+
+    /**
+     * Fetches the raw bytes of the schema.
+     */
+    @FunctionalInterface
+    public interface SchemaFetcher {
+        byte[] fetch(SchemaCoordinates coordinates) throws IOException;
+    }
+
+    private record CachedSchema<T>(T schema, long fetchedAtNs) {
+        boolean isExpired(long now, long ttlNs) {
+            return ttlNs > 0 && now - fetchedAtNs >= ttlNs;
+        }
+    }
+}
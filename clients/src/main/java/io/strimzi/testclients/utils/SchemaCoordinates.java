@@ -0,0 +1,75 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.utils;
+
+import io.apicurio.registry.resolver.config.SchemaResolverConfig;
+import io.strimzi.testclients.configuration.ConfigurationConstants;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.util.Properties;
+
+/**
+ * Coordinates of a schema stored in Apicurio Registry. Used for fetching the schema as well as the key of the
+ * {@link SchemaCache}.
+ *
+ * @param registryUrl   URL of the Apicurio Registry
+ * @param groupId       group of the artifact
+ * @param artifactId    ID of the artifact
+ * @param version       version of the artifact
+ * @param apiVersion    Apicurio Registry API version - {@code v2} or {@code v3}
+ */
+public record SchemaCoordinates(String registryUrl, String groupId, String artifactId, String version, String apiVersion) {
+
+    /**
+     * Reads the schema coordinates from the producer additional configuration.
+     *
+     * @param config producer additional configuration containing
+     *               Apicurio Registry connection properties
+     *
+     * @return coordinates of the schema
+     */
+    public static SchemaCoordinates fromConfig(final Properties config) {
+        return new SchemaCoordinates(
+            config.getProperty(SchemaResolverConfig.REGISTRY_URL),
+            config.getProperty(ConfigurationConstants.REGISTRY_GROUP_ID, ConfigurationConstants.DEFAULT_GROUP_ID),
+            config.getProperty(ConfigurationConstants.REGISTRY_ARTIFACT_ID),
+            config.getProperty(ConfigurationConstants.REGISTRY_ARTIFACT_VERSION, ConfigurationConstants.REGISTRY_DEFAULT_ARTIFACT_VERSION),
+            config.getProperty(ConfigurationConstants.REGISTRY_API_VERSION, ConfigurationConstants.REGISTRY_DEFAULT_API_VERSION)
+        );
+    }
+
+    /**
+     * Builds the Apicurio Registry schema content URL.
+     *
+     * <p>The URL format differs depending on the configured Apicurio API version:</p>
+     * <ul>
+     *   <li>v2: {@code /groups/{groupId}/artifacts/{artifactId}/versions/{version}}</li>
+     *   <li>v3: {@code /groups/{groupId}/artifacts/{artifactId}/versions/{version}/content}</li>
+     * </ul>
+     *
+     * <p>This method is schema-type agnostic and works for any artifact stored
+     * in Apicurio Registry.</p>
+     *
+     * @return URL pointing to the schema content in Apicurio Registry
+     * @throws MalformedURLException    if the constructed URL is invalid
+     * @throws IllegalArgumentException if the specified API version is not supported
+     */
+    public URL toUrl() throws MalformedURLException {
+        final String urlString;
+        if (ConfigurationConstants.APICURIO_API_V2.equals(apiVersion)) {
+            urlString = String.format("%s/groups/%s/artifacts/%s/versions/%s",
+                registryUrl, groupId, artifactId, version);
+        } else if (ConfigurationConstants.APICURIO_API_V3.equals(apiVersion)) {
+            urlString = String.format("%s/groups/%s/artifacts/%s/versions/%s/content",
+                registryUrl, groupId, artifactId, version);
+        } else {
+            throw new IllegalArgumentException("Unsupported Apicurio Registry API version: " + apiVersion + ". Supported versions are: v2, v3");
+        }
+
+        return URI.create(urlString).toURL();
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.unit.common;
+
+import io.strimzi.testclients.common.OutputMode;
+import io.strimzi.testclients.common.OutputModeType;
+import org.junit.jupiter.api.Test;
+
+import java.security.InvalidParameterException;
+import java.util.stream.LongStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class OutputModeTest {
+
+    @Test
+    void testOutputModes() {
+        OutputMode perRecord = OutputMode.parse("per-record");
+        OutputMode sampled = OutputMode.parse("sampled:100");
+        OutputMode summary = OutputMode.parse("SUMMARY");
+
+        assertAll(
+            () -> assertThat(perRecord, is(OutputMode.PER_RECORD)),
+            () -> assertThat(LongStream.range(0, 1000).filter(perRecord::shouldLog).count(), is(1000L)),
+            () -> assertThat(sampled.type(), is(OutputModeType.SAMPLED)),
+            () -> assertThat(sampled.toString(), is("sampled:100")),
+            () -> assertThat(LongStream.range(0, 1000).filter(sampled::shouldLog).count(), is(10L)),
+            () -> assertThat(summary.isSummary(), is(true)),
+            () -> assertThat(LongStream.range(0, 1000).filter(summary::shouldLog).count(), is(0L))
+        );
+    }
+
+    @Test
+    void testInvalidOutputModes() {
+        assertAll(
+            () -> assertThrows(InvalidParameterException.class, () -> OutputMode.parse("verbose")),
+            () -> assertThrows(InvalidParameterException.class, () -> OutputMode.parse("sampled")),
+            () -> assertThrows(InvalidParameterException.class, () -> OutputMode.parse("sampled:-5")),
+            () -> assertThrows(InvalidParameterException.class, () -> OutputMode.parse("sampled:often")),
+            () -> assertThrows(InvalidParameterException.class, () -> OutputMode.parse("summary:10"))
+        );
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.unit.common.bounds;
+
+import io.strimzi.testclients.common.bounds.PartitionBounds;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class PartitionBoundsTest {
+    private static final String TOPIC = "my-topic";
+    private static final TopicPartition PARTITION_0 = new TopicPartition(TOPIC, 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition(TOPIC, 1);
+
+    @Test
+    void testOffsetBoundsAreCappedByThePartitions() {
+        TimestampConsumer consumer = new TimestampConsumer();
+
+        PartitionBounds bounds = PartitionBounds.resolve(consumer, List.of(PARTITION_0, PARTITION_1), 10L, null, 50L, null);
+
+        assertAll(
+            () -> assertThat(bounds.getStartOffsets(), is(Map.of(PARTITION_0, 10L, PARTITION_1, 10L))),
+            () -> assertThat(bounds.getEndOffsets(), is(Map.of(PARTITION_0, 50L, PARTITION_1, 20L))),
+            () -> assertThat(bounds.getUnfinished(), is(Set.of(PARTITION_0, PARTITION_1)))
+        );
+
+        // start offset before the beginning of the partition 0
+        PartitionBounds earlyBounds = PartitionBounds.resolve(consumer, List.of(PARTITION_0, PARTITION_1), 2L, null, null, null);
+
+        assertAll(
+            () -> assertThat(earlyBounds.getStartOffsets(), is(Map.of(PARTITION_0, 5L, PARTITION_1, 2L))),
+            () -> assertThat(earlyBounds.getEndOffsets().isEmpty(), is(true))
+        );
+    }
+
+    @Test
+    void testTimestampBounds() {
+        TimestampConsumer consumer = new TimestampConsumer();
+        consumer.offsetsForTimestamps.put(1000L, Map.of(PARTITION_0, 30L));
+        consumer.offsetsForTimestamps.put(2000L, Map.of(PARTITION_0, 60L));
+
+        PartitionBounds bounds = PartitionBounds.resolve(consumer, List.of(PARTITION_0, PARTITION_1), null, 1000L, null, 2000L);
+
+        assertAll(
+            // the partition 1 has no records after the start timestamp, so it is finished immediately
+            () -> assertThat(bounds.getStartOffsets(), is(Map.of(PARTITION_0, 30L, PARTITION_1, 20L))),
+            () -> assertThat(bounds.getEndOffsets(), is(Map.of(PARTITION_0, 60L, PARTITION_1, 20L))),
+            () -> assertThat(bounds.getUnfinished(), is(Set.of(PARTITION_0)))
+        );
+    }
+
+    @Test
+    void testPartitionsAreFinishedIndependently() {
+        TimestampConsumer consumer = new TimestampConsumer();
+        PartitionBounds bounds = PartitionBounds.resolve(consumer, List.of(PARTITION_0, PARTITION_1), null, null, 15L, null);
+
+        bounds.assignAndSeek(consumer);
+
+        assertAll(
+            () -> assertThat(consumer.assignment(), is(Set.of(PARTITION_0, PARTITION_1))),
+            () -> assertThat(consumer.position(PARTITION_0), is(5L)),
+            () -> assertThat(consumer.position(PARTITION_1), is(0L)),
+            () -> assertThat(bounds.isAfterEnd(new ConsumerRecord<>(TOPIC, 0, 14, "key", "value")), is(false)),
+            () -> assertThat(bounds.isAfterEnd(new ConsumerRecord<>(TOPIC, 0, 15, "key", "value")), is(true))
+        );
+
+        assertThat(bounds.updateFinished(consumer).isEmpty(), is(true));
+
+        consumer.seek(PARTITION_1, 15);
+
+        assertAll(
+            () -> assertThat(bounds.updateFinished(consumer), is(List.of(PARTITION_1))),
+            () -> assertThat(consumer.assignment(), is(Set.of(PARTITION_0))),
+            () -> assertThat(bounds.isFinished(), is(false))
+        );
+
+        consumer.seek(PARTITION_0, 16);
+
+        assertAll(
+            () -> assertThat(bounds.updateFinished(consumer), is(List.of(PARTITION_0))),
+            () -> assertThat(bounds.isFinished(), is(true))
+        );
+    }
+
+    /**
+     * Mock consumer with the partition 0 starting at offset 5 and ending at 100, partition 1 starting at 0 and ending at 20,
+     * and with configurable offsets for timestamps.
+     */
+    private static class TimestampConsumer extends MockConsumer<String, String> {
+        private final Map<Long, Map<TopicPartition, Long>> offsetsForTimestamps = new HashMap<>();
+
+        TimestampConsumer() {
+            super("earliest");
+            updateBeginningOffsets(Map.of(PARTITION_0, 5L, PARTITION_1, 0L));
+            updateEndOffsets(Map.of(PARTITION_0, 100L, PARTITION_1, 20L));
+        }
+
+        @Override
+        public synchronized Map<TopicPartition, OffsetAndTimestamp> offsetsForTimes(Map<TopicPartition, Long> timestampsToSearch) {
+            Map<TopicPartition, OffsetAndTimestamp> result = new HashMap<>();
+
+            timestampsToSearch.forEach((partition, timestamp) -> {
+                Long offset = offsetsForTimestamps.getOrDefault(timestamp, Map.of()).get(partition);
+
+                if (offset != null) {
+                    result.put(partition, new OffsetAndTimestamp(offset, timestamp));
+                }
+            });
+
+            return result;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.unit.common.commit;
+
+import io.strimzi.testclients.common.commit.CommitStats;
+import io.strimzi.testclients.common.commit.CommitStrategy;
+import io.strimzi.testclients.common.commit.OffsetCommitter;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetCommitCallback;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class OffsetCommitterTest {
+    private static final String TOPIC = "my-topic";
+
+    @Test
+    void testSyncCommitAfterEveryPoll() {
+        RecordingConsumer consumer = new RecordingConsumer();
+        CommitStats commitStats = new CommitStats();
+        OffsetCommitter offsetCommitter = new OffsetCommitter(consumer, CommitStrategy.SYNC, 1000, 5000, false, commitStats);
+
+        offsetCommitter.recordProcessed(record(0, 0));
+
+        assertAll(
+            () -> assertThat(offsetCommitter.commit(), is(true)),
+            () -> assertThat(offsetCommitter.commit(), is(true)),
+            () -> assertThat(consumer.commits, is(List.of("sync", "sync"))),
+            () -> assertThat(commitStats.getCommits(), is(2L)),
+            () -> assertThat(commitStats.getCommitLatency().getCount(), is(2L))
+        );
+    }
+
+    @Test
+    void testAsyncCommitWithFinalSyncCommit() {
+        RecordingConsumer consumer = new RecordingConsumer();
+        CommitStats commitStats = new CommitStats();
+        OffsetCommitter offsetCommitter = new OffsetCommitter(consumer, CommitStrategy.ASYNC, 1000, 5000, false, commitStats);
+
+        // nothing to commit
+        offsetCommitter.commit();
+
+        offsetCommitter.recordProcessed(record(0, 0));
+        offsetCommitter.commit();
+        offsetCommitter.commitFinal();
+
+        assertAll(
+            () -> assertThat(consumer.commits, is(List.of("async", "sync"))),
+            () -> assertThat(commitStats.getCommits(), is(2L))
+        );
+    }
+
+    @Test
+    void testBatchCommitAfterRecordsOrInterval() {
+        RecordingConsumer consumer = new RecordingConsumer();
+        AtomicLong clock = new AtomicLong(0);
+        CommitStats commitStats = new CommitStats();
+        OffsetCommitter offsetCommitter = new OffsetCommitter(consumer, CommitStrategy.BATCH, 5, 1000, false, commitStats, clock::get);
+
+        for (int i = 0; i < 4; i++) {
+            offsetCommitter.recordProcessed(record(0, i));
+            offsetCommitter.commit();
+        }
+
+        assertThat(consumer.commits.size(), is(0));
+
+        // 5th record reaches the COMMIT_RECORDS
+        offsetCommitter.recordProcessed(record(0, 4));
+        offsetCommitter.commit();
+
+        assertThat(consumer.commits.size(), is(1));
+
+        // COMMIT_INTERVAL_MS elapsed
+        offsetCommitter.recordProcessed(record(0, 5));
+        offsetCommitter.commit();
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        offsetCommitter.commit();
+
+        assertThat(consumer.commits.size(), is(2));
+
+        // nothing is pending, so the final commit is not needed
+        offsetCommitter.commitFinal();
+
+        assertThat(consumer.commits.size(), is(2));
+    }
+
+    @Test
+    void testBatchCommitWithOffsetsMarkedPerPoll() {
+        RecordingConsumer consumer = new RecordingConsumer();
+        CommitStats commitStats = new CommitStats();
+        OffsetCommitter offsetCommitter = new OffsetCommitter(consumer, CommitStrategy.BATCH, 5, 1000, false, commitStats, () -> 0);
+
+        // the records of the partition are marked once for the whole poll
+        offsetCommitter.offsetsCompleted(new TopicPartition(TOPIC, 0), 4, 4);
+        offsetCommitter.commit();
+
+        assertThat(consumer.commits.size(), is(0));
+
+        offsetCommitter.offsetsCompleted(new TopicPartition(TOPIC, 1), 11, 3);
+        offsetCommitter.commit();
+
+        assertThat(consumer.commits, is(List.of("sync")));
+
+        // the revoked partitions without processed records are not committed again
+        offsetCommitter.onPartitionsRevoked(List.of(new TopicPartition(TOPIC, 0), new TopicPartition(TOPIC, 1)));
+
+        assertThat(consumer.commits, is(List.of("sync")));
+    }
+
+    @Test
+    void testPerPartitionCommit() {
+        RecordingConsumer consumer = new RecordingConsumer();
+        CommitStats commitStats = new CommitStats();
+        OffsetCommitter offsetCommitter = new OffsetCommitter(consumer, CommitStrategy.PER_PARTITION, 1000, 5000, false, commitStats);
+
+        offsetCommitter.recordProcessed(record(0, 10));
+        offsetCommitter.recordProcessed(record(0, 11));
+        offsetCommitter.recordProcessed(record(2, 7));
+        offsetCommitter.commit();
+
+        // no records were processed since the last commit
+        offsetCommitter.commit();
+
+        assertAll(
+            () -> assertThat(consumer.commits, is(List.of("sync-offsets"))),
+            () -> assertThat(consumer.committedOffsets.getFirst(), is(Map.of(
+                new TopicPartition(TOPIC, 0), new OffsetAndMetadata(12),
+                new TopicPartition(TOPIC, 2), new OffsetAndMetadata(8))))
+        );
+    }
+
+    @Test
+    void testOnlyCompletedOffsetsAreCommitted() {
+        RecordingConsumer consumer = new RecordingConsumer();
+        CommitStats commitStats = new CommitStats();
+        OffsetCommitter offsetCommitter = new OffsetCommitter(consumer, CommitStrategy.ASYNC, 1000, 5000, true, commitStats);
+
+        // nothing was completed yet
+        offsetCommitter.commit();
+        offsetCommitter.commitFinal();
+
+        offsetCommitter.offsetsCompleted(new TopicPartition(TOPIC, 0), 100, 20);
+        offsetCommitter.commit();
+
+        assertAll(
+            () -> assertThat(consumer.commits, is(List.of("async-offsets"))),
+            () -> assertThat(consumer.committedOffsets.getFirst(), is(Map.of(new TopicPartition(TOPIC, 0), new OffsetAndMetadata(100))))
+        );
+    }
+
+    @Test
+    void testRevokedPartitionsAreCommitted() {
+        RecordingConsumer consumer = new RecordingConsumer();
+        CommitStats commitStats = new CommitStats();
+        OffsetCommitter offsetCommitter = new OffsetCommitter(consumer, CommitStrategy.BATCH, 1000, 5000, false, commitStats);
+
+        offsetCommitter.recordProcessed(record(0, 3));
+        offsetCommitter.recordProcessed(record(1, 5));
+        offsetCommitter.onPartitionsRevoked(List.of(new TopicPartition(TOPIC, 0)));
+
+        assertAll(
+            () -> assertThat(consumer.commits, is(List.of("sync-offsets"))),
+            () -> assertThat(consumer.committedOffsets.getFirst(), is(Map.of(new TopicPartition(TOPIC, 0), new OffsetAndMetadata(4))))
+        );
+
+        // offset of the partition 1 is still pending
+        offsetCommitter.commitFinal();
+
+        assertThat(consumer.commits, is(List.of("sync-offsets", "sync")));
+    }
+
+    @Test
+    void testFailedCommitsAreCounted() {
+        RecordingConsumer consumer = new RecordingConsumer();
+        consumer.failCommits = true;
+        CommitStats commitStats = new CommitStats();
+        OffsetCommitter offsetCommitter = new OffsetCommitter(consumer, CommitStrategy.SYNC, 1000, 5000, false, commitStats);
+
+        offsetCommitter.recordProcessed(record(0, 0));
+
+        assertAll(
+            () -> assertThat(offsetCommitter.commit(), is(false)),
+            () -> assertThat(commitStats.getCommits(), is(0L)),
+            () -> assertThat(commitStats.getFailedCommits(), is(1L)),
+            () -> assertThat(commitStats.toSummaryString(), is("0 commits, 1 failed"))
+        );
+
+        consumer.failCommits = false;
+        offsetCommitter.commit();
+
+        assertThat(commitStats.toSummaryString(), containsString("1 commits, 1 failed, latency avg="));
+    }
+
+    private static ConsumerRecord<String, String> record(int partition, long offset) {
+        return new ConsumerRecord<>(TOPIC, partition, offset, "key", "value");
+    }
+
+    /**
+     * Mock consumer which records the commits instead of committing the offsets of the assigned partitions.
+     */
+    private static class RecordingConsumer extends MockConsumer<String, String> {
+        private final List<String> commits = new ArrayList<>();
+        private final List<Map<TopicPartition, OffsetAndMetadata>> committedOffsets = new ArrayList<>();
+        private boolean failCommits = false;
+
+        RecordingConsumer() {
+            super("earliest");
+        }
+
+        @Override
+        public synchronized void commitSync() {
+            maybeFail();
+            commits.add("sync");
+        }
+
+        @Override
+        public synchronized void commitSync(Map<TopicPartition, OffsetAndMetadata> offsets) {
+            maybeFail();
+            commits.add("sync-offsets");
+            committedOffsets.add(offsets);
+        }
+
+        @Override
+        public synchronized void commitAsync(Map<TopicPartition, OffsetAndMetadata> offsets, OffsetCommitCallback callback) {
+            commits.add("async-offsets");
+            committedOffsets.add(offsets);
+            callback.onComplete(offsets, null);
+        }
+
+        @Override
+        public synchronized void commitAsync(OffsetCommitCallback callback) {
+            commits.add("async");
+            callback.onComplete(Map.of(), failCommits ? new KafkaException("Commit failed") : null);
+        }
+
+        private void maybeFail() {
+            if (failCommits) {
+                throw new KafkaException("Commit failed");
+            }
+        }
+    }
+}
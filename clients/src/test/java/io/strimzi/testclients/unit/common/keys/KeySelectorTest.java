@@ -0,0 +1,92 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.unit.common.keys;
+
+import io.strimzi.testclients.common.keys.HotspotKeySelector;
+import io.strimzi.testclients.common.keys.KeyDistribution;
+import io.strimzi.testclients.common.keys.KeySelector;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class KeySelectorTest {
+    private static final int SAMPLES = 200_000;
+
+    @Test
+    void testSequentialKeys() {
+        KeySelector keySelector = KeySelector.create(KeyDistribution.SEQUENTIAL, 3, 0, 0, 0);
+
+        assertAll(
+            () -> assertThat(keySelector.nextKeyIndex(0), is(0)),
+            () -> assertThat(keySelector.nextKeyIndex(1), is(1)),
+            () -> assertThat(keySelector.nextKeyIndex(2), is(2)),
+            () -> assertThat(keySelector.nextKeyIndex(3), is(0))
+        );
+    }
+
+    @Test
+    void testUniformKeys() {
+        int[] counts = sample(KeySelector.create(KeyDistribution.UNIFORM, 4, 0, 0, 0), 4);
+
+        for (int count : counts) {
+            assertThat(count / (double) SAMPLES, closeTo(0.25, 0.01));
+        }
+    }
+
+    @Test
+    void testZipfianKeys() {
+        int keyCount = 100;
+        int[] counts = sample(KeySelector.create(KeyDistribution.ZIPFIAN, keyCount, 1, 0, 0), keyCount);
+
+        double harmonicNumber = 0;
+        for (int i = 1; i <= keyCount; i++) {
+            harmonicNumber += 1d / i;
+        }
+
+        double expectedFirstKeyShare = 1 / harmonicNumber;
+        double expectedSecondKeyShare = 1 / (2 * harmonicNumber);
+
+        assertAll(
+            () -> assertThat(counts[0] / (double) SAMPLES, closeTo(expectedFirstKeyShare, 0.01)),
+            () -> assertThat(counts[1] / (double) SAMPLES, closeTo(expectedSecondKeyShare, 0.01)),
+            () -> assertThat(counts[0], greaterThan(counts[keyCount - 1] * 20))
+        );
+    }
+
+    @Test
+    void testHotspotKeys() {
+        int keyCount = 100;
+        KeySelector keySelector = KeySelector.create(KeyDistribution.HOTSPOT, keyCount, 0, 90, 10);
+        int[] counts = sample(keySelector, keyCount);
+
+        int hotKeysCount = 0;
+        for (int i = 0; i < 10; i++) {
+            hotKeysCount += counts[i];
+        }
+
+        assertThat(((HotspotKeySelector) keySelector).getHotKeyCount(), is(10));
+        assertThat(hotKeysCount / (double) SAMPLES, closeTo(0.9, 0.01));
+    }
+
+    @Test
+    void testDistributionWithoutKeyTable() {
+        assertThrows(IllegalArgumentException.class, () -> KeySelector.create(KeyDistribution.ROUND_ROBIN, 10, 0, 0, 0));
+    }
+
+    private static int[] sample(KeySelector keySelector, int keyCount) {
+        int[] counts = new int[keyCount];
+
+        for (int i = 0; i < SAMPLES; i++) {
+            counts[keySelector.nextKeyIndex(i)]++;
+        }
+
+        return counts;
+    }
+}
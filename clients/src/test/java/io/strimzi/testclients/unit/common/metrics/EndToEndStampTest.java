@@ -0,0 +1,46 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.unit.common.metrics;
+
+import io.strimzi.testclients.common.metrics.EndToEndStamp;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class EndToEndStampTest {
+
+    @Test
+    void testStampRoundTrip() {
+        EndToEndStamp stamp = new EndToEndStamp(123456789L, 42, EndToEndStamp.nowEpochNs());
+        byte[] bytes = stamp.toBytes();
+
+        assertAll(
+            () -> assertThat(bytes.length, is(EndToEndStamp.SIZE)),
+            () -> assertThat(EndToEndStamp.fromBytes(bytes), is(stamp))
+        );
+    }
+
+    @Test
+    void testInvalidStamp() {
+        assertAll(
+            () -> assertThat(EndToEndStamp.fromBytes(null), nullValue()),
+            () -> assertThat(EndToEndStamp.fromBytes(new byte[0]), nullValue()),
+            () -> assertThat(EndToEndStamp.fromBytes("not-a-stamp".getBytes()), nullValue())
+        );
+    }
+
+    @Test
+    void testNowEpochNs() {
+        long diffNs = Math.abs(EndToEndStamp.nowEpochNs() - TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis()));
+
+        assertThat(diffNs, lessThan(TimeUnit.SECONDS.toNanos(1)));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.unit.common.metrics;
+
+import io.strimzi.testclients.common.metrics.IntervalReporter;
+import io.strimzi.testclients.common.metrics.LatencyStats;
+import io.strimzi.testclients.common.metrics.PerformanceReport;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class IntervalReporterTest {
+
+    @Test
+    void testReportContainsOnlyTheLastInterval() {
+        AtomicLong clock = new AtomicLong(0);
+        AtomicLong bytes = new AtomicLong(0);
+        LatencyStats latencyStats = new LatencyStats();
+        IntervalReporter intervalReporter = new IntervalReporter("Sent", latencyStats::getCount, bytes::get, latencyStats, clock::get);
+
+        for (int i = 0; i < 100; i++) {
+            latencyStats.record(TimeUnit.MILLISECONDS.toNanos(100));
+        }
+        bytes.set(1000);
+        clock.set(TimeUnit.SECONDS.toNanos(1));
+
+        PerformanceReport firstInterval = intervalReporter.report();
+
+        for (int i = 0; i < 50; i++) {
+            latencyStats.record(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        bytes.set(1500);
+        clock.set(TimeUnit.SECONDS.toNanos(2));
+
+        PerformanceReport secondInterval = intervalReporter.report();
+
+        assertAll(
+            () -> assertThat(firstInterval.records(), is(100L)),
+            () -> assertThat(firstInterval.recordsPerSecond(), closeTo(100, 0.001)),
+            () -> assertThat(firstInterval.latencyMaxMs(), closeTo(100, 0.1)),
+            () -> assertThat(secondInterval.records(), is(50L)),
+            () -> assertThat(secondInterval.bytes(), is(500L)),
+            () -> assertThat(secondInterval.latencyMaxMs(), closeTo(1, 0.01))
+        );
+    }
+
+    @Test
+    void testReportWithoutLatency() {
+        AtomicLong clock = new AtomicLong(0);
+        IntervalReporter intervalReporter = new IntervalReporter("Received", () -> 10, () -> 100, null, clock::get);
+
+        clock.set(TimeUnit.SECONDS.toNanos(5));
+
+        assertThat(intervalReporter.report().recordsPerSecond(), closeTo(2, 0.001));
+        assertThat(intervalReporter.report().latencyP99Ms(), nullValue());
+    }
+}
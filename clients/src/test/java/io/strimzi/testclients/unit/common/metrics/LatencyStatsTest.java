@@ -0,0 +1,99 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.unit.common.metrics;
+
+import io.strimzi.testclients.common.metrics.LatencyStats;
+import io.strimzi.testclients.common.metrics.PerformanceReport;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class LatencyStatsTest {
+
+    @Test
+    void testLatenciesFromAllThreadsAreMerged() throws InterruptedException {
+        LatencyStats latencyStats = new LatencyStats();
+        List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < 4; i++) {
+            Thread thread = new Thread(() -> {
+                // 1 ms, 2 ms, ..., 1000 ms
+                for (int latencyMs = 1; latencyMs <= 1000; latencyMs++) {
+                    latencyStats.record(TimeUnit.MILLISECONDS.toNanos(latencyMs));
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Histogram histogram = latencyStats.getHistogram();
+
+        assertAll(
+            () -> assertThat(histogram.getTotalCount(), is(4000L)),
+            () -> assertThat(histogram.getValueAtPercentile(50) / 1000d, closeTo(500, 1)),
+            () -> assertThat(histogram.getValueAtPercentile(99) / 1000d, closeTo(990, 1)),
+            () -> assertThat(histogram.getMaxValue() / 1000d, closeTo(1000, 1))
+        );
+
+        // latencies recorded after the first read are added to the previous ones
+        latencyStats.record(TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(latencyStats.getCount(), is(4001L));
+    }
+
+    @Test
+    void testLatencyOutOfRangeIsCapped() {
+        LatencyStats latencyStats = new LatencyStats();
+
+        latencyStats.record(TimeUnit.HOURS.toNanos(2));
+        latencyStats.record(-1);
+
+        Histogram histogram = latencyStats.getHistogram();
+
+        assertAll(
+            () -> assertThat(histogram.getTotalCount(), is(2L)),
+            () -> assertThat(histogram.getMinValue(), is(0L)),
+            () -> assertThat(histogram.valuesAreEquivalent(histogram.getMaxValue(), TimeUnit.HOURS.toMicros(1)), is(true))
+        );
+    }
+
+    @Test
+    void testPerformanceReport() {
+        LatencyStats latencyStats = new LatencyStats();
+
+        for (int i = 0; i < 100; i++) {
+            latencyStats.record(TimeUnit.MILLISECONDS.toNanos(2));
+        }
+
+        // 100 records, 1 MB in 2 seconds
+        PerformanceReport report = PerformanceReport.of(100, 1024 * 1024, TimeUnit.SECONDS.toNanos(2), latencyStats.getHistogram());
+        PerformanceReport throughputReport = PerformanceReport.of(100, 0, TimeUnit.SECONDS.toNanos(2), null);
+
+        assertAll(
+            () -> assertThat(report.records(), is(100L)),
+            () -> assertThat(report.recordsPerSecond(), closeTo(50, 0.001)),
+            () -> assertThat(report.mbPerSecond(), closeTo(0.5, 0.001)),
+            () -> assertThat(report.latencyP50Ms(), closeTo(2, 0.01)),
+            () -> assertThat(report.latencyP999Ms(), closeTo(2, 0.01)),
+            () -> assertThat(report.toPlainString(), containsString("50.0 records/s, 0.500 MB/s")),
+            () -> assertThat(report.toJsonString(), containsString("\"records\":100,\"bytes\":1048576,")),
+            () -> assertThat(throughputReport.toPlainString(), is("100 records (0 bytes) in 2000.0 ms: 50.0 records/s, 0.000 MB/s")),
+            () -> assertThat(throughputReport.toJsonString(), not(containsString("latency")))
+        );
+    }
+}
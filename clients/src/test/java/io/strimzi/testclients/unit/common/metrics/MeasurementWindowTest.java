@@ -0,0 +1,56 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.unit.common.metrics;
+
+import io.strimzi.testclients.common.metrics.MeasurementWindow;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class MeasurementWindowTest {
+
+    @Test
+    void testTimeBasedRunWithWarmup() {
+        AtomicLong clock = new AtomicLong(0);
+        // 1 second of warmup, 10 seconds of measurement
+        MeasurementWindow measurementWindow = new MeasurementWindow(1000, 10_000, clock::get);
+
+        clock.set(TimeUnit.SECONDS.toNanos(5));
+        measurementWindow.start();
+
+        assertThat(measurementWindow.isTimeBased(), is(true));
+        assertThat(measurementWindow.isWarmup(), is(true));
+        assertThat(measurementWindow.getMeasurementDurationNs(), is(0L));
+
+        clock.set(TimeUnit.SECONDS.toNanos(6));
+        assertThat(measurementWindow.isWarmup(), is(false));
+        assertThat(measurementWindow.isFinished(), is(false));
+        assertThat(measurementWindow.getRemainingNs(), is(TimeUnit.SECONDS.toNanos(10)));
+
+        clock.set(TimeUnit.SECONDS.toNanos(16));
+        assertThat(measurementWindow.isFinished(), is(true));
+        assertThat(measurementWindow.getRemainingNs(), is(0L));
+        assertThat(measurementWindow.getMeasurementDurationNs(), is(TimeUnit.SECONDS.toNanos(10)));
+    }
+
+    @Test
+    void testCountBasedRun() {
+        AtomicLong clock = new AtomicLong(0);
+        MeasurementWindow measurementWindow = new MeasurementWindow(0, 0, clock::get);
+        measurementWindow.start();
+
+        clock.set(TimeUnit.HOURS.toNanos(1));
+
+        assertThat(measurementWindow.isTimeBased(), is(false));
+        assertThat(measurementWindow.isWarmup(), is(false));
+        assertThat(measurementWindow.isFinished(), is(false));
+        assertThat(measurementWindow.getRemainingNs(), is(Long.MAX_VALUE));
+        assertThat(measurementWindow.getMeasurementDurationNs(), is(TimeUnit.HOURS.toNanos(1)));
+    }
+}
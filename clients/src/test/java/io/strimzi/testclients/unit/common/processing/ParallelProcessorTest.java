@@ -0,0 +1,177 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.unit.common.processing;
+
+import io.strimzi.testclients.common.processing.ParallelProcessor;
+import io.strimzi.testclients.common.processing.ProcessingCost;
+import io.strimzi.testclients.common.processing.ProcessingOrder;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class ParallelProcessorTest {
+    private static final String TOPIC = "my-topic";
+
+    @Test
+    void testOrderWithinPartitionIsKept() {
+        Map<Integer, List<Long>> processedOffsets = new ConcurrentHashMap<>();
+
+        try (ParallelProcessor processor = new ParallelProcessor(4, ProcessingOrder.PARTITION, "test-processing")) {
+            for (long offset = 0; offset < 300; offset++) {
+                for (int partition = 0; partition < 6; partition++) {
+                    ConsumerRecord<String, String> record = new ConsumerRecord<>(TOPIC, partition, offset, "key-" + offset, "value");
+                    processor.submit(record, () -> processedOffsets.computeIfAbsent(record.partition(), p -> Collections.synchronizedList(new ArrayList<>())).add(record.offset()));
+                }
+            }
+
+            assertThat(processor.awaitIdle(TimeUnit.SECONDS.toMillis(30)), is(true));
+
+            List<ParallelProcessor.CompletedOffsets> completedOffsets = processor.collectCompleted();
+
+            assertThat(completedOffsets.size(), is(6));
+
+            for (ParallelProcessor.CompletedOffsets partitionOffsets : completedOffsets) {
+                assertAll(
+                    () -> assertThat(partitionOffsets.nextOffset(), is(300L)),
+                    () -> assertThat(partitionOffsets.records(), is(300L))
+                );
+            }
+        }
+
+        for (List<Long> offsets : processedOffsets.values()) {
+            List<Long> sortedOffsets = new ArrayList<>(offsets);
+            Collections.sort(sortedOffsets);
+
+            assertThat(offsets, is(sortedOffsets));
+        }
+    }
+
+    @Test
+    void testOnlyContiguousOffsetsAreCompleted() throws InterruptedException {
+        CountDownLatch blockFirstRecord = new CountDownLatch(1);
+
+        try (ParallelProcessor processor = new ParallelProcessor(2, ProcessingOrder.KEY, "test-processing")) {
+            // keys "a" and "b" are processed by different lanes
+            processor.submit(new ConsumerRecord<>(TOPIC, 0, 0, "a", "value"), () -> {
+                try {
+                    blockFirstRecord.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            processor.submit(new ConsumerRecord<>(TOPIC, 0, 1, "b", "value"), () -> { });
+            processor.submit(new ConsumerRecord<>(TOPIC, 1, 5, "b", "value"), () -> { });
+
+            // wait for the records of the key "b"
+            while (processor.getInFlight() > 1) {
+                Thread.sleep(1);
+            }
+
+            // offset 1 of the partition 0 is completed, but the offset 0 is still in progress
+            List<ParallelProcessor.CompletedOffsets> completedOffsets = processor.collectCompleted();
+
+            assertAll(
+                () -> assertThat(completedOffsets.size(), is(1)),
+                () -> assertThat(completedOffsets.getFirst(), is(new ParallelProcessor.CompletedOffsets(new TopicPartition(TOPIC, 1), 6, 1)))
+            );
+
+            blockFirstRecord.countDown();
+            processor.awaitIdle(TimeUnit.SECONDS.toMillis(30));
+
+            assertThat(processor.collectCompleted(), is(List.of(new ParallelProcessor.CompletedOffsets(new TopicPartition(TOPIC, 0), 2, 2))));
+            assertThat(processor.collectCompleted().isEmpty(), is(true));
+        }
+    }
+
+    @Test
+    void testOrderOfByteArrayKeysIsKept() {
+        Map<String, List<Long>> processedOffsets = new ConcurrentHashMap<>();
+
+        try (ParallelProcessor processor = new ParallelProcessor(8, ProcessingOrder.KEY, "test-processing")) {
+            for (long offset = 0; offset < 300; offset++) {
+                // every record has its own instance of the key bytes
+                byte[] key = ("key-" + offset % 3).getBytes(StandardCharsets.UTF_8);
+                ConsumerRecord<byte[], String> record = new ConsumerRecord<>(TOPIC, (int) (offset % 4), offset, key, "value");
+
+                processor.submit(record, () -> {
+                    // processing in the wrong order is more likely with random processing times
+                    ProcessingCost.of(ThreadLocalRandom.current().nextDouble(0.1), false).apply();
+                    processedOffsets.computeIfAbsent(new String(record.key(), StandardCharsets.UTF_8), k -> Collections.synchronizedList(new ArrayList<>())).add(record.offset());
+                });
+            }
+
+            assertThat(processor.awaitIdle(TimeUnit.SECONDS.toMillis(30)), is(true));
+        }
+
+        assertThat(processedOffsets.size(), is(3));
+
+        for (List<Long> offsets : processedOffsets.values()) {
+            List<Long> sortedOffsets = new ArrayList<>(offsets);
+            Collections.sort(sortedOffsets);
+
+            assertThat(offsets, is(sortedOffsets));
+        }
+    }
+
+    @Test
+    void testRemovedPartitionsReturnTheirProcessedRecords() throws InterruptedException {
+        CountDownLatch blockFirstRecord = new CountDownLatch(1);
+
+        try (ParallelProcessor processor = new ParallelProcessor(2, ProcessingOrder.KEY, "test-processing")) {
+            processor.submit(new ConsumerRecord<>(TOPIC, 0, 0, "a", "value"), () -> {
+                try {
+                    blockFirstRecord.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            processor.submit(new ConsumerRecord<>(TOPIC, 0, 1, "b", "value"), () -> { });
+            processor.submit(new ConsumerRecord<>(TOPIC, 0, 2, "b", "value"), () -> { });
+
+            while (processor.getInFlight() > 1) {
+                Thread.sleep(1);
+            }
+
+            // offsets 1 and 2 are processed, but they are not contiguously completed
+            assertThat(processor.collectCompleted().isEmpty(), is(true));
+            assertThat(processor.removePartitions(List.of(new TopicPartition(TOPIC, 0), new TopicPartition(TOPIC, 1))), is(2L));
+
+            blockFirstRecord.countDown();
+            processor.awaitIdle(TimeUnit.SECONDS.toMillis(30));
+
+            assertThat(processor.collectCompleted().isEmpty(), is(true));
+        }
+    }
+
+    @Test
+    void testProcessingCost() {
+        for (boolean burnCpu : List.of(false, true)) {
+            ProcessingCost processingCost = ProcessingCost.of(2.5, burnCpu);
+            long startNs = System.nanoTime();
+
+            processingCost.apply();
+
+            assertAll(
+                () -> assertThat(processingCost.timeNs(), is(2_500_000L)),
+                () -> assertThat(System.nanoTime() - startNs, greaterThanOrEqualTo(2_500_000L))
+            );
+        }
+    }
+}
@@ -5,10 +5,13 @@
 package io.strimzi.testclients.unit.common.properties;
 
 import io.strimzi.testclients.common.properties.KafkaProperties;
+import io.strimzi.testclients.common.streams.ProcessingGuarantee;
+import io.strimzi.testclients.common.streams.StreamsSettings;
 import io.strimzi.testclients.configuration.kafka.KafkaConsumerConfiguration;
 import io.strimzi.testclients.configuration.kafka.KafkaProducerConfiguration;
 import io.strimzi.testclients.configuration.kafka.KafkaStreamsConfiguration;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.CooperativeStickyAssignor;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.Serdes;
 import org.apache.kafka.common.serialization.StringDeserializer;
@@ -29,10 +32,16 @@ import static io.strimzi.testclients.configuration.ConfigurationConstants.COMMIT
 import static io.strimzi.testclients.configuration.ConfigurationConstants.DEFAULT_CLIENT_ID;
 import static io.strimzi.testclients.configuration.ConfigurationConstants.DEFAULT_COMMIT_INTERVAL_MS;
 import static io.strimzi.testclients.configuration.ConfigurationConstants.DEFAULT_GROUP_ID;
+import static io.strimzi.testclients.configuration.ConfigurationConstants.DEFAULT_NUM_STREAM_THREADS;
 import static io.strimzi.testclients.configuration.ConfigurationConstants.DEFAULT_PRODUCER_ACKS;
+import static io.strimzi.testclients.configuration.ConfigurationConstants.DEFAULT_STATESTORE_CACHE_MAX_BYTES;
 import static io.strimzi.testclients.configuration.ConfigurationConstants.GROUP_ID_ENV;
+import static io.strimzi.testclients.configuration.ConfigurationConstants.NUM_STREAM_THREADS_ENV;
+import static io.strimzi.testclients.configuration.ConfigurationConstants.PROCESSING_GUARANTEE_ENV;
 import static io.strimzi.testclients.configuration.ConfigurationConstants.PRODUCER_ACKS_ENV;
+import static io.strimzi.testclients.configuration.ConfigurationConstants.REBALANCE_SCENARIO_ENV;
 import static io.strimzi.testclients.configuration.ConfigurationConstants.SOURCE_TOPIC_ENV;
+import static io.strimzi.testclients.configuration.ConfigurationConstants.STATESTORE_CACHE_MAX_BYTES_ENV;
 import static io.strimzi.testclients.configuration.ConfigurationConstants.TARGET_TOPIC_ENV;
 import static io.strimzi.testclients.configuration.ConfigurationConstants.TOPIC_ENV;
 import static org.hamcrest.CoreMatchers.is;
@@ -115,6 +124,40 @@ public class KafkaPropertiesTest {
             is("io.apicurio.registry.serde.avro.AvroKafkaDeserializer"));
     }
 
+    @Test
+    void testConfigureConsumerRebalanceScenario() {
+        Map<String, String> configuration = new HashMap<>();
+        configuration.put(BOOTSTRAP_SERVERS_ENV, "my-cluster-kafka:9092");
+        configuration.put(TOPIC_ENV, "my-topic");
+        configuration.put(CLIENT_ID_ENV, "my-consumer-0");
+
+        Properties consumerProperties = KafkaProperties.consumerProperties(new KafkaConsumerConfiguration(configuration));
+
+        assertThat(consumerProperties.getProperty(ConsumerConfig.PARTITION_ASSIGNMENT_STRATEGY_CONFIG), nullValue());
+        assertThat(consumerProperties.getProperty(ConsumerConfig.GROUP_PROTOCOL_CONFIG), nullValue());
+        assertThat(consumerProperties.getProperty(ConsumerConfig.GROUP_INSTANCE_ID_CONFIG), nullValue());
+
+        configuration.put(REBALANCE_SCENARIO_ENV, "cooperative");
+        consumerProperties = KafkaProperties.consumerProperties(new KafkaConsumerConfiguration(configuration));
+
+        assertThat(consumerProperties.getProperty(ConsumerConfig.PARTITION_ASSIGNMENT_STRATEGY_CONFIG), is(CooperativeStickyAssignor.class.getName()));
+
+        configuration.put(REBALANCE_SCENARIO_ENV, "static-consumer-protocol");
+        consumerProperties = KafkaProperties.consumerProperties(new KafkaConsumerConfiguration(configuration));
+
+        assertThat(consumerProperties.getProperty(ConsumerConfig.PARTITION_ASSIGNMENT_STRATEGY_CONFIG), nullValue());
+        assertThat(consumerProperties.getProperty(ConsumerConfig.GROUP_PROTOCOL_CONFIG), is("consumer"));
+        assertThat(consumerProperties.getProperty(ConsumerConfig.GROUP_INSTANCE_ID_CONFIG), is("my-consumer-0"));
+
+        // the group.instance.id from the additional config is kept
+        configuration.put(REBALANCE_SCENARIO_ENV, "static");
+        configuration.put(ADDITIONAL_CONFIG_ENV, "group.instance.id=my-instance");
+        consumerProperties = KafkaProperties.consumerProperties(new KafkaConsumerConfiguration(configuration));
+
+        assertThat(consumerProperties.getProperty(ConsumerConfig.GROUP_PROTOCOL_CONFIG), nullValue());
+        assertThat(consumerProperties.getProperty(ConsumerConfig.GROUP_INSTANCE_ID_CONFIG), is("my-instance"));
+    }
+
     @Test
     void testConfigureStreamsProperties() {
         String appId = "my-app-0";
@@ -150,4 +193,75 @@ public class KafkaPropertiesTest {
         assertThat(streamsProperties.getProperty(StreamsConfig.DEFAULT_KEY_SERDE_CLASS_CONFIG),
             is("io.apicurio.registry.serde.avro.AvroKafkaDeserializer"));
     }
+
+    @Test
+    void testConfigureStreamsSettings() {
+        Map<String, String> configuration = new HashMap<>();
+        configuration.put(BOOTSTRAP_SERVERS_ENV, "my-cluster-kafka:9092");
+        configuration.put(SOURCE_TOPIC_ENV, "source-my-topic");
+        configuration.put(TARGET_TOPIC_ENV, "target-my-topic");
+        configuration.put(APPLICATION_ID_ENV, "my-app-0");
+
+        // check default properties
+        Properties streamsProperties = KafkaProperties.streamsProperties(new KafkaStreamsConfiguration(configuration));
+
+        assertThat(streamsProperties.get(StreamsConfig.PROCESSING_GUARANTEE_CONFIG), is(StreamsConfig.AT_LEAST_ONCE));
+        assertThat(streamsProperties.get(StreamsConfig.NUM_STREAM_THREADS_CONFIG), is(DEFAULT_NUM_STREAM_THREADS));
+        assertThat(streamsProperties.get(StreamsConfig.STATESTORE_CACHE_MAX_BYTES_CONFIG), is(DEFAULT_STATESTORE_CACHE_MAX_BYTES));
+
+        configuration.put(PROCESSING_GUARANTEE_ENV, "exactly_once_v2");
+        configuration.put(NUM_STREAM_THREADS_ENV, "4");
+        configuration.put(STATESTORE_CACHE_MAX_BYTES_ENV, "0");
+        // the key and value serdes are configured independently
+        configuration.put(ADDITIONAL_CONFIG_ENV, "default.value.serde=org.apache.kafka.common.serialization.Serdes$ByteArraySerde");
+
+        KafkaStreamsConfiguration kafkaStreamsConfiguration = new KafkaStreamsConfiguration(configuration);
+        streamsProperties = KafkaProperties.streamsProperties(kafkaStreamsConfiguration);
+
+        // check custom properties
+        assertThat(streamsProperties.get(StreamsConfig.PROCESSING_GUARANTEE_CONFIG), is(StreamsConfig.EXACTLY_ONCE_V2));
+        assertThat(streamsProperties.get(StreamsConfig.NUM_STREAM_THREADS_CONFIG), is(4));
+        assertThat(streamsProperties.get(StreamsConfig.STATESTORE_CACHE_MAX_BYTES_CONFIG), is(0L));
+        assertThat(streamsProperties.get(StreamsConfig.DEFAULT_KEY_SERDE_CLASS_CONFIG), is(Serdes.String().getClass().getName()));
+        assertThat(streamsProperties.get(StreamsConfig.DEFAULT_VALUE_SERDE_CLASS_CONFIG), is(Serdes.ByteArray().getClass().getName()));
+
+        // settings of a run of the sweep
+        streamsProperties = KafkaProperties.streamsProperties(kafkaStreamsConfiguration,
+            new StreamsSettings(ProcessingGuarantee.AT_LEAST_ONCE, 2, 1024, 100));
+
+        assertThat(streamsProperties.get(StreamsConfig.PROCESSING_GUARANTEE_CONFIG), is(StreamsConfig.AT_LEAST_ONCE));
+        assertThat(streamsProperties.get(StreamsConfig.NUM_STREAM_THREADS_CONFIG), is(2));
+        assertThat(streamsProperties.get(StreamsConfig.STATESTORE_CACHE_MAX_BYTES_CONFIG), is(1024L));
+        assertThat(streamsProperties.get(StreamsConfig.COMMIT_INTERVAL_MS_CONFIG), is(100L));
+    }
+
+    @Test
+    void testStreamsSettingsFromAdditionalConfig() {
+        Map<String, String> configuration = new HashMap<>();
+        configuration.put(BOOTSTRAP_SERVERS_ENV, "my-cluster-kafka:9092");
+        configuration.put(SOURCE_TOPIC_ENV, "source-my-topic");
+        configuration.put(TARGET_TOPIC_ENV, "target-my-topic");
+        configuration.put(APPLICATION_ID_ENV, "my-app-0");
+        configuration.put(ADDITIONAL_CONFIG_ENV, "processing.guarantee=exactly_once_v2\n" +
+            "num.stream.threads=3\n" +
+            "statestore.cache.max.bytes=2048\n" +
+            "commit.interval.ms=500");
+
+        // the settings from the ADDITIONAL_CONFIG are not overridden by the defaults
+        KafkaStreamsConfiguration kafkaStreamsConfiguration = new KafkaStreamsConfiguration(configuration);
+        Properties streamsProperties = KafkaProperties.streamsProperties(kafkaStreamsConfiguration);
+
+        assertThat(streamsProperties.get(StreamsConfig.PROCESSING_GUARANTEE_CONFIG), is(StreamsConfig.EXACTLY_ONCE_V2));
+        assertThat(streamsProperties.get(StreamsConfig.NUM_STREAM_THREADS_CONFIG), is(3));
+        assertThat(streamsProperties.get(StreamsConfig.STATESTORE_CACHE_MAX_BYTES_CONFIG), is(2048L));
+        assertThat(streamsProperties.get(StreamsConfig.COMMIT_INTERVAL_MS_CONFIG), is(500L));
+
+        // the environment variables take precedence over the ADDITIONAL_CONFIG
+        configuration.put(NUM_STREAM_THREADS_ENV, "2");
+
+        streamsProperties = KafkaProperties.streamsProperties(new KafkaStreamsConfiguration(configuration));
+
+        assertThat(streamsProperties.get(StreamsConfig.PROCESSING_GUARANTEE_CONFIG), is(StreamsConfig.EXACTLY_ONCE_V2));
+        assertThat(streamsProperties.get(StreamsConfig.NUM_STREAM_THREADS_CONFIG), is(2));
+    }
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.unit.common.rate;
+
+import io.strimzi.testclients.common.rate.LoadProfile;
+import io.strimzi.testclients.common.rate.LoadProfileScheduler;
+import io.strimzi.testclients.common.rate.LoadSegmentType;
+import io.strimzi.testclients.common.rate.TokenBucket;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LoadProfileTest {
+
+    @Test
+    void testRatesOfTheSegments() {
+        LoadProfile loadProfile = LoadProfile.parse("ramp:0:50000:2m,hold:50000:10m,burst:200000:10s,sine:10000:50000:1m:5m");
+
+        assertAll(
+            () -> assertThat(loadProfile.getSegments().size(), is(4)),
+            () -> assertThat(loadProfile.getSegments().get(2).type(), is(LoadSegmentType.BURST)),
+            () -> assertThat(loadProfile.getDurationMs(), is(TimeUnit.SECONDS.toMillis(120 + 600 + 10 + 300))),
+            // ramp
+            () -> assertThat(loadProfile.rateAt(0), closeTo(0, 0.001)),
+            () -> assertThat(loadProfile.rateAt(TimeUnit.MINUTES.toNanos(1)), closeTo(25000, 0.001)),
+            // hold
+            () -> assertThat(loadProfile.rateAt(TimeUnit.MINUTES.toNanos(2)), closeTo(50000, 0.001)),
+            () -> assertThat(loadProfile.rateAt(TimeUnit.MINUTES.toNanos(11)), closeTo(50000, 0.001)),
+            // burst
+            () -> assertThat(loadProfile.rateAt(TimeUnit.SECONDS.toNanos(725)), closeTo(200000, 0.001)),
+            // sine - middle, maximum after a quarter of the period, minimum after three quarters
+            () -> assertThat(loadProfile.rateAt(TimeUnit.SECONDS.toNanos(730)), closeTo(30000, 0.001)),
+            () -> assertThat(loadProfile.rateAt(TimeUnit.SECONDS.toNanos(745)), closeTo(50000, 0.001)),
+            () -> assertThat(loadProfile.rateAt(TimeUnit.SECONDS.toNanos(775)), closeTo(10000, 0.001)),
+            // after the end of the profile
+            () -> assertThat(loadProfile.rateAt(TimeUnit.HOURS.toNanos(1)), closeTo(30000, 0.001))
+        );
+    }
+
+    @Test
+    void testJsonProfile() {
+        LoadProfile loadProfile = LoadProfile.parse("""
+            [
+              {"type": "ramp", "from": 100, "to": 200, "duration": "10s"},
+              {"type": "step", "rate": 500, "duration": 5000}
+            ]
+            """);
+
+        assertAll(
+            () -> assertThat(loadProfile.getDurationMs(), is(15_000L)),
+            () -> assertThat(loadProfile.rateAt(TimeUnit.SECONDS.toNanos(5)), closeTo(150, 0.001)),
+            () -> assertThat(loadProfile.rateAt(TimeUnit.SECONDS.toNanos(12)), closeTo(500, 0.001)),
+            () -> assertThat(LoadProfile.parse(loadProfile.toString()).getSegments(), is(loadProfile.getSegments()))
+        );
+    }
+
+    @Test
+    void testInvalidProfile() {
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> LoadProfile.parse("")),
+            () -> assertThrows(IllegalArgumentException.class, () -> LoadProfile.parse("hold:1000")),
+            () -> assertThrows(IllegalArgumentException.class, () -> LoadProfile.parse("hold:-1:10s")),
+            () -> assertThrows(IllegalArgumentException.class, () -> LoadProfile.parse("hold:1000:0s")),
+            () -> assertThrows(IllegalArgumentException.class, () -> LoadProfile.parse("sine:500:100:1m:5m")),
+            () -> assertThrows(IllegalArgumentException.class, () -> LoadProfile.parse("[{\"type\":\"spike\",\"rate\":1,\"duration\":\"1s\"}]")),
+            () -> assertThrows(IllegalArgumentException.class, () -> LoadProfile.parse("[{\"type\":\"hold\""))
+        );
+    }
+
+    @Test
+    void testSchedulerDrivesTheTokenBucket() {
+        AtomicLong clock = new AtomicLong(0);
+        LoadProfileScheduler scheduler = new LoadProfileScheduler(LoadProfile.parse("hold:1000:1s,hold:10:1s"), clock::get);
+        TokenBucket tokenBucket = scheduler.getTokenBucket();
+
+        // 1000 tokens per second -> one token every 1 ms
+        assertThat(tokenBucket.reserve(1), is(0L));
+        assertThat(tokenBucket.reserve(1), is(1_000_000L));
+
+        // 10 tokens per second after 1 second -> one token every 100 ms
+        clock.set(TimeUnit.SECONDS.toNanos(1));
+        scheduler.updateRate();
+
+        assertThat(tokenBucket.reserve(1), is(2_000_000L));
+        assertThat(tokenBucket.reserve(1), is(102_000_000L));
+    }
+
+    @Test
+    void testProfileEndingAtZeroRateDoesNotBlockTheSender() throws Exception {
+        AtomicLong clock = new AtomicLong(0);
+        LoadProfileScheduler scheduler = new LoadProfileScheduler(LoadProfile.parse("hold:1000:1s,hold:0:1s"), clock::get);
+        TokenBucket tokenBucket = scheduler.getTokenBucket();
+
+        try {
+            scheduler.start();
+            assertThat(tokenBucket.reserve(1), is(0L));
+
+            clock.set(TimeUnit.MILLISECONDS.toNanos(1500));
+            scheduler.updateRate();
+            // the backlog of the sender is still due at the time of the pause
+            assertThat(tokenBucket.reserve(1), is(1_000_000L));
+
+            // the bucket is paused, so the sender waits until the end of the profile
+            CompletableFuture<Long> acquired = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return tokenBucket.acquire(1);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+
+            Thread.sleep(100);
+            assertThat(acquired.isDone(), is(false));
+            assertThat(tokenBucket.isExpired(), is(false));
+
+            clock.set(TimeUnit.SECONDS.toNanos(2));
+
+            acquired.get(5, TimeUnit.SECONDS);
+            assertThat(tokenBucket.isExpired(), is(true));
+        } finally {
+            scheduler.close();
+        }
+    }
+}
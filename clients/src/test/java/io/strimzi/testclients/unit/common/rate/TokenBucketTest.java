@@ -0,0 +1,100 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.unit.common.rate;
+
+import io.strimzi.testclients.common.rate.TokenBucket;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TokenBucketTest {
+
+    @Test
+    void testIntendedTimesFollowTheRate() {
+        AtomicLong clock = new AtomicLong(1_000);
+        // 1000 tokens per second -> one token every 1 ms
+        TokenBucket tokenBucket = new TokenBucket(1000, clock::get);
+
+        assertThat(tokenBucket.reserve(1), is(1_000L));
+        assertThat(tokenBucket.reserve(1), is(1_001_000L));
+        assertThat(tokenBucket.reserve(10), is(2_001_000L));
+        assertThat(tokenBucket.reserve(1), is(12_001_000L));
+    }
+
+    @Test
+    void testScheduleIsNotResetWhenSenderFallsBehind() {
+        AtomicLong clock = new AtomicLong(0);
+        TokenBucket tokenBucket = new TokenBucket(1000, clock::get);
+
+        assertThat(tokenBucket.reserve(1), is(0L));
+
+        // sender stalled for 1 second, the following sends keep their original intended times
+        clock.set(1_000_000_000L);
+
+        assertThat(tokenBucket.reserve(1), is(1_000_000L));
+        assertThat(tokenBucket.reserve(1), is(2_000_000L));
+    }
+
+    @Test
+    void testSubMillisecondRate() throws InterruptedException {
+        AtomicLong clock = new AtomicLong(0);
+        // one token every 1 us
+        TokenBucket tokenBucket = new TokenBucket(1_000_000, clock::get);
+
+        for (int i = 0; i < 50; i++) {
+            // all of these are inside of the burst window, so acquire returns without waiting
+            assertThat(tokenBucket.acquire(1), is(i * 1_000L));
+        }
+    }
+
+    @Test
+    void testRateChange() {
+        AtomicLong clock = new AtomicLong(0);
+        TokenBucket tokenBucket = new TokenBucket(1000, clock::get);
+
+        assertThat(tokenBucket.reserve(1), is(0L));
+        assertThat(tokenBucket.reserve(1), is(1_000_000L));
+
+        // tokens which are not due yet (including the already reserved one) follow the new rate from now on
+        clock.set(500_000L);
+        tokenBucket.setRate(100);
+
+        assertThat(tokenBucket.reserve(1), is(15_500_000L));
+
+        // backlog of the sender which fell behind is kept
+        clock.set(1_000_000_000L);
+        tokenBucket.setRate(1000);
+
+        assertThat(tokenBucket.reserve(1), is(25_500_000L));
+        assertThat(tokenBucket.reserve(1), is(26_500_000L));
+    }
+
+    @Test
+    void testPausedBucket() {
+        AtomicLong clock = new AtomicLong(0);
+        TokenBucket tokenBucket = new TokenBucket(1000, clock::get);
+
+        assertThat(tokenBucket.reserve(1), is(0L));
+
+        tokenBucket.setRate(0);
+        long pausedTimeNs = tokenBucket.reserve(1);
+
+        clock.set(1_000_000_000L);
+        tokenBucket.setRate(1000);
+
+        assertThat(pausedTimeNs > 1_000_000_000L, is(true));
+        assertThat(tokenBucket.reserve(1), is(1_002_000_000L));
+    }
+
+    @Test
+    void testInvalidRate() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(1000).setRate(-1));
+    }
+}
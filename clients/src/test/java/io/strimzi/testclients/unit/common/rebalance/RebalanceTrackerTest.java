@@ -0,0 +1,95 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.unit.common.rebalance;
+
+import io.strimzi.testclients.common.rebalance.RebalanceStats;
+import io.strimzi.testclients.common.rebalance.RebalanceTracker;
+import org.HdrHistogram.Histogram;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class RebalanceTrackerTest {
+    private static final TopicPartition PARTITION_0 = new TopicPartition("my-topic", 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition("my-topic", 1);
+    private static final TopicPartition PARTITION_2 = new TopicPartition("my-topic", 2);
+
+    @Test
+    void testEagerRebalanceOverMultiplePolls() {
+        AtomicLong clock = new AtomicLong(0);
+        RebalanceStats rebalanceStats = new RebalanceStats();
+        RebalanceTracker tracker = new RebalanceTracker("kafka-consumer", rebalanceStats, clock::get);
+
+        // joining the group is not a pause
+        poll(tracker, clock, 3000, () -> tracker.onPartitionsAssigned(List.of(PARTITION_0, PARTITION_1, PARTITION_2)));
+        poll(tracker, clock, 100, () -> { });
+
+        // all partitions are revoked, the group is re-joined in the next polls, and only 2 partitions are assigned back
+        poll(tracker, clock, 100, () -> tracker.onPartitionsRevoked(List.of(PARTITION_0, PARTITION_1, PARTITION_2)));
+        poll(tracker, clock, 100, () -> { });
+        poll(tracker, clock, 50, () -> tracker.onPartitionsAssigned(List.of(PARTITION_0, PARTITION_1)));
+
+        assertAll(
+            () -> assertThat(rebalanceStats.getRebalances(), is(1L)),
+            () -> assertThat(isPause(rebalanceStats, 250), is(true)),
+            () -> assertThat(rebalanceStats.getAssignedPartitions(), is(5L)),
+            () -> assertThat(rebalanceStats.getRevokedPartitions(), is(3L)),
+            () -> assertThat(rebalanceStats.getMovedInPartitions(), is(0L)),
+            () -> assertThat(rebalanceStats.getMovedOutPartitions(), is(1L)),
+            () -> assertThat(tracker.getOwnedPartitions(), is(Set.of(PARTITION_0, PARTITION_1)))
+        );
+    }
+
+    @Test
+    void testCooperativeRebalance() {
+        AtomicLong clock = new AtomicLong(0);
+        RebalanceStats rebalanceStats = new RebalanceStats();
+        RebalanceTracker tracker = new RebalanceTracker("kafka-consumer", rebalanceStats, clock::get);
+
+        poll(tracker, clock, 100, () -> tracker.onPartitionsAssigned(List.of(PARTITION_0)));
+
+        // nothing is revoked, another partition is assigned
+        poll(tracker, clock, 20, () -> tracker.onPartitionsAssigned(List.of(PARTITION_1)));
+
+        // the partition is lost
+        poll(tracker, clock, 10, () -> {
+            tracker.onPartitionsLost(List.of(PARTITION_0));
+            tracker.onPartitionsAssigned(List.of());
+        });
+
+        assertAll(
+            () -> assertThat(rebalanceStats.getRebalances(), is(2L)),
+            () -> assertThat(rebalanceStats.getLostPartitions(), is(1L)),
+            () -> assertThat(rebalanceStats.getMovedInPartitions(), is(1L)),
+            () -> assertThat(rebalanceStats.getMovedOutPartitions(), is(1L)),
+            () -> assertThat(isPause(rebalanceStats, 20), is(true)),
+            () -> assertThat(rebalanceStats.toSummaryString(), startsWith("2 rebalances, 2 partitions assigned, 0 revoked, 1 lost, 1 moved in, 1 moved out, pause avg="))
+        );
+    }
+
+    /**
+     * Checks the longest pause, with the precision of the histogram.
+     */
+    private static boolean isPause(RebalanceStats rebalanceStats, long expectedMs) {
+        Histogram histogram = rebalanceStats.getPauses().getHistogram();
+        return histogram.valuesAreEquivalent(histogram.getMaxValue(), TimeUnit.MILLISECONDS.toMicros(expectedMs));
+    }
+
+    private static void poll(RebalanceTracker tracker, AtomicLong clock, long durationMs, Runnable callbacks) {
+        tracker.pollStarted();
+        callbacks.run();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(durationMs));
+        tracker.pollFinished();
+    }
+}
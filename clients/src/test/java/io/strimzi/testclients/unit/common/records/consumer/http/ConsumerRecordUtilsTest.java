@@ -5,12 +5,17 @@
 package io.strimzi.testclients.unit.common.records.consumer.http;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import io.strimzi.testclients.common.metrics.EndToEndStamp;
 import io.strimzi.testclients.common.records.consumer.http.ConsumerRecord;
 import io.strimzi.testclients.common.records.consumer.http.ConsumerRecordUtils;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class ConsumerRecordUtilsTest {
@@ -50,6 +55,22 @@ public class ConsumerRecordUtilsTest {
         assertThat(result[0], is(expectedResult));
     }
 
+    @Test
+    void testParseConsumerRecordsWithHeadersFromJson() throws JsonProcessingException {
+        EndToEndStamp stamp = new EndToEndStamp(7, 42, 1722874490000000000L);
+        String encodedStamp = Base64.getEncoder().encodeToString(stamp.toBytes());
+        String response = "[{\"topic\":\"random-topic\",\"key\":\"key-0\",\"value\":\"Hello world-0\",\"partition\":0,\"offset\":0," +
+            "\"headers\":[{\"key\":\"" + EndToEndStamp.HEADER + "\",\"value\":\"" + encodedStamp + "\"},{\"key\":\"other\",\"value\":\"dmFsdWU=\"}]}]";
+
+        ConsumerRecord[] result = ConsumerRecordUtils.parseConsumerRecordsFromJson(response);
+
+        assertThat(result.length, is(1));
+        assertThat(result[0].getHeaders().size(), is(2));
+        assertThat(EndToEndStamp.fromBytes(result[0].lastHeaderValue(EndToEndStamp.HEADER)), is(stamp));
+        assertThat(new String(result[0].lastHeaderValue("other"), StandardCharsets.UTF_8), is("value"));
+        assertThat(result[0].lastHeaderValue("missing"), nullValue());
+    }
+
     @Test
     void testParseConsumerRecordsWithWrongValue() {
         String response = "Completely random response";
@@ -0,0 +1,127 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.unit.common.sink;
+
+import io.strimzi.testclients.common.sink.FileSink;
+import io.strimzi.testclients.common.sink.SinkFormat;
+import io.strimzi.testclients.common.sink.SinkFsyncPolicy;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class FileSinkTest {
+    private static final String TOPIC = "my-topic";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testRawFormatWritesValuesAsLines() throws IOException {
+        Path path = tempDir.resolve("records.txt");
+
+        // the buffer is smaller than the records, so it is written to the file several times
+        try (FileSink sink = new FileSink(path, SinkFormat.RAW, 0, SinkFsyncPolicy.FLUSH, 16)) {
+            sink.write(record(0, "key", "hello"));
+            sink.write(record(1, null, null));
+            sink.write(record(2, "key", "a value longer than the whole buffer"));
+            sink.write(record(3, "key", "world".getBytes(StandardCharsets.UTF_8)));
+        }
+
+        assertThat(Files.readString(path), is("hello\n\na value longer than the whole buffer\nworld\n"));
+    }
+
+    @Test
+    void testFramedFormat() throws IOException {
+        Path path = tempDir.resolve("records.bin");
+        ConsumerRecord<Object, Object> record = record(42, "key", "value");
+        record.headers().add("header", "header-value".getBytes(StandardCharsets.UTF_8));
+        record.headers().add("null-header", null);
+
+        FileSink sink = new FileSink(path, SinkFormat.FRAMED, 0, SinkFsyncPolicy.NONE, FileSink.DEFAULT_BUFFER_SIZE);
+        sink.write(record);
+        sink.write(record(43, null, "value"));
+        sink.close();
+
+        ByteBuffer frames = ByteBuffer.wrap(Files.readAllBytes(path));
+
+        assertAll(
+            () -> assertThat(frames.getInt(), is(0)),
+            () -> assertThat(frames.getLong(), is(42L)),
+            () -> assertThat(frames.getLong(), is(1000L)),
+            () -> assertThat(readBytes(frames), is("key")),
+            () -> assertThat(readBytes(frames), is("value")),
+            () -> assertThat(frames.getInt(), is(2)),
+            () -> assertThat(readBytes(frames), is("header")),
+            () -> assertThat(readBytes(frames), is("header-value")),
+            () -> assertThat(readBytes(frames), is("null-header")),
+            () -> assertThat(readBytes(frames), nullValue()),
+            () -> assertThat(frames.getInt(), is(0)),
+            () -> assertThat(frames.getLong(), is(43L)),
+            () -> assertThat(frames.getLong(), is(1000L)),
+            () -> assertThat(readBytes(frames), nullValue()),
+            () -> assertThat(readBytes(frames), is("value")),
+            () -> assertThat(frames.getInt(), is(0)),
+            () -> assertThat(frames.hasRemaining(), is(false)),
+            () -> assertThat(sink.getRecords(), is(2L)),
+            () -> assertThat(sink.getBytes(), is(Files.size(path)))
+        );
+    }
+
+    @Test
+    void testFilesAreRotated() throws IOException {
+        Path path = tempDir.resolve("records.txt");
+
+        FileSink sink = new FileSink(path, SinkFormat.RAW, 10, SinkFsyncPolicy.CLOSE, FileSink.DEFAULT_BUFFER_SIZE);
+
+        for (int i = 0; i < 5; i++) {
+            // 6 bytes per record, so every file has 2 records
+            sink.write(record(i, "key", "value" + i));
+        }
+
+        sink.close();
+        // closing the closed sink does nothing
+        sink.close();
+
+        assertAll(
+            () -> assertThat(Files.readString(path), is("value0\nvalue1\n")),
+            () -> assertThat(Files.readString(tempDir.resolve("records.txt.1")), is("value2\nvalue3\n")),
+            () -> assertThat(Files.readString(tempDir.resolve("records.txt.2")), is("value4\n")),
+            () -> assertThat(sink.getFiles(), is(3)),
+            () -> assertThat(sink.getBytes(), is(35L)),
+            () -> assertThat(sink.toSummaryString(), startsWith("5 records, 0.000 MB written to 3 file(s) in raw format"))
+        );
+    }
+
+    private static String readBytes(ByteBuffer buffer) {
+        int length = buffer.getInt();
+
+        if (length < 0) {
+            return null;
+        }
+
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static ConsumerRecord<Object, Object> record(long offset, Object key, Object value) {
+        return new ConsumerRecord<>(TOPIC, 0, offset, 1000L, TimestampType.CREATE_TIME, -1, -1, key, value, new RecordHeaders(), Optional.empty());
+    }
+}
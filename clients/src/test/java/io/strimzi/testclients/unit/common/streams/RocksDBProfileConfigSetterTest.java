@@ -0,0 +1,53 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.unit.common.streams;
+
+import io.strimzi.testclients.common.streams.RocksDBProfileConfigSetter;
+import org.junit.jupiter.api.Test;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.CompactionStyle;
+import org.rocksdb.Options;
+
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class RocksDBProfileConfigSetterTest {
+
+    @Test
+    void testProfileIsApplied() {
+        try (Options options = new Options()) {
+            options.setTableFormatConfig(new BlockBasedTableConfig());
+
+            new RocksDBProfileConfigSetter().setConfig("my-store", options, Map.of(
+                RocksDBProfileConfigSetter.BLOCK_CACHE_SIZE_CONFIG, 8388608L,
+                RocksDBProfileConfigSetter.WRITE_BUFFERS_CONFIG, 5,
+                RocksDBProfileConfigSetter.COMPACTION_STYLE_CONFIG, "UNIVERSAL"
+            ));
+
+            assertAll(
+                () -> assertThat(options.maxWriteBufferNumber(), is(5)),
+                () -> assertThat(options.compactionStyle(), is(CompactionStyle.UNIVERSAL))
+            );
+        }
+    }
+
+    @Test
+    void testOptionsWithoutProfileAreKept() {
+        try (Options options = new Options()) {
+            int writeBuffers = options.maxWriteBufferNumber();
+            CompactionStyle compactionStyle = options.compactionStyle();
+
+            new RocksDBProfileConfigSetter().setConfig("my-store", options, Map.of());
+
+            assertAll(
+                () -> assertThat(options.maxWriteBufferNumber(), is(writeBuffers)),
+                () -> assertThat(options.compactionStyle(), is(compactionStyle))
+            );
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.unit.common.streams;
+
+import io.strimzi.testclients.common.streams.StreamsMetricsReader;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class StreamsMetricsReaderTest {
+    private static final String CONSUMER_FETCH_GROUP = "consumer-fetch-manager-metrics";
+    private static final String STREAM_THREAD_GROUP = "stream-thread-metrics";
+    private static final String STREAM_STATE_GROUP = "stream-state-metrics";
+
+    @Test
+    void testConsumedRecordsOfSourceTopic() {
+        Map<MetricName, Metric> metrics = new HashMap<>();
+        addTopicMetric(metrics, "records-consumed-total", "consumer-1", "source-topic", 100);
+        addTopicMetric(metrics, "records-consumed-total", "consumer-2", "source-topic", 50);
+        addTopicMetric(metrics, "bytes-consumed-total", "consumer-1", "source-topic", 2048);
+        // records of the repartition topic are not included
+        addTopicMetric(metrics, "records-consumed-total", "consumer-1", "my-app-KSTREAM-REPARTITION-0000000002-repartition", 150);
+        // older clients replace the dots in the topic name
+        addTopicMetric(metrics, "records-consumed-total", "consumer-1", "my_topic", 10);
+
+        StreamsMetricsReader reader = new StreamsMetricsReader(() -> metrics);
+
+        assertAll(
+            () -> assertThat(reader.getConsumedRecords("source-topic"), is(150L)),
+            () -> assertThat(reader.getConsumedBytes("source-topic"), is(2048L)),
+            () -> assertThat(reader.getConsumedRecords("my.topic"), is(10L)),
+            () -> assertThat(reader.getConsumedRecords("other-topic"), is(0L))
+        );
+    }
+
+    @Test
+    void testThreadMetricsAreAggregated() {
+        Map<MetricName, Metric> metrics = new HashMap<>();
+        addThreadMetric(metrics, "process-total", "thread-1", 300);
+        addThreadMetric(metrics, "process-latency-avg", "thread-1", 1.0);
+        addThreadMetric(metrics, "process-latency-max", "thread-1", 5.0);
+        addThreadMetric(metrics, "process-total", "thread-2", 100);
+        addThreadMetric(metrics, "process-latency-avg", "thread-2", 3.0);
+        addThreadMetric(metrics, "process-latency-max", "thread-2", 9.0);
+        addThreadMetric(metrics, "commit-total", "thread-1", 4);
+        addThreadMetric(metrics, "commit-latency-avg", "thread-1", 20.0);
+        addThreadMetric(metrics, "commit-latency-max", "thread-1", 30.0);
+        addThreadMetric(metrics, "commit-total", "thread-2", 0);
+        // no commits sampled yet
+        addThreadMetric(metrics, "commit-latency-avg", "thread-2", Double.NaN);
+        addThreadMetric(metrics, "commit-latency-max", "thread-2", Double.NaN);
+
+        StreamsMetricsReader reader = new StreamsMetricsReader(() -> metrics);
+
+        assertAll(
+            () -> assertThat(reader.getProcessedRecords(), is(400L)),
+            () -> assertThat(reader.getCommits(), is(4L)),
+            () -> assertThat(reader.toSummaryString(),
+                is("400 records processed, process latency avg=1.500 ms, max=9.000 ms, 4 commits, commit latency avg=20.000 ms, max=30.000 ms"))
+        );
+    }
+
+    @Test
+    void testSummaryWithoutMetrics() {
+        StreamsMetricsReader reader = new StreamsMetricsReader(Map::of);
+
+        assertThat(reader.toSummaryString(), is("0 records processed, process latency avg=NaN ms, max=NaN ms, 0 commits, commit latency avg=NaN ms, max=NaN ms"));
+    }
+
+    @Test
+    void testStateStoreLatencies() {
+        Map<MetricName, Metric> metrics = new HashMap<>();
+        addStoreMetric(metrics, "put-rate", "0_0", 300);
+        addStoreMetric(metrics, "put-latency-avg", "0_0", 1000);
+        addStoreMetric(metrics, "put-latency-max", "0_0", 4000);
+        addStoreMetric(metrics, "put-rate", "0_1", 100);
+        addStoreMetric(metrics, "put-latency-avg", "0_1", 5000);
+        addStoreMetric(metrics, "put-latency-max", "0_1", 12000);
+        addStoreMetric(metrics, "fetch-rate", "0_0", 10);
+        addStoreMetric(metrics, "fetch-latency-avg", "0_0", 2500);
+        addStoreMetric(metrics, "fetch-latency-max", "0_0", 2500);
+
+        StreamsMetricsReader reader = new StreamsMetricsReader(() -> metrics);
+
+        assertAll(
+            () -> assertThat(reader.hasStateStoreMetrics(), is(true)),
+            () -> assertThat(reader.toStateStoreSummaryString(),
+                is("put latency avg=2.000 us, max=12.000 us, get latency avg=NaN us, max=NaN us, fetch latency avg=2.500 us, max=2.500 us"))
+        );
+    }
+
+    @Test
+    void testStateStoreSummaryWithoutMetrics() {
+        StreamsMetricsReader reader = new StreamsMetricsReader(Map::of);
+
+        assertAll(
+            () -> assertThat(reader.hasStateStoreMetrics(), is(false)),
+            () -> assertThat(reader.toStateStoreSummaryString(), is("no state store metrics recorded, set STATE_STORE_METRICS=true to record them"))
+        );
+    }
+
+    private static void addTopicMetric(Map<MetricName, Metric> metrics, String name, String clientId, String topic, double value) {
+        addMetric(metrics, new MetricName(name, CONSUMER_FETCH_GROUP, "", Map.of("client-id", clientId, "topic", topic)), value);
+    }
+
+    private static void addThreadMetric(Map<MetricName, Metric> metrics, String name, String threadId, double value) {
+        addMetric(metrics, new MetricName(name, STREAM_THREAD_GROUP, "", Map.of("thread-id", threadId)), value);
+    }
+
+    private static void addStoreMetric(Map<MetricName, Metric> metrics, String name, String taskId, double value) {
+        addMetric(metrics, new MetricName(name, STREAM_STATE_GROUP, "", Map.of("thread-id", "thread-1", "task-id", taskId, "rocksdb-window-state-id", "windowed-store")), value);
+    }
+
+    private static void addMetric(Map<MetricName, Metric> metrics, MetricName metricName, double value) {
+        metrics.put(metricName, new Metric() {
+            @Override
+            public MetricName metricName() {
+                return metricName;
+            }
+
+            @Override
+            public Object metricValue() {
+                return value;
+            }
+        });
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.unit.common.streams;
+
+import io.strimzi.testclients.common.metrics.PerformanceReport;
+import io.strimzi.testclients.common.streams.ProcessingGuarantee;
+import io.strimzi.testclients.common.streams.StreamsSettings;
+import io.strimzi.testclients.common.streams.StreamsSweep;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StreamsSweepTest {
+    private static final StreamsSettings BASE = new StreamsSettings(ProcessingGuarantee.AT_LEAST_ONCE, 1, 10485760, 5000);
+
+    @Test
+    void testSweepCombinesAllValues() {
+        List<StreamsSettings> runs = StreamsSweep.parse("processing_guarantee=at_least_once,exactly_once_v2; NUM_STREAM_THREADS=1,2,4", BASE);
+
+        assertAll(
+            () -> assertThat(runs, hasSize(6)),
+            () -> assertThat(runs.get(0), is(new StreamsSettings(ProcessingGuarantee.AT_LEAST_ONCE, 1, 10485760, 5000))),
+            () -> assertThat(runs.get(2), is(new StreamsSettings(ProcessingGuarantee.AT_LEAST_ONCE, 4, 10485760, 5000))),
+            () -> assertThat(runs.get(5), is(new StreamsSettings(ProcessingGuarantee.EXACTLY_ONCE_V2, 4, 10485760, 5000)))
+        );
+    }
+
+    @Test
+    void testSweepOfCacheAndCommitInterval() {
+        List<StreamsSettings> runs = StreamsSweep.parse("STATESTORE_CACHE_MAX_BYTES=0,1048576;COMMIT_INTERVAL_MS=100", BASE);
+
+        assertAll(
+            () -> assertThat(runs, hasSize(2)),
+            () -> assertThat(runs.get(0), is(new StreamsSettings(ProcessingGuarantee.AT_LEAST_ONCE, 1, 0, 100))),
+            () -> assertThat(runs.get(1), is(new StreamsSettings(ProcessingGuarantee.AT_LEAST_ONCE, 1, 1048576, 100)))
+        );
+    }
+
+    @Test
+    void testInvalidSweep() {
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> StreamsSweep.parse("NUM_STREAM_THREADS", BASE)),
+            () -> assertThrows(IllegalArgumentException.class, () -> StreamsSweep.parse("NUM_STREAM_THREADS=", BASE)),
+            () -> assertThrows(IllegalArgumentException.class, () -> StreamsSweep.parse("NUM_STREAM_THREADS=0,1", BASE)),
+            () -> assertThrows(IllegalArgumentException.class, () -> StreamsSweep.parse("STATESTORE_CACHE_MAX_BYTES=1MB", BASE)),
+            () -> assertThrows(IllegalArgumentException.class, () -> StreamsSweep.parse("PROCESSING_GUARANTEE=exactly_once", BASE)),
+            () -> assertThrows(IllegalArgumentException.class, () -> StreamsSweep.parse("ACKS=0,1", BASE))
+        );
+    }
+
+    @Test
+    void testComparisonTable() {
+        StreamsSettings eos = new StreamsSettings(ProcessingGuarantee.EXACTLY_ONCE_V2, 2, 0, 100);
+        PerformanceReport report = PerformanceReport.of(1000, 1048576, 2_000_000_000L, null);
+
+        String table = StreamsSweep.toTableString(List.of(
+            new StreamsSweep.Result(BASE, report, 0.5, 2.0, 10.0, 20.0),
+            StreamsSweep.Result.failed(eos)
+        ));
+        String[] lines = table.split("\n");
+
+        assertAll(
+            () -> assertThat(lines.length, is(3)),
+            () -> assertThat(lines[0], containsString("records/s")),
+            () -> assertThat(lines[1], containsString("at_least_once")),
+            () -> assertThat(lines[1], containsString("500.0")),
+            () -> assertThat(lines[1], containsString("0.500")),
+            () -> assertThat(lines[2], containsString("exactly_once_v2")),
+            () -> assertThat(lines[2], containsString("failed"))
+        );
+    }
+}
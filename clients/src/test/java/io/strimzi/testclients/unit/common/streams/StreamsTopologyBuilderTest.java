@@ -0,0 +1,135 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.unit.common.streams;
+
+import io.strimzi.testclients.common.streams.StreamsTopologyBuilder;
+import io.strimzi.testclients.configuration.ConfigurationConstants;
+import io.strimzi.testclients.configuration.kafka.KafkaStreamsConfiguration;
+import org.apache.kafka.streams.TopologyDescription;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class StreamsTopologyBuilderTest {
+
+    @Test
+    void testStatelessTopologies() {
+        TopologyDescription reverse = describe("reverse", Map.of());
+        TopologyDescription passthrough = describe("passthrough", Map.of());
+        TopologyDescription filter = describe("filter", Map.of());
+
+        assertAll(
+            () -> assertThat(reverse.subtopologies(), hasSize(1)),
+            () -> assertThat(nodeTypes(reverse), hasItem("KSTREAM-MAPVALUES")),
+            () -> assertThat(passthrough.subtopologies(), hasSize(1)),
+            () -> assertThat(nodeTypes(passthrough), is(Set.of("KSTREAM-SOURCE", "KSTREAM-SINK"))),
+            () -> assertThat(nodeTypes(filter), hasItem("KSTREAM-FILTER")),
+            () -> assertThat(stores(filter).isEmpty(), is(true))
+        );
+    }
+
+    @Test
+    void testRekeyTopologyRepartitions() {
+        TopologyDescription rekey = describe("rekey", Map.of(ConfigurationConstants.KEY_COUNT_ENV, "10"));
+
+        assertAll(
+            () -> assertThat(rekey.subtopologies(), hasSize(2)),
+            () -> assertThat(nodeTypes(rekey), hasItem("KSTREAM-KEY-SELECT")),
+            // the records are written to the repartition topic by the first sub-topology and read by the second one
+            () -> assertThat(sinkTopics(rekey).stream().anyMatch(topic -> topic.endsWith("-repartition")), is(true))
+        );
+    }
+
+    @Test
+    void testWindowedTopologiesUseStateStores() {
+        TopologyDescription count = describe("windowed-count", Map.of(ConfigurationConstants.WINDOW_SIZE_ENV, "10s"));
+        TopologyDescription aggregate = describe("windowed-aggregate", Map.of(ConfigurationConstants.WINDOW_GRACE_ENV, "1s"));
+
+        assertAll(
+            () -> assertThat(nodeTypes(count), hasItem("KSTREAM-AGGREGATE")),
+            () -> assertThat(stores(count), hasSize(1)),
+            () -> assertThat(nodeTypes(aggregate), hasItem("KSTREAM-AGGREGATE")),
+            () -> assertThat(stores(aggregate), hasSize(1))
+        );
+    }
+
+    @Test
+    void testJoinTopologies() {
+        TopologyDescription tableJoin = describe("table-join", Map.of(ConfigurationConstants.JOIN_TOPIC_ENV, "join-topic"));
+        TopologyDescription streamJoin = describe("stream-join", Map.of(ConfigurationConstants.JOIN_TOPIC_ENV, "join-topic"));
+
+        assertAll(
+            () -> assertThat(nodeTypes(tableJoin), hasItem("KTABLE-SOURCE")),
+            () -> assertThat(nodeTypes(tableJoin), hasItem("KSTREAM-JOIN")),
+            () -> assertThat(stores(tableJoin), hasSize(1)),
+            () -> assertThat(nodeTypes(streamJoin), hasItem("KSTREAM-JOINTHIS")),
+            () -> assertThat(nodeTypes(streamJoin), not(hasItem("KTABLE-SOURCE"))),
+            // window stores of both sides of the join
+            () -> assertThat(stores(streamJoin), hasSize(2))
+        );
+    }
+
+    @Test
+    void testStateStoreTypes() {
+        TopologyDescription inMemory = describe("windowed-count", Map.of(ConfigurationConstants.STATE_STORE_ENV, "in-memory"));
+        TopologyDescription rocksDb = describe("windowed-aggregate", Map.of(ConfigurationConstants.STATE_STORE_ENV, "rocksdb"));
+        TopologyDescription versioned = describe("table-join", Map.of(ConfigurationConstants.JOIN_TOPIC_ENV, "join-topic",
+            ConfigurationConstants.STATE_STORE_ENV, "versioned"));
+
+        assertAll(
+            () -> assertThat(stores(inMemory), is(Set.of(StreamsTopologyBuilder.WINDOWED_STORE_NAME))),
+            () -> assertThat(stores(rocksDb), is(Set.of(StreamsTopologyBuilder.WINDOWED_STORE_NAME))),
+            () -> assertThat(stores(versioned), is(Set.of(StreamsTopologyBuilder.TABLE_STORE_NAME))),
+            () -> assertThat(nodeTypes(versioned), hasItem("KSTREAM-JOIN"))
+        );
+    }
+
+    private static TopologyDescription describe(String topology, Map<String, String> additionalConfiguration) {
+        Map<String, String> configuration = new HashMap<>(additionalConfiguration);
+        configuration.put(ConfigurationConstants.BOOTSTRAP_SERVERS_ENV, "my-cluster-kafka:9092");
+        configuration.put(ConfigurationConstants.APPLICATION_ID_ENV, "my-app");
+        configuration.put(ConfigurationConstants.SOURCE_TOPIC_ENV, "source-topic");
+        configuration.put(ConfigurationConstants.TARGET_TOPIC_ENV, "target-topic");
+        configuration.put(ConfigurationConstants.STREAMS_TOPOLOGY_ENV, topology);
+
+        return StreamsTopologyBuilder.build(new KafkaStreamsConfiguration(configuration)).describe();
+    }
+
+    /**
+     * Returns the types of the nodes of the topology - the names of the nodes without their index.
+     */
+    private static Set<String> nodeTypes(TopologyDescription description) {
+        return description.subtopologies().stream()
+            .flatMap(subtopology -> subtopology.nodes().stream())
+            .map(node -> node.name().replaceAll("-\\d+$", ""))
+            .collect(Collectors.toSet());
+    }
+
+    private static Set<String> sinkTopics(TopologyDescription description) {
+        return description.subtopologies().stream()
+            .flatMap(subtopology -> subtopology.nodes().stream())
+            .filter(node -> node instanceof TopologyDescription.Sink)
+            .map(node -> ((TopologyDescription.Sink) node).topic())
+            .collect(Collectors.toSet());
+    }
+
+    private static Set<String> stores(TopologyDescription description) {
+        return description.subtopologies().stream()
+            .flatMap(subtopology -> subtopology.nodes().stream())
+            .filter(node -> node instanceof TopologyDescription.Processor)
+            .flatMap(node -> ((TopologyDescription.Processor) node).stores().stream())
+            .collect(Collectors.toSet());
+    }
+}
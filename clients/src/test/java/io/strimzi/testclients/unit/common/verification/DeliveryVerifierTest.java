@@ -0,0 +1,114 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.unit.common.verification;
+
+import io.strimzi.testclients.common.metrics.EndToEndStamp;
+import io.strimzi.testclients.common.verification.DeliveryVerifier;
+import io.strimzi.testclients.common.verification.SequenceTracker;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class DeliveryVerifierTest {
+    private static final String TOPIC = "my-topic";
+
+    @Test
+    void testInOrderDeliveryNeedsConstantMemory() {
+        SequenceTracker tracker = new SequenceTracker();
+
+        for (long sequence = 0; sequence < 10_000_000; sequence++) {
+            tracker.record(sequence);
+        }
+
+        assertAll(
+            () -> assertThat(tracker.getReceived(), is(10_000_000L)),
+            () -> assertThat(tracker.getMissing(), is(0L)),
+            () -> assertThat(tracker.getDuplicates(), is(0L)),
+            () -> assertThat(tracker.getOutOfOrder(), is(0L)),
+            () -> assertThat(tracker.getTrackingBytes(), is(32L))
+        );
+    }
+
+    @Test
+    void testMissingRecordIsDetected() {
+        SequenceTracker tracker = new SequenceTracker();
+
+        for (long sequence = 0; sequence < 1_000_000; sequence++) {
+            if (sequence != 1000) {
+                tracker.record(sequence);
+            }
+        }
+
+        assertAll(
+            () -> assertThat(tracker.getReceived(), is(999_999L)),
+            () -> assertThat(tracker.getMissing(), is(1L)),
+            // one bit per record after the missing one
+            () -> assertThat(tracker.getTrackingBytes(), lessThanOrEqualTo(2 * 1_000_000L / Byte.SIZE))
+        );
+
+        // the missing record is delivered late
+        tracker.record(1000);
+
+        assertAll(
+            () -> assertThat(tracker.getReceived(), is(1_000_000L)),
+            () -> assertThat(tracker.getMissing(), is(0L)),
+            () -> assertThat(tracker.getOutOfOrder(), is(1L)),
+            () -> assertThat(tracker.getDuplicates(), is(0L))
+        );
+    }
+
+    @Test
+    void testDuplicatesAreDetected() {
+        SequenceTracker tracker = new SequenceTracker();
+
+        for (long sequence = 100; sequence < 300; sequence++) {
+            tracker.record(sequence);
+        }
+
+        // redelivery of records which are already dropped from the bitset, and of the records still in it
+        for (long sequence = 150; sequence < 300; sequence++) {
+            tracker.record(sequence);
+        }
+
+        tracker.record(310);
+        tracker.record(310);
+
+        assertAll(
+            () -> assertThat(tracker.getReceived(), is(201L)),
+            () -> assertThat(tracker.getDuplicates(), is(151L)),
+            () -> assertThat(tracker.getMissing(), is(10L)),
+            () -> assertThat(tracker.getOutOfOrder(), is(0L))
+        );
+    }
+
+    @Test
+    void testLossHiddenByDuplicatesIsReported() {
+        DeliveryVerifier verifier = new DeliveryVerifier();
+
+        // 10 records of every producer and partition, the record 5 is lost and the record 6 is received twice
+        for (long producerId = 1; producerId <= 2; producerId++) {
+            for (int partition = 0; partition < 3; partition++) {
+                for (long sequence : new long[] {0, 1, 2, 3, 4, 6, 6, 7, 8, 9}) {
+                    verifier.record(TOPIC, partition, new EndToEndStamp(producerId, sequence, 0));
+                }
+            }
+        }
+
+        verifier.record(TOPIC, 0, null);
+
+        assertAll(
+            () -> assertThat(verifier.isComplete(), is(false)),
+            () -> assertThat(verifier.getReceived(), is(54L)),
+            () -> assertThat(verifier.getMissing(), is(6L)),
+            () -> assertThat(verifier.getDuplicates(), is(6L)),
+            () -> assertThat(verifier.getUnstampedRecords(), is(1L)),
+            () -> assertThat(verifier.toSummaryString(),
+                is("54 unique records from 2 producers in 3 partitions: 6 missing, 6 duplicates, 0 out of order, 192 bytes tracked, 1 records without the stamp"))
+        );
+    }
+}
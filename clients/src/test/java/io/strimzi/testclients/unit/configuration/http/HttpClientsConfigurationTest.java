@@ -51,6 +51,8 @@ public class HttpClientsConfigurationTest {
         assertThat(clientsConfiguration.getPort(), is(port));
         assertThat(clientsConfiguration.getTopic(), is(topic));
         assertThat(clientsConfiguration.getEndpointPrefix(), is(ConfigurationConstants.DEFAULT_ENDPOINT_PREFIX));
+        assertThat(clientsConfiguration.getRunDurationMs(), is(ConfigurationConstants.DEFAULT_RUN_DURATION_MS));
+        assertThat(clientsConfiguration.getWarmupDurationMs(), is(ConfigurationConstants.DEFAULT_WARMUP_DURATION_MS));
     }
 
     @Test
@@ -72,6 +74,8 @@ public class HttpClientsConfigurationTest {
         configuration.put(ConfigurationConstants.MESSAGE_COUNT_ENV, String.valueOf(messageCount));
         configuration.put(ConfigurationConstants.ENDPOINT_PREFIX_ENV, endpointPrefix);
         configuration.put(ConfigurationConstants.CA_CRT_ENV, sslTruststoreCert);
+        configuration.put(ConfigurationConstants.RUN_DURATION_ENV, "1h");
+        configuration.put(ConfigurationConstants.WARMUP_DURATION_ENV, "1000");
 
         HttpClientsConfiguration clientsConfiguration = new HttpClientsConfiguration(configuration);
 
@@ -82,6 +86,8 @@ public class HttpClientsConfigurationTest {
         assertThat(clientsConfiguration.getTopic(), is(topic));
         assertThat(clientsConfiguration.getHostname(), is(hostname));
         assertThat(clientsConfiguration.getSslTruststoreCertificate(), is(sslTruststoreCert));
+        assertThat(clientsConfiguration.getRunDurationMs(), is(3_600_000L));
+        assertThat(clientsConfiguration.getWarmupDurationMs(), is(1000L));
     }
 
     @Test
@@ -107,5 +113,9 @@ public class HttpClientsConfigurationTest {
 
         assertThat(clientsConfiguration.getMessageCount(), is(not(messageCount)));
         assertThat(clientsConfiguration.getMessageCount(), is(ConfigurationConstants.DEFAULT_MESSAGES_COUNT));
+
+        configuration.put(ConfigurationConstants.WARMUP_DURATION_ENV, "PT-10S");
+
+        assertThrows(InvalidParameterException.class, () -> new HttpClientsConfiguration(configuration));
     }
 }
@@ -37,6 +37,7 @@ public class HttpConsumerConfigurationTest {
         assertThat(consumerConfiguration.getConsumerCreationURI(), is(baseUri));
         assertThat(consumerConfiguration.getSubscriptionURI(), is(subscriptionUri));
         assertThat(consumerConfiguration.getConsumeMessagesURI(), is(consumeUri));
+        assertThat(consumerConfiguration.isVerifyDelivery(), is(false));
     }
 
     @Test
@@ -51,6 +52,7 @@ public class HttpConsumerConfigurationTest {
         configuration.put(ConfigurationConstants.GROUP_ID_ENV, groupId);
         configuration.put(ConfigurationConstants.POLL_INTERVAL_ENV, String.valueOf(pollInterval));
         configuration.put(ConfigurationConstants.POLL_TIMEOUT_ENV, String.valueOf(pollTimeout));
+        configuration.put(ConfigurationConstants.VERIFY_DELIVERY_ENV, "true");
 
         HttpConsumerConfiguration consumerConfiguration = new HttpConsumerConfiguration(configuration);
 
@@ -65,6 +67,7 @@ public class HttpConsumerConfigurationTest {
         assertThat(consumerConfiguration.getConsumerCreationURI(), is(baseUri));
         assertThat(consumerConfiguration.getSubscriptionURI(), is(subscriptionUri));
         assertThat(consumerConfiguration.getConsumeMessagesURI(), is(consumeUri));
+        assertThat(consumerConfiguration.isVerifyDelivery(), is(true));
     }
 
     @Test
@@ -9,11 +9,14 @@ import io.strimzi.testclients.configuration.http.HttpProducerConfiguration;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 
+import java.security.InvalidParameterException;
 import java.util.HashMap;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 public class HttpProducerConfigurationTest {
@@ -31,6 +34,8 @@ public class HttpProducerConfigurationTest {
 
         assertThat(producerConfiguration.getMessage(), is(ConfigurationConstants.DEFAULT_MESSAGE));
         assertThat(producerConfiguration.getUri(), is(expectedUri));
+        assertThat(producerConfiguration.getLoadProfile(), nullValue());
+        assertThat(producerConfiguration.getBatchSize(), is(ConfigurationConstants.DEFAULT_BATCH_SIZE));
     }
 
     @Test
@@ -48,11 +53,39 @@ public class HttpProducerConfigurationTest {
         configuration.put(ConfigurationConstants.PORT_ENV, port);
         configuration.put(ConfigurationConstants.TOPIC_ENV, topic);
         configuration.put(ConfigurationConstants.ENDPOINT_PREFIX_ENV, endpointPrefix);
+        configuration.put(ConfigurationConstants.BATCH_SIZE_ENV, "500");
 
         HttpProducerConfiguration producerConfiguration = new HttpProducerConfiguration(configuration);
 
         assertThat(producerConfiguration.getMessage(), is(message));
         assertThat(producerConfiguration.getUri(), is(expectedUri));
+        assertThat(producerConfiguration.getBatchSize(), is(500));
+
+        configuration.put(ConfigurationConstants.BATCH_SIZE_ENV, "-1");
+
+        assertThrows(InvalidParameterException.class, () -> new HttpProducerConfiguration(configuration));
+    }
+
+    @Test
+    void testLoadProfileConfiguration() {
+        Map<String, String> configuration = new HashMap<>();
+        configuration.put(ConfigurationConstants.HOSTNAME_ENV, "localhost");
+        configuration.put(ConfigurationConstants.PORT_ENV, "8080");
+        configuration.put(ConfigurationConstants.TOPIC_ENV, "my-topic");
+        configuration.put(ConfigurationConstants.LOAD_PROFILE_ENV, "[{\"type\":\"sine\",\"min\":100,\"max\":500,\"period\":\"1m\",\"duration\":\"5m\"}]");
+
+        HttpProducerConfiguration producerConfiguration = new HttpProducerConfiguration(configuration);
+
+        assertThat(producerConfiguration.getLoadProfile().getDurationMs(), is(300_000L));
+
+        configuration.put(ConfigurationConstants.DELAY_MS_ENV, "100");
+
+        assertThrows(InvalidParameterException.class, () -> new HttpProducerConfiguration(configuration));
+
+        configuration.remove(ConfigurationConstants.DELAY_MS_ENV);
+        configuration.put(ConfigurationConstants.LOAD_PROFILE_ENV, "sawtooth:100:5m");
+
+        assertThrows(InvalidParameterException.class, () -> new HttpProducerConfiguration(configuration));
     }
 
     @Test
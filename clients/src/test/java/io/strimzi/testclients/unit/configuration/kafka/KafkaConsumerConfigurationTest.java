@@ -4,6 +4,14 @@
  */
 package io.strimzi.testclients.unit.configuration.kafka;
 
+import io.strimzi.testclients.common.OutputMode;
+import io.strimzi.testclients.common.OutputModeType;
+import io.strimzi.testclients.common.commit.CommitStrategy;
+import io.strimzi.testclients.common.processing.ProcessingCost;
+import io.strimzi.testclients.common.processing.ProcessingOrder;
+import io.strimzi.testclients.common.rebalance.RebalanceScenario;
+import io.strimzi.testclients.common.sink.SinkFormat;
+import io.strimzi.testclients.common.sink.SinkFsyncPolicy;
 import io.strimzi.testclients.configuration.ConfigurationConstants;
 import io.strimzi.testclients.configuration.kafka.KafkaConsumerConfiguration;
 import org.junit.jupiter.api.Test;
@@ -32,6 +40,24 @@ public class KafkaConsumerConfigurationTest {
         assertThat(kafkaConsumerConfiguration.getClientId(), is(ConfigurationConstants.DEFAULT_CLIENT_ID));
         assertThat(kafkaConsumerConfiguration.getGroupId(), is(ConfigurationConstants.DEFAULT_GROUP_ID));
         assertThat(kafkaConsumerConfiguration.getOutputFormat(), is(ConfigurationConstants.DEFAULT_OUTPUT_FORMAT));
+        assertThat(kafkaConsumerConfiguration.getOutputMode(), is(OutputMode.PER_RECORD));
+        assertThat(kafkaConsumerConfiguration.getPollTimeout(), is(ConfigurationConstants.DEFAULT_POLL_TIMEOUT));
+        assertThat(kafkaConsumerConfiguration.getCommitStrategy(), is(CommitStrategy.SYNC));
+        assertThat(kafkaConsumerConfiguration.getCommitRecords(), is(ConfigurationConstants.DEFAULT_COMMIT_RECORDS));
+        assertThat(kafkaConsumerConfiguration.getCommitIntervalMs(), is(ConfigurationConstants.DEFAULT_COMMIT_INTERVAL_MS));
+        assertThat(kafkaConsumerConfiguration.getConsumerThreads(), is(ConfigurationConstants.DEFAULT_CONSUMER_THREADS));
+        assertThat(kafkaConsumerConfiguration.getProcessingThreads(), is(0));
+        assertThat(kafkaConsumerConfiguration.getProcessingOrder(), is(ProcessingOrder.PARTITION));
+        assertThat(kafkaConsumerConfiguration.getProcessingQueueSize(), is(ConfigurationConstants.DEFAULT_PROCESSING_QUEUE_SIZE));
+        assertThat(kafkaConsumerConfiguration.getProcessingCost(), is(ProcessingCost.NONE));
+        assertThat(kafkaConsumerConfiguration.isVerifyDelivery(), is(false));
+        assertThat(kafkaConsumerConfiguration.isBounded(), is(false));
+        assertThat(kafkaConsumerConfiguration.hasEndBound(), is(false));
+        assertThat(kafkaConsumerConfiguration.getRebalanceScenario(), is(RebalanceScenario.DEFAULT));
+        assertThat(kafkaConsumerConfiguration.getSinkPath(), nullValue());
+        assertThat(kafkaConsumerConfiguration.getSinkFormat(), is(SinkFormat.RAW));
+        assertThat(kafkaConsumerConfiguration.getSinkRotateBytes(), is(0L));
+        assertThat(kafkaConsumerConfiguration.getSinkFsyncPolicy(), is(SinkFsyncPolicy.NONE));
     }
 
     @Test
@@ -48,6 +74,25 @@ public class KafkaConsumerConfigurationTest {
         configuration.put(ConfigurationConstants.GROUP_ID_ENV, groupId);
         configuration.put(ConfigurationConstants.CLIENT_RACK_ENV, clientRack);
         configuration.put(ConfigurationConstants.OUTPUT_FORMAT_ENV, outputFormat);
+        configuration.put(ConfigurationConstants.OUTPUT_MODE_ENV, "sampled:1000");
+        configuration.put(ConfigurationConstants.POLL_TIMEOUT_ENV, "250");
+        configuration.put(ConfigurationConstants.COMMIT_STRATEGY_ENV, "batch");
+        configuration.put(ConfigurationConstants.COMMIT_RECORDS_ENV, "500");
+        configuration.put(ConfigurationConstants.COMMIT_INTERVAL_MS_ENV, "2000");
+        configuration.put(ConfigurationConstants.CONSUMER_THREADS_ENV, "8");
+        configuration.put(ConfigurationConstants.VERIFY_DELIVERY_ENV, "true");
+        configuration.put(ConfigurationConstants.START_BOUND_TIMESTAMP_ENV, "2025-01-01T10:00:00Z");
+        configuration.put(ConfigurationConstants.END_OFFSET_ENV, "1000000");
+        configuration.put(ConfigurationConstants.REBALANCE_SCENARIO_ENV, "static-consumer-protocol");
+        configuration.put(ConfigurationConstants.PROCESSING_THREADS_ENV, "16");
+        configuration.put(ConfigurationConstants.PROCESSING_ORDER_ENV, "key");
+        configuration.put(ConfigurationConstants.PROCESSING_QUEUE_SIZE_ENV, "200");
+        configuration.put(ConfigurationConstants.PROCESSING_TIME_MS_ENV, "0.5");
+        configuration.put(ConfigurationConstants.PROCESSING_CPU_BURN_ENV, "true");
+        configuration.put(ConfigurationConstants.SINK_ENV, "file:/tmp/records.bin");
+        configuration.put(ConfigurationConstants.SINK_FORMAT_ENV, "framed");
+        configuration.put(ConfigurationConstants.SINK_ROTATE_BYTES_ENV, "1073741824");
+        configuration.put(ConfigurationConstants.SINK_FSYNC_ENV, "close");
 
         KafkaConsumerConfiguration kafkaConsumerConfiguration = new KafkaConsumerConfiguration(configuration);
 
@@ -55,7 +100,29 @@ public class KafkaConsumerConfigurationTest {
                 () -> assertThat(kafkaConsumerConfiguration.getClientRack(), is(clientRack)),
                 () -> assertThat(kafkaConsumerConfiguration.getClientId(), is(clientId)),
                 () -> assertThat(kafkaConsumerConfiguration.getGroupId(), is(groupId)),
-                () -> assertThat(kafkaConsumerConfiguration.getOutputFormat(), is(outputFormat))
+                () -> assertThat(kafkaConsumerConfiguration.getOutputFormat(), is(outputFormat)),
+                () -> assertThat(kafkaConsumerConfiguration.getOutputMode(), is(new OutputMode(OutputModeType.SAMPLED, 1000))),
+                () -> assertThat(kafkaConsumerConfiguration.getPollTimeout(), is(250L)),
+                () -> assertThat(kafkaConsumerConfiguration.getCommitStrategy(), is(CommitStrategy.BATCH)),
+                () -> assertThat(kafkaConsumerConfiguration.getCommitRecords(), is(500L)),
+                () -> assertThat(kafkaConsumerConfiguration.getCommitIntervalMs(), is(2000L)),
+                () -> assertThat(kafkaConsumerConfiguration.getConsumerThreads(), is(8)),
+                () -> assertThat(kafkaConsumerConfiguration.getProcessingThreads(), is(16)),
+                () -> assertThat(kafkaConsumerConfiguration.getProcessingOrder(), is(ProcessingOrder.KEY)),
+                () -> assertThat(kafkaConsumerConfiguration.getProcessingQueueSize(), is(200)),
+                () -> assertThat(kafkaConsumerConfiguration.getProcessingCost(), is(new ProcessingCost(500_000, true))),
+                () -> assertThat(kafkaConsumerConfiguration.isVerifyDelivery(), is(true)),
+                () -> assertThat(kafkaConsumerConfiguration.getStartOffset(), nullValue()),
+                () -> assertThat(kafkaConsumerConfiguration.getStartTimestamp(), is(1735725600000L)),
+                () -> assertThat(kafkaConsumerConfiguration.getEndOffset(), is(1000000L)),
+                () -> assertThat(kafkaConsumerConfiguration.getEndTimestamp(), nullValue()),
+                () -> assertThat(kafkaConsumerConfiguration.isBounded(), is(true)),
+                () -> assertThat(kafkaConsumerConfiguration.hasEndBound(), is(true)),
+                () -> assertThat(kafkaConsumerConfiguration.getRebalanceScenario(), is(RebalanceScenario.STATIC_CONSUMER_PROTOCOL)),
+                () -> assertThat(kafkaConsumerConfiguration.getSinkPath(), is("/tmp/records.bin")),
+                () -> assertThat(kafkaConsumerConfiguration.getSinkFormat(), is(SinkFormat.FRAMED)),
+                () -> assertThat(kafkaConsumerConfiguration.getSinkRotateBytes(), is(1073741824L)),
+                () -> assertThat(kafkaConsumerConfiguration.getSinkFsyncPolicy(), is(SinkFsyncPolicy.CLOSE))
         );
     }
 
@@ -73,5 +140,100 @@ public class KafkaConsumerConfigurationTest {
         KafkaConsumerConfiguration kafkaConsumerConfiguration = new KafkaConsumerConfiguration(configuration);
 
         assertThat(kafkaConsumerConfiguration.getTopicName(), is(topicName));
+
+        configuration.put(ConfigurationConstants.OUTPUT_MODE_ENV, "sampled:0");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaConsumerConfiguration(configuration));
+
+        configuration.remove(ConfigurationConstants.OUTPUT_MODE_ENV);
+        configuration.put(ConfigurationConstants.POLL_TIMEOUT_ENV, "0");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaConsumerConfiguration(configuration));
+
+        configuration.remove(ConfigurationConstants.POLL_TIMEOUT_ENV);
+        configuration.put(ConfigurationConstants.COMMIT_STRATEGY_ENV, "never");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaConsumerConfiguration(configuration));
+
+        configuration.put(ConfigurationConstants.COMMIT_STRATEGY_ENV, "batch");
+        configuration.put(ConfigurationConstants.COMMIT_RECORDS_ENV, "0");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaConsumerConfiguration(configuration));
+
+        configuration.remove(ConfigurationConstants.COMMIT_RECORDS_ENV);
+        configuration.put(ConfigurationConstants.CONSUMER_THREADS_ENV, "0");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaConsumerConfiguration(configuration));
+
+        configuration.remove(ConfigurationConstants.CONSUMER_THREADS_ENV);
+        configuration.put(ConfigurationConstants.PROCESSING_ORDER_ENV, "offset");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaConsumerConfiguration(configuration));
+
+        configuration.remove(ConfigurationConstants.PROCESSING_ORDER_ENV);
+        configuration.put(ConfigurationConstants.PROCESSING_QUEUE_SIZE_ENV, "0");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaConsumerConfiguration(configuration));
+
+        configuration.remove(ConfigurationConstants.PROCESSING_QUEUE_SIZE_ENV);
+        configuration.put(ConfigurationConstants.START_OFFSET_ENV, "100");
+        configuration.put(ConfigurationConstants.START_BOUND_TIMESTAMP_ENV, "2025-01-01T10:00:00Z");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaConsumerConfiguration(configuration));
+
+        configuration.remove(ConfigurationConstants.START_BOUND_TIMESTAMP_ENV);
+        configuration.put(ConfigurationConstants.END_OFFSET_ENV, "100");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaConsumerConfiguration(configuration));
+
+        configuration.remove(ConfigurationConstants.START_OFFSET_ENV);
+        configuration.put(ConfigurationConstants.END_OFFSET_ENV, "-1");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaConsumerConfiguration(configuration));
+
+        configuration.remove(ConfigurationConstants.END_OFFSET_ENV);
+        configuration.put(ConfigurationConstants.END_TIMESTAMP_ENV, "yesterday");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaConsumerConfiguration(configuration));
+
+        configuration.remove(ConfigurationConstants.END_TIMESTAMP_ENV);
+        configuration.put(ConfigurationConstants.REBALANCE_SCENARIO_ENV, "sticky");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaConsumerConfiguration(configuration));
+
+        configuration.remove(ConfigurationConstants.REBALANCE_SCENARIO_ENV);
+        configuration.put(ConfigurationConstants.SINK_ENV, "/tmp/records.txt");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaConsumerConfiguration(configuration));
+
+        configuration.put(ConfigurationConstants.SINK_ENV, "file:");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaConsumerConfiguration(configuration));
+
+        configuration.put(ConfigurationConstants.SINK_ENV, "file:/tmp/records.txt");
+        configuration.put(ConfigurationConstants.SINK_FORMAT_ENV, "json");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaConsumerConfiguration(configuration));
+
+        configuration.remove(ConfigurationConstants.SINK_FORMAT_ENV);
+        configuration.put(ConfigurationConstants.SINK_FSYNC_ENV, "always");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaConsumerConfiguration(configuration));
+    }
+
+    @Test
+    void testProducerStartTimestampDoesNotBoundTheConsumer() {
+        Map<String, String> configuration = new HashMap<>();
+        configuration.put(ConfigurationConstants.BOOTSTRAP_SERVERS_ENV, "my-cluster-kafka:9092");
+        configuration.put(ConfigurationConstants.TOPIC_ENV, "my-topic");
+        // the START_TIMESTAMP sets the timestamps of the records sent by the producer
+        configuration.put(ConfigurationConstants.START_TIMESTAMP_ENV, "2025-01-01T10:00:00Z");
+
+        KafkaConsumerConfiguration kafkaConsumerConfiguration = new KafkaConsumerConfiguration(configuration);
+
+        assertAll(
+            () -> assertThat(kafkaConsumerConfiguration.getStartTimestamp(), nullValue()),
+            () -> assertThat(kafkaConsumerConfiguration.isBounded(), is(false))
+        );
     }
 }
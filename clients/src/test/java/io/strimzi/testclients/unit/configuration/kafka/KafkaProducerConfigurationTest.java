@@ -4,6 +4,8 @@
  */
 package io.strimzi.testclients.unit.configuration.kafka;
 
+import io.strimzi.testclients.common.RateUnit;
+import io.strimzi.testclients.common.keys.KeyDistribution;
 import io.strimzi.testclients.configuration.ConfigurationConstants;
 import io.strimzi.testclients.configuration.kafka.KafkaProducerConfiguration;
 import org.apache.kafka.clients.producer.ProducerConfig;
@@ -41,7 +43,23 @@ public class KafkaProducerConfigurationTest {
             () -> assertThat(kafkaProducerConfiguration.isTransactionalProducer(), is(false)),
             () -> assertThat(kafkaProducerConfiguration.getTopicName(), is("my-topic")),
             () -> assertThat(kafkaProducerConfiguration.getMessageKey(), nullValue()),
-            () -> assertThat(kafkaProducerConfiguration.getStartTimestamp(), nullValue())
+            () -> assertThat(kafkaProducerConfiguration.getStartTimestamp(), nullValue()),
+            () -> assertThat(kafkaProducerConfiguration.getMaxInFlightRecords(), is(ConfigurationConstants.DEFAULT_MAX_IN_FLIGHT_RECORDS)),
+            () -> assertThat(kafkaProducerConfiguration.getTargetRate(), is(ConfigurationConstants.DEFAULT_TARGET_RATE)),
+            () -> assertThat(kafkaProducerConfiguration.getTargetRateUnit(), is(RateUnit.RECORDS)),
+            () -> assertThat(kafkaProducerConfiguration.getLoadProfile(), nullValue()),
+            () -> assertThat(kafkaProducerConfiguration.getProducerThreads(), is(ConfigurationConstants.DEFAULT_PRODUCER_THREADS)),
+            () -> assertThat(kafkaProducerConfiguration.isSharedProducer(), is(ConfigurationConstants.DEFAULT_SHARED_PRODUCER)),
+            () -> assertThat(kafkaProducerConfiguration.getSchemaCacheTtlMs(), is(ConfigurationConstants.DEFAULT_SCHEMA_CACHE_TTL_MS)),
+            () -> assertThat(kafkaProducerConfiguration.getPreserializedPayloads(), is(ConfigurationConstants.DEFAULT_PRESERIALIZED_PAYLOADS)),
+            () -> assertThat(kafkaProducerConfiguration.getKeyDistribution(), is(KeyDistribution.FIXED)),
+            () -> assertThat(kafkaProducerConfiguration.getKeyCount(), is(ConfigurationConstants.DEFAULT_KEY_COUNT)),
+            () -> assertThat(kafkaProducerConfiguration.getZipfianExponent(), is(ConfigurationConstants.DEFAULT_ZIPFIAN_EXPONENT)),
+            () -> assertThat(kafkaProducerConfiguration.getHotspotTrafficPercent(), is(ConfigurationConstants.DEFAULT_HOTSPOT_TRAFFIC_PERCENT)),
+            () -> assertThat(kafkaProducerConfiguration.getHotspotKeysPercent(), is(ConfigurationConstants.DEFAULT_HOTSPOT_KEYS_PERCENT)),
+            () -> assertThat(kafkaProducerConfiguration.isEndToEndLatency(), is(false)),
+            () -> assertThat(kafkaProducerConfiguration.isVerifyDelivery(), is(false)),
+            () -> assertThat(kafkaProducerConfiguration.isStampRecords(), is(false))
         );
     }
 
@@ -59,6 +77,15 @@ public class KafkaProducerConfigurationTest {
         String additionalConfig = ProducerConfig.TRANSACTIONAL_ID_CONFIG + " = my-id";
         String timestamp = "2026-01-15T10:30:00Z";
         long timestampInMs = 1768473000000L;
+        int maxInFlightRecords = 500;
+        long targetRate = 25000;
+        int producerThreads = 4;
+        long schemaCacheTtlMs = 60000;
+        int preserializedPayloads = 16;
+        int keyCount = 50;
+        double zipfianExponent = 1.2;
+        int hotspotTrafficPercent = 95;
+        int hotspotKeysPercent = 5;
 
         List<Header> expectedHeadersList = new ArrayList<>();
         expectedHeadersList.add(new RecordHeader("header_key_one", "header_value_one".getBytes()));
@@ -75,6 +102,18 @@ public class KafkaProducerConfigurationTest {
         configuration.put(ConfigurationConstants.MESSAGE_TYPE_ENV, messageType);
         configuration.put(ConfigurationConstants.MESSAGES_PER_TRANSACTION_ENV, String.valueOf(messagesPerTransaction));
         configuration.put(ConfigurationConstants.START_TIMESTAMP_ENV, timestamp);
+        configuration.put(ConfigurationConstants.MAX_IN_FLIGHT_RECORDS_ENV, String.valueOf(maxInFlightRecords));
+        configuration.put(ConfigurationConstants.TARGET_RATE_ENV, String.valueOf(targetRate));
+        configuration.put(ConfigurationConstants.TARGET_RATE_UNIT_ENV, "bytes");
+        configuration.put(ConfigurationConstants.PRODUCER_THREADS_ENV, String.valueOf(producerThreads));
+        configuration.put(ConfigurationConstants.SCHEMA_CACHE_TTL_MS_ENV, String.valueOf(schemaCacheTtlMs));
+        configuration.put(ConfigurationConstants.PRESERIALIZED_PAYLOADS_ENV, String.valueOf(preserializedPayloads));
+        configuration.put(ConfigurationConstants.KEY_DISTRIBUTION_ENV, "zipfian");
+        configuration.put(ConfigurationConstants.KEY_COUNT_ENV, String.valueOf(keyCount));
+        configuration.put(ConfigurationConstants.ZIPFIAN_EXPONENT_ENV, String.valueOf(zipfianExponent));
+        configuration.put(ConfigurationConstants.HOTSPOT_TRAFFIC_PERCENT_ENV, String.valueOf(hotspotTrafficPercent));
+        configuration.put(ConfigurationConstants.HOTSPOT_KEYS_PERCENT_ENV, String.valueOf(hotspotKeysPercent));
+        configuration.put(ConfigurationConstants.E2E_LATENCY_ENV, "true");
         configuration.put(ConfigurationConstants.ADDITIONAL_CONFIG_ENV, additionalConfig);
 
         KafkaProducerConfiguration kafkaProducerConfiguration = new KafkaProducerConfiguration(configuration);
@@ -89,7 +128,22 @@ public class KafkaProducerConfigurationTest {
             () -> assertThat(kafkaProducerConfiguration.getBootstrapServers(), is(bootstrapServer)),
             () -> assertThat(kafkaProducerConfiguration.getMessageKey(), is(messageKey)),
             () -> assertThat(kafkaProducerConfiguration.getMessageTemplate(), is(messageTemplate)),
-            () -> assertThat(kafkaProducerConfiguration.getStartTimestamp(), is(timestampInMs))
+            () -> assertThat(kafkaProducerConfiguration.getStartTimestamp(), is(timestampInMs)),
+            () -> assertThat(kafkaProducerConfiguration.getMaxInFlightRecords(), is(maxInFlightRecords)),
+            () -> assertThat(kafkaProducerConfiguration.getTargetRate(), is(targetRate)),
+            () -> assertThat(kafkaProducerConfiguration.getTargetRateUnit(), is(RateUnit.BYTES)),
+            () -> assertThat(kafkaProducerConfiguration.getProducerThreads(), is(producerThreads)),
+            () -> assertThat(kafkaProducerConfiguration.isSharedProducer(), is(false)),
+            () -> assertThat(kafkaProducerConfiguration.getSchemaCacheTtlMs(), is(schemaCacheTtlMs)),
+            () -> assertThat(kafkaProducerConfiguration.getPreserializedPayloads(), is(preserializedPayloads)),
+            () -> assertThat(kafkaProducerConfiguration.getKeyDistribution(), is(KeyDistribution.ZIPFIAN)),
+            () -> assertThat(kafkaProducerConfiguration.getKeyCount(), is(keyCount)),
+            () -> assertThat(kafkaProducerConfiguration.getZipfianExponent(), is(zipfianExponent)),
+            () -> assertThat(kafkaProducerConfiguration.getHotspotTrafficPercent(), is(hotspotTrafficPercent)),
+            () -> assertThat(kafkaProducerConfiguration.getHotspotKeysPercent(), is(hotspotKeysPercent)),
+            () -> assertThat(kafkaProducerConfiguration.isEndToEndLatency(), is(true)),
+            () -> assertThat(kafkaProducerConfiguration.isVerifyDelivery(), is(false)),
+            () -> assertThat(kafkaProducerConfiguration.isStampRecords(), is(true))
         );
     }
 
@@ -113,5 +167,85 @@ public class KafkaProducerConfigurationTest {
         configuration.put(ConfigurationConstants.HEADERS_ENV, String.valueOf(headers));
 
         assertThrows(RuntimeException.class, () -> new KafkaProducerConfiguration(configuration));
+
+        configuration.remove(ConfigurationConstants.HEADERS_ENV);
+        configuration.put(ConfigurationConstants.MAX_IN_FLIGHT_RECORDS_ENV, "0");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaProducerConfiguration(configuration));
+
+        configuration.remove(ConfigurationConstants.MAX_IN_FLIGHT_RECORDS_ENV);
+        configuration.put(ConfigurationConstants.SCHEMA_CACHE_TTL_MS_ENV, "-1");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaProducerConfiguration(configuration));
+
+        configuration.remove(ConfigurationConstants.SCHEMA_CACHE_TTL_MS_ENV);
+        configuration.put(ConfigurationConstants.PRESERIALIZED_PAYLOADS_ENV, "-1");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaProducerConfiguration(configuration));
+
+        configuration.remove(ConfigurationConstants.PRESERIALIZED_PAYLOADS_ENV);
+        configuration.put(ConfigurationConstants.KEY_DISTRIBUTION_ENV, "gaussian");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaProducerConfiguration(configuration));
+
+        configuration.put(ConfigurationConstants.KEY_DISTRIBUTION_ENV, "hotspot");
+        configuration.put(ConfigurationConstants.HOTSPOT_TRAFFIC_PERCENT_ENV, "120");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaProducerConfiguration(configuration));
+
+        configuration.remove(ConfigurationConstants.KEY_DISTRIBUTION_ENV);
+        configuration.remove(ConfigurationConstants.HOTSPOT_TRAFFIC_PERCENT_ENV);
+        configuration.put(ConfigurationConstants.TARGET_RATE_UNIT_ENV, "messages");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaProducerConfiguration(configuration));
+
+        configuration.remove(ConfigurationConstants.TARGET_RATE_UNIT_ENV);
+        configuration.put(ConfigurationConstants.TARGET_RATE_ENV, "1000");
+        configuration.put(ConfigurationConstants.DELAY_MS_ENV, "100");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaProducerConfiguration(configuration));
+
+        configuration.remove(ConfigurationConstants.TARGET_RATE_ENV);
+        configuration.put(ConfigurationConstants.PRODUCER_THREADS_ENV, "2");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaProducerConfiguration(configuration));
+
+        configuration.remove(ConfigurationConstants.DELAY_MS_ENV);
+        configuration.put(ConfigurationConstants.SHARED_PRODUCER_ENV, "true");
+        configuration.put(ConfigurationConstants.ADDITIONAL_CONFIG_ENV, ProducerConfig.TRANSACTIONAL_ID_CONFIG + "=my-id");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaProducerConfiguration(configuration));
+    }
+
+    @Test
+    void testLoadProfileConfiguration() {
+        Map<String, String> configuration = new HashMap<>();
+        configuration.put(ConfigurationConstants.BOOTSTRAP_SERVERS_ENV, "my-cluster-kafka:9092");
+        configuration.put(ConfigurationConstants.TOPIC_ENV, "my-topic");
+        configuration.put(ConfigurationConstants.LOAD_PROFILE_ENV, "ramp:0:50000:2m, hold:50000:10m, burst:200000:10s");
+        configuration.put(ConfigurationConstants.WARMUP_DURATION_ENV, "1m");
+
+        KafkaProducerConfiguration kafkaProducerConfiguration = new KafkaProducerConfiguration(configuration);
+
+        assertThat(kafkaProducerConfiguration.getLoadProfile().getSegments().size(), is(3));
+        assertThat(kafkaProducerConfiguration.getLoadProfile().getDurationMs(), is(730_000L));
+
+        configuration.put(ConfigurationConstants.LOAD_PROFILE_ENV, "ramp:0:50000");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaProducerConfiguration(configuration));
+
+        configuration.put(ConfigurationConstants.LOAD_PROFILE_ENV, "hold:1000:30s");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaProducerConfiguration(configuration));
+
+        configuration.remove(ConfigurationConstants.WARMUP_DURATION_ENV);
+        configuration.put(ConfigurationConstants.TARGET_RATE_ENV, "1000");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaProducerConfiguration(configuration));
+
+        configuration.remove(ConfigurationConstants.TARGET_RATE_ENV);
+        configuration.put(ConfigurationConstants.RUN_DURATION_ENV, "5m");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaProducerConfiguration(configuration));
     }
 }
@@ -4,16 +4,27 @@
  */
 package io.strimzi.testclients.unit.configuration.kafka;
 
+import io.strimzi.testclients.common.properties.KafkaProperties;
+import io.strimzi.testclients.common.streams.ProcessingGuarantee;
+import io.strimzi.testclients.common.streams.RocksDBProfileConfigSetter;
+import io.strimzi.testclients.common.streams.StateStoreType;
+import io.strimzi.testclients.common.streams.StreamsCompletion;
+import io.strimzi.testclients.common.streams.StreamsSettings;
+import io.strimzi.testclients.common.streams.StreamsTopology;
 import io.strimzi.testclients.configuration.ConfigurationConstants;
 import io.strimzi.testclients.configuration.kafka.KafkaStreamsConfiguration;
+import org.apache.kafka.streams.StreamsConfig;
 import org.junit.jupiter.api.Test;
+import org.rocksdb.CompactionStyle;
 
 import java.security.InvalidParameterException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class KafkaStreamsConfigurationTest {
@@ -46,6 +57,24 @@ public class KafkaStreamsConfigurationTest {
         assertThat(kafkaStreamsConfiguration.getSourceTopic(), is(sourceTopic));
         assertThat(kafkaStreamsConfiguration.getTargetTopic(), is(targetTopic));
         assertThat(kafkaStreamsConfiguration.getCommitIntervalMs(), is(ConfigurationConstants.DEFAULT_COMMIT_INTERVAL_MS));
+        assertThat(kafkaStreamsConfiguration.getStreamsTopology(), is(StreamsTopology.REVERSE));
+        assertThat(kafkaStreamsConfiguration.getWindowSizeMs(), is(ConfigurationConstants.DEFAULT_WINDOW_SIZE_MS));
+        assertThat(kafkaStreamsConfiguration.getWindowGraceMs(), is(0L));
+        assertThat(kafkaStreamsConfiguration.getKeyCount(), is(ConfigurationConstants.DEFAULT_KEY_COUNT));
+        assertThat(kafkaStreamsConfiguration.getFilterPercent(), is(ConfigurationConstants.DEFAULT_FILTER_PERCENT));
+        assertThat(kafkaStreamsConfiguration.getStreamsCompletion(), is(StreamsCompletion.NONE));
+        assertThat(kafkaStreamsConfiguration.getStateStoreType(), is(StateStoreType.DEFAULT));
+        assertThat(kafkaStreamsConfiguration.isStateStoreMetrics(), is(false));
+        assertThat(kafkaStreamsConfiguration.hasRocksDbProfile(), is(false));
+        assertThat(kafkaStreamsConfiguration.getProcessingGuarantee(), is(ProcessingGuarantee.AT_LEAST_ONCE));
+        assertThat(kafkaStreamsConfiguration.getNumStreamThreads(), is(ConfigurationConstants.DEFAULT_NUM_STREAM_THREADS));
+        assertThat(kafkaStreamsConfiguration.getStatestoreCacheMaxBytes(), is(ConfigurationConstants.DEFAULT_STATESTORE_CACHE_MAX_BYTES));
+        assertThat(kafkaStreamsConfiguration.getStreamsSweep().isEmpty(), is(true));
+
+        // the client finishes after the RUN_DURATION
+        configuration.put(ConfigurationConstants.RUN_DURATION_ENV, "10m");
+
+        assertThat(new KafkaStreamsConfiguration(configuration).getStreamsCompletion(), is(StreamsCompletion.DURATION));
     }
 
     @Test
@@ -62,6 +91,18 @@ public class KafkaStreamsConfigurationTest {
         configuration.put(ConfigurationConstants.TARGET_TOPIC_ENV, targetTopic);
         configuration.put(ConfigurationConstants.APPLICATION_ID_ENV, appId);
         configuration.put(ConfigurationConstants.COMMIT_INTERVAL_MS_ENV, String.valueOf(commitIntervalMs));
+        configuration.put(ConfigurationConstants.STREAMS_TOPOLOGY_ENV, "stream-join");
+        configuration.put(ConfigurationConstants.JOIN_TOPIC_ENV, "join-topic");
+        configuration.put(ConfigurationConstants.WINDOW_SIZE_ENV, "5m");
+        configuration.put(ConfigurationConstants.WINDOW_GRACE_ENV, "30s");
+        configuration.put(ConfigurationConstants.KEY_COUNT_ENV, "100000");
+        configuration.put(ConfigurationConstants.FILTER_PERCENT_ENV, "10");
+        configuration.put(ConfigurationConstants.STREAMS_COMPLETION_ENV, "lag");
+        configuration.put(ConfigurationConstants.RUN_DURATION_ENV, "10m");
+        configuration.put(ConfigurationConstants.PROCESSING_GUARANTEE_ENV, "exactly_once_v2");
+        configuration.put(ConfigurationConstants.NUM_STREAM_THREADS_ENV, "4");
+        configuration.put(ConfigurationConstants.STATESTORE_CACHE_MAX_BYTES_ENV, "0");
+        configuration.put(ConfigurationConstants.STREAMS_SWEEP_ENV, "PROCESSING_GUARANTEE=at_least_once,exactly_once_v2;COMMIT_INTERVAL_MS=100,1000");
 
         KafkaStreamsConfiguration kafkaStreamsConfiguration = new KafkaStreamsConfiguration(configuration);
 
@@ -69,6 +110,57 @@ public class KafkaStreamsConfigurationTest {
         assertThat(kafkaStreamsConfiguration.getSourceTopic(), is(sourceTopic));
         assertThat(kafkaStreamsConfiguration.getTargetTopic(), is(targetTopic));
         assertThat(kafkaStreamsConfiguration.getCommitIntervalMs(), is(commitIntervalMs));
+        assertThat(kafkaStreamsConfiguration.getStreamsTopology(), is(StreamsTopology.STREAM_JOIN));
+        assertThat(kafkaStreamsConfiguration.getJoinTopic(), is("join-topic"));
+        assertThat(kafkaStreamsConfiguration.getWindowSizeMs(), is(300000L));
+        assertThat(kafkaStreamsConfiguration.getWindowGraceMs(), is(30000L));
+        assertThat(kafkaStreamsConfiguration.getKeyCount(), is(100000));
+        assertThat(kafkaStreamsConfiguration.getFilterPercent(), is(10));
+        assertThat(kafkaStreamsConfiguration.getStreamsCompletion(), is(StreamsCompletion.LAG));
+        assertThat(kafkaStreamsConfiguration.getRunDurationMs(), is(600000L));
+        assertThat(kafkaStreamsConfiguration.getProcessingGuarantee(), is(ProcessingGuarantee.EXACTLY_ONCE_V2));
+        assertThat(kafkaStreamsConfiguration.getNumStreamThreads(), is(4));
+        assertThat(kafkaStreamsConfiguration.getStatestoreCacheMaxBytes(), is(0L));
+        // options which are not swept keep their configured values
+        assertThat(kafkaStreamsConfiguration.getStreamsSweep(), hasSize(4));
+        assertThat(kafkaStreamsConfiguration.getStreamsSweep().get(0), is(new StreamsSettings(ProcessingGuarantee.AT_LEAST_ONCE, 4, 0, 100)));
+    }
+
+    @Test
+    void testStateStoreConfiguration() {
+        Map<String, String> configuration = new HashMap<>();
+        configuration.put(ConfigurationConstants.BOOTSTRAP_SERVERS_ENV, "my-cluster-kafka:9092");
+        configuration.put(ConfigurationConstants.SOURCE_TOPIC_ENV, "source-topic");
+        configuration.put(ConfigurationConstants.TARGET_TOPIC_ENV, "target-topic");
+        configuration.put(ConfigurationConstants.APPLICATION_ID_ENV, "my-app");
+        configuration.put(ConfigurationConstants.STREAMS_TOPOLOGY_ENV, "windowed-aggregate");
+        configuration.put(ConfigurationConstants.STATE_STORE_ENV, "in-memory");
+        configuration.put(ConfigurationConstants.STATE_STORE_METRICS_ENV, "true");
+        configuration.put(ConfigurationConstants.ROCKSDB_BLOCK_CACHE_SIZE_ENV, "67108864");
+        configuration.put(ConfigurationConstants.ROCKSDB_WRITE_BUFFERS_ENV, "4");
+        configuration.put(ConfigurationConstants.ROCKSDB_COMPACTION_STYLE_ENV, "universal");
+
+        KafkaStreamsConfiguration kafkaStreamsConfiguration = new KafkaStreamsConfiguration(configuration);
+
+        assertThat(kafkaStreamsConfiguration.getStateStoreType(), is(StateStoreType.IN_MEMORY));
+        assertThat(kafkaStreamsConfiguration.isStateStoreMetrics(), is(true));
+        assertThat(kafkaStreamsConfiguration.getRocksDbBlockCacheSize(), is(67108864L));
+        assertThat(kafkaStreamsConfiguration.getRocksDbWriteBuffers(), is(4));
+        assertThat(kafkaStreamsConfiguration.getRocksDbCompactionStyle(), is(CompactionStyle.UNIVERSAL));
+        assertThat(kafkaStreamsConfiguration.hasRocksDbProfile(), is(true));
+
+        // the versioned store is used for the table of the table join
+        configuration.put(ConfigurationConstants.STREAMS_TOPOLOGY_ENV, "table-join");
+        configuration.put(ConfigurationConstants.JOIN_TOPIC_ENV, "join-topic");
+        configuration.put(ConfigurationConstants.STATE_STORE_ENV, "versioned");
+
+        assertThat(new KafkaStreamsConfiguration(configuration).getStateStoreType(), is(StateStoreType.VERSIONED));
+
+        Properties properties = KafkaProperties.streamsProperties(new KafkaStreamsConfiguration(configuration));
+
+        assertThat(properties.get(StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG), is(RocksDBProfileConfigSetter.class.getName()));
+        assertThat(properties.get(RocksDBProfileConfigSetter.COMPACTION_STYLE_CONFIG), is("UNIVERSAL"));
+        assertThat(properties.get(StreamsConfig.METRICS_RECORDING_LEVEL_CONFIG), is("DEBUG"));
     }
 
     @Test
@@ -89,5 +181,92 @@ public class KafkaStreamsConfigurationTest {
         KafkaStreamsConfiguration kafkaStreamsConfiguration = new KafkaStreamsConfiguration(configuration);
 
         assertThat(kafkaStreamsConfiguration.getCommitIntervalMs(), is(ConfigurationConstants.DEFAULT_COMMIT_INTERVAL_MS));
+
+        configuration.put(ConfigurationConstants.STREAMS_TOPOLOGY_ENV, "flat-map");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaStreamsConfiguration(configuration));
+
+        // join topologies need the JOIN_TOPIC
+        configuration.put(ConfigurationConstants.STREAMS_TOPOLOGY_ENV, "table-join");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaStreamsConfiguration(configuration));
+
+        configuration.put(ConfigurationConstants.STREAMS_TOPOLOGY_ENV, "windowed-count");
+        configuration.put(ConfigurationConstants.WINDOW_SIZE_ENV, "0");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaStreamsConfiguration(configuration));
+
+        configuration.remove(ConfigurationConstants.WINDOW_SIZE_ENV);
+        configuration.put(ConfigurationConstants.KEY_COUNT_ENV, "0");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaStreamsConfiguration(configuration));
+
+        configuration.remove(ConfigurationConstants.KEY_COUNT_ENV);
+        configuration.put(ConfigurationConstants.FILTER_PERCENT_ENV, "101");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaStreamsConfiguration(configuration));
+
+        configuration.remove(ConfigurationConstants.FILTER_PERCENT_ENV);
+        configuration.put(ConfigurationConstants.STREAMS_COMPLETION_ENV, "never");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaStreamsConfiguration(configuration));
+
+        // the duration completion needs the RUN_DURATION
+        configuration.put(ConfigurationConstants.STREAMS_COMPLETION_ENV, "duration");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaStreamsConfiguration(configuration));
+
+        configuration.put(ConfigurationConstants.STREAMS_COMPLETION_ENV, "records");
+        configuration.put(ConfigurationConstants.MESSAGE_COUNT_ENV, "0");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaStreamsConfiguration(configuration));
+
+        configuration.remove(ConfigurationConstants.STREAMS_COMPLETION_ENV);
+        configuration.remove(ConfigurationConstants.MESSAGE_COUNT_ENV);
+        configuration.put(ConfigurationConstants.STATE_STORE_ENV, "memcached");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaStreamsConfiguration(configuration));
+
+        // there is no versioned window store
+        configuration.put(ConfigurationConstants.STATE_STORE_ENV, "versioned");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaStreamsConfiguration(configuration));
+
+        // stateless topologies have no state store
+        configuration.put(ConfigurationConstants.STREAMS_TOPOLOGY_ENV, "filter");
+        configuration.put(ConfigurationConstants.STATE_STORE_ENV, "in-memory");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaStreamsConfiguration(configuration));
+
+        configuration.remove(ConfigurationConstants.STATE_STORE_ENV);
+        configuration.put(ConfigurationConstants.ROCKSDB_COMPACTION_STYLE_ENV, "tiered");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaStreamsConfiguration(configuration));
+
+        configuration.remove(ConfigurationConstants.ROCKSDB_COMPACTION_STYLE_ENV);
+        configuration.put(ConfigurationConstants.ROCKSDB_WRITE_BUFFERS_ENV, "-1");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaStreamsConfiguration(configuration));
+
+        configuration.remove(ConfigurationConstants.ROCKSDB_WRITE_BUFFERS_ENV);
+        configuration.put(ConfigurationConstants.PROCESSING_GUARANTEE_ENV, "exactly_once");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaStreamsConfiguration(configuration));
+
+        configuration.remove(ConfigurationConstants.PROCESSING_GUARANTEE_ENV);
+        configuration.put(ConfigurationConstants.NUM_STREAM_THREADS_ENV, "0");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaStreamsConfiguration(configuration));
+
+        // every run of the sweep has to finish
+        configuration.remove(ConfigurationConstants.NUM_STREAM_THREADS_ENV);
+        configuration.put(ConfigurationConstants.STREAMS_SWEEP_ENV, "NUM_STREAM_THREADS=1,2");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaStreamsConfiguration(configuration));
+
+        configuration.put(ConfigurationConstants.RUN_DURATION_ENV, "1m");
+        configuration.put(ConfigurationConstants.STREAMS_SWEEP_ENV, "BATCH_SIZE=1,2");
+
+        assertThrows(InvalidParameterException.class, () -> new KafkaStreamsConfiguration(configuration));
     }
 }
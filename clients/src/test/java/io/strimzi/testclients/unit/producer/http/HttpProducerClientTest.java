@@ -4,6 +4,9 @@
  */
 package io.strimzi.testclients.unit.producer.http;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
 import io.strimzi.testclients.common.records.producer.http.ProducerRecord;
 import io.strimzi.testclients.configuration.ConfigurationConstants;
 import io.strimzi.testclients.http.producer.HttpProducerClient;
@@ -11,11 +14,28 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.startsWith;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 public class HttpProducerClientTest {
@@ -61,6 +81,176 @@ public class HttpProducerClientTest {
         assertThat(result.message(), is(desiredJsonMessage));
     }
 
+    @Test
+    void testGenerateMessagesWholeBody() throws Exception {
+        Map<String, String> bulkConfiguration = new HashMap<>(configuration);
+        bulkConfiguration.put("MESSAGE_TYPE", "text");
+        bulkConfiguration.put(ConfigurationConstants.MESSAGE_COUNT_ENV, "3");
+        producerClient = new HttpProducerClient(bulkConfiguration);
+
+        String desiredJsonMessage = "{\"records\":[" +
+            "{\"key\":\"key-0\",\"value\":\"" + ConfigurationConstants.DEFAULT_MESSAGE + "-0\"}," +
+            "{\"key\":\"key-1\",\"value\":\"" + ConfigurationConstants.DEFAULT_MESSAGE + "-1\"}," +
+            "{\"key\":\"key-2\",\"value\":\"" + ConfigurationConstants.DEFAULT_MESSAGE + "-2\"}]}";
+
+        ProducerRecord result = producerClient.generateMessages();
+
+        assertThat(readBody(result.context().getBody()), is(desiredJsonMessage));
+    }
+
+    @Test
+    void testGenerateMessagesBatches() throws Exception {
+        Map<String, String> bulkConfiguration = new HashMap<>(configuration);
+        bulkConfiguration.put("MESSAGE_TYPE", "text");
+        bulkConfiguration.put(ConfigurationConstants.MESSAGE_COUNT_ENV, "5");
+        bulkConfiguration.put(ConfigurationConstants.BATCH_SIZE_ENV, "2");
+        producerClient = new HttpProducerClient(bulkConfiguration);
+
+        ProducerRecord firstBatch = producerClient.generateMessages(0, 2);
+        String firstBody = readBody(firstBatch.context().getBody());
+        // the body buffer is reused by the next request
+        ProducerRecord lastBatch = producerClient.generateMessages(4, 1);
+
+        assertThat(firstBatch.message(), is("2 records"));
+        assertThat(firstBody, is("{\"records\":[" +
+            "{\"key\":\"key-0\",\"value\":\"" + ConfigurationConstants.DEFAULT_MESSAGE + "-0\"}," +
+            "{\"key\":\"key-1\",\"value\":\"" + ConfigurationConstants.DEFAULT_MESSAGE + "-1\"}]}"));
+        assertThat(readBody(lastBatch.context().getBody()),
+            is("{\"records\":[{\"key\":\"key-4\",\"value\":\"" + ConfigurationConstants.DEFAULT_MESSAGE + "-4\"}]}"));
+    }
+
+    @Test
+    void testGenerateMessagesStreamsLargeRequests() throws Exception {
+        Map<String, String> bulkConfiguration = new HashMap<>(configuration);
+        bulkConfiguration.put("MESSAGE_TYPE", "text");
+        bulkConfiguration.put(ConfigurationConstants.MESSAGE_COUNT_ENV, "1500");
+        producerClient = new HttpProducerClient(bulkConfiguration);
+
+        // without BATCH_SIZE, the records of the request are generated while its body is read
+        String body = readBody(producerClient.generateMessages().context().getBody());
+
+        assertThat(body, allOf(
+            startsWith("{\"records\":[{\"key\":\"key-0\",\"value\":\"" + ConfigurationConstants.DEFAULT_MESSAGE + "-0\"},"),
+            endsWith(",{\"key\":\"key-1499\",\"value\":\"" + ConfigurationConstants.DEFAULT_MESSAGE + "-1499\"}]}")));
+        assertThat(new ObjectMapper().readTree(body).get("records").size(), is(1500));
+    }
+
+    @Test
+    void testSendMessagesInBatches() throws Exception {
+        List<Integer> requests = new CopyOnWriteArrayList<>();
+        HttpServer bridge = startBridge(requests, 0);
+
+        try {
+            Map<String, String> bulkConfiguration = bridgeConfiguration(bridge);
+            bulkConfiguration.put(ConfigurationConstants.MESSAGE_COUNT_ENV, "5");
+            bulkConfiguration.put(ConfigurationConstants.BATCH_SIZE_ENV, "2");
+
+            new HttpProducerClient(bulkConfiguration).run();
+
+            // the last batch contains the remaining record
+            assertThat(requests, is(List.of(2, 2, 1)));
+        } finally {
+            bridge.stop(0);
+        }
+    }
+
+    @Test
+    void testSendMessagesStopsAfterRunDuration() throws Exception {
+        List<Integer> requests = new CopyOnWriteArrayList<>();
+        HttpServer bridge = startBridge(requests, 300);
+
+        try {
+            Map<String, String> bulkConfiguration = bridgeConfiguration(bridge);
+            bulkConfiguration.put(ConfigurationConstants.MESSAGE_COUNT_ENV, "100");
+            bulkConfiguration.put(ConfigurationConstants.BATCH_SIZE_ENV, "10");
+            bulkConfiguration.put(ConfigurationConstants.RUN_DURATION_ENV, "1s");
+
+            new HttpProducerClient(bulkConfiguration).run();
+
+            // sending all 10 batches would take 3 seconds, the client stops between the batches once the run duration elapses
+            assertThat(requests.size(), allOf(greaterThan(0), lessThan(10)));
+        } finally {
+            bridge.stop(0);
+        }
+    }
+
+    private Map<String, String> bridgeConfiguration(HttpServer bridge) {
+        Map<String, String> bridgeConfiguration = new HashMap<>(configuration);
+        bridgeConfiguration.put("MESSAGE_TYPE", "text");
+        bridgeConfiguration.put("PORT", String.valueOf(bridge.getAddress().getPort()));
+
+        return bridgeConfiguration;
+    }
+
+    /**
+     * Starts HTTP server which acts as the HTTP Bridge - it records the number of the records of every request
+     * and responds with one offset for each of them.
+     */
+    private HttpServer startBridge(List<Integer> requests, long responseDelayMs) throws IOException {
+        HttpServer bridge = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+
+        bridge.createContext("/", exchange -> respond(exchange, requests, responseDelayMs));
+        bridge.start();
+
+        return bridge;
+    }
+
+    private void respond(HttpExchange exchange, List<Integer> requests, long responseDelayMs) throws IOException {
+        int records = new ObjectMapper().readTree(exchange.getRequestBody()).get("records").size();
+        requests.add(records);
+
+        StringBuilder offsets = new StringBuilder("{\"offsets\":[");
+
+        for (int i = 0; i < records; i++) {
+            offsets.append(i == 0 ? "" : ",").append("{\"partition\":0,\"offset\":").append(i).append('}');
+        }
+
+        byte[] response = offsets.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+
+        try {
+            Thread.sleep(responseDelayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        exchange.sendResponseHeaders(200, response.length);
+
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(response);
+        }
+    }
+
+    private String readBody(HttpRequest.BodyPublisher body) throws Exception {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        CompletableFuture<String> result = new CompletableFuture<>();
+
+        body.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                byte[] bytes = new byte[item.remaining()];
+                item.get(bytes);
+                content.writeBytes(bytes);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                result.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                result.complete(content.toString(StandardCharsets.UTF_8));
+            }
+        });
+
+        return result.get(10, TimeUnit.SECONDS);
+    }
+
     @BeforeAll
     void setup() {
         configuration.put("HOSTNAME", "localhost");
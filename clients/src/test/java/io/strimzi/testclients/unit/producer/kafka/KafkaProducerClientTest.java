@@ -11,6 +11,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 
+import java.nio.charset.StandardCharsets;
 import java.security.InvalidParameterException;
 import java.util.HashMap;
 import java.util.List;
@@ -30,7 +31,7 @@ public class KafkaProducerClientTest {
     @Test
     void testDefaultGenerateMessage() {
         KafkaProducerClient kafkaProducerClient = new KafkaProducerClient(configuration);
-        List<ProducerRecord> producerRecords = kafkaProducerClient.generateMessages();
+        List<ProducerRecord> producerRecords = kafkaProducerClient.generateMessages().toList();
 
         assertAll(
                 () -> assertThat(producerRecords.size(), is(ConfigurationConstants.DEFAULT_MESSAGES_PER_TRANSACTION)),
@@ -47,7 +48,7 @@ public class KafkaProducerClientTest {
     void testGenerateOneMessage() {
         configuration.put(ConfigurationConstants.MESSAGE_COUNT_ENV, "1");
         KafkaProducerClient kafkaProducerClient = new KafkaProducerClient(configuration);
-        List<ProducerRecord> producerRecords = kafkaProducerClient.generateMessages();
+        List<ProducerRecord> producerRecords = kafkaProducerClient.generateMessages().toList();
 
         assertAll(
                 () -> assertThat(producerRecords.size(), is(1)),
@@ -61,7 +62,7 @@ public class KafkaProducerClientTest {
         String key = "my-key";
         configuration.put(ConfigurationConstants.MESSAGE_KEY_ENV, key);
         KafkaProducerClient kafkaProducerClient = new KafkaProducerClient(configuration);
-        List<ProducerRecord> producerRecords = kafkaProducerClient.generateMessages();
+        List<ProducerRecord> producerRecords = kafkaProducerClient.generateMessages().toList();
 
         assertAll(
                 () -> assertThat(producerRecords.size(), is(ConfigurationConstants.DEFAULT_MESSAGES_PER_TRANSACTION)),
@@ -69,6 +70,52 @@ public class KafkaProducerClientTest {
         );
     }
 
+    @Test
+    void testGenerateMessagesInRange() {
+        KafkaProducerClient kafkaProducerClient = new KafkaProducerClient(configuration);
+        List<ProducerRecord> producerRecords = kafkaProducerClient.generateMessages(3, 7).toList();
+
+        assertAll(
+                () -> assertThat(producerRecords.size(), is(4)),
+                () -> assertThat(producerRecords.get(0).value(), is("Hello world - 3")),
+                () -> assertThat(producerRecords.get(3).value(), is("Hello world - 6"))
+        );
+    }
+
+    @Test
+    void testGenerateMessagesWithPreserializedPayloads() {
+        configuration.put(ConfigurationConstants.PRESERIALIZED_PAYLOADS_ENV, "2");
+        configuration.put(ConfigurationConstants.HEADERS_ENV, "header_key=header_value");
+        KafkaProducerClient kafkaProducerClient = new KafkaProducerClient(configuration);
+        List<ProducerRecord> producerRecords = kafkaProducerClient.generateMessages().toList();
+
+        assertAll(
+                () -> assertThat(producerRecords.size(), is(ConfigurationConstants.DEFAULT_MESSAGES_PER_TRANSACTION)),
+                () -> {
+                    // the payloads serialized at the start are rotated
+                    for (int i = 0; i < ConfigurationConstants.DEFAULT_MESSAGES_PER_TRANSACTION; i++) {
+                        assertThat(producerRecords.get(i).value(), is(("Hello world - " + i % 2).getBytes(StandardCharsets.UTF_8)));
+                        assertThat(producerRecords.get(i).headers().lastHeader("header_key").value(), is("header_value".getBytes(StandardCharsets.UTF_8)));
+                    }
+                }
+        );
+    }
+
+    @Test
+    void testGenerateMessagesWithSequentialKeys() {
+        configuration.put(ConfigurationConstants.KEY_DISTRIBUTION_ENV, "sequential");
+        configuration.put(ConfigurationConstants.KEY_COUNT_ENV, "3");
+        KafkaProducerClient kafkaProducerClient = new KafkaProducerClient(configuration);
+        List<ProducerRecord> producerRecords = kafkaProducerClient.generateMessages().toList();
+
+        assertAll(
+                () -> assertThat(producerRecords.get(0).key(), is("key-0")),
+                () -> assertThat(producerRecords.get(2).key(), is("key-2")),
+                () -> assertThat(producerRecords.get(3).key(), is("key-0")),
+                () -> assertThat("Partition shall be selected by the partitioner", producerRecords.stream().allMatch(p -> p.partition() == null))
+        );
+    }
+
     @Test
     void testTopicEnvMandatory() {
         configuration.remove(ConfigurationConstants.TOPIC_ENV);
@@ -89,7 +136,7 @@ public class KafkaProducerClientTest {
         additionalConfig.put(ConfigurationConstants.MESSAGE_COUNT_ENV, String.valueOf(messageCount));
 
         KafkaProducerClient kafkaProducerClient = new KafkaProducerClient(additionalConfig);
-        List<ProducerRecord> producerRecords = kafkaProducerClient.generateMessages();
+        List<ProducerRecord> producerRecords = kafkaProducerClient.generateMessages().toList();
 
         // because DELAY_MS is set to 0, every image will have same timestamp
         producerRecords.forEach(producerRecord -> assertThat(producerRecord.timestamp(), is(timestampInMs)));
@@ -97,7 +144,7 @@ public class KafkaProducerClientTest {
         // now configure DELAY_MS to 500ms, every message should have different timestamp
         additionalConfig.put(ConfigurationConstants.DELAY_MS_ENV, String.valueOf(delayMs));
         kafkaProducerClient = new KafkaProducerClient(additionalConfig);
-        producerRecords = kafkaProducerClient.generateMessages();
+        producerRecords = kafkaProducerClient.generateMessages().toList();
 
         for (int messageIndex = 0; messageIndex < messageCount; messageIndex++) {
             long expectedTimestampMs = timestampInMs + (messageIndex * delayMs);
@@ -0,0 +1,102 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.testclients.unit.utils;
+
+import io.strimzi.testclients.configuration.ConfigurationConstants;
+import io.strimzi.testclients.utils.SchemaCache;
+import io.strimzi.testclients.utils.SchemaCoordinates;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SchemaCacheTest {
+    private static final SchemaCoordinates COORDINATES = new SchemaCoordinates("http://registry:8080/apis/registry/v3", "my-group", "my-artifact", "1", "v3");
+
+    @Test
+    void testSchemaIsFetchedOnlyOnce() {
+        AtomicInteger fetches = new AtomicInteger(0);
+        SchemaCache<String> schemaCache = new SchemaCache<>(
+            coordinates -> ("schema-" + fetches.incrementAndGet()).getBytes(StandardCharsets.UTF_8),
+            bytes -> new String(bytes, StandardCharsets.UTF_8),
+            System::nanoTime
+        );
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(schemaCache.get(COORDINATES, 0), is("schema-1"));
+        }
+
+        // different version of the artifact is fetched separately
+        assertThat(schemaCache.get(new SchemaCoordinates(COORDINATES.registryUrl(), "my-group", "my-artifact", "2", "v3"), 0), is("schema-2"));
+        assertThat(fetches.get(), is(2));
+    }
+
+    @Test
+    void testSchemaIsRefreshedAfterTtl() {
+        AtomicLong clock = new AtomicLong(0);
+        AtomicInteger fetches = new AtomicInteger(0);
+        AtomicBoolean registryAvailable = new AtomicBoolean(true);
+        SchemaCache<String> schemaCache = new SchemaCache<>(
+            coordinates -> {
+                if (!registryAvailable.get()) {
+                    throw new IOException("Registry is not available");
+                }
+                return ("schema-" + fetches.incrementAndGet()).getBytes(StandardCharsets.UTF_8);
+            },
+            bytes -> new String(bytes, StandardCharsets.UTF_8),
+            clock::get
+        );
+
+        assertThat(schemaCache.get(COORDINATES, 1000), is("schema-1"));
+
+        clock.set(TimeUnit.MILLISECONDS.toNanos(999));
+        assertThat(schemaCache.get(COORDINATES, 1000), is("schema-1"));
+
+        clock.set(TimeUnit.MILLISECONDS.toNanos(1000));
+        assertThat(schemaCache.get(COORDINATES, 1000), is("schema-2"));
+
+        // failed refresh keeps the cached schema
+        registryAvailable.set(false);
+        clock.set(TimeUnit.MILLISECONDS.toNanos(2000));
+        assertThat(schemaCache.get(COORDINATES, 1000), is("schema-2"));
+    }
+
+    @Test
+    void testFailedFetchWithoutCachedSchema() {
+        SchemaCache<String> schemaCache = new SchemaCache<>(
+            coordinates -> {
+                throw new IOException("Registry is not available");
+            },
+            bytes -> new String(bytes, StandardCharsets.UTF_8),
+            System::nanoTime
+        );
+
+        assertThrows(RuntimeException.class, () -> schemaCache.get(COORDINATES, 0));
+    }
+
+    @Test
+    void testCoordinatesFromConfig() throws Exception {
+        Properties config = new Properties();
+        config.put("apicurio.registry.url", "http://registry:8080/apis/registry/v2");
+        config.put(ConfigurationConstants.REGISTRY_ARTIFACT_ID, "my-artifact");
+        config.put(ConfigurationConstants.REGISTRY_API_VERSION, ConfigurationConstants.APICURIO_API_V2);
+
+        SchemaCoordinates coordinates = SchemaCoordinates.fromConfig(config);
+
+        assertThat(coordinates, is(new SchemaCoordinates("http://registry:8080/apis/registry/v2", ConfigurationConstants.DEFAULT_GROUP_ID,
+            "my-artifact", ConfigurationConstants.REGISTRY_DEFAULT_ARTIFACT_VERSION, ConfigurationConstants.APICURIO_API_V2)));
+        assertThat(coordinates.toUrl().toString(), is("http://registry:8080/apis/registry/v2/groups/my-group/artifacts/my-artifact/versions/1"));
+        assertThat(COORDINATES.toUrl().toString(), is("http://registry:8080/apis/registry/v3/groups/my-group/artifacts/my-artifact/versions/1/content"));
+    }
+}
@@ -4,6 +4,8 @@
  */
 package io.strimzi.testclients.tracing;
 
+import java.net.http.HttpRequest;
+
 /**
  * Tracing http context
  */
@@ -12,20 +14,36 @@ public class HttpContext {
     private final String headerKey;
     private final String headerValue;
     private final String record;
+    private final HttpRequest.BodyPublisher body;
 
-    private HttpContext(String uri, String headerKey, String headerValue, String record) {
+    private HttpContext(String uri, String headerKey, String headerValue, String record, HttpRequest.BodyPublisher body) {
         this.uri = uri;
         this.headerKey = headerKey;
         this.headerValue = headerValue;
         this.record = record;
+        this.body = body;
     }
 
     public static HttpContext post(String uri, String contentType, String record) {
-        return new HttpContext(uri, "content-type", contentType, record);
+        return new HttpContext(uri, "content-type", contentType, record, HttpRequest.BodyPublishers.ofString(record));
+    }
+
+    /**
+     * Creates context for POST request, which body is provided by the {@link HttpRequest.BodyPublisher} - for example
+     * when the body is generated while it is being sent.
+     *
+     * @param uri           URI of the request
+     * @param contentType   content type of the body
+     * @param body          publisher of the request body
+     *
+     * @return  context of the POST request
+     */
+    public static HttpContext post(String uri, String contentType, HttpRequest.BodyPublisher body) {
+        return new HttpContext(uri, "content-type", contentType, null, body);
     }
 
     public static HttpContext get(String uri, String accept) {
-        return new HttpContext(uri, "accept", accept, null);
+        return new HttpContext(uri, "accept", accept, null, null);
     }
 
     public String getUri() {
@@ -43,4 +61,8 @@ public class HttpContext {
     public String getRecord() {
         return record;
     }
+
+    public HttpRequest.BodyPublisher getBody() {
+        return body;
+    }
 }
\ No newline at end of file
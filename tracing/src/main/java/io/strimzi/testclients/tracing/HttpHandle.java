@@ -22,10 +22,10 @@ public class HttpHandle<T> {
                 .setHeader(context.getHeaderKey(), context.getHeaderValue())
                 .version(HttpClient.Version.HTTP_1_1);
 
-            if (context.getRecord() == null) {
+            if (context.getBody() == null) {
                 builder.GET();
             } else {
-                builder.POST(HttpRequest.BodyPublishers.ofString(context.getRecord()));
+                builder.POST(context.getBody());
             }
 
             return builder;
@@ -95,7 +95,7 @@ public class OpenTelemetryHandle implements TracingHandle {
         public HttpRequest build(HttpContext context) {
             SpanBuilder spanBuilder = get().spanBuilder(operationName);
             spanBuilder.setSpanKind(SpanKind.CLIENT);
-            spanBuilder.setAttribute(SemanticAttributes.HTTP_REQUEST_METHOD, context.getRecord() == null ? "GET" : "POST");
+            spanBuilder.setAttribute(SemanticAttributes.HTTP_REQUEST_METHOD, context.getBody() == null ? "GET" : "POST");
             spanBuilder.setAttribute(SemanticAttributes.URL_FULL, context.getUri());
             span = spanBuilder.startSpan();
             HttpRequest.Builder builder = builder(context);